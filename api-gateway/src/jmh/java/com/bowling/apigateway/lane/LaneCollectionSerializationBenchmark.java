@@ -0,0 +1,88 @@
+package com.bowling.apigateway.lane;
+
+import com.bowling.apigateway.hateoas.ResourceLinks;
+import com.bowling.apigateway.lane.presentation.LaneController;
+import com.bowling.apigateway.lane.presentation.LaneResponseDTO;
+import com.bowling.apigateway.lane.presentation.LaneStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.HalConfiguration;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+// Serialization cost of GET /api/lanes at collection sizes where per-element link building dominates.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LaneCollectionSerializationBenchmark {
+
+    @Param("10000")
+    private int size;
+
+    private List<LaneResponseDTO> lanes;
+    private ObjectMapper halMapper;
+    private ObjectMapper plainMapper;
+
+    @Setup
+    public void setup() {
+        lanes = IntStream.range(0, size)
+                .mapToObj(i -> LaneResponseDTO.builder()
+                        .id(UUID.randomUUID().toString())
+                        .laneNumber(i)
+                        .zone("A")
+                        .status(LaneStatus.AVAILABLE)
+                        .build())
+                .toList();
+
+        halMapper = new ObjectMapper();
+        halMapper.registerModule(new Jackson2HalModule());
+        halMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY,
+                new HalConfiguration(), new DefaultListableBeanFactory()));
+        plainMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public byte[] methodOnLinksPerElement() throws Exception {
+        List<EntityModel<LaneResponseDTO>> models = lanes.stream()
+                .map(dto -> EntityModel.of(dto,
+                        linkTo(methodOn(LaneController.class).getById(dto.getId())).withSelfRel(),
+                        linkTo(methodOn(LaneController.class).getAll(null, null)).withRel("all")))
+                .toList();
+        return halMapper.writeValueAsBytes(CollectionModel.of(models));
+    }
+
+    @Benchmark
+    public byte[] precomputedLinks() throws Exception {
+        ResourceLinks links = ResourceLinks.forController(LaneController.class);
+        List<EntityModel<LaneResponseDTO>> models = lanes.stream()
+                .map(dto -> EntityModel.of(dto, links.self(dto.getId()), links.all()))
+                .toList();
+        return halMapper.writeValueAsBytes(CollectionModel.of(models));
+    }
+
+    @Benchmark
+    public byte[] plainJson() throws Exception {
+        return plainMapper.writeValueAsBytes(lanes);
+    }
+}
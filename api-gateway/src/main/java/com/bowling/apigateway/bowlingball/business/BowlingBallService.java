@@ -1,15 +1,29 @@
 package com.bowling.apigateway.bowlingball.business;
 
+import com.bowling.apigateway.bowlingball.presentation.BallSize;
+import com.bowling.apigateway.bowlingball.presentation.BallStatus;
+import com.bowling.apigateway.bowlingball.presentation.BowlingBallPageResponseDTO;
 import com.bowling.apigateway.bowlingball.presentation.BowlingBallRequestDTO;
 import com.bowling.apigateway.bowlingball.presentation.BowlingBallResponseDTO;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 public interface BowlingBallService {
-    EntityModel<BowlingBallResponseDTO> create(BowlingBallRequestDTO request);
-    EntityModel<BowlingBallResponseDTO> getById(String id);
-    CollectionModel<EntityModel<BowlingBallResponseDTO>> getAll();
-    EntityModel<BowlingBallResponseDTO> update(String id, BowlingBallRequestDTO request);
-    void delete(String id);
+    Mono<EntityModel<BowlingBallResponseDTO>> create(BowlingBallRequestDTO request);
+    Mono<EntityModel<BowlingBallResponseDTO>> getById(String id);
+    Mono<CollectionModel<EntityModel<BowlingBallResponseDTO>>> getAll();
+    Flux<BowlingBallResponseDTO> getAllPlain();
+    Mono<BowlingBallPageResponseDTO> search(BallSize size, BallStatus status, String gripType, String color,
+                                            int page, int pageSize);
+    Mono<CollectionModel<EntityModel<BowlingBallResponseDTO>>> getByIds(List<String> ids);
+    Flux<BowlingBallResponseDTO> getByIdsPlain(List<String> ids);
+    Mono<EntityModel<BowlingBallResponseDTO>> update(String id, BowlingBallRequestDTO request);
+    Mono<Void> delete(String id);
+    Mono<Void> reserve(String id);
+    Mono<Void> release(String id);
 }
 
@@ -1,19 +1,22 @@
 package com.bowling.apigateway.bowlingball.business;
 
+import com.bowling.apigateway.hateoas.ResourceLinks;
 import com.bowling.apigateway.bowlingball.domainclient.BowlingBallClient;
 import com.bowling.apigateway.bowlingball.presentation.BowlingBallController;
+import com.bowling.apigateway.bowlingball.presentation.BallSize;
+import com.bowling.apigateway.bowlingball.presentation.BallStatus;
+import com.bowling.apigateway.bowlingball.presentation.BowlingBallPageResponseDTO;
 import com.bowling.apigateway.bowlingball.presentation.BowlingBallRequestDTO;
 import com.bowling.apigateway.bowlingball.presentation.BowlingBallResponseDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Service
 @RequiredArgsConstructor
 public class BowlingBallServiceImpl implements BowlingBallService {
@@ -21,41 +24,73 @@ public class BowlingBallServiceImpl implements BowlingBallService {
     private final BowlingBallClient bowlingBallClient;
 
     @Override
-    public EntityModel<BowlingBallResponseDTO> create(BowlingBallRequestDTO request) {
-        BowlingBallResponseDTO response = bowlingBallClient.createBall(request);
-        return toModel(response);
+    public Mono<EntityModel<BowlingBallResponseDTO>> create(BowlingBallRequestDTO request) {
+        ResourceLinks links = ResourceLinks.forController(BowlingBallController.class);
+        return bowlingBallClient.createBall(request).map(dto -> toModel(dto, links));
+    }
+
+    @Override
+    public Mono<EntityModel<BowlingBallResponseDTO>> getById(String id) {
+        ResourceLinks links = ResourceLinks.forController(BowlingBallController.class);
+        return bowlingBallClient.getBall(id).map(dto -> toModel(dto, links));
     }
 
     @Override
-    public EntityModel<BowlingBallResponseDTO> getById(String id) {
-        BowlingBallResponseDTO response = bowlingBallClient.getBall(id);
-        return toModel(response);
+    public Mono<CollectionModel<EntityModel<BowlingBallResponseDTO>>> getAll() {
+        return toCollection(bowlingBallClient.getAll(), ResourceLinks.forController(BowlingBallController.class));
     }
 
     @Override
-    public CollectionModel<EntityModel<BowlingBallResponseDTO>> getAll() {
-        List<BowlingBallResponseDTO> list = bowlingBallClient.getAll();
-        List<EntityModel<BowlingBallResponseDTO>> models = list.stream()
-                .map(this::toModel)
-                .toList();
-        return CollectionModel.of(models);
+    public Flux<BowlingBallResponseDTO> getAllPlain() {
+        return bowlingBallClient.getAll();
     }
 
     @Override
-    public EntityModel<BowlingBallResponseDTO> update(String id, BowlingBallRequestDTO request) {
-        BowlingBallResponseDTO response = bowlingBallClient.updateBall(id, request);
-        return toModel(response);
+    public Mono<BowlingBallPageResponseDTO> search(BallSize size, BallStatus status, String gripType, String color,
+                                                   int page, int pageSize) {
+        return bowlingBallClient.search(size, status, gripType, color, page, pageSize);
     }
 
     @Override
-    public void delete(String id) {
-        bowlingBallClient.deleteBall(id);
+    public Mono<CollectionModel<EntityModel<BowlingBallResponseDTO>>> getByIds(List<String> ids) {
+        return toCollection(bowlingBallClient.getBallsByIds(ids), ResourceLinks.forController(BowlingBallController.class));
+    }
+
+    @Override
+    public Flux<BowlingBallResponseDTO> getByIdsPlain(List<String> ids) {
+        return bowlingBallClient.getBallsByIds(ids);
+    }
+
+    @Override
+    public Mono<EntityModel<BowlingBallResponseDTO>> update(String id, BowlingBallRequestDTO request) {
+        ResourceLinks links = ResourceLinks.forController(BowlingBallController.class);
+        return bowlingBallClient.updateBall(id, request).map(dto -> toModel(dto, links));
+    }
+
+    @Override
+    public Mono<Void> delete(String id) {
+        return bowlingBallClient.deleteBall(id);
+    }
+
+    @Override
+    public Mono<Void> reserve(String id) {
+        return bowlingBallClient.reserveBall(id);
+    }
+
+    @Override
+    public Mono<Void> release(String id) {
+        return bowlingBallClient.releaseBall(id);
+    }
+
+    private Mono<CollectionModel<EntityModel<BowlingBallResponseDTO>>> toCollection(Flux<BowlingBallResponseDTO> balls,
+                                                                                    ResourceLinks links) {
+        return balls.map(dto -> toModel(dto, links))
+                .collectList()
+                .map(CollectionModel::of);
     }
 
-    private EntityModel<BowlingBallResponseDTO> toModel(BowlingBallResponseDTO dto) {
-        return EntityModel.of(dto,
-                linkTo(methodOn(BowlingBallController.class).getById(dto.getId())).withSelfRel(),
-                linkTo(methodOn(BowlingBallController.class).getAll()).withRel("all"));
+    private EntityModel<BowlingBallResponseDTO> toModel(BowlingBallResponseDTO dto, ResourceLinks links) {
+        return EntityModel.of(dto, links.self(dto.getId()), links.all());
     }
 }
 
@@ -1,17 +1,21 @@
 package com.bowling.apigateway.bowlingball.domainclient;
 
+import com.bowling.apigateway.exceptions.*;
+import com.bowling.apigateway.bowlingball.presentation.BallSize;
+import com.bowling.apigateway.bowlingball.presentation.BallStatus;
+import com.bowling.apigateway.bowlingball.presentation.BowlingBallPageResponseDTO;
 import com.bowling.apigateway.bowlingball.presentation.BowlingBallRequestDTO;
 import com.bowling.apigateway.bowlingball.presentation.BowlingBallResponseDTO;
-import com.bowling.apigateway.exceptions.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -20,79 +24,111 @@ public class BowlingBallClient {
 
     private final WebClient bowlingBallWebClient;
 
-    public BowlingBallResponseDTO createBall(BowlingBallRequestDTO request) {
-        try {
-            return bowlingBallWebClient.post()
-                    .uri("/bowlingballs")
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(),
-                            res -> res.bodyToMono(String.class)
-                                    .map(msg -> new InvalidInputException("Bowling Ball: " + msg)))
-                    .bodyToMono(BowlingBallResponseDTO.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
-        }
+    public Mono<BowlingBallResponseDTO> createBall(BowlingBallRequestDTO request) {
+        return bowlingBallWebClient.post()
+                .uri("/bowlingballs")
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(msg -> new InvalidInputException("Bowling Ball: " + msg)))
+                .bodyToMono(BowlingBallResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError);
     }
 
-    public BowlingBallResponseDTO getBall(String id) {
-        validateUUID(id);
-        try {
-            return bowlingBallWebClient.get()
-                    .uri("/bowlingballs/{id}", id)
-                    .retrieve()
-                    .onStatus(HttpStatus.NOT_FOUND::equals,
-                            res -> Mono.error(new NotFoundException("Bowling ball not found: " + id)))
-                    .bodyToMono(BowlingBallResponseDTO.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
-        }
+    public Mono<BowlingBallResponseDTO> getBall(String id) {
+        return validateUUID(id).then(bowlingBallWebClient.get()
+                .uri("/bowlingballs/{id}", id)
+                .retrieve()
+                .onStatus(HttpStatus.NOT_FOUND::equals,
+                        res -> Mono.error(new NotFoundException("Bowling ball not found: " + id)))
+                .bodyToMono(BowlingBallResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError));
     }
 
-    public List<BowlingBallResponseDTO> getAll() {
+    public Flux<BowlingBallResponseDTO> getAll() {
         return bowlingBallWebClient.get()
                 .uri("/bowlingballs")
                 .retrieve()
-                .bodyToFlux(BowlingBallResponseDTO.class)
-                .collectList()
-                .block();
+                .bodyToFlux(BowlingBallResponseDTO.class);
     }
 
-    public BowlingBallResponseDTO updateBall(String id, BowlingBallRequestDTO request) {
-        validateUUID(id);
-        try {
-            return bowlingBallWebClient.put()
-                    .uri("/bowlingballs/{id}", id)
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(),
-                            res -> res.bodyToMono(String.class)
-                                    .map(msg -> new InvalidInputException("Bowling Ball: " + msg)))
-                    .bodyToMono(BowlingBallResponseDTO.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
-        }
+    public Mono<BowlingBallPageResponseDTO> search(BallSize size, BallStatus status, String gripType, String color,
+                                                   int page, int pageSize) {
+        return bowlingBallWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/bowlingballs/search")
+                        .queryParamIfPresent("size", Optional.ofNullable(size))
+                        .queryParamIfPresent("status", Optional.ofNullable(status))
+                        .queryParamIfPresent("gripType", Optional.ofNullable(gripType))
+                        .queryParamIfPresent("color", Optional.ofNullable(color))
+                        .queryParam("page", page)
+                        .queryParam("pageSize", pageSize)
+                        .build())
+                .retrieve()
+                .bodyToMono(BowlingBallPageResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError);
     }
 
-    public void deleteBall(String id) {
-        validateUUID(id);
-        bowlingBallWebClient.delete()
+    public Flux<BowlingBallResponseDTO> getBallsByIds(List<String> ids) {
+        return Flux.fromIterable(ids).concatMap(this::validateUUID).thenMany(bowlingBallWebClient.post()
+                .uri("/bowlingballs/batch")
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToFlux(BowlingBallResponseDTO.class));
+    }
+
+    public Mono<BowlingBallResponseDTO> updateBall(String id, BowlingBallRequestDTO request) {
+        return validateUUID(id).then(bowlingBallWebClient.put()
+                .uri("/bowlingballs/{id}", id)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(msg -> new InvalidInputException("Bowling Ball: " + msg)))
+                .bodyToMono(BowlingBallResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError));
+    }
+
+    public Mono<Void> deleteBall(String id) {
+        return validateUUID(id).then(bowlingBallWebClient.delete()
                 .uri("/bowlingballs/{id}", id)
                 .retrieve()
                 .onStatus(HttpStatus.NOT_FOUND::equals,
                         res -> Mono.error(new NotFoundException("Bowling ball not found: " + id)))
                 .toBodilessEntity()
-                .block();
+                .then());
+    }
+
+    public Mono<Void> reserveBall(String id) {
+        return transition(id, "reserve", "Bowling ball is not available: " + id);
+    }
+
+    public Mono<Void> releaseBall(String id) {
+        return transition(id, "release", "Bowling ball is not in use: " + id);
     }
 
-    private void validateUUID(String id) {
+    private Mono<Void> transition(String id, String action, String conflictMessage) {
+        return validateUUID(id).then(bowlingBallWebClient.post()
+                .uri("/bowlingballs/{id}/{action}", id, action)
+                .retrieve()
+                .onStatus(HttpStatus.NOT_FOUND::equals,
+                        res -> Mono.error(new NotFoundException("Bowling ball not found: " + id)))
+                .onStatus(HttpStatus.CONFLICT::equals,
+                        res -> Mono.error(new ConflictException(conflictMessage)))
+                .toBodilessEntity()
+                .then());
+    }
+
+    private Mono<Void> validateUUID(String id) {
         try {
             UUID.fromString(id);
+            return Mono.empty();
         } catch (IllegalArgumentException e) {
-            throw new InvalidInputException("Invalid BowlingBall ID format: " + id);
+            return Mono.error(new InvalidInputException("Invalid BowlingBall ID format: " + id));
         }
     }
+
+    private Throwable downstreamError(WebClientResponseException e) {
+        return new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
+    }
 }
@@ -6,8 +6,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/balls")
@@ -17,32 +22,65 @@ public class BowlingBallController {
     private final BowlingBallService bowlingBallService;
 
     @PostMapping
-    public ResponseEntity<EntityModel<BowlingBallResponseDTO>> create(@Valid @RequestBody BowlingBallRequestDTO request) {
-        return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .body(bowlingBallService.create(request));
+    public Mono<ResponseEntity<EntityModel<BowlingBallResponseDTO>>> create(@Valid @RequestBody BowlingBallRequestDTO request) {
+        return bowlingBallService.create(request)
+                .map(model -> ResponseEntity.status(HttpStatus.CREATED).body(model));
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<BowlingBallPageResponseDTO>> search(@RequestParam(required = false) BallSize size,
+                                                                   @RequestParam(required = false) BallStatus status,
+                                                                   @RequestParam(required = false) String gripType,
+                                                                   @RequestParam(required = false) String color,
+                                                                   @RequestParam(defaultValue = "0") int page,
+                                                                   @RequestParam(defaultValue = "20") int pageSize) {
+        return bowlingBallService.search(size, status, gripType, color, page, pageSize).map(ResponseEntity::ok);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EntityModel<BowlingBallResponseDTO>> getById(@PathVariable String id) {
-        return ResponseEntity.ok(bowlingBallService.getById(id));
+    public Mono<ResponseEntity<EntityModel<BowlingBallResponseDTO>>> getById(@PathVariable String id) {
+        return bowlingBallService.getById(id).map(ResponseEntity::ok);
     }
 
     @GetMapping
-    public ResponseEntity<CollectionModel<EntityModel<BowlingBallResponseDTO>>> getAll() {
-        return ResponseEntity.ok(bowlingBallService.getAll());
+    public Mono<ResponseEntity<CollectionModel<EntityModel<BowlingBallResponseDTO>>>> getAll() {
+        return bowlingBallService.getAll().map(ResponseEntity::ok);
+    }
+
+    // Clients asking for plain application/json skip HAL assembly; */* and application/hal+json still get HAL.
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<BowlingBallResponseDTO> getAllPlain() {
+        return bowlingBallService.getAllPlain();
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<CollectionModel<EntityModel<BowlingBallResponseDTO>>>> getByIds(@RequestBody List<String> ids) {
+        return bowlingBallService.getByIds(ids).map(ResponseEntity::ok);
+    }
+
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<BowlingBallResponseDTO> getByIdsPlain(@RequestBody List<String> ids) {
+        return bowlingBallService.getByIdsPlain(ids);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<EntityModel<BowlingBallResponseDTO>> update(@PathVariable String id,
-                                                                      @Valid @RequestBody BowlingBallRequestDTO request) {
-        return ResponseEntity.ok(bowlingBallService.update(id, request));
+    public Mono<ResponseEntity<EntityModel<BowlingBallResponseDTO>>> update(@PathVariable String id,
+                                                                            @Valid @RequestBody BowlingBallRequestDTO request) {
+        return bowlingBallService.update(id, request).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{id}/reserve")
+    public Mono<ResponseEntity<Void>> reserve(@PathVariable String id) {
+        return bowlingBallService.reserve(id).thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/{id}/release")
+    public Mono<ResponseEntity<Void>> release(@PathVariable String id) {
+        return bowlingBallService.release(id).thenReturn(ResponseEntity.noContent().build());
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable String id) {
-        bowlingBallService.delete(id);
-        return ResponseEntity.noContent().build();
+    public Mono<ResponseEntity<Void>> delete(@PathVariable String id) {
+        return bowlingBallService.delete(id).thenReturn(ResponseEntity.noContent().build());
     }
 }
-
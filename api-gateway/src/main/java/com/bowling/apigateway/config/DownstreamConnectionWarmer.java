@@ -0,0 +1,45 @@
+package com.bowling.apigateway.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Opens pooled connections before the readiness state flips so the first requests after a deploy skip TCP setup.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DownstreamConnectionWarmer {
+
+    private final WebClientConfig webClientConfig;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Flux.fromIterable(webClientConfig.clients().entrySet())
+                .flatMap(entry -> warmUp(entry.getKey(), entry.getValue().settings(), entry.getValue().webClient()))
+                .then()
+                .block(webClientConfig.getWarmupTimeout().plusMillis(500));
+    }
+
+    Mono<Void> warmUp(String name, WebClientConfig.Downstream downstream, WebClient webClient) {
+        if (downstream.getWarmupConnections() <= 0) {
+            return Mono.empty();
+        }
+
+        // Concurrent requests force distinct connections; any response status still leaves the connection pooled.
+        return Flux.range(0, downstream.getWarmupConnections())
+                .flatMap(i -> webClient.head()
+                        .uri(downstream.getWarmupPath())
+                        .exchangeToMono(response -> response.releaseBody())
+                        .onErrorResume(e -> Mono.empty()))
+                .then()
+                .timeout(webClientConfig.getWarmupTimeout(), Mono.empty())
+                .doOnTerminate(() -> log.info("Connection warm-up finished for {} service ({} requested)",
+                        name, downstream.getWarmupConnections()));
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.bowling.apigateway.config;
+
+import com.bowling.apigateway.exceptions.DownstreamTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Times every downstream exchange per target and outcome. Meters are resolved once per WebClient,
+// so the request path only records against a captured Timer.
+@Component
+public class DownstreamMetrics {
+
+    public static final String REQUESTS = "downstream.client.requests";
+    public static final String ERRORS = "downstream.client.errors";
+
+    public enum Outcome { SUCCESS, CLIENT_ERROR, SERVER_ERROR, TIMEOUT, IO_ERROR }
+
+    private final MeterRegistry registry;
+
+    public DownstreamMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public ExchangeFilterFunction filter(String target) {
+        Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+        Map<Outcome, Counter> errors = new EnumMap<>(Outcome.class);
+        for (Outcome outcome : Outcome.values()) {
+            timers.put(outcome, Timer.builder(REQUESTS)
+                    .description("Latency of calls to downstream services")
+                    .tag("target", target)
+                    .tag("outcome", outcome.name())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(registry));
+            if (outcome != Outcome.SUCCESS) {
+                errors.put(outcome, Counter.builder(ERRORS)
+                        .description("Failed calls to downstream services")
+                        .tag("target", target)
+                        .tag("outcome", outcome.name())
+                        .register(registry));
+            }
+        }
+
+        return (request, next) -> Mono.defer(() -> {
+            long start = System.nanoTime();
+            return next.exchange(request)
+                    .doOnSuccess(response -> record(timers, errors, outcome(response.statusCode().value()), start))
+                    .doOnError(e -> record(timers, errors,
+                            e instanceof DownstreamTimeoutException ? Outcome.TIMEOUT : Outcome.IO_ERROR, start));
+        });
+    }
+
+    private static void record(Map<Outcome, Timer> timers, Map<Outcome, Counter> errors, Outcome outcome, long start) {
+        timers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (outcome != Outcome.SUCCESS) {
+            errors.get(outcome).increment();
+        }
+    }
+
+    private static Outcome outcome(int status) {
+        if (status >= 500) return Outcome.SERVER_ERROR;
+        if (status >= 400) return Outcome.CLIENT_ERROR;
+        return Outcome.SUCCESS;
+    }
+}
@@ -0,0 +1,19 @@
+package com.bowling.apigateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Per-endpoint overrides for transaction calls that outlast the response and async request timeouts.
+@Configuration
+@ConfigurationProperties(prefix = "app.transaction-timeouts")
+@Data
+public class TransactionTimeoutsConfig {
+    // A bulk post looks up every distinct lane, shoe and ball, a bounded number at a time.
+    private Duration bulk = Duration.ofSeconds(60);
+
+    // An export streams for as long as the cursor runs, so this replaces the response timeout for its whole body.
+    private Duration export = Duration.ofMinutes(30);
+}
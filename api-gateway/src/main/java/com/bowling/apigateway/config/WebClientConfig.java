@@ -1,41 +1,130 @@
 package com.bowling.apigateway.config;
 
+import com.bowling.apigateway.exceptions.DownstreamTimeoutException;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 @Configuration
+@ConfigurationProperties(prefix = "app.downstream")
+@Data
 public class WebClientConfig {
+    private Downstream bowlingball = new Downstream("http://bowlingball-service:8080");
+    private Downstream shoe = new Downstream("http://shoe-service:8080");
+    private Downstream lane = new Downstream("http://lane-service:8080");
+    private Downstream transaction = new Downstream("http://transaction-service:8080");
+    private Duration warmupTimeout = Duration.ofSeconds(2);
+
+    // Recorded as each client bean is built, so warm-up reaches every client whatever its bean is called.
+    @Getter(AccessLevel.NONE)
+    private final Map<String, DownstreamClient> clients = new LinkedHashMap<>();
 
+    // The metrics filter is registered before build() adds its own, so it sees DownstreamTimeoutException.
     @Bean
-    public WebClient bowlingBallWebClient() {
-        return WebClient.builder()
-                .baseUrl("http://bowlingball-service:8080")
-                .build();
+    public WebClient bowlingBallWebClient(WebClient.Builder builder, DownstreamMetrics metrics) {
+        return register("bowlingball", bowlingball, builder.clone().filter(metrics.filter("bowlingball")));
     }
 
     @Bean
-    public WebClient shoeWebClient() {
-        return WebClient.builder()
-                .baseUrl("http://shoe-service:8080")
-                .build();
+    public WebClient shoeWebClient(WebClient.Builder builder, DownstreamMetrics metrics) {
+        return register("shoe", shoe, builder.clone().filter(metrics.filter("shoe")));
     }
 
     @Bean
-    public WebClient laneWebClient() {
-        return WebClient.builder()
-                .baseUrl("http://lane-service:8080")
-                .build();
+    public WebClient laneWebClient(WebClient.Builder builder, DownstreamMetrics metrics) {
+        return register("lane", lane, builder.clone().filter(metrics.filter("lane")));
     }
 
     @Bean
-    public WebClient transactionWebClient() {
-        return WebClient.builder()
-                .baseUrl("http://transaction-service:8080")
+    public WebClient transactionWebClient(WebClient.Builder builder, DownstreamMetrics metrics) {
+        return register("transaction", transaction, builder.clone().filter(metrics.filter("transaction")));
+    }
+
+    public Map<String, DownstreamClient> clients() {
+        return Collections.unmodifiableMap(clients);
+    }
+
+    private WebClient register(String name, Downstream downstream, WebClient.Builder builder) {
+        WebClient webClient = build(builder, name, downstream);
+        clients.put(name, new DownstreamClient(downstream, webClient));
+        return webClient;
+    }
+
+    static WebClient build(WebClient.Builder builder, String name, Downstream downstream) {
+        return builder.clone()
+                .baseUrl(downstream.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient(name, downstream)))
+                .filter((request, next) -> next.exchange(request)
+                        .onErrorMap(WebClientConfig::isTimeout,
+                                e -> new DownstreamTimeoutException("Timed out calling " + name + " service", e)))
                 .build();
     }
 
-}
+    private static HttpClient httpClient(String name, Downstream downstream) {
+        // Named pools keep one slow downstream from starving connections to the others and label the pool gauges.
+        ConnectionProvider pool = ConnectionProvider.builder(name)
+                .maxConnections(downstream.getMaxConnections())
+                .pendingAcquireMaxCount(downstream.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(downstream.getPendingAcquireTimeout())
+                .maxIdleTime(downstream.getMaxIdleTime())
+                .evictInBackground(downstream.getEvictionInterval())
+                .metrics(true)
+                .build();
+
+        return HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) downstream.getConnectTimeout().toMillis())
+                // Bounds each read of a response and can be overridden per request, unlike a channel ReadTimeoutHandler.
+                .responseTimeout(downstream.getResponseTimeout());
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof ReadTimeoutException
+                    || cause instanceof ConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public record DownstreamClient(Downstream settings, WebClient webClient) {
+    }
 
+    @Data
+    public static class Downstream {
+        private String baseUrl;
+        private int maxConnections = 200;
+        private int pendingAcquireMaxCount = 1000;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration evictionInterval = Duration.ofSeconds(60);
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration responseTimeout = Duration.ofSeconds(5);
+        private int warmupConnections = 0;
+        private String warmupPath = "/";
 
+        public Downstream() {
+        }
 
+        public Downstream(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+    }
+}
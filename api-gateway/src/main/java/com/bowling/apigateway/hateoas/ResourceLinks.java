@@ -0,0 +1,39 @@
+package com.bowling.apigateway.hateoas;
+
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+// Resolves a controller's base URI once per request; per-element links are then plain string concatenation
+// instead of a linkTo(methodOn(..)) proxy invocation for every item in a collection.
+public final class ResourceLinks {
+
+    private final String collectionHref;
+    private final Link all;
+
+    private ResourceLinks(String collectionHref) {
+        this.collectionHref = collectionHref;
+        this.all = Link.of(collectionHref, "all");
+    }
+
+    // Must be called on the request thread; the returned instance is safe to use from any thread.
+    public static ResourceLinks forController(Class<?> controller) {
+        return new ResourceLinks(linkTo(controller).toUri().toString());
+    }
+
+    public Link self(String id) {
+        return Link.of(collectionHref + "/" + UriUtils.encodePathSegment(id, StandardCharsets.UTF_8), IanaLinkRelations.SELF);
+    }
+
+    public Link all() {
+        return all;
+    }
+
+    public String collectionHref() {
+        return collectionHref;
+    }
+}
@@ -2,14 +2,27 @@ package com.bowling.apigateway.lane.business;
 
 import com.bowling.apigateway.lane.presentation.LaneRequestDTO;
 import com.bowling.apigateway.lane.presentation.LaneResponseDTO;
+import com.bowling.apigateway.lane.presentation.LaneStatus;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 public interface LaneService {
-    EntityModel<LaneResponseDTO> create(LaneRequestDTO request);
-    EntityModel<LaneResponseDTO> getById(String id);
-    CollectionModel<EntityModel<LaneResponseDTO>> getAll();
-    EntityModel<LaneResponseDTO> update(String id, LaneRequestDTO request);
-    void delete(String id);
+    Mono<EntityModel<LaneResponseDTO>> create(LaneRequestDTO request);
+    Mono<EntityModel<LaneResponseDTO>> getById(String id);
+    Mono<EntityModel<LaneResponseDTO>> getByLaneNumber(Integer laneNumber);
+    Mono<CollectionModel<EntityModel<LaneResponseDTO>>> getAll();
+    Flux<LaneResponseDTO> getAllPlain();
+    Mono<CollectionModel<EntityModel<LaneResponseDTO>>> search(LaneStatus status, String zone);
+    Flux<LaneResponseDTO> searchPlain(LaneStatus status, String zone);
+    Mono<CollectionModel<EntityModel<LaneResponseDTO>>> getByIds(List<String> ids);
+    Flux<LaneResponseDTO> getByIdsPlain(List<String> ids);
+    Mono<EntityModel<LaneResponseDTO>> update(String id, LaneRequestDTO request);
+    Mono<Void> delete(String id);
+    Mono<Void> reserve(String id);
+    Mono<Void> release(String id);
 }
 
@@ -1,19 +1,20 @@
 package com.bowling.apigateway.lane.business;
 
+import com.bowling.apigateway.hateoas.ResourceLinks;
 import com.bowling.apigateway.lane.domainclient.LaneClient;
 import com.bowling.apigateway.lane.presentation.LaneController;
 import com.bowling.apigateway.lane.presentation.LaneRequestDTO;
 import com.bowling.apigateway.lane.presentation.LaneResponseDTO;
+import com.bowling.apigateway.lane.presentation.LaneStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Service
 @RequiredArgsConstructor
 public class LaneServiceImpl implements LaneService {
@@ -21,37 +22,83 @@ public class LaneServiceImpl implements LaneService {
     private final LaneClient laneClient;
 
     @Override
-    public EntityModel<LaneResponseDTO> create(LaneRequestDTO request) {
-        LaneResponseDTO response = laneClient.create(request);
-        return toModel(response);
+    public Mono<EntityModel<LaneResponseDTO>> create(LaneRequestDTO request) {
+        ResourceLinks links = ResourceLinks.forController(LaneController.class);
+        return laneClient.create(request).map(dto -> toModel(dto, links));
+    }
+
+    @Override
+    public Mono<EntityModel<LaneResponseDTO>> getById(String id) {
+        ResourceLinks links = ResourceLinks.forController(LaneController.class);
+        return laneClient.get(id).map(dto -> toModel(dto, links));
+    }
+
+    @Override
+    public Mono<EntityModel<LaneResponseDTO>> getByLaneNumber(Integer laneNumber) {
+        ResourceLinks links = ResourceLinks.forController(LaneController.class);
+        return laneClient.getByLaneNumber(laneNumber).map(dto -> toModel(dto, links));
     }
 
     @Override
-    public EntityModel<LaneResponseDTO> getById(String id) {
-        return toModel(laneClient.get(id));
+    public Mono<CollectionModel<EntityModel<LaneResponseDTO>>> getAll() {
+        return toCollection(laneClient.getAll(), ResourceLinks.forController(LaneController.class));
     }
 
     @Override
-    public CollectionModel<EntityModel<LaneResponseDTO>> getAll() {
-        List<LaneResponseDTO> lanes = laneClient.getAll();
-        List<EntityModel<LaneResponseDTO>> models = lanes.stream().map(this::toModel).toList();
-        return CollectionModel.of(models);
+    public Flux<LaneResponseDTO> getAllPlain() {
+        return laneClient.getAll();
     }
 
     @Override
-    public EntityModel<LaneResponseDTO> update(String id, LaneRequestDTO request) {
-        return toModel(laneClient.update(id, request));
+    public Mono<CollectionModel<EntityModel<LaneResponseDTO>>> search(LaneStatus status, String zone) {
+        return toCollection(laneClient.search(status, zone), ResourceLinks.forController(LaneController.class));
     }
 
     @Override
-    public void delete(String id) {
-        laneClient.delete(id);
+    public Flux<LaneResponseDTO> searchPlain(LaneStatus status, String zone) {
+        return laneClient.search(status, zone);
+    }
+
+    @Override
+    public Mono<CollectionModel<EntityModel<LaneResponseDTO>>> getByIds(List<String> ids) {
+        return toCollection(laneClient.getByIds(ids), ResourceLinks.forController(LaneController.class));
+    }
+
+    @Override
+    public Flux<LaneResponseDTO> getByIdsPlain(List<String> ids) {
+        return laneClient.getByIds(ids);
+    }
+
+    @Override
+    public Mono<EntityModel<LaneResponseDTO>> update(String id, LaneRequestDTO request) {
+        ResourceLinks links = ResourceLinks.forController(LaneController.class);
+        return laneClient.update(id, request).map(dto -> toModel(dto, links));
+    }
+
+    @Override
+    public Mono<Void> delete(String id) {
+        return laneClient.delete(id);
+    }
+
+    @Override
+    public Mono<Void> reserve(String id) {
+        return laneClient.reserve(id);
+    }
+
+    @Override
+    public Mono<Void> release(String id) {
+        return laneClient.release(id);
+    }
+
+    private Mono<CollectionModel<EntityModel<LaneResponseDTO>>> toCollection(Flux<LaneResponseDTO> lanes,
+                                                                             ResourceLinks links) {
+        return lanes.map(dto -> toModel(dto, links))
+                .collectList()
+                .map(CollectionModel::of);
     }
 
-    private EntityModel<LaneResponseDTO> toModel(LaneResponseDTO dto) {
-        return EntityModel.of(dto,
-                linkTo(methodOn(LaneController.class).getById(dto.getId())).withSelfRel(),
-                linkTo(methodOn(LaneController.class).getAll()).withRel("all"));
+    private EntityModel<LaneResponseDTO> toModel(LaneResponseDTO dto, ResourceLinks links) {
+        return EntityModel.of(dto, links.self(dto.getId()), links.all());
     }
 }
 
@@ -3,15 +3,18 @@ package com.bowling.apigateway.lane.domainclient;
 import com.bowling.apigateway.exceptions.*;
 import com.bowling.apigateway.lane.presentation.LaneRequestDTO;
 import com.bowling.apigateway.lane.presentation.LaneResponseDTO;
+import com.bowling.apigateway.lane.presentation.LaneStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -20,79 +23,126 @@ public class LaneClient {
 
     private final WebClient laneWebClient;
 
-    public LaneResponseDTO create(LaneRequestDTO request) {
-        try {
-            return laneWebClient.post()
-                    .uri("/lanes")
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(),
-                            res -> res.bodyToMono(String.class)
-                                    .map(msg -> new InvalidInputException("Lane: " + msg)))
-                    .bodyToMono(LaneResponseDTO.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
-        }
+    public Mono<LaneResponseDTO> create(LaneRequestDTO request) {
+        return laneWebClient.post()
+                .uri("/lanes")
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatus.CONFLICT::equals, this::conflict)
+                .onStatus(status -> status.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(msg -> new InvalidInputException("Lane: " + msg)))
+                .bodyToMono(LaneResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError);
     }
 
-    public LaneResponseDTO get(String id) {
-        validateUUID(id);
-        try {
-            return laneWebClient.get()
-                    .uri("/lanes/{id}", id)
-                    .retrieve()
-                    .onStatus(HttpStatus.NOT_FOUND::equals,
-                            res -> Mono.error(new NotFoundException("Lane not found: " + id)))
-                    .bodyToMono(LaneResponseDTO.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
-        }
+    public Mono<LaneResponseDTO> get(String id) {
+        return validateUUID(id).then(laneWebClient.get()
+                .uri("/lanes/{id}", id)
+                .retrieve()
+                .onStatus(HttpStatus.NOT_FOUND::equals,
+                        res -> Mono.error(new NotFoundException("Lane not found: " + id)))
+                .bodyToMono(LaneResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError));
     }
 
-    public List<LaneResponseDTO> getAll() {
+    public Flux<LaneResponseDTO> getAll() {
         return laneWebClient.get()
                 .uri("/lanes")
                 .retrieve()
+                .bodyToFlux(LaneResponseDTO.class);
+    }
+
+    public Flux<LaneResponseDTO> search(LaneStatus status, String zone) {
+        return laneWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/lanes")
+                        .queryParamIfPresent("status", Optional.ofNullable(status))
+                        .queryParamIfPresent("zone", Optional.ofNullable(zone))
+                        .build())
+                .retrieve()
                 .bodyToFlux(LaneResponseDTO.class)
-                .collectList()
-                .block();
+                .onErrorMap(WebClientResponseException.class, this::downstreamError);
     }
 
-    public LaneResponseDTO update(String id, LaneRequestDTO request) {
-        validateUUID(id);
-        try {
-            return laneWebClient.put()
-                    .uri("/lanes/{id}", id)
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(),
-                            res -> res.bodyToMono(String.class)
-                                    .map(msg -> new InvalidInputException("Lane: " + msg)))
-                    .bodyToMono(LaneResponseDTO.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
-        }
+    public Mono<LaneResponseDTO> getByLaneNumber(Integer laneNumber) {
+        return laneWebClient.get()
+                .uri("/lanes/by-number/{laneNumber}", laneNumber)
+                .retrieve()
+                .onStatus(HttpStatus.NOT_FOUND::equals,
+                        res -> Mono.error(new NotFoundException("Lane not found with number: " + laneNumber)))
+                .bodyToMono(LaneResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError);
+    }
+
+    public Flux<LaneResponseDTO> getByIds(List<String> ids) {
+        return Flux.fromIterable(ids).concatMap(this::validateUUID).thenMany(laneWebClient.post()
+                .uri("/lanes/batch")
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToFlux(LaneResponseDTO.class));
+    }
+
+    public Mono<LaneResponseDTO> update(String id, LaneRequestDTO request) {
+        return validateUUID(id).then(laneWebClient.put()
+                .uri("/lanes/{id}", id)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatus.CONFLICT::equals, this::conflict)
+                .onStatus(status -> status.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(msg -> new InvalidInputException("Lane: " + msg)))
+                .bodyToMono(LaneResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError));
     }
 
-    public void delete(String id) {
-        validateUUID(id);
-        laneWebClient.delete()
+    public Mono<Void> delete(String id) {
+        return validateUUID(id).then(laneWebClient.delete()
                 .uri("/lanes/{id}", id)
                 .retrieve()
                 .onStatus(HttpStatus.NOT_FOUND::equals,
                         res -> Mono.error(new NotFoundException("Lane not found: " + id)))
                 .toBodilessEntity()
-                .block();
+                .then());
+    }
+
+    public Mono<Void> reserve(String id) {
+        return transition(id, "reserve", "Lane is not available: " + id);
+    }
+
+    public Mono<Void> release(String id) {
+        return transition(id, "release", "Lane is not in use: " + id);
+    }
+
+    private Mono<Void> transition(String id, String action, String conflictMessage) {
+        return validateUUID(id).then(laneWebClient.post()
+                .uri("/lanes/{id}/{action}", id, action)
+                .retrieve()
+                .onStatus(HttpStatus.NOT_FOUND::equals,
+                        res -> Mono.error(new NotFoundException("Lane not found: " + id)))
+                .onStatus(HttpStatus.CONFLICT::equals,
+                        res -> Mono.error(new ConflictException(conflictMessage)))
+                .toBodilessEntity()
+                .then());
+    }
+
+    // A duplicate lane number, or a write that lost a race on the unique key.
+    private Mono<ConflictException> conflict(ClientResponse response) {
+        return response.bodyToMono(ErrorResponse.class)
+                .map(ErrorResponse::getMessage)
+                .defaultIfEmpty("Lane conflicts with an existing lane.")
+                .map(msg -> new ConflictException("Lane: " + msg));
     }
 
-    private void validateUUID(String id) {
+    private Mono<Void> validateUUID(String id) {
         try {
             UUID.fromString(id);
+            return Mono.empty();
         } catch (IllegalArgumentException e) {
-            throw new InvalidInputException("Invalid Lane ID format: " + id);
+            return Mono.error(new InvalidInputException("Invalid Lane ID format: " + id));
         }
     }
+
+    private Throwable downstreamError(WebClientResponseException e) {
+        return new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
+    }
 }
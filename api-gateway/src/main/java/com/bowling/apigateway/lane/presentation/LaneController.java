@@ -6,8 +6,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/lanes")
@@ -17,30 +22,69 @@ public class LaneController {
     private final LaneService laneService;
 
     @PostMapping
-    public ResponseEntity<EntityModel<LaneResponseDTO>> create(@Valid @RequestBody LaneRequestDTO request) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(laneService.create(request));
+    public Mono<ResponseEntity<EntityModel<LaneResponseDTO>>> create(@Valid @RequestBody LaneRequestDTO request) {
+        return laneService.create(request)
+                .map(model -> ResponseEntity.status(HttpStatus.CREATED).body(model));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EntityModel<LaneResponseDTO>> getById(@PathVariable String id) {
-        return ResponseEntity.ok(laneService.getById(id));
+    public Mono<ResponseEntity<EntityModel<LaneResponseDTO>>> getById(@PathVariable String id) {
+        return laneService.getById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/by-number/{laneNumber}")
+    public Mono<ResponseEntity<EntityModel<LaneResponseDTO>>> getByLaneNumber(@PathVariable Integer laneNumber) {
+        return laneService.getByLaneNumber(laneNumber).map(ResponseEntity::ok);
     }
 
     @GetMapping
-    public ResponseEntity<CollectionModel<EntityModel<LaneResponseDTO>>> getAll() {
-        return ResponseEntity.ok(laneService.getAll());
+    public Mono<ResponseEntity<CollectionModel<EntityModel<LaneResponseDTO>>>> getAll(
+            @RequestParam(required = false) LaneStatus status,
+            @RequestParam(required = false) String zone) {
+        if (status == null && zone == null) {
+            return laneService.getAll().map(ResponseEntity::ok);
+        }
+        return laneService.search(status, zone).map(ResponseEntity::ok);
+    }
+
+    // Clients asking for plain application/json skip HAL assembly; */* and application/hal+json still get HAL.
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<LaneResponseDTO> getAllPlain(@RequestParam(required = false) LaneStatus status,
+                                             @RequestParam(required = false) String zone) {
+        if (status == null && zone == null) {
+            return laneService.getAllPlain();
+        }
+        return laneService.searchPlain(status, zone);
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<CollectionModel<EntityModel<LaneResponseDTO>>>> getByIds(@RequestBody List<String> ids) {
+        return laneService.getByIds(ids).map(ResponseEntity::ok);
+    }
+
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<LaneResponseDTO> getByIdsPlain(@RequestBody List<String> ids) {
+        return laneService.getByIdsPlain(ids);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<EntityModel<LaneResponseDTO>> update(@PathVariable String id,
-                                                               @Valid @RequestBody LaneRequestDTO request) {
-        return ResponseEntity.ok(laneService.update(id, request));
+    public Mono<ResponseEntity<EntityModel<LaneResponseDTO>>> update(@PathVariable String id,
+                                                                     @Valid @RequestBody LaneRequestDTO request) {
+        return laneService.update(id, request).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{id}/reserve")
+    public Mono<ResponseEntity<Void>> reserve(@PathVariable String id) {
+        return laneService.reserve(id).thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/{id}/release")
+    public Mono<ResponseEntity<Void>> release(@PathVariable String id) {
+        return laneService.release(id).thenReturn(ResponseEntity.noContent().build());
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable String id) {
-        laneService.delete(id);
-        return ResponseEntity.noContent().build();
+    public Mono<ResponseEntity<Void>> delete(@PathVariable String id) {
+        return laneService.delete(id).thenReturn(ResponseEntity.noContent().build());
     }
 }
-
@@ -1,15 +1,26 @@
 package com.bowling.apigateway.shoe.business;
 
+import com.bowling.apigateway.shoe.presentation.ShoeAvailabilityResponseDTO;
 import com.bowling.apigateway.shoe.presentation.ShoeRequestDTO;
 import com.bowling.apigateway.shoe.presentation.ShoeResponseDTO;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 public interface ShoeService {
-    EntityModel<ShoeResponseDTO> create(ShoeRequestDTO request);
-    EntityModel<ShoeResponseDTO> getById(String id);
-    CollectionModel<EntityModel<ShoeResponseDTO>> getAll();
-    EntityModel<ShoeResponseDTO> update(String id, ShoeRequestDTO request);
-    void delete(String id);
+    Mono<EntityModel<ShoeResponseDTO>> create(ShoeRequestDTO request);
+    Mono<EntityModel<ShoeResponseDTO>> getById(String id);
+    Mono<CollectionModel<EntityModel<ShoeResponseDTO>>> getAll();
+    Flux<ShoeResponseDTO> getAllPlain();
+    Flux<ShoeAvailabilityResponseDTO> getAvailability();
+    Mono<CollectionModel<EntityModel<ShoeResponseDTO>>> getByIds(List<String> ids);
+    Flux<ShoeResponseDTO> getByIdsPlain(List<String> ids);
+    Mono<EntityModel<ShoeResponseDTO>> update(String id, ShoeRequestDTO request);
+    Mono<Void> delete(String id);
+    Mono<Void> reserve(String id);
+    Mono<Void> release(String id);
 }
 
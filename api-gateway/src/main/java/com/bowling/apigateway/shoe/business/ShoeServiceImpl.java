@@ -1,19 +1,20 @@
 package com.bowling.apigateway.shoe.business;
 
+import com.bowling.apigateway.hateoas.ResourceLinks;
 import com.bowling.apigateway.shoe.domainclient.ShoeClient;
 import com.bowling.apigateway.shoe.presentation.ShoeController;
+import com.bowling.apigateway.shoe.presentation.ShoeAvailabilityResponseDTO;
 import com.bowling.apigateway.shoe.presentation.ShoeRequestDTO;
 import com.bowling.apigateway.shoe.presentation.ShoeResponseDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 @Service
 @RequiredArgsConstructor
 public class ShoeServiceImpl implements ShoeService {
@@ -21,36 +22,72 @@ public class ShoeServiceImpl implements ShoeService {
     private final ShoeClient shoeClient;
 
     @Override
-    public EntityModel<ShoeResponseDTO> create(ShoeRequestDTO request) {
-        ShoeResponseDTO response = shoeClient.create(request);
-        return toModel(response);
+    public Mono<EntityModel<ShoeResponseDTO>> create(ShoeRequestDTO request) {
+        ResourceLinks links = ResourceLinks.forController(ShoeController.class);
+        return shoeClient.create(request).map(dto -> toModel(dto, links));
+    }
+
+    @Override
+    public Mono<EntityModel<ShoeResponseDTO>> getById(String id) {
+        ResourceLinks links = ResourceLinks.forController(ShoeController.class);
+        return shoeClient.get(id).map(dto -> toModel(dto, links));
+    }
+
+    @Override
+    public Mono<CollectionModel<EntityModel<ShoeResponseDTO>>> getAll() {
+        return toCollection(shoeClient.getAll(), ResourceLinks.forController(ShoeController.class));
+    }
+
+    @Override
+    public Flux<ShoeResponseDTO> getAllPlain() {
+        return shoeClient.getAll();
+    }
+
+    @Override
+    public Flux<ShoeAvailabilityResponseDTO> getAvailability() {
+        return shoeClient.getAvailability();
+    }
+
+    @Override
+    public Mono<CollectionModel<EntityModel<ShoeResponseDTO>>> getByIds(List<String> ids) {
+        return toCollection(shoeClient.getByIds(ids), ResourceLinks.forController(ShoeController.class));
     }
 
     @Override
-    public EntityModel<ShoeResponseDTO> getById(String id) {
-        return toModel(shoeClient.get(id));
+    public Flux<ShoeResponseDTO> getByIdsPlain(List<String> ids) {
+        return shoeClient.getByIds(ids);
     }
 
     @Override
-    public CollectionModel<EntityModel<ShoeResponseDTO>> getAll() {
-        List<ShoeResponseDTO> shoes = shoeClient.getAll();
-        List<EntityModel<ShoeResponseDTO>> models = shoes.stream().map(this::toModel).toList();
-        return CollectionModel.of(models);
+    public Mono<EntityModel<ShoeResponseDTO>> update(String id, ShoeRequestDTO request) {
+        ResourceLinks links = ResourceLinks.forController(ShoeController.class);
+        return shoeClient.update(id, request).map(dto -> toModel(dto, links));
     }
 
     @Override
-    public EntityModel<ShoeResponseDTO> update(String id, ShoeRequestDTO request) {
-        return toModel(shoeClient.update(id, request));
+    public Mono<Void> delete(String id) {
+        return shoeClient.delete(id);
     }
 
     @Override
-    public void delete(String id) {
-        shoeClient.delete(id);
+    public Mono<Void> reserve(String id) {
+        return shoeClient.reserve(id);
     }
 
-    private EntityModel<ShoeResponseDTO> toModel(ShoeResponseDTO dto) {
-        return EntityModel.of(dto,
-                linkTo(methodOn(ShoeController.class).getById(dto.getId())).withSelfRel(),
-                linkTo(methodOn(ShoeController.class).getAll()).withRel("all"));
+    @Override
+    public Mono<Void> release(String id) {
+        return shoeClient.release(id);
+    }
+
+    private Mono<CollectionModel<EntityModel<ShoeResponseDTO>>> toCollection(Flux<ShoeResponseDTO> shoes,
+                                                                             ResourceLinks links) {
+        return shoes.map(dto -> toModel(dto, links))
+                .collectList()
+                .map(CollectionModel::of);
+    }
+
+    private EntityModel<ShoeResponseDTO> toModel(ShoeResponseDTO dto, ResourceLinks links) {
+        return EntityModel.of(dto, links.self(dto.getId()), links.all());
     }
 }
+
@@ -1,6 +1,7 @@
 package com.bowling.apigateway.shoe.domainclient;
 
 import com.bowling.apigateway.exceptions.*;
+import com.bowling.apigateway.shoe.presentation.ShoeAvailabilityResponseDTO;
 import com.bowling.apigateway.shoe.presentation.ShoeRequestDTO;
 import com.bowling.apigateway.shoe.presentation.ShoeResponseDTO;
 import lombok.RequiredArgsConstructor;
@@ -8,7 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -20,80 +21,102 @@ public class ShoeClient {
 
     private final WebClient shoeWebClient;
 
-    public ShoeResponseDTO create(ShoeRequestDTO request) {
-        try {
-            return shoeWebClient.post()
-                    .uri("/shoes")
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(),
-                            res -> res.bodyToMono(String.class)
-                                    .map(msg -> new InvalidInputException("Shoe: " + msg)))
-                    .bodyToMono(ShoeResponseDTO.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
-        }
+    public Mono<ShoeResponseDTO> create(ShoeRequestDTO request) {
+        return shoeWebClient.post()
+                .uri("/shoes")
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(msg -> new InvalidInputException("Shoe: " + msg)))
+                .bodyToMono(ShoeResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError);
     }
 
-    public ShoeResponseDTO get(String id) {
-        validateUUID(id);
-        try {
-            return shoeWebClient.get()
-                    .uri("/shoes/{id}", id)
-                    .retrieve()
-                    .onStatus(HttpStatus.NOT_FOUND::equals,
-                            res -> Mono.error(new NotFoundException("Shoe not found: " + id)))
-                    .bodyToMono(ShoeResponseDTO.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
-        }
+    public Mono<ShoeResponseDTO> get(String id) {
+        return validateUUID(id).then(shoeWebClient.get()
+                .uri("/shoes/{id}", id)
+                .retrieve()
+                .onStatus(HttpStatus.NOT_FOUND::equals,
+                        res -> Mono.error(new NotFoundException("Shoe not found: " + id)))
+                .bodyToMono(ShoeResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError));
+    }
+
+    public Flux<ShoeAvailabilityResponseDTO> getAvailability() {
+        return shoeWebClient.get()
+                .uri("/shoes/availability")
+                .retrieve()
+                .bodyToFlux(ShoeAvailabilityResponseDTO.class);
     }
 
-    public List<ShoeResponseDTO> getAll() {
+    public Flux<ShoeResponseDTO> getAll() {
         return shoeWebClient.get()
                 .uri("/shoes")
                 .retrieve()
-                .bodyToFlux(ShoeResponseDTO.class)
-                .collectList()
-                .block();
+                .bodyToFlux(ShoeResponseDTO.class);
     }
 
-    public ShoeResponseDTO update(String id, ShoeRequestDTO request) {
-        validateUUID(id);
-        try {
-            return shoeWebClient.put()
-                    .uri("/shoes/{id}", id)
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(),
-                            res -> res.bodyToMono(String.class)
-                                    .map(msg -> new InvalidInputException("Shoe: " + msg)))
-                    .bodyToMono(ShoeResponseDTO.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
-        }
+    public Flux<ShoeResponseDTO> getByIds(List<String> ids) {
+        return Flux.fromIterable(ids).concatMap(this::validateUUID).thenMany(shoeWebClient.post()
+                .uri("/shoes/batch")
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToFlux(ShoeResponseDTO.class));
     }
 
-    public void delete(String id) {
-        validateUUID(id);
-        shoeWebClient.delete()
+    public Mono<ShoeResponseDTO> update(String id, ShoeRequestDTO request) {
+        return validateUUID(id).then(shoeWebClient.put()
+                .uri("/shoes/{id}", id)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(msg -> new InvalidInputException("Shoe: " + msg)))
+                .bodyToMono(ShoeResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError));
+    }
+
+    public Mono<Void> delete(String id) {
+        return validateUUID(id).then(shoeWebClient.delete()
                 .uri("/shoes/{id}", id)
                 .retrieve()
                 .onStatus(HttpStatus.NOT_FOUND::equals,
                         res -> Mono.error(new NotFoundException("Shoe not found: " + id)))
                 .toBodilessEntity()
-                .block();
+                .then());
     }
 
-    private void validateUUID(String id) {
+    public Mono<Void> reserve(String id) {
+        return transition(id, "reserve", "Shoe is not available: " + id);
+    }
+
+    public Mono<Void> release(String id) {
+        return transition(id, "release", "Shoe is not in use: " + id);
+    }
+
+    private Mono<Void> transition(String id, String action, String conflictMessage) {
+        return validateUUID(id).then(shoeWebClient.post()
+                .uri("/shoes/{id}/{action}", id, action)
+                .retrieve()
+                .onStatus(HttpStatus.NOT_FOUND::equals,
+                        res -> Mono.error(new NotFoundException("Shoe not found: " + id)))
+                .onStatus(HttpStatus.CONFLICT::equals,
+                        res -> Mono.error(new ConflictException(conflictMessage)))
+                .toBodilessEntity()
+                .then());
+    }
+
+    private Mono<Void> validateUUID(String id) {
         try {
             UUID.fromString(id);
+            return Mono.empty();
         } catch (IllegalArgumentException e) {
-            throw new InvalidInputException("Invalid Shoe ID format: " + id);
+            return Mono.error(new InvalidInputException("Invalid Shoe ID format: " + id));
         }
     }
-}
 
+    private Throwable downstreamError(WebClientResponseException e) {
+        return new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
+    }
+}
@@ -0,0 +1,14 @@
+package com.bowling.apigateway.shoe.presentation;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShoeAvailabilityResponseDTO {
+
+    private ShoeSize size;
+    private long available;
+    private long inUse;
+}
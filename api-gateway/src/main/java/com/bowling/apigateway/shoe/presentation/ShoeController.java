@@ -6,9 +6,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/shoes")
@@ -18,29 +22,60 @@ public class ShoeController {
     private final ShoeService shoeService;
 
     @PostMapping
-    public ResponseEntity<EntityModel<ShoeResponseDTO>> create(@Valid @RequestBody ShoeRequestDTO request) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(shoeService.create(request));
+    public Mono<ResponseEntity<EntityModel<ShoeResponseDTO>>> create(@Valid @RequestBody ShoeRequestDTO request) {
+        return shoeService.create(request)
+                .map(model -> ResponseEntity.status(HttpStatus.CREATED).body(model));
+    }
+
+    @GetMapping("/availability")
+    public Flux<ShoeAvailabilityResponseDTO> getAvailability() {
+        return shoeService.getAvailability();
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EntityModel<ShoeResponseDTO>> getById(@PathVariable String id) {
-        return ResponseEntity.ok(shoeService.getById(id));
+    public Mono<ResponseEntity<EntityModel<ShoeResponseDTO>>> getById(@PathVariable String id) {
+        return shoeService.getById(id).map(ResponseEntity::ok);
     }
 
     @GetMapping
-    public ResponseEntity<CollectionModel<EntityModel<ShoeResponseDTO>>> getAll() {
-        return ResponseEntity.ok(shoeService.getAll());
+    public Mono<ResponseEntity<CollectionModel<EntityModel<ShoeResponseDTO>>>> getAll() {
+        return shoeService.getAll().map(ResponseEntity::ok);
+    }
+
+    // Clients asking for plain application/json skip HAL assembly; */* and application/hal+json still get HAL.
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<ShoeResponseDTO> getAllPlain() {
+        return shoeService.getAllPlain();
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<CollectionModel<EntityModel<ShoeResponseDTO>>>> getByIds(@RequestBody List<String> ids) {
+        return shoeService.getByIds(ids).map(ResponseEntity::ok);
+    }
+
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<ShoeResponseDTO> getByIdsPlain(@RequestBody List<String> ids) {
+        return shoeService.getByIdsPlain(ids);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<EntityModel<ShoeResponseDTO>> update(@PathVariable String id, @Valid @RequestBody ShoeRequestDTO request) {
-        return ResponseEntity.ok(shoeService.update(id, request));
+    public Mono<ResponseEntity<EntityModel<ShoeResponseDTO>>> update(@PathVariable String id,
+                                                                     @Valid @RequestBody ShoeRequestDTO request) {
+        return shoeService.update(id, request).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{id}/reserve")
+    public Mono<ResponseEntity<Void>> reserve(@PathVariable String id) {
+        return shoeService.reserve(id).thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/{id}/release")
+    public Mono<ResponseEntity<Void>> release(@PathVariable String id) {
+        return shoeService.release(id).thenReturn(ResponseEntity.noContent().build());
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable String id) {
-        shoeService.delete(id);
-        return ResponseEntity.noContent().build();
+    public Mono<ResponseEntity<Void>> delete(@PathVariable String id) {
+        return shoeService.delete(id).thenReturn(ResponseEntity.noContent().build());
     }
 }
-
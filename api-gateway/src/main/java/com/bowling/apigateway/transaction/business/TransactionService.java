@@ -1,16 +1,28 @@
 package com.bowling.apigateway.transaction.business;
 
+import com.bowling.apigateway.transaction.domainclient.TransactionPage;
+import com.bowling.apigateway.transaction.presentation.DailyRollupResponseDTO;
+import com.bowling.apigateway.transaction.presentation.TransactionBulkResponseDTO;
 import com.bowling.apigateway.transaction.presentation.TransactionRequestDTO;
 import com.bowling.apigateway.transaction.presentation.TransactionResponseDTO;
+import com.bowling.apigateway.transaction.presentation.ZoneRollupResponseDTO;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
 public interface TransactionService {
-    List<TransactionResponseDTO> getAllTransactions();
-    TransactionResponseDTO getTransactionById(String transactionId);
-    TransactionResponseDTO createTransaction(TransactionRequestDTO requestDTO);
-    TransactionResponseDTO updateTransaction(String transactionId, TransactionRequestDTO requestDTO);
-    void deleteTransaction(String transactionId);
+    Mono<TransactionPage> getTransactions(String cursor, int size);
+    Mono<TransactionResponseDTO> getTransactionById(String transactionId);
+    Mono<ResponseEntity<Flux<DataBuffer>>> exportTransactions(String format, String from, String to, String status);
+    Mono<List<DailyRollupResponseDTO>> getDailyReport(String from, String to, String zone, String status);
+    Mono<List<ZoneRollupResponseDTO>> getZoneReport(String from, String to, String status);
+    Mono<TransactionResponseDTO> createTransaction(TransactionRequestDTO requestDTO, String idempotencyKey);
+    Mono<TransactionBulkResponseDTO> createTransactionsBulk(Flux<DataBuffer> body);
+    Mono<TransactionResponseDTO> updateTransaction(String transactionId, TransactionRequestDTO requestDTO);
+    Mono<Void> deleteTransaction(String transactionId);
 }
 
 
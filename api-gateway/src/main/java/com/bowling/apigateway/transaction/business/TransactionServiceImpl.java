@@ -1,10 +1,18 @@
 package com.bowling.apigateway.transaction.business;
 
 import com.bowling.apigateway.transaction.domainclient.TransactionClient;
+import com.bowling.apigateway.transaction.domainclient.TransactionPage;
+import com.bowling.apigateway.transaction.presentation.DailyRollupResponseDTO;
+import com.bowling.apigateway.transaction.presentation.TransactionBulkResponseDTO;
 import com.bowling.apigateway.transaction.presentation.TransactionRequestDTO;
 import com.bowling.apigateway.transaction.presentation.TransactionResponseDTO;
+import com.bowling.apigateway.transaction.presentation.ZoneRollupResponseDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -15,28 +23,49 @@ public class TransactionServiceImpl implements TransactionService {
     private final TransactionClient transactionClient;
 
     @Override
-    public List<TransactionResponseDTO> getAllTransactions() {
-        return transactionClient.getAllTransactions();
+    public Mono<TransactionPage> getTransactions(String cursor, int size) {
+        return transactionClient.getTransactions(cursor, size);
     }
 
     @Override
-    public TransactionResponseDTO getTransactionById(String transactionId) {
+    public Mono<TransactionResponseDTO> getTransactionById(String transactionId) {
         return transactionClient.getTransactionById(transactionId);
     }
 
     @Override
-    public TransactionResponseDTO createTransaction(TransactionRequestDTO requestDTO) {
-        return transactionClient.createTransaction(requestDTO);
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportTransactions(String format, String from, String to,
+                                                                     String status) {
+        return transactionClient.exportTransactions(format, from, to, status);
     }
 
     @Override
-    public TransactionResponseDTO updateTransaction(String transactionId, TransactionRequestDTO requestDTO) {
+    public Mono<List<DailyRollupResponseDTO>> getDailyReport(String from, String to, String zone, String status) {
+        return transactionClient.getDailyReport(from, to, zone, status);
+    }
+
+    @Override
+    public Mono<List<ZoneRollupResponseDTO>> getZoneReport(String from, String to, String status) {
+        return transactionClient.getZoneReport(from, to, status);
+    }
+
+    @Override
+    public Mono<TransactionResponseDTO> createTransaction(TransactionRequestDTO requestDTO, String idempotencyKey) {
+        return transactionClient.createTransaction(requestDTO, idempotencyKey);
+    }
+
+    @Override
+    public Mono<TransactionBulkResponseDTO> createTransactionsBulk(Flux<DataBuffer> body) {
+        return transactionClient.createTransactionsBulk(body);
+    }
+
+    @Override
+    public Mono<TransactionResponseDTO> updateTransaction(String transactionId, TransactionRequestDTO requestDTO) {
         return transactionClient.updateTransaction(transactionId, requestDTO);
     }
 
     @Override
-    public void deleteTransaction(String transactionId) {
-        transactionClient.deleteTransaction(transactionId);
+    public Mono<Void> deleteTransaction(String transactionId) {
+        return transactionClient.deleteTransaction(transactionId);
     }
 }
 
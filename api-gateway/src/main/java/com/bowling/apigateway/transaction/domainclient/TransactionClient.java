@@ -1,109 +1,202 @@
 package com.bowling.apigateway.transaction.domainclient;
 
+import com.bowling.apigateway.config.TransactionTimeoutsConfig;
+import com.bowling.apigateway.exceptions.ConflictException;
 import com.bowling.apigateway.exceptions.ErrorResponse;
 import com.bowling.apigateway.exceptions.InvalidInputException;
 import com.bowling.apigateway.exceptions.NotFoundException;
+import com.bowling.apigateway.transaction.presentation.DailyRollupResponseDTO;
+import com.bowling.apigateway.transaction.presentation.TransactionBulkResponseDTO;
 import com.bowling.apigateway.transaction.presentation.TransactionRequestDTO;
 import com.bowling.apigateway.transaction.presentation.TransactionResponseDTO;
+import com.bowling.apigateway.transaction.presentation.ZoneRollupResponseDTO;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
 public class TransactionClient {
 
-    @Qualifier("transactionWebClient")
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final WebClient transactionWebClient;
+    private final TransactionTimeoutsConfig timeouts;
 
-    public TransactionClient(@Qualifier("transactionWebClient") WebClient transactionWebClient) {
+    public TransactionClient(@Qualifier("transactionWebClient") WebClient transactionWebClient,
+                             TransactionTimeoutsConfig timeouts) {
         this.transactionWebClient = transactionWebClient;
+        this.timeouts = timeouts;
     }
 
-    public List<TransactionResponseDTO> getAllTransactions() {
+    public Mono<TransactionPage> getTransactions(String cursor, int size) {
         return transactionWebClient.get()
-                .uri("/api/transactions")
+                .uri(uriBuilder -> uriBuilder.path("/api/transactions")
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .queryParam("size", size)
+                        .build())
                 .retrieve()
-                .bodyToFlux(TransactionResponseDTO.class)
-                .collectList()
-                .block();
+                .onStatus(status -> status.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(InvalidInputException::new))
+                .toEntityList(TransactionResponseDTO.class)
+                .map(entity -> new TransactionPage(entity.getBody(),
+                        entity.getHeaders().getFirst(NEXT_CURSOR_HEADER)));
     }
 
-    public TransactionResponseDTO getTransactionById(String transactionId) {
-        validateUUID(transactionId);
+    // No Accept-Encoding is sent: Reactor Netty would inflate a gzip reply anyway, so the hop stays plain.
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportTransactions(String format, String from, String to,
+                                                                     String status) {
+        return transactionWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/transactions/export")
+                        .queryParamIfPresent("format", Optional.ofNullable(format))
+                        .queryParamIfPresent("from", Optional.ofNullable(from))
+                        .queryParamIfPresent("to", Optional.ofNullable(to))
+                        .queryParamIfPresent("status", Optional.ofNullable(status))
+                        .build())
+                .httpRequest(request -> {
+                    if (request.getNativeRequest() instanceof HttpClientRequest nativeRequest) {
+                        nativeRequest.responseTimeout(timeouts.getExport());
+                    }
+                })
+                .retrieve()
+                .onStatus(code -> code.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(InvalidInputException::new))
+                .toEntityFlux(DataBuffer.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError);
+    }
 
-        try {
-            return transactionWebClient.get()
-                    .uri("/api/transactions/{id}", transactionId)
-                    .retrieve()
-                    .onStatus(HttpStatus.NOT_FOUND::equals,
-                            res -> Mono.error(new NotFoundException("Transaction not found: " + transactionId)))
-                    .bodyToMono(TransactionResponseDTO.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
-        }
+    public Mono<List<DailyRollupResponseDTO>> getDailyReport(String from, String to, String zone, String status) {
+        return transactionWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/transactions/reports/daily")
+                        .queryParamIfPresent("from", Optional.ofNullable(from))
+                        .queryParamIfPresent("to", Optional.ofNullable(to))
+                        .queryParamIfPresent("zone", Optional.ofNullable(zone))
+                        .queryParamIfPresent("status", Optional.ofNullable(status))
+                        .build())
+                .retrieve()
+                .onStatus(code -> code.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(InvalidInputException::new))
+                .bodyToFlux(DailyRollupResponseDTO.class)
+                .collectList()
+                .onErrorMap(WebClientResponseException.class, this::downstreamError);
     }
 
-    public TransactionResponseDTO createTransaction(TransactionRequestDTO request) {
-        try {
-            return transactionWebClient.post()
-                    .uri("/api/transactions")
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(),
-                            res -> res.bodyToMono(String.class)
-                                    .map(InvalidInputException::new))
-                    .bodyToMono(TransactionResponseDTO.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
-        }
+    public Mono<List<ZoneRollupResponseDTO>> getZoneReport(String from, String to, String status) {
+        return transactionWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/transactions/reports/zones")
+                        .queryParamIfPresent("from", Optional.ofNullable(from))
+                        .queryParamIfPresent("to", Optional.ofNullable(to))
+                        .queryParamIfPresent("status", Optional.ofNullable(status))
+                        .build())
+                .retrieve()
+                .onStatus(code -> code.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(InvalidInputException::new))
+                .bodyToFlux(ZoneRollupResponseDTO.class)
+                .collectList()
+                .onErrorMap(WebClientResponseException.class, this::downstreamError);
     }
 
-    public TransactionResponseDTO updateTransaction(String transactionId, TransactionRequestDTO request) {
-        validateUUID(transactionId);
+    public Mono<TransactionResponseDTO> getTransactionById(String transactionId) {
+        return validateUUID(transactionId).then(transactionWebClient.get()
+                .uri("/api/transactions/{id}", transactionId)
+                .retrieve()
+                .onStatus(HttpStatus.NOT_FOUND::equals,
+                        res -> Mono.error(new NotFoundException("Transaction not found: " + transactionId)))
+                .bodyToMono(TransactionResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError));
+    }
 
-        try {
-            return transactionWebClient.put()
-                    .uri("/api/transactions/{id}", transactionId)
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(),
-                            res -> res.bodyToMono(String.class)
-                                    .map(InvalidInputException::new))
-                    .bodyToMono(TransactionResponseDTO.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
-        }
+    public Mono<TransactionResponseDTO> createTransaction(TransactionRequestDTO request, String idempotencyKey) {
+        return transactionWebClient.post()
+                .uri("/api/transactions")
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                    }
+                })
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatus.CONFLICT::equals,
+                        res -> res.bodyToMono(ErrorResponse.class)
+                                .map(ErrorResponse::getMessage)
+                                .defaultIfEmpty("A request with this Idempotency-Key is still being processed.")
+                                .map(ConflictException::new))
+                .onStatus(status -> status.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(InvalidInputException::new))
+                .bodyToMono(TransactionResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError);
     }
 
-    public void deleteTransaction(String transactionId) {
-        validateUUID(transactionId);
+    public Mono<TransactionBulkResponseDTO> createTransactionsBulk(Flux<DataBuffer> body) {
+        return transactionWebClient.post()
+                .uri("/api/transactions/bulk")
+                .httpRequest(request -> {
+                    if (request.getNativeRequest() instanceof HttpClientRequest nativeRequest) {
+                        nativeRequest.responseTimeout(timeouts.getBulk());
+                    }
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromDataBuffers(body))
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(InvalidInputException::new))
+                .bodyToMono(TransactionBulkResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError);
+    }
+
+    public Mono<TransactionResponseDTO> updateTransaction(String transactionId, TransactionRequestDTO request) {
+        return validateUUID(transactionId).then(transactionWebClient.put()
+                .uri("/api/transactions/{id}", transactionId)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError(),
+                        res -> res.bodyToMono(String.class)
+                                .map(InvalidInputException::new))
+                .bodyToMono(TransactionResponseDTO.class)
+                .onErrorMap(WebClientResponseException.class, this::downstreamError));
+    }
 
-        transactionWebClient.delete()
+    public Mono<Void> deleteTransaction(String transactionId) {
+        return validateUUID(transactionId).then(transactionWebClient.delete()
                 .uri("/api/transactions/{id}", transactionId)
                 .retrieve()
                 .onStatus(HttpStatus.NOT_FOUND::equals,
                         res -> Mono.error(new NotFoundException("Transaction not found: " + transactionId)))
                 .toBodilessEntity()
-                .block();
+                .then());
     }
 
-    private void validateUUID(String id) {
+    private Mono<Void> validateUUID(String id) {
         try {
             UUID.fromString(id);
+            return Mono.empty();
         } catch (IllegalArgumentException e) {
-            throw new InvalidInputException("Invalid UUID format: " + id);
+            return Mono.error(new InvalidInputException("Invalid UUID format: " + id));
         }
     }
+
+    private Throwable downstreamError(WebClientResponseException e) {
+        return new InvalidInputException("Downstream error: " + e.getResponseBodyAsString());
+    }
 }
 
 
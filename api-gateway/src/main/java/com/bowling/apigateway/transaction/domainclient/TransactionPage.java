@@ -0,0 +1,16 @@
+package com.bowling.apigateway.transaction.domainclient;
+
+import com.bowling.apigateway.transaction.presentation.TransactionResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TransactionPage {
+
+    private final List<TransactionResponseDTO> content;
+
+    private final String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.bowling.apigateway.transaction.presentation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransactionBulkItemDTO {
+
+    private int index;
+
+    private boolean success;
+
+    private TransactionResponseDTO transaction;
+
+    private String error;
+}
@@ -0,0 +1,21 @@
+package com.bowling.apigateway.transaction.presentation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionBulkResponseDTO {
+
+    private int created;
+
+    private int failed;
+
+    private List<TransactionBulkItemDTO> items;
+}
@@ -1,68 +1,207 @@
 package com.bowling.apigateway.transaction.presentation;
 
+import com.bowling.apigateway.config.TransactionTimeoutsConfig;
+import com.bowling.apigateway.exceptions.DownstreamTimeoutException;
+import com.bowling.apigateway.hateoas.ResourceLinks;
 import com.bowling.apigateway.transaction.business.TransactionService;
+import com.bowling.apigateway.transaction.domainclient.TransactionPage;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/transactions")
 @RequiredArgsConstructor
 public class TransactionController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final List<String> EXPORT_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_DISPOSITION);
+    private static final int BULK_BUFFER_SIZE = 8192;
+    private static final int EXPORT_PREFETCH = 16;
+
     private final TransactionService transactionService;
+    private final TransactionTimeoutsConfig timeouts;
 
     @GetMapping
-    public ResponseEntity<CollectionModel<EntityModel<TransactionResponseDTO>>> getAllTransactions() {
-        List<TransactionResponseDTO> transactions = transactionService.getAllTransactions();
+    public Mono<ResponseEntity<CollectionModel<EntityModel<TransactionResponseDTO>>>> getAllTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        ResourceLinks links = ResourceLinks.forController(TransactionController.class);
 
-        List<EntityModel<TransactionResponseDTO>> models = transactions.stream()
-                .map(this::toModel)
-                .toList();
+        return transactionService.getTransactions(cursor, size)
+                .map(page -> ResponseEntity.ok(toCollection(page, cursor, size, links)));
+    }
+
+    // Plain application/json clients get the bare array with the cursor in a header, as transaction-service returns it.
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<TransactionResponseDTO>>> getAllTransactionsPlain(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return transactionService.getTransactions(cursor, size)
+                .map(page -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (page.getNextCursor() != null) {
+                        response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+                    }
+                    return response.body(page.getContent());
+                });
+    }
+
+    @GetMapping("/export")
+    public Mono<ResponseEntity<ResponseBodyEmitter>> exportTransactions(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String status) {
+        return transactionService.exportTransactions(format, from, to, status)
+                .map(export -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    EXPORT_HEADERS.forEach(name -> {
+                        List<String> values = export.getHeaders().get(name);
+                        if (values != null) {
+                            headers.put(name, values);
+                        }
+                    });
+                    return ResponseEntity.ok().headers(headers).body(relay(export.getBody()));
+                });
+    }
+
+    @GetMapping("/reports/daily")
+    public Mono<ResponseEntity<List<DailyRollupResponseDTO>>> getDailyReport(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String zone,
+            @RequestParam(required = false) String status) {
+        return transactionService.getDailyReport(from, to, zone, status).map(ResponseEntity::ok);
+    }
 
-        return ResponseEntity.ok(CollectionModel.of(models));
+    @GetMapping("/reports/zones")
+    public Mono<ResponseEntity<List<ZoneRollupResponseDTO>>> getZoneReport(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String status) {
+        return transactionService.getZoneReport(from, to, status).map(ResponseEntity::ok);
     }
 
     @GetMapping("/{transactionId}")
-    public ResponseEntity<EntityModel<TransactionResponseDTO>> getTransactionById(@PathVariable String transactionId) {
-        TransactionResponseDTO transaction = transactionService.getTransactionById(transactionId);
-        return ResponseEntity.ok(toModel(transaction));
+    public Mono<ResponseEntity<EntityModel<TransactionResponseDTO>>> getTransactionById(@PathVariable String transactionId) {
+        ResourceLinks links = ResourceLinks.forController(TransactionController.class);
+        return transactionService.getTransactionById(transactionId)
+                .map(transaction -> ResponseEntity.ok(toModel(transaction, links)));
     }
 
     @PostMapping
-    public ResponseEntity<EntityModel<TransactionResponseDTO>> createTransaction(@Valid @RequestBody TransactionRequestDTO requestDTO) {
-        TransactionResponseDTO created = transactionService.createTransaction(requestDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(toModel(created));
+    public Mono<ResponseEntity<EntityModel<TransactionResponseDTO>>> createTransaction(
+            @Valid @RequestBody TransactionRequestDTO requestDTO,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        ResourceLinks links = ResourceLinks.forController(TransactionController.class);
+        return transactionService.createTransaction(requestDTO, idempotencyKey)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(toModel(created, links)));
+    }
+
+    // The batch is relayed to transaction-service as raw bytes; only that service parses it.
+    // A DeferredResult rather than a Mono so the wait can match the bulk call instead of the global async timeout.
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<TransactionBulkResponseDTO>> createTransactionsBulk(HttpServletRequest request) {
+        Flux<DataBuffer> body = DataBufferUtils.readInputStream(request::getInputStream,
+                        DefaultDataBufferFactory.sharedInstance, BULK_BUFFER_SIZE)
+                .subscribeOn(Schedulers.boundedElastic());
+        DeferredResult<ResponseEntity<TransactionBulkResponseDTO>> result =
+                new DeferredResult<>(timeouts.getBulk().toMillis());
+        Disposable call = transactionService.createTransactionsBulk(body)
+                .subscribe(created -> result.setResult(ResponseEntity.ok(created)), result::setErrorResult);
+        result.onTimeout(() -> result.setErrorResult(
+                new DownstreamTimeoutException("Timed out calling transaction service", null)));
+        result.onCompletion(call::dispose);
+        return result;
     }
 
     @PutMapping("/{transactionId}")
-    public ResponseEntity<EntityModel<TransactionResponseDTO>> updateTransaction(
+    public Mono<ResponseEntity<EntityModel<TransactionResponseDTO>>> updateTransaction(
             @PathVariable String transactionId,
             @Valid @RequestBody TransactionRequestDTO requestDTO) {
-        TransactionResponseDTO updated = transactionService.updateTransaction(transactionId, requestDTO);
-        return ResponseEntity.ok(toModel(updated));
+        ResourceLinks links = ResourceLinks.forController(TransactionController.class);
+        return transactionService.updateTransaction(transactionId, requestDTO)
+                .map(updated -> ResponseEntity.ok(toModel(updated, links)));
     }
 
     @DeleteMapping("/{transactionId}")
-    public ResponseEntity<Void> deleteTransaction(@PathVariable String transactionId) {
-        transactionService.deleteTransaction(transactionId);
-        return ResponseEntity.noContent().build();
+    public Mono<ResponseEntity<Void>> deleteTransaction(@PathVariable String transactionId) {
+        return transactionService.deleteTransaction(transactionId)
+                .thenReturn(ResponseEntity.noContent().build());
     }
 
-    private EntityModel<TransactionResponseDTO> toModel(TransactionResponseDTO dto) {
-        return EntityModel.of(dto,
-                linkTo(methodOn(TransactionController.class).getTransactionById(dto.getTransactionId())).withSelfRel(),
-                linkTo(methodOn(TransactionController.class).getAllTransactions()).withRel("all"));
+    // The emitter carries the export's own timeout, so the global async request timeout stays at its default.
+    // Buffers are copied off the Netty event loop, since each send blocks on the client's servlet stream.
+    private ResponseBodyEmitter relay(Flux<DataBuffer> body) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeouts.getExport().toMillis());
+        Disposable copy = body
+                .publishOn(Schedulers.boundedElastic(), EXPORT_PREFETCH)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .subscribe(buffer -> {
+                    try {
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        emitter.send(bytes);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                }, emitter::completeWithError, emitter::complete);
+        emitter.onCompletion(copy::dispose);
+        return emitter;
     }
-}
 
+    private CollectionModel<EntityModel<TransactionResponseDTO>> toCollection(TransactionPage page, String cursor, int size,
+                                                                              ResourceLinks links) {
+        List<EntityModel<TransactionResponseDTO>> models = page.getContent().stream()
+                .map(dto -> toModel(dto, links))
+                .toList();
+
+        CollectionModel<EntityModel<TransactionResponseDTO>> collection = CollectionModel.of(models,
+                pageLink(links, cursor, size, IanaLinkRelations.SELF));
+        if (page.getNextCursor() != null) {
+            collection.add(pageLink(links, page.getNextCursor(), size, IanaLinkRelations.NEXT));
+        }
+        return collection;
+    }
+
+    private Link pageLink(ResourceLinks links, String cursor, int size, LinkRelation rel) {
+        String href = UriComponentsBuilder.fromUriString(links.collectionHref())
+                .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                .queryParam("size", size)
+                .toUriString();
+        return Link.of(href, rel);
+    }
 
+    private EntityModel<TransactionResponseDTO> toModel(TransactionResponseDTO dto, ResourceLinks links) {
+        return EntityModel.of(dto, links.self(dto.getTransactionId()), links.all());
+    }
+}
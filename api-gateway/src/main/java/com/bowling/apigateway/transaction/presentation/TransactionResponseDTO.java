@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @Data
 @NoArgsConstructor
@@ -27,7 +28,7 @@ public class TransactionResponseDTO {
 
     private BigDecimal totalPrice;
 
-    private String dateCompleted;
+    private Instant dateCompleted;
 
     private TransactionStatus status;
 }
@@ -0,0 +1,23 @@
+package com.bowling.apigateway.transaction.presentation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ZoneRollupResponseDTO {
+
+    private String laneZone;
+
+    private TransactionStatus status;
+
+    private long transactionCount;
+
+    private BigDecimal revenue;
+}
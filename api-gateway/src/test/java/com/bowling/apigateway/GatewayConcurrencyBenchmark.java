@@ -0,0 +1,152 @@
+package com.bowling.apigateway;
+
+import com.bowling.apigateway.lane.business.LaneService;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class GatewayConcurrencyBenchmark {
+
+    private static final int CONNECTIONS = 1000;
+    private static final int REQUESTS_PER_CONNECTION = 3;
+    private static final long DOWNSTREAM_LATENCY_MILLIS = 100;
+    private static final String LANE_ID = UUID.randomUUID().toString();
+
+    @Test
+    void throughputAtOneThousandConnections_blockingVersusReactive() throws Exception {
+        MockWebServer laneService = new MockWebServer();
+        laneService.setDispatcher(new SlowLaneDispatcher());
+        laneService.start();
+
+        try (ConfigurableApplicationContext gateway = start(laneService.url("/").toString())) {
+            int port = ((ServletWebServerApplicationContext) gateway).getWebServer().getPort();
+
+            double blocking = measure(URI.create("http://localhost:" + port + "/benchmark/blocking/lanes/" + LANE_ID));
+            double reactive = measure(URI.create("http://localhost:" + port + "/api/lanes/" + LANE_ID));
+
+            System.out.printf("blocking (.block() on servlet thread): %.0f req/s%n", blocking);
+            System.out.printf("reactive (Mono returned to MVC):       %.0f req/s%n", reactive);
+            assertTrue(reactive > blocking);
+        } finally {
+            laneService.shutdown();
+        }
+    }
+
+    private ConfigurableApplicationContext start(String laneServiceUrl) {
+        return new SpringApplicationBuilder(ApiGatewayApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=200",
+                        "server.tomcat.max-connections=" + (CONNECTIONS * 2),
+                        "server.tomcat.accept-count=" + CONNECTIONS,
+                        "logging.level.org.springframework.web.reactive.function.client=INFO",
+                        "logging.level.org.springframework.http.client.reactive=INFO")
+                .initializers(context -> {
+                    GenericApplicationContext generic = (GenericApplicationContext) context;
+                    // Primary so LaneClient talks to the mock downstream with a pool sized for the test.
+                    generic.registerBean("benchmarkWebClient", WebClient.class,
+                            () -> benchmarkWebClient(laneServiceUrl), definition -> definition.setPrimary(true));
+                    generic.registerBean("blockingLaneRoute", RouterFunction.class, () -> blockingLaneRoute(context));
+                })
+                .run();
+    }
+
+    private static WebClient benchmarkWebClient(String baseUrl) {
+        ConnectionProvider pool = ConnectionProvider.builder("benchmark")
+                .maxConnections(CONNECTIONS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(pool)))
+                .build();
+    }
+
+    // The pre-reactive request path: a servlet thread is parked for the whole downstream round trip.
+    private static RouterFunction<ServerResponse> blockingLaneRoute(ConfigurableApplicationContext context) {
+        return RouterFunctions.route()
+                .GET("/benchmark/blocking/lanes/{id}", request -> ServerResponse.ok()
+                        .body(context.getBean(LaneService.class).getById(request.pathVariable("id")).block()))
+                .build();
+    }
+
+    private static double measure(URI uri) throws InterruptedException {
+        fire(uri, 100, 1);
+        long started = System.nanoTime();
+        int completed = fire(uri, CONNECTIONS, REQUESTS_PER_CONNECTION);
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        assertEquals(CONNECTIONS * REQUESTS_PER_CONNECTION, completed);
+        return completed / seconds;
+    }
+
+    private static int fire(URI uri, int connections, int requestsPerConnection) throws InterruptedException {
+        AtomicInteger completed = new AtomicInteger();
+        java.net.http.HttpClient client = java.net.http.HttpClient.newBuilder()
+                .version(java.net.http.HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        ExecutorService clients = Executors.newFixedThreadPool(connections);
+        for (int i = 0; i < connections; i++) {
+            clients.execute(() -> {
+                for (int j = 0; j < requestsPerConnection; j++) {
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 200) {
+                            completed.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        return;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(5, TimeUnit.MINUTES);
+        return completed.get();
+    }
+
+    private static class SlowLaneDispatcher extends Dispatcher {
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            return new MockResponse()
+                    .setHeadersDelay(DOWNSTREAM_LATENCY_MILLIS, TimeUnit.MILLISECONDS)
+                    .addHeader("Content-Type", "application/json")
+                    .setBody("{\"id\":\"" + LANE_ID + "\",\"laneNumber\":1,\"zone\":\"A\",\"status\":\"AVAILABLE\"}");
+        }
+    }
+}
@@ -14,6 +14,8 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.UUID;
@@ -56,18 +58,18 @@ class BowlingBallServiceImplUnitTest {
 
     @Test
     void whenCreate_thenReturnsEntityModel() {
-        Mockito.when(bowlingBallClient.createBall(request)).thenReturn(response);
+        Mockito.when(bowlingBallClient.createBall(request)).thenReturn(Mono.just(response));
 
-        EntityModel<BowlingBallResponseDTO> result = bowlingBallService.create(request);
+        EntityModel<BowlingBallResponseDTO> result = bowlingBallService.create(request).block();
 
         assertThat(result.getContent()).isEqualTo(response);
     }
 
     @Test
     void whenGetById_thenReturnsEntityModel() {
-        Mockito.when(bowlingBallClient.getBall(validId)).thenReturn(response);
+        Mockito.when(bowlingBallClient.getBall(validId)).thenReturn(Mono.just(response));
 
-        EntityModel<BowlingBallResponseDTO> result = bowlingBallService.getById(validId);
+        EntityModel<BowlingBallResponseDTO> result = bowlingBallService.getById(validId).block();
 
         assertThat(result.getContent()).isEqualTo(response);
     }
@@ -76,9 +78,19 @@ class BowlingBallServiceImplUnitTest {
     void whenGetAll_thenReturnsCollectionModel() {
         List<BowlingBallResponseDTO> mockList = List.of(response);
 
-        Mockito.when(bowlingBallClient.getAll()).thenReturn(mockList);
+        Mockito.when(bowlingBallClient.getAll()).thenReturn(Flux.fromIterable(mockList));
 
-        CollectionModel<EntityModel<BowlingBallResponseDTO>> result = bowlingBallService.getAll();
+        CollectionModel<EntityModel<BowlingBallResponseDTO>> result = bowlingBallService.getAll().block();
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().stream().findFirst().get().getContent()).isEqualTo(response);
+    }
+
+    @Test
+    void whenGetByIds_thenReturnsCollectionModel() {
+        Mockito.when(bowlingBallClient.getBallsByIds(List.of(validId))).thenReturn(Flux.just(response));
+
+        CollectionModel<EntityModel<BowlingBallResponseDTO>> result = bowlingBallService.getByIds(List.of(validId)).block();
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().stream().findFirst().get().getContent()).isEqualTo(response);
@@ -86,16 +98,18 @@ class BowlingBallServiceImplUnitTest {
 
     @Test
     void whenUpdate_thenReturnsEntityModel() {
-        Mockito.when(bowlingBallClient.updateBall(validId, request)).thenReturn(response);
+        Mockito.when(bowlingBallClient.updateBall(validId, request)).thenReturn(Mono.just(response));
 
-        EntityModel<BowlingBallResponseDTO> result = bowlingBallService.update(validId, request);
+        EntityModel<BowlingBallResponseDTO> result = bowlingBallService.update(validId, request).block();
 
         assertThat(result.getContent()).isEqualTo(response);
     }
 
     @Test
     void whenDelete_thenDelegatesToClient() {
-        bowlingBallService.delete(validId);
+        Mockito.when(bowlingBallClient.deleteBall(validId)).thenReturn(Mono.empty());
+
+        bowlingBallService.delete(validId).block();
 
         Mockito.verify(bowlingBallClient).deleteBall(validId);
     }
@@ -2,8 +2,10 @@ package com.bowling.apigateway.bowlingball.domainclient;
 
 import com.bowling.apigateway.bowlingball.presentation.BallSize;
 import com.bowling.apigateway.bowlingball.presentation.BallStatus;
+import com.bowling.apigateway.bowlingball.presentation.BowlingBallPageResponseDTO;
 import com.bowling.apigateway.bowlingball.presentation.BowlingBallRequestDTO;
 import com.bowling.apigateway.bowlingball.presentation.BowlingBallResponseDTO;
+import com.bowling.apigateway.exceptions.ConflictException;
 import com.bowling.apigateway.exceptions.InvalidInputException;
 import com.bowling.apigateway.exceptions.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -60,6 +62,26 @@ class BowlingBallClientIntegrationTest {
         mockWebServer.shutdown();
     }
 
+    @Test
+    void whenSearch_thenForwardsCriteriaAndPaging() throws Exception {
+        BowlingBallPageResponseDTO page = new BowlingBallPageResponseDTO(
+                List.of(new BowlingBallResponseDTO(validId, BallSize.TWELVE, "Contoured", "Red", BallStatus.AVAILABLE)),
+                1, 5, 6, 2);
+        // Own server so the recorded request is this test's and not one left over by another.
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse()
+                    .setBody(new ObjectMapper().writeValueAsString(page))
+                    .addHeader("Content-Type", "application/json"));
+            BowlingBallClient client = new BowlingBallClient(WebClient.create(server.url("/").toString()));
+
+            BowlingBallPageResponseDTO result = client.search(BallSize.TWELVE, BallStatus.AVAILABLE, null, null, 1, 5).block();
+
+            assertThat(result).isEqualTo(page);
+            assertThat(server.takeRequest().getPath())
+                    .isEqualTo("/bowlingballs/search?size=TWELVE&status=AVAILABLE&page=1&pageSize=5");
+        }
+    }
+
     @Test
     void whenCreateBall_thenReturnResponse() throws Exception {
         BowlingBallResponseDTO mockResponse = new BowlingBallResponseDTO("id123", BallSize.TEN, "FINGER", "Red", BallStatus.AVAILABLE);
@@ -70,7 +92,7 @@ class BowlingBallClientIntegrationTest {
 
         BowlingBallRequestDTO request = new BowlingBallRequestDTO(BallSize.TEN, "FINGER", "Red", BallStatus.AVAILABLE);
 
-        BowlingBallResponseDTO result = bowlingBallClient.createBall(request);
+        BowlingBallResponseDTO result = bowlingBallClient.createBall(request).block();
 
         assertThat(result.getId()).isEqualTo("id123");
         assertThat(result.getStatus()).isEqualTo(BallStatus.AVAILABLE);
@@ -87,18 +109,38 @@ class BowlingBallClientIntegrationTest {
                 .setBody(new ObjectMapper().writeValueAsString(mockList))
                 .addHeader("Content-Type", "application/json"));
 
-        List<BowlingBallResponseDTO> result = bowlingBallClient.getAll();
+        List<BowlingBallResponseDTO> result = bowlingBallClient.getAll().collectList().block();
 
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getColor()).isEqualTo("Blue");
     }
 
+    @Test
+    void whenGetBallsByIds_thenReturnList() throws Exception {
+        List<BowlingBallResponseDTO> mockList = List.of(
+                new BowlingBallResponseDTO(validId, BallSize.SIX, "CLAW", "Blue", BallStatus.AVAILABLE)
+        );
+
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(new ObjectMapper().writeValueAsString(mockList))
+                .addHeader("Content-Type", "application/json"));
+
+        List<BowlingBallResponseDTO> result = bowlingBallClient.getBallsByIds(List.of(validId)).collectList().block();
+
+        assertThat(result).extracting(BowlingBallResponseDTO::getId).containsExactly(validId);
+    }
+
+    @Test
+    void whenGetBallsByIdsWithInvalidId_thenThrowsInvalidInputException() {
+        assertThrows(InvalidInputException.class, () -> bowlingBallClient.getBallsByIds(List.of("bad-id")).collectList().block());
+    }
+
     @Test
     void whenGetBallByIdAndNotFound_thenThrowsNotFoundException() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(404));
 
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
-            bowlingBallClient.getBall(validId);
+            bowlingBallClient.getBall(validId).block();
         });
 
         assertThat(exception.getMessage()).contains("not found");
@@ -115,7 +157,7 @@ class BowlingBallClientIntegrationTest {
 
         BowlingBallRequestDTO updateRequest = new BowlingBallRequestDTO(BallSize.SIX, "HOOK", "Green", BallStatus.IN_USE);
 
-        BowlingBallResponseDTO result = bowlingBallClient.updateBall(validId, updateRequest);
+        BowlingBallResponseDTO result = bowlingBallClient.updateBall(validId, updateRequest).block();
 
         assertThat(result.getColor()).isEqualTo("Green");
         assertThat(result.getGripType()).isEqualTo("HOOK");
@@ -125,7 +167,7 @@ class BowlingBallClientIntegrationTest {
     void whenDeleteBall_thenNoExceptionThrown() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(204)); // No content
 
-        assertThatCode(() -> bowlingBallClient.deleteBall(validId))
+        assertThatCode(() -> bowlingBallClient.deleteBall(validId).block())
                 .doesNotThrowAnyException();
     }
 
@@ -133,7 +175,7 @@ class BowlingBallClientIntegrationTest {
     void whenDeleteBallAndNotFound_thenThrowsNotFoundException() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(404));
 
-        assertThrows(NotFoundException.class, () -> bowlingBallClient.deleteBall(validId));
+        assertThrows(NotFoundException.class, () -> bowlingBallClient.deleteBall(validId).block());
     }
 
     @Test
@@ -143,7 +185,7 @@ class BowlingBallClientIntegrationTest {
                 .setBody("Validation failed"));
 
         InvalidInputException exception = assertThrows(InvalidInputException.class, () ->
-                bowlingBallClient.createBall(buildRequest()));
+                bowlingBallClient.createBall(buildRequest()).block());
 
         assertThat(exception.getMessage()).contains("Bowling Ball: Validation failed");
     }
@@ -155,7 +197,7 @@ class BowlingBallClientIntegrationTest {
                 .setBody("Bad update input"));
 
         InvalidInputException exception = assertThrows(InvalidInputException.class, () ->
-                bowlingBallClient.updateBall(validId, buildRequest()));
+                bowlingBallClient.updateBall(validId, buildRequest()).block());
 
         assertThat(exception.getMessage()).contains("Bowling Ball: Bad update input");
     }
@@ -167,7 +209,7 @@ class BowlingBallClientIntegrationTest {
                 .setBody("Server exploded"));
 
         InvalidInputException exception = assertThrows(InvalidInputException.class, () ->
-                bowlingBallClient.createBall(buildRequest()));
+                bowlingBallClient.createBall(buildRequest()).block());
 
         assertThat(exception.getMessage()).contains("Downstream error");
     }
@@ -179,10 +221,15 @@ class BowlingBallClientIntegrationTest {
                 .setBody("Server failure during GET"));
 
         InvalidInputException exception = assertThrows(InvalidInputException.class, () ->
-                bowlingBallClient.getBall(validId));
+                bowlingBallClient.getBall(validId).block());
 
         assertThat(exception.getMessage()).contains("Downstream error");
     }
 
+    @Test
+    void whenBallReserveConflicts_thenThrowsConflictException() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(409));
 
+        assertThrows(ConflictException.class, () -> bowlingBallClient.reserveBall(validId).block());
+    }
 }
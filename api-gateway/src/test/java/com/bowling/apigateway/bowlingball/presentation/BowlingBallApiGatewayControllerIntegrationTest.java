@@ -15,6 +15,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.UUID;
@@ -63,7 +64,7 @@ class BowlingBallApiGatewayControllerIntegrationTest {
     @Test
     void whenGetAll_thenReturnList() {
         Mockito.when(bowlingBallService.getAll())
-                .thenReturn(CollectionModel.of(List.of(EntityModel.of(response))));
+                .thenReturn(Mono.just(CollectionModel.of(List.of(EntityModel.of(response)))));
 
         webTestClient.get().uri(BASE_URL)
                 .exchange()
@@ -75,7 +76,7 @@ class BowlingBallApiGatewayControllerIntegrationTest {
     @Test
     void whenGetById_thenReturnEntity() {
         Mockito.when(bowlingBallService.getById(validId))
-                .thenReturn(EntityModel.of(response));
+                .thenReturn(Mono.just(EntityModel.of(response)));
 
         webTestClient.get().uri(BASE_URL + "/" + validId)
                 .exchange()
@@ -87,7 +88,7 @@ class BowlingBallApiGatewayControllerIntegrationTest {
     @Test
     void whenGetInvalidId_thenReturn404() {
         Mockito.when(bowlingBallService.getById("bad-id"))
-                .thenThrow(new NotFoundException("Bowling ball not found"));
+                .thenReturn(Mono.error(new NotFoundException("Bowling ball not found")));
 
         webTestClient.get().uri(BASE_URL + "/bad-id")
                 .exchange()
@@ -99,7 +100,7 @@ class BowlingBallApiGatewayControllerIntegrationTest {
     @Test
     void whenCreateValid_thenReturnCreated() {
         Mockito.when(bowlingBallService.create(request))
-                .thenReturn(EntityModel.of(response));
+                .thenReturn(Mono.just(EntityModel.of(response)));
 
         webTestClient.post().uri(BASE_URL)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -131,7 +132,7 @@ class BowlingBallApiGatewayControllerIntegrationTest {
     @Test
     void whenUpdateValid_thenReturnUpdated() {
         Mockito.when(bowlingBallService.update(eq(validId), any()))
-                .thenReturn(EntityModel.of(response));
+                .thenReturn(Mono.just(EntityModel.of(response)));
 
         webTestClient.put().uri(BASE_URL + "/" + validId)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -144,6 +145,8 @@ class BowlingBallApiGatewayControllerIntegrationTest {
 
     @Test
     void whenDeleteValidId_thenReturn204() {
+        Mockito.when(bowlingBallService.delete(validId)).thenReturn(Mono.empty());
+
         webTestClient.delete().uri(BASE_URL + "/" + validId)
                 .exchange()
                 .expectStatus().isNoContent();
@@ -151,8 +154,8 @@ class BowlingBallApiGatewayControllerIntegrationTest {
 
     @Test
     void whenDeleteInvalidId_thenReturn404() {
-        Mockito.doThrow(new NotFoundException("Not found"))
-                .when(bowlingBallService).delete("bad-id");
+        Mockito.when(bowlingBallService.delete("bad-id"))
+                .thenReturn(Mono.error(new NotFoundException("Not found")));
 
         webTestClient.delete().uri(BASE_URL + "/bad-id")
                 .exchange()
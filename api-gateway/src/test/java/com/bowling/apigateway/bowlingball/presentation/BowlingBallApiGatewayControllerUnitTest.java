@@ -1,6 +1,7 @@
 package com.bowling.apigateway.bowlingball.presentation;
 
 import com.bowling.apigateway.bowlingball.business.BowlingBallService;
+import com.bowling.apigateway.exceptions.ConflictException;
 import com.bowling.apigateway.exceptions.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -65,19 +71,71 @@ class BowlingBallApiGatewayControllerUnitTest {
     void whenGetAll_thenReturns200() throws Exception {
         CollectionModel<EntityModel<BowlingBallResponseDTO>> model = CollectionModel.of(List.of(EntityModel.of(response)));
 
-        Mockito.when(bowlingBallService.getAll()).thenReturn(model);
+        Mockito.when(bowlingBallService.getAll()).thenReturn(Mono.just(model));
 
-        mockMvc.perform(get(baseUrl))
+        performAsync(get(baseUrl))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("_embedded.bowlingBallResponseDTOList[0].id").value(validId));
     }
 
+    @Test
+    void whenGetByIds_thenReturns200() throws Exception {
+        CollectionModel<EntityModel<BowlingBallResponseDTO>> model = CollectionModel.of(List.of(EntityModel.of(response)));
+
+        Mockito.when(bowlingBallService.getByIds(List.of(validId))).thenReturn(Mono.just(model));
+
+        performAsync(post(baseUrl + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.bowlingBallResponseDTOList[0].id").value(validId));
+    }
+
+    @Test
+    void whenGetAllAcceptingPlainJson_thenReturnsArrayWithoutLinks() throws Exception {
+        Mockito.when(bowlingBallService.getAllPlain()).thenReturn(Flux.just(response));
+
+        performAsync(get(baseUrl).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(validId))
+                .andExpect(jsonPath("$[0]._links").doesNotExist());
+    }
+
+    @Test
+    void whenGetByIdsAcceptingPlainJson_thenReturnsArrayWithoutLinks() throws Exception {
+        Mockito.when(bowlingBallService.getByIdsPlain(List.of(validId))).thenReturn(Flux.just(response));
+
+        performAsync(post(baseUrl + "/batch")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(validId))
+                .andExpect(jsonPath("$[0]._links").doesNotExist());
+    }
+
+    @Test
+    void whenSearch_thenReturnsPage() throws Exception {
+        BowlingBallPageResponseDTO page = new BowlingBallPageResponseDTO(List.of(response), 0, 20, 1, 1);
+        Mockito.when(bowlingBallService.search(BallSize.TWELVE, BallStatus.AVAILABLE, "Contoured", null, 0, 20))
+                .thenReturn(Mono.just(page));
+
+        performAsync(get(baseUrl + "/search")
+                        .param("size", "TWELVE")
+                        .param("status", "AVAILABLE")
+                        .param("gripType", "Contoured"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content[0].id").value(validId))
+                .andExpect(jsonPath("totalElements").value(1));
+    }
+
     @Test
     void whenGetById_thenReturns200() throws Exception {
         Mockito.when(bowlingBallService.getById(validId))
-                .thenReturn(EntityModel.of(response));
+                .thenReturn(Mono.just(EntityModel.of(response)));
 
-        mockMvc.perform(get(baseUrl + "/" + validId))
+        performAsync(get(baseUrl + "/" + validId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("id").value(validId));
     }
@@ -85,18 +143,18 @@ class BowlingBallApiGatewayControllerUnitTest {
     @Test
     void whenGetInvalidId_thenReturns404() throws Exception {
         Mockito.when(bowlingBallService.getById("bad-id"))
-                .thenThrow(new NotFoundException("Bowling ball not found"));
+                .thenReturn(Mono.error(new NotFoundException("Bowling ball not found")));
 
-        mockMvc.perform(get(baseUrl + "/bad-id"))
+        performAsync(get(baseUrl + "/bad-id"))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("message").value("Bowling ball not found"));
     }
 
     @Test
     void whenCreateValid_thenReturns201() throws Exception {
-        Mockito.when(bowlingBallService.create(request)).thenReturn(EntityModel.of(response));
+        Mockito.when(bowlingBallService.create(request)).thenReturn(Mono.just(EntityModel.of(response)));
 
-        mockMvc.perform(post(baseUrl)
+        performAsync(post(baseUrl)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
@@ -123,9 +181,9 @@ class BowlingBallApiGatewayControllerUnitTest {
     @Test
     void whenUpdateValid_thenReturns200() throws Exception {
         Mockito.when(bowlingBallService.update(eq(validId), any()))
-                .thenReturn(EntityModel.of(response));
+                .thenReturn(Mono.just(EntityModel.of(response)));
 
-        mockMvc.perform(put(baseUrl + "/" + validId)
+        performAsync(put(baseUrl + "/" + validId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
@@ -134,17 +192,44 @@ class BowlingBallApiGatewayControllerUnitTest {
 
     @Test
     void whenDeleteValid_thenReturns204() throws Exception {
-        mockMvc.perform(delete(baseUrl + "/" + validId))
+        Mockito.when(bowlingBallService.delete(validId)).thenReturn(Mono.empty());
+
+        performAsync(delete(baseUrl + "/" + validId))
                 .andExpect(status().isNoContent());
     }
 
     @Test
     void whenDeleteInvalid_thenReturns404() throws Exception {
-        Mockito.doThrow(new NotFoundException("Not found"))
-                .when(bowlingBallService).delete("bad-id");
+        Mockito.when(bowlingBallService.delete("bad-id"))
+                .thenReturn(Mono.error(new NotFoundException("Not found")));
 
-        mockMvc.perform(delete(baseUrl + "/bad-id"))
+        performAsync(delete(baseUrl + "/bad-id"))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("message").value("Not found"));
     }
+
+    @Test
+    void whenReserveAvailable_thenReturns204() throws Exception {
+        Mockito.when(bowlingBallService.reserve(validId)).thenReturn(Mono.empty());
+
+        performAsync(post(baseUrl + "/" + validId + "/reserve"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void whenReleaseNotInUse_thenReturns409() throws Exception {
+        Mockito.when(bowlingBallService.release(validId))
+                .thenReturn(Mono.error(new ConflictException("Bowling ball is not in use: " + validId)));
+
+        performAsync(post(baseUrl + "/" + validId + "/release"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("message").value("Bowling ball is not in use: " + validId));
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
 }
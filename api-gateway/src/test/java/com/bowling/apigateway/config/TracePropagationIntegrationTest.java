@@ -0,0 +1,113 @@
+package com.bowling.apigateway.config;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class TracePropagationIntegrationTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+
+    private static MockWebServer laneService;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @BeforeAll
+    static void startDownstream() throws IOException {
+        laneService = new MockWebServer();
+        laneService.start();
+    }
+
+    @AfterAll
+    static void stopDownstream() throws IOException {
+        laneService.shutdown();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("app.downstream.lane.base-url", () -> laneService.url("/").toString());
+        registry.add("management.tracing.sampling.probability", () -> "1.0");
+    }
+
+    @Test
+    void whenRequestCarriesTraceparent_thenDownstreamCallJoinsTheSameTrace() throws Exception {
+        String laneId = UUID.randomUUID().toString();
+        laneService.enqueue(new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .setBody("{\"id\":\"" + laneId + "\",\"laneNumber\":1,\"zone\":\"A\",\"status\":\"AVAILABLE\"}"));
+
+        webTestClient.get().uri("/api/lanes/" + laneId)
+                .header("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01")
+                .exchange()
+                .expectStatus().isOk();
+
+        RecordedRequest downstream = laneService.takeRequest(5, TimeUnit.SECONDS);
+        assertThat(downstream).isNotNull();
+        assertThat(downstream.getHeader("traceparent"))
+                .startsWith("00-" + TRACE_ID + "-")
+                .doesNotContain(PARENT_SPAN_ID);
+
+        List<SpanData> spans = awaitSpans(TRACE_ID, 2);
+        assertThat(spans)
+                .extracting(span -> span.getKind().name())
+                .contains("SERVER", "CLIENT");
+    }
+
+    // The server span ends after the response is written, so it can land a moment after the client sees it.
+    private List<SpanData> awaitSpans(String traceId, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            tracerProvider.forceFlush().join(1, TimeUnit.SECONDS);
+            List<SpanData> spans = spanExporter.getFinishedSpanItems().stream()
+                    .filter(span -> span.getTraceId().equals(traceId))
+                    .toList();
+            if (spans.size() >= expected || System.nanoTime() > deadline) {
+                return spans;
+            }
+            Thread.sleep(50);
+        }
+    }
+}
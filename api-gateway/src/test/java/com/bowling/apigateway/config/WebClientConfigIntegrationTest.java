@@ -0,0 +1,110 @@
+package com.bowling.apigateway.config;
+
+import com.bowling.apigateway.exceptions.DownstreamTimeoutException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WebClientConfigIntegrationTest {
+
+    private MockWebServer mockWebServer;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setup() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        Metrics.addRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        Metrics.removeRegistry(meterRegistry);
+        mockWebServer.shutdown();
+    }
+
+    private WebClientConfig.Downstream downstream() {
+        WebClientConfig.Downstream downstream = new WebClientConfig.Downstream(mockWebServer.url("/").toString());
+        downstream.setResponseTimeout(Duration.ofMillis(200));
+        return downstream;
+    }
+
+    @Test
+    void whenDownstreamIsSlowerThanResponseTimeout_thenThrowsDownstreamTimeoutException() {
+        mockWebServer.enqueue(new MockResponse()
+                .setHeadersDelay(1, TimeUnit.SECONDS)
+                .setBody("late"));
+
+        WebClient webClient = WebClientConfig.build(WebClient.builder(), "slow-test", downstream());
+
+        assertThrows(DownstreamTimeoutException.class, () -> webClient.get()
+                .uri("/lanes")
+                .retrieve()
+                .bodyToMono(String.class)
+                .block());
+    }
+
+    @Test
+    void whenWarmUp_thenOpensRequestedConnectionsAndPublishesPoolGauges() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockWebServer.enqueue(new MockResponse()
+                    .setHeadersDelay(100, TimeUnit.MILLISECONDS)
+                    .setResponseCode(404));
+        }
+        WebClientConfig.Downstream downstream = downstream();
+        downstream.setWarmupConnections(3);
+        WebClient webClient = WebClientConfig.build(WebClient.builder(), "warmup-test", downstream);
+
+        DownstreamConnectionWarmer warmer = new DownstreamConnectionWarmer(new WebClientConfig());
+        warmer.warmUp("lane", downstream, webClient).block(Duration.ofSeconds(5));
+
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(3);
+        for (int i = 0; i < 3; i++) {
+            // Sequence number 0 means the request was the first one on a freshly opened connection.
+            assertThat(mockWebServer.takeRequest().getSequenceNumber()).isZero();
+        }
+
+        Gauge idle = meterRegistry.find("reactor.netty.connection.provider.idle.connections")
+                .tag("name", "warmup-test")
+                .gauge();
+        assertThat(idle).isNotNull();
+        assertThat(idle.value()).isEqualTo(3);
+    }
+
+    @Test
+    void whenMetricsFilterApplied_thenRecordsLatencyPerOutcome() {
+        mockWebServer.enqueue(new MockResponse().setBody("ok"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setHeadersDelay(1, TimeUnit.SECONDS).setBody("late"));
+        DownstreamMetrics metrics = new DownstreamMetrics(meterRegistry);
+        WebClient webClient = WebClientConfig.build(
+                WebClient.builder().filter(metrics.filter("lane")), "metrics-test", downstream());
+
+        webClient.get().uri("/lanes").retrieve().bodyToMono(String.class).block();
+        assertThrows(WebClientResponseException.ServiceUnavailable.class,
+                () -> webClient.get().uri("/lanes").retrieve().bodyToMono(String.class).block());
+        assertThrows(DownstreamTimeoutException.class,
+                () -> webClient.get().uri("/lanes").retrieve().bodyToMono(String.class).block());
+
+        for (String outcome : new String[]{"SUCCESS", "SERVER_ERROR", "TIMEOUT"}) {
+            assertThat(meterRegistry.get(DownstreamMetrics.REQUESTS)
+                    .tag("target", "lane").tag("outcome", outcome).timer().count()).isEqualTo(1);
+        }
+        assertThat(meterRegistry.get(DownstreamMetrics.ERRORS)
+                .tag("target", "lane").tag("outcome", "TIMEOUT").counter().count()).isEqualTo(1);
+    }
+}
@@ -13,6 +13,10 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 import java.util.UUID;
@@ -52,27 +56,47 @@ class LaneServiceImplUnitTest {
 
     @Test
     void whenCreate_thenReturnsEntityModel() {
-        Mockito.when(laneClient.create(request)).thenReturn(response);
+        Mockito.when(laneClient.create(request)).thenReturn(Mono.just(response));
 
-        EntityModel<LaneResponseDTO> result = laneService.create(request);
+        EntityModel<LaneResponseDTO> result = laneService.create(request).block();
 
         assertThat(result.getContent()).isEqualTo(response);
     }
 
     @Test
     void whenGetById_thenReturnsEntityModel() {
-        Mockito.when(laneClient.get(validId)).thenReturn(response);
+        Mockito.when(laneClient.get(validId)).thenReturn(Mono.just(response));
 
-        EntityModel<LaneResponseDTO> result = laneService.getById(validId);
+        EntityModel<LaneResponseDTO> result = laneService.getById(validId).block();
 
         assertThat(result.getContent()).isEqualTo(response);
     }
 
+    @Test
+    void whenClientEmitsOnAnotherThread_thenLinksStillPointAtGateway() {
+        Mockito.when(laneClient.get(validId)).thenReturn(Mono.just(response).publishOn(Schedulers.parallel()));
+
+        EntityModel<LaneResponseDTO> result = laneService.getById(validId).block();
+
+        assertThat(result.getRequiredLink(IanaLinkRelations.SELF).getHref()).endsWith("/api/lanes/" + validId);
+        assertThat(result.getRequiredLink("all").getHref()).endsWith("/api/lanes");
+    }
+
     @Test
     void whenGetAll_thenReturnsCollectionModel() {
-        Mockito.when(laneClient.getAll()).thenReturn(List.of(response));
+        Mockito.when(laneClient.getAll()).thenReturn(Flux.just(response));
 
-        CollectionModel<EntityModel<LaneResponseDTO>> result = laneService.getAll();
+        CollectionModel<EntityModel<LaneResponseDTO>> result = laneService.getAll().block();
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().stream().findFirst().get().getContent()).isEqualTo(response);
+    }
+
+    @Test
+    void whenGetByIds_thenReturnsCollectionModel() {
+        Mockito.when(laneClient.getByIds(List.of(validId))).thenReturn(Flux.just(response));
+
+        CollectionModel<EntityModel<LaneResponseDTO>> result = laneService.getByIds(List.of(validId)).block();
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().stream().findFirst().get().getContent()).isEqualTo(response);
@@ -80,16 +104,18 @@ class LaneServiceImplUnitTest {
 
     @Test
     void whenUpdate_thenReturnsEntityModel() {
-        Mockito.when(laneClient.update(validId, request)).thenReturn(response);
+        Mockito.when(laneClient.update(validId, request)).thenReturn(Mono.just(response));
 
-        EntityModel<LaneResponseDTO> result = laneService.update(validId, request);
+        EntityModel<LaneResponseDTO> result = laneService.update(validId, request).block();
 
         assertThat(result.getContent()).isEqualTo(response);
     }
 
     @Test
     void whenDelete_thenDelegatesToClient() {
-        laneService.delete(validId);
+        Mockito.when(laneClient.delete(validId)).thenReturn(Mono.empty());
+
+        laneService.delete(validId).block();
 
         Mockito.verify(laneClient).delete(validId);
     }
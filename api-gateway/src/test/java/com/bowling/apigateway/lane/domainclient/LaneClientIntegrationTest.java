@@ -1,5 +1,6 @@
 package com.bowling.apigateway.lane.domainclient;
 
+import com.bowling.apigateway.exceptions.ConflictException;
 import com.bowling.apigateway.exceptions.InvalidInputException;
 import com.bowling.apigateway.exceptions.NotFoundException;
 import com.bowling.apigateway.lane.presentation.LaneRequestDTO;
@@ -74,7 +75,7 @@ class LaneClientIntegrationTest {
                 .setBody(mapper.writeValueAsString(mock))
                 .addHeader("Content-Type", "application/json"));
 
-        LaneResponseDTO result = laneClient.create(buildRequest());
+        LaneResponseDTO result = laneClient.create(buildRequest()).block();
 
         assertThat(result.getId()).isEqualTo(validId);
     }
@@ -87,21 +88,21 @@ class LaneClientIntegrationTest {
                 .setBody(mapper.writeValueAsString(mock))
                 .addHeader("Content-Type", "application/json"));
 
-        LaneResponseDTO result = laneClient.get(validId);
+        LaneResponseDTO result = laneClient.get(validId).block();
 
         assertThat(result.getLaneNumber()).isEqualTo(3);
     }
 
     @Test
     void whenGet_invalidUUID_thenThrows() {
-        assertThrows(InvalidInputException.class, () -> laneClient.get("bad-id"));
+        assertThrows(InvalidInputException.class, () -> laneClient.get("bad-id").block());
     }
 
     @Test
     void whenGet_notFound_thenThrows() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(404));
 
-        assertThrows(NotFoundException.class, () -> laneClient.get(validId));
+        assertThrows(NotFoundException.class, () -> laneClient.get(validId).block());
     }
 
     @Test
@@ -112,11 +113,101 @@ class LaneClientIntegrationTest {
                 .setBody(mapper.writeValueAsString(mockList))
                 .addHeader("Content-Type", "application/json"));
 
-        List<LaneResponseDTO> result = laneClient.getAll();
+        List<LaneResponseDTO> result = laneClient.getAll().collectList().block();
 
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    void whenSearch_thenForwardsOnlyGivenFilters() throws Exception {
+        // Own server so the recorded request is this test's and not one left over by another.
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse()
+                    .setBody(mapper.writeValueAsString(List.of(buildResponse(validId))))
+                    .addHeader("Content-Type", "application/json"));
+            LaneClient client = new LaneClient(WebClient.create(server.url("/").toString()));
+
+            List<LaneResponseDTO> result = client.search(LaneStatus.AVAILABLE, null).collectList().block();
+
+            assertThat(result).extracting(LaneResponseDTO::getId).containsExactly(validId);
+            assertThat(server.takeRequest().getPath()).isEqualTo("/lanes?status=AVAILABLE");
+        }
+    }
+
+    @Test
+    void whenReserve_thenPostsToReserveEndpoint() throws Exception {
+        // Own server so the recorded request is this test's and not one left over by another.
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setResponseCode(204));
+            LaneClient client = new LaneClient(WebClient.create(server.url("/").toString()));
+
+            assertThatCode(() -> client.reserve(validId).block()).doesNotThrowAnyException();
+            var request = server.takeRequest();
+            assertThat(request.getMethod()).isEqualTo("POST");
+            assertThat(request.getPath()).isEqualTo("/lanes/" + validId + "/reserve");
+        }
+    }
+
+    @Test
+    void whenCreateOrUpdateConflicts_thenThrowsConflictExceptionWithTheDownstreamMessage() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(409)
+                .setBody("{\"message\":\"Lane number 3 already exists.\"}")
+                .addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(409));
+
+        ConflictException created = assertThrows(ConflictException.class,
+                () -> laneClient.create(buildRequest()).block());
+        assertThat(created.getMessage()).isEqualTo("Lane: Lane number 3 already exists.");
+        assertThrows(ConflictException.class, () -> laneClient.update(validId, buildRequest()).block());
+    }
+
+    @Test
+    void whenSearchIsRejected_thenThrowsInvalidInputException() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(400).setBody("Invalid status"));
+
+        assertThrows(InvalidInputException.class, () -> laneClient.search(null, "B").collectList().block());
+    }
+
+    @Test
+    void whenReserveConflicts_thenThrowsConflictException() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(409));
+
+        assertThrows(ConflictException.class, () -> laneClient.reserve(validId).block());
+    }
+
+    @Test
+    void whenRelease_notFound_thenThrows() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+        assertThrows(NotFoundException.class, () -> laneClient.release(validId).block());
+    }
+
+    @Test
+    void whenGetByLaneNumber_notFound_thenThrows() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+        assertThrows(NotFoundException.class, () -> laneClient.getByLaneNumber(42).block());
+    }
+
+    @Test
+    void whenGetByIds_thenReturnsList() throws Exception {
+        List<LaneResponseDTO> mockList = List.of(buildResponse(validId));
+
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(mapper.writeValueAsString(mockList))
+                .addHeader("Content-Type", "application/json"));
+
+        List<LaneResponseDTO> result = laneClient.getByIds(List.of(validId)).collectList().block();
+
+        assertThat(result).extracting(LaneResponseDTO::getId).containsExactly(validId);
+    }
+
+    @Test
+    void whenGetByIds_invalidUUID_thenThrows() {
+        assertThrows(InvalidInputException.class, () -> laneClient.getByIds(List.of(validId, "bad-id")).collectList().block());
+    }
+
     @Test
     void whenUpdate_thenReturnsResponse() throws Exception {
         LaneResponseDTO mock = buildResponse(validId);
@@ -125,33 +216,33 @@ class LaneClientIntegrationTest {
                 .setBody(mapper.writeValueAsString(mock))
                 .addHeader("Content-Type", "application/json"));
 
-        LaneResponseDTO result = laneClient.update(validId, buildRequest());
+        LaneResponseDTO result = laneClient.update(validId, buildRequest()).block();
 
         assertThat(result.getZone()).isEqualTo("B");
     }
 
     @Test
     void whenUpdate_invalidUUID_thenThrows() {
-        assertThrows(InvalidInputException.class, () -> laneClient.update("bad-id", buildRequest()));
+        assertThrows(InvalidInputException.class, () -> laneClient.update("bad-id", buildRequest()).block());
     }
 
     @Test
     void whenDelete_thenNoException() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(204));
 
-        assertThatCode(() -> laneClient.delete(validId)).doesNotThrowAnyException();
+        assertThatCode(() -> laneClient.delete(validId).block()).doesNotThrowAnyException();
     }
 
     @Test
     void whenDelete_invalidUUID_thenThrows() {
-        assertThrows(InvalidInputException.class, () -> laneClient.delete("bad-id"));
+        assertThrows(InvalidInputException.class, () -> laneClient.delete("bad-id").block());
     }
 
     @Test
     void whenDelete_notFound_thenThrows() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(404));
 
-        assertThrows(NotFoundException.class, () -> laneClient.delete(validId));
+        assertThrows(NotFoundException.class, () -> laneClient.delete(validId).block());
     }
 
     @Test
@@ -161,7 +252,7 @@ class LaneClientIntegrationTest {
                 .setBody("Invalid zone"));
 
         assertThrows(InvalidInputException.class, () ->
-                laneClient.create(buildRequest()));
+                laneClient.create(buildRequest()).block());
     }
 
     @Test
@@ -170,14 +261,14 @@ class LaneClientIntegrationTest {
                 .setResponseCode(500)
                 .setBody("Internal error"));
 
-        assertThrows(InvalidInputException.class, () -> laneClient.get(validId));
+        assertThrows(InvalidInputException.class, () -> laneClient.get(validId).block());
     }
 
     @Test
     void whenDeleteNotFound_thenThrowsNotFoundException() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(404));
 
-        assertThrows(NotFoundException.class, () -> laneClient.delete(validId));
+        assertThrows(NotFoundException.class, () -> laneClient.delete(validId).block());
     }
 
 
@@ -15,6 +15,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -62,7 +63,7 @@ class LaneApiGatewayControllerIntegrationTest {
     @Test
     void whenGetAll_thenReturnsList() {
         Mockito.when(laneService.getAll())
-                .thenReturn(CollectionModel.of(List.of(EntityModel.of(response))));
+                .thenReturn(Mono.just(CollectionModel.of(List.of(EntityModel.of(response)))));
 
         webTestClient.get().uri(BASE_URL)
                 .exchange()
@@ -74,7 +75,7 @@ class LaneApiGatewayControllerIntegrationTest {
     @Test
     void whenGetById_thenReturnsEntity() {
         Mockito.when(laneService.getById(validId))
-                .thenReturn(EntityModel.of(response));
+                .thenReturn(Mono.just(EntityModel.of(response)));
 
         webTestClient.get().uri(BASE_URL + "/" + validId)
                 .exchange()
@@ -86,7 +87,7 @@ class LaneApiGatewayControllerIntegrationTest {
     @Test
     void whenGetInvalidId_thenReturns404() {
         Mockito.when(laneService.getById("bad-id"))
-                .thenThrow(new NotFoundException("Lane not found"));
+                .thenReturn(Mono.error(new NotFoundException("Lane not found")));
 
         webTestClient.get().uri(BASE_URL + "/bad-id")
                 .exchange()
@@ -98,7 +99,7 @@ class LaneApiGatewayControllerIntegrationTest {
     @Test
     void whenCreateValid_thenReturns201() {
         Mockito.when(laneService.create(request))
-                .thenReturn(EntityModel.of(response));
+                .thenReturn(Mono.just(EntityModel.of(response)));
 
         webTestClient.post().uri(BASE_URL)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -129,7 +130,7 @@ class LaneApiGatewayControllerIntegrationTest {
     @Test
     void whenUpdateValid_thenReturns200() {
         Mockito.when(laneService.update(eq(validId), any()))
-                .thenReturn(EntityModel.of(response));
+                .thenReturn(Mono.just(EntityModel.of(response)));
 
         webTestClient.put().uri(BASE_URL + "/" + validId)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -142,6 +143,8 @@ class LaneApiGatewayControllerIntegrationTest {
 
     @Test
     void whenDeleteValid_thenReturns204() {
+        Mockito.when(laneService.delete(validId)).thenReturn(Mono.empty());
+
         webTestClient.delete().uri(BASE_URL + "/" + validId)
                 .exchange()
                 .expectStatus().isNoContent();
@@ -149,8 +152,8 @@ class LaneApiGatewayControllerIntegrationTest {
 
     @Test
     void whenDeleteInvalid_thenReturns404() {
-        Mockito.doThrow(new NotFoundException("Lane not found"))
-                .when(laneService).delete("bad-id");
+        Mockito.when(laneService.delete("bad-id"))
+                .thenReturn(Mono.error(new NotFoundException("Lane not found")));
 
         webTestClient.delete().uri(BASE_URL + "/bad-id")
                 .exchange()
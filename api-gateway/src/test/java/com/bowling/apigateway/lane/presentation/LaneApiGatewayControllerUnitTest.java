@@ -1,5 +1,6 @@
 package com.bowling.apigateway.lane.presentation;
 
+import com.bowling.apigateway.exceptions.ConflictException;
 import com.bowling.apigateway.exceptions.NotFoundException;
 import com.bowling.apigateway.lane.business.LaneService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,6 +15,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.UUID;
@@ -64,18 +70,76 @@ class LaneApiGatewayControllerUnitTest {
     void whenGetAll_thenReturns200() throws Exception {
         CollectionModel<EntityModel<LaneResponseDTO>> model = CollectionModel.of(List.of(EntityModel.of(response)));
 
-        Mockito.when(laneService.getAll()).thenReturn(model);
+        Mockito.when(laneService.getAll()).thenReturn(Mono.just(model));
 
-        mockMvc.perform(get(BASE_URL))
+        performAsync(get(BASE_URL))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("_embedded.laneResponseDTOList[0].id").value(validId));
     }
 
+    @Test
+    void whenGetAllWithFilters_thenDelegatesToSearch() throws Exception {
+        CollectionModel<EntityModel<LaneResponseDTO>> model = CollectionModel.of(List.of(EntityModel.of(response)));
+
+        Mockito.when(laneService.search(LaneStatus.AVAILABLE, "A")).thenReturn(Mono.just(model));
+
+        performAsync(get(BASE_URL).param("status", "AVAILABLE").param("zone", "A"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.laneResponseDTOList[0].id").value(validId));
+        Mockito.verify(laneService, Mockito.never()).getAll();
+    }
+
+    @Test
+    void whenGetByLaneNumber_thenReturns200() throws Exception {
+        Mockito.when(laneService.getByLaneNumber(9)).thenReturn(Mono.just(EntityModel.of(response)));
+
+        performAsync(get(BASE_URL + "/by-number/9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id").value(validId));
+    }
+
+    @Test
+    void whenGetByIds_thenReturns200() throws Exception {
+        CollectionModel<EntityModel<LaneResponseDTO>> model = CollectionModel.of(List.of(EntityModel.of(response)));
+
+        Mockito.when(laneService.getByIds(List.of(validId))).thenReturn(Mono.just(model));
+
+        performAsync(post(BASE_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.laneResponseDTOList[0].id").value(validId));
+    }
+
+    @Test
+    void whenGetAllAcceptingPlainJson_thenReturnsArrayWithoutLinks() throws Exception {
+        Mockito.when(laneService.getAllPlain()).thenReturn(Flux.just(response));
+
+        performAsync(get(BASE_URL).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(validId))
+                .andExpect(jsonPath("$[0]._links").doesNotExist());
+    }
+
+    @Test
+    void whenGetByIdsAcceptingPlainJson_thenReturnsArrayWithoutLinks() throws Exception {
+        Mockito.when(laneService.getByIdsPlain(List.of(validId))).thenReturn(Flux.just(response));
+
+        performAsync(post(BASE_URL + "/batch")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(validId))
+                .andExpect(jsonPath("$[0]._links").doesNotExist());
+    }
+
     @Test
     void whenGetById_thenReturns200() throws Exception {
-        Mockito.when(laneService.getById(validId)).thenReturn(EntityModel.of(response));
+        Mockito.when(laneService.getById(validId)).thenReturn(Mono.just(EntityModel.of(response)));
 
-        mockMvc.perform(get(BASE_URL + "/" + validId))
+        performAsync(get(BASE_URL + "/" + validId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("id").value(validId));
     }
@@ -83,18 +147,18 @@ class LaneApiGatewayControllerUnitTest {
     @Test
     void whenGetInvalidId_thenReturns404() throws Exception {
         Mockito.when(laneService.getById("bad-id"))
-                .thenThrow(new NotFoundException("Lane not found"));
+                .thenReturn(Mono.error(new NotFoundException("Lane not found")));
 
-        mockMvc.perform(get(BASE_URL + "/bad-id"))
+        performAsync(get(BASE_URL + "/bad-id"))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("message").value("Lane not found"));
     }
 
     @Test
     void whenCreateValid_thenReturns201() throws Exception {
-        Mockito.when(laneService.create(request)).thenReturn(EntityModel.of(response));
+        Mockito.when(laneService.create(request)).thenReturn(Mono.just(EntityModel.of(response)));
 
-        mockMvc.perform(post(BASE_URL)
+        performAsync(post(BASE_URL)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
@@ -120,9 +184,9 @@ class LaneApiGatewayControllerUnitTest {
     @Test
     void whenUpdateValid_thenReturns200() throws Exception {
         Mockito.when(laneService.update(eq(validId), any()))
-                .thenReturn(EntityModel.of(response));
+                .thenReturn(Mono.just(EntityModel.of(response)));
 
-        mockMvc.perform(put(BASE_URL + "/" + validId)
+        performAsync(put(BASE_URL + "/" + validId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
@@ -131,17 +195,52 @@ class LaneApiGatewayControllerUnitTest {
 
     @Test
     void whenDeleteValid_thenReturns204() throws Exception {
-        mockMvc.perform(delete(BASE_URL + "/" + validId))
+        Mockito.when(laneService.delete(validId)).thenReturn(Mono.empty());
+
+        performAsync(delete(BASE_URL + "/" + validId))
                 .andExpect(status().isNoContent());
     }
 
     @Test
     void whenDeleteInvalid_thenReturns404() throws Exception {
-        Mockito.doThrow(new NotFoundException("Lane not found"))
-                .when(laneService).delete("bad-id");
+        Mockito.when(laneService.delete("bad-id"))
+                .thenReturn(Mono.error(new NotFoundException("Lane not found")));
 
-        mockMvc.perform(delete(BASE_URL + "/bad-id"))
+        performAsync(delete(BASE_URL + "/bad-id"))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("message").value("Lane not found"));
     }
+
+    @Test
+    void whenReserveAvailable_thenReturns204() throws Exception {
+        Mockito.when(laneService.reserve(validId)).thenReturn(Mono.empty());
+
+        performAsync(post(BASE_URL + "/" + validId + "/reserve"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void whenReserveTaken_thenReturns409() throws Exception {
+        Mockito.when(laneService.reserve(validId))
+                .thenReturn(Mono.error(new ConflictException("Lane is not available: " + validId)));
+
+        performAsync(post(BASE_URL + "/" + validId + "/reserve"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("message").value("Lane is not available: " + validId));
+    }
+
+    @Test
+    void whenReleaseInUse_thenReturns204() throws Exception {
+        Mockito.when(laneService.release(validId)).thenReturn(Mono.empty());
+
+        performAsync(post(BASE_URL + "/" + validId + "/release"))
+                .andExpect(status().isNoContent());
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
 }
@@ -14,6 +14,8 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -54,18 +56,18 @@ class ShoeServiceImplUnitTest {
 
     @Test
     void whenCreate_thenReturnsEntityModel() {
-        Mockito.when(shoeClient.create(request)).thenReturn(response);
+        Mockito.when(shoeClient.create(request)).thenReturn(Mono.just(response));
 
-        EntityModel<ShoeResponseDTO> result = shoeService.create(request);
+        EntityModel<ShoeResponseDTO> result = shoeService.create(request).block();
 
         assertThat(result.getContent()).isEqualTo(response);
     }
 
     @Test
     void whenGetById_thenReturnsEntityModel() {
-        Mockito.when(shoeClient.get(validId)).thenReturn(response);
+        Mockito.when(shoeClient.get(validId)).thenReturn(Mono.just(response));
 
-        EntityModel<ShoeResponseDTO> result = shoeService.getById(validId);
+        EntityModel<ShoeResponseDTO> result = shoeService.getById(validId).block();
 
         assertThat(result.getContent()).isEqualTo(response);
     }
@@ -73,9 +75,19 @@ class ShoeServiceImplUnitTest {
     @Test
     void whenGetAll_thenReturnsCollectionModel() {
         List<ShoeResponseDTO> mockList = List.of(response);
-        Mockito.when(shoeClient.getAll()).thenReturn(mockList);
+        Mockito.when(shoeClient.getAll()).thenReturn(Flux.fromIterable(mockList));
 
-        CollectionModel<EntityModel<ShoeResponseDTO>> result = shoeService.getAll();
+        CollectionModel<EntityModel<ShoeResponseDTO>> result = shoeService.getAll().block();
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().stream().findFirst().get().getContent()).isEqualTo(response);
+    }
+
+    @Test
+    void whenGetByIds_thenReturnsCollectionModel() {
+        Mockito.when(shoeClient.getByIds(List.of(validId))).thenReturn(Flux.just(response));
+
+        CollectionModel<EntityModel<ShoeResponseDTO>> result = shoeService.getByIds(List.of(validId)).block();
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().stream().findFirst().get().getContent()).isEqualTo(response);
@@ -83,16 +95,18 @@ class ShoeServiceImplUnitTest {
 
     @Test
     void whenUpdate_thenReturnsEntityModel() {
-        Mockito.when(shoeClient.update(validId, request)).thenReturn(response);
+        Mockito.when(shoeClient.update(validId, request)).thenReturn(Mono.just(response));
 
-        EntityModel<ShoeResponseDTO> result = shoeService.update(validId, request);
+        EntityModel<ShoeResponseDTO> result = shoeService.update(validId, request).block();
 
         assertThat(result.getContent()).isEqualTo(response);
     }
 
     @Test
     void whenDelete_thenDelegatesToClient() {
-        shoeService.delete(validId);
+        Mockito.when(shoeClient.delete(validId)).thenReturn(Mono.empty());
+
+        shoeService.delete(validId).block();
 
         Mockito.verify(shoeClient).delete(validId);
     }
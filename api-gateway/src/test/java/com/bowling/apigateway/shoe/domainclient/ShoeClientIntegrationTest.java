@@ -1,7 +1,9 @@
 package com.bowling.apigateway.shoe.domainclient;
 
+import com.bowling.apigateway.exceptions.ConflictException;
 import com.bowling.apigateway.exceptions.InvalidInputException;
 import com.bowling.apigateway.exceptions.NotFoundException;
+import com.bowling.apigateway.shoe.presentation.ShoeAvailabilityResponseDTO;
 import com.bowling.apigateway.shoe.presentation.ShoeRequestDTO;
 import com.bowling.apigateway.shoe.presentation.ShoeResponseDTO;
 import com.bowling.apigateway.shoe.presentation.ShoeSize;
@@ -78,7 +80,7 @@ class ShoeClientIntegrationTest {
                 .setBody(mapper.writeValueAsString(mockResponse))
                 .addHeader("Content-Type", "application/json"));
 
-        ShoeResponseDTO result = shoeClient.create(buildRequest());
+        ShoeResponseDTO result = shoeClient.create(buildRequest()).block();
 
         assertThat(result.getId()).isEqualTo(validId);
     }
@@ -91,21 +93,34 @@ class ShoeClientIntegrationTest {
                 .setBody(mapper.writeValueAsString(mockResponse))
                 .addHeader("Content-Type", "application/json"));
 
-        ShoeResponseDTO result = shoeClient.get(validId);
+        ShoeResponseDTO result = shoeClient.get(validId).block();
 
         assertThat(result.getSize()).isEqualTo(ShoeSize.SIZE_9);
     }
 
     @Test
     void whenGet_invalidUUID_thenThrows() {
-        assertThrows(InvalidInputException.class, () -> shoeClient.get("not-a-uuid"));
+        assertThrows(InvalidInputException.class, () -> shoeClient.get("not-a-uuid").block());
     }
 
     @Test
     void whenGet_notFound_thenThrows() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(404));
 
-        assertThrows(NotFoundException.class, () -> shoeClient.get(validId));
+        assertThrows(NotFoundException.class, () -> shoeClient.get(validId).block());
+    }
+
+    @Test
+    void whenGetAvailability_thenReturnsCounts() throws Exception {
+        List<ShoeAvailabilityResponseDTO> counts = List.of(new ShoeAvailabilityResponseDTO(ShoeSize.SIZE_9, 2, 0));
+
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(mapper.writeValueAsString(counts))
+                .addHeader("Content-Type", "application/json"));
+
+        List<ShoeAvailabilityResponseDTO> result = shoeClient.getAvailability().collectList().block();
+
+        assertThat(result).containsExactlyElementsOf(counts);
     }
 
     @Test
@@ -116,11 +131,29 @@ class ShoeClientIntegrationTest {
                 .setBody(mapper.writeValueAsString(mockList))
                 .addHeader("Content-Type", "application/json"));
 
-        List<ShoeResponseDTO> result = shoeClient.getAll();
+        List<ShoeResponseDTO> result = shoeClient.getAll().collectList().block();
 
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    void whenGetByIds_thenReturnsList() throws Exception {
+        List<ShoeResponseDTO> mockList = List.of(buildResponse(validId));
+
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(mapper.writeValueAsString(mockList))
+                .addHeader("Content-Type", "application/json"));
+
+        List<ShoeResponseDTO> result = shoeClient.getByIds(List.of(validId)).collectList().block();
+
+        assertThat(result).extracting(ShoeResponseDTO::getId).containsExactly(validId);
+    }
+
+    @Test
+    void whenGetByIds_invalidUUID_thenThrows() {
+        assertThrows(InvalidInputException.class, () -> shoeClient.getByIds(List.of(validId, "bad-id")).collectList().block());
+    }
+
     @Test
     void whenUpdate_thenReturnsUpdated() throws Exception {
         ShoeResponseDTO updated = buildResponse(validId);
@@ -129,33 +162,33 @@ class ShoeClientIntegrationTest {
                 .setBody(mapper.writeValueAsString(updated))
                 .addHeader("Content-Type", "application/json"));
 
-        ShoeResponseDTO result = shoeClient.update(validId, buildRequest());
+        ShoeResponseDTO result = shoeClient.update(validId, buildRequest()).block();
 
         assertThat(result.getId()).isEqualTo(validId);
     }
 
     @Test
     void whenUpdate_invalidUUID_thenThrows() {
-        assertThrows(InvalidInputException.class, () -> shoeClient.update("bad-id", buildRequest()));
+        assertThrows(InvalidInputException.class, () -> shoeClient.update("bad-id", buildRequest()).block());
     }
 
     @Test
     void whenDelete_thenSucceeds() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(204));
 
-        assertThatCode(() -> shoeClient.delete(validId)).doesNotThrowAnyException();
+        assertThatCode(() -> shoeClient.delete(validId).block()).doesNotThrowAnyException();
     }
 
     @Test
     void whenDelete_invalidUUID_thenThrows() {
-        assertThrows(InvalidInputException.class, () -> shoeClient.delete("bad-id"));
+        assertThrows(InvalidInputException.class, () -> shoeClient.delete("bad-id").block());
     }
 
     @Test
     void whenDelete_notFound_thenThrows() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(404));
 
-        assertThrows(NotFoundException.class, () -> shoeClient.delete(validId));
+        assertThrows(NotFoundException.class, () -> shoeClient.delete(validId).block());
     }
 
     @Test
@@ -164,7 +197,7 @@ class ShoeClientIntegrationTest {
                 .setResponseCode(422)
                 .setBody("shoe validation failed"));
 
-        assertThrows(InvalidInputException.class, () -> shoeClient.create(buildRequest()));
+        assertThrows(InvalidInputException.class, () -> shoeClient.create(buildRequest()).block());
     }
 
     @Test
@@ -173,14 +206,20 @@ class ShoeClientIntegrationTest {
                 .setResponseCode(500)
                 .setBody("shoe GET failed"));
 
-        assertThrows(InvalidInputException.class, () -> shoeClient.get(validId));
+        assertThrows(InvalidInputException.class, () -> shoeClient.get(validId).block());
     }
 
     @Test
     void whenDeleteReturns404_thenThrowsNotFoundException() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(404));
 
-        assertThrows(NotFoundException.class, () -> shoeClient.delete(validId));
+        assertThrows(NotFoundException.class, () -> shoeClient.delete(validId).block());
     }
 
+    @Test
+    void whenShoeReserveConflicts_thenThrowsConflictException() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(409));
+
+        assertThrows(ConflictException.class, () -> shoeClient.reserve(validId).block());
+    }
 }
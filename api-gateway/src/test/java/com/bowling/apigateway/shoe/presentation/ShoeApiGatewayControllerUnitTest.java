@@ -1,5 +1,6 @@
 package com.bowling.apigateway.shoe.presentation;
 
+import com.bowling.apigateway.exceptions.ConflictException;
 import com.bowling.apigateway.exceptions.NotFoundException;
 import com.bowling.apigateway.shoe.business.ShoeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,6 +15,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -65,18 +71,67 @@ class ShoeApiGatewayControllerUnitTest {
     void whenGetAll_thenReturns200() throws Exception {
         CollectionModel<EntityModel<ShoeResponseDTO>> model = CollectionModel.of(List.of(EntityModel.of(response)));
 
-        Mockito.when(shoeService.getAll()).thenReturn(model);
+        Mockito.when(shoeService.getAll()).thenReturn(Mono.just(model));
 
-        mockMvc.perform(get(BASE_URL))
+        performAsync(get(BASE_URL))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("_embedded.shoeResponseDTOList[0].id").value(validId));
     }
 
+    @Test
+    void whenGetByIds_thenReturns200() throws Exception {
+        CollectionModel<EntityModel<ShoeResponseDTO>> model = CollectionModel.of(List.of(EntityModel.of(response)));
+
+        Mockito.when(shoeService.getByIds(List.of(validId))).thenReturn(Mono.just(model));
+
+        performAsync(post(BASE_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.shoeResponseDTOList[0].id").value(validId));
+    }
+
+    @Test
+    void whenGetAvailability_thenReturnsCountsPerSize() throws Exception {
+        Mockito.when(shoeService.getAvailability())
+                .thenReturn(Flux.just(new ShoeAvailabilityResponseDTO(ShoeSize.SIZE_8, 3, 1)));
+
+        performAsync(get(BASE_URL + "/availability"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].size").value("SIZE_8"))
+                .andExpect(jsonPath("$[0].available").value(3))
+                .andExpect(jsonPath("$[0].inUse").value(1));
+    }
+
+    @Test
+    void whenGetAllAcceptingPlainJson_thenReturnsArrayWithoutLinks() throws Exception {
+        Mockito.when(shoeService.getAllPlain()).thenReturn(Flux.just(response));
+
+        performAsync(get(BASE_URL).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(validId))
+                .andExpect(jsonPath("$[0]._links").doesNotExist());
+    }
+
+    @Test
+    void whenGetByIdsAcceptingPlainJson_thenReturnsArrayWithoutLinks() throws Exception {
+        Mockito.when(shoeService.getByIdsPlain(List.of(validId))).thenReturn(Flux.just(response));
+
+        performAsync(post(BASE_URL + "/batch")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(validId))
+                .andExpect(jsonPath("$[0]._links").doesNotExist());
+    }
+
     @Test
     void whenGetById_thenReturns200() throws Exception {
-        Mockito.when(shoeService.getById(validId)).thenReturn(EntityModel.of(response));
+        Mockito.when(shoeService.getById(validId)).thenReturn(Mono.just(EntityModel.of(response)));
 
-        mockMvc.perform(get(BASE_URL + "/" + validId))
+        performAsync(get(BASE_URL + "/" + validId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("id").value(validId));
     }
@@ -84,18 +139,18 @@ class ShoeApiGatewayControllerUnitTest {
     @Test
     void whenGetInvalidId_thenReturns404() throws Exception {
         Mockito.when(shoeService.getById("bad-id"))
-                .thenThrow(new NotFoundException("Shoe not found"));
+                .thenReturn(Mono.error(new NotFoundException("Shoe not found")));
 
-        mockMvc.perform(get(BASE_URL + "/bad-id"))
+        performAsync(get(BASE_URL + "/bad-id"))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("message").value("Shoe not found"));
     }
 
     @Test
     void whenCreateValid_thenReturns201() throws Exception {
-        Mockito.when(shoeService.create(request)).thenReturn(EntityModel.of(response));
+        Mockito.when(shoeService.create(request)).thenReturn(Mono.just(EntityModel.of(response)));
 
-        mockMvc.perform(post(BASE_URL)
+        performAsync(post(BASE_URL)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
@@ -121,9 +176,9 @@ class ShoeApiGatewayControllerUnitTest {
     @Test
     void whenUpdateValid_thenReturns200() throws Exception {
         Mockito.when(shoeService.update(eq(validId), any()))
-                .thenReturn(EntityModel.of(response));
+                .thenReturn(Mono.just(EntityModel.of(response)));
 
-        mockMvc.perform(put(BASE_URL + "/" + validId)
+        performAsync(put(BASE_URL + "/" + validId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
@@ -132,17 +187,44 @@ class ShoeApiGatewayControllerUnitTest {
 
     @Test
     void whenDeleteValid_thenReturns204() throws Exception {
-        mockMvc.perform(delete(BASE_URL + "/" + validId))
+        Mockito.when(shoeService.delete(validId)).thenReturn(Mono.empty());
+
+        performAsync(delete(BASE_URL + "/" + validId))
                 .andExpect(status().isNoContent());
     }
 
     @Test
     void whenDeleteInvalid_thenReturns404() throws Exception {
-        Mockito.doThrow(new NotFoundException("Shoe not found"))
-                .when(shoeService).delete("bad-id");
+        Mockito.when(shoeService.delete("bad-id"))
+                .thenReturn(Mono.error(new NotFoundException("Shoe not found")));
 
-        mockMvc.perform(delete(BASE_URL + "/bad-id"))
+        performAsync(delete(BASE_URL + "/bad-id"))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("message").value("Shoe not found"));
     }
+
+    @Test
+    void whenReserveAvailable_thenReturns204() throws Exception {
+        Mockito.when(shoeService.reserve(validId)).thenReturn(Mono.empty());
+
+        performAsync(post(BASE_URL + "/" + validId + "/reserve"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void whenReleaseNotInUse_thenReturns409() throws Exception {
+        Mockito.when(shoeService.release(validId))
+                .thenReturn(Mono.error(new ConflictException("Shoe is not in use: " + validId)));
+
+        performAsync(post(BASE_URL + "/" + validId + "/release"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("message").value("Shoe is not in use: " + validId));
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
 }
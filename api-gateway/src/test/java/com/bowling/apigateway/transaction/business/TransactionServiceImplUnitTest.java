@@ -1,6 +1,7 @@
 package com.bowling.apigateway.transaction.business;
 
 import com.bowling.apigateway.transaction.domainclient.TransactionClient;
+import com.bowling.apigateway.transaction.domainclient.TransactionPage;
 import com.bowling.apigateway.transaction.presentation.TransactionRequestDTO;
 import com.bowling.apigateway.transaction.presentation.TransactionResponseDTO;
 import com.bowling.apigateway.transaction.presentation.TransactionStatus;
@@ -11,9 +12,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -53,51 +55,53 @@ class TransactionServiceImplUnitTest {
                 .laneZone("A")
                 .status(TransactionStatus.OPEN)
                 .totalPrice(BigDecimal.valueOf(30))
-                .dateCompleted(LocalDate.now().toString())
+                .dateCompleted(Instant.now())
                 .build();
     }
 
     @Test
     void whenGetAll_thenReturnList() {
-        List<TransactionResponseDTO> expected = List.of(response);
+        TransactionPage expected = new TransactionPage(List.of(response), null);
 
-        Mockito.when(transactionClient.getAllTransactions()).thenReturn(expected);
+        Mockito.when(transactionClient.getTransactions(null, 50)).thenReturn(Mono.just(expected));
 
-        List<TransactionResponseDTO> actual = transactionService.getAllTransactions();
+        TransactionPage actual = transactionService.getTransactions(null, 50).block();
 
         assertThat(actual).isEqualTo(expected);
     }
 
     @Test
     void whenGetById_thenReturnTransaction() {
-        Mockito.when(transactionClient.getTransactionById(validId)).thenReturn(response);
+        Mockito.when(transactionClient.getTransactionById(validId)).thenReturn(Mono.just(response));
 
-        TransactionResponseDTO actual = transactionService.getTransactionById(validId);
+        TransactionResponseDTO actual = transactionService.getTransactionById(validId).block();
 
         assertThat(actual).isEqualTo(response);
     }
 
     @Test
     void whenCreate_thenReturnResponse() {
-        Mockito.when(transactionClient.createTransaction(request)).thenReturn(response);
+        Mockito.when(transactionClient.createTransaction(request, "desk-1-0042")).thenReturn(Mono.just(response));
 
-        TransactionResponseDTO actual = transactionService.createTransaction(request);
+        TransactionResponseDTO actual = transactionService.createTransaction(request, "desk-1-0042").block();
 
         assertThat(actual).isEqualTo(response);
     }
 
     @Test
     void whenUpdate_thenReturnResponse() {
-        Mockito.when(transactionClient.updateTransaction(validId, request)).thenReturn(response);
+        Mockito.when(transactionClient.updateTransaction(validId, request)).thenReturn(Mono.just(response));
 
-        TransactionResponseDTO actual = transactionService.updateTransaction(validId, request);
+        TransactionResponseDTO actual = transactionService.updateTransaction(validId, request).block();
 
         assertThat(actual).isEqualTo(response);
     }
 
     @Test
     void whenDelete_thenDelegateToClient() {
-        transactionService.deleteTransaction(validId);
+        Mockito.when(transactionClient.deleteTransaction(validId)).thenReturn(Mono.empty());
+
+        transactionService.deleteTransaction(validId).block();
 
         Mockito.verify(transactionClient).deleteTransaction(validId);
     }
@@ -1,7 +1,12 @@
 package com.bowling.apigateway.transaction.domainclient;
 
+import com.bowling.apigateway.config.TransactionTimeoutsConfig;
+import com.bowling.apigateway.exceptions.ConflictException;
 import com.bowling.apigateway.exceptions.InvalidInputException;
 import com.bowling.apigateway.exceptions.NotFoundException;
+import com.bowling.apigateway.transaction.presentation.DailyRollupResponseDTO;
+import com.bowling.apigateway.transaction.presentation.TransactionBulkItemDTO;
+import com.bowling.apigateway.transaction.presentation.TransactionBulkResponseDTO;
 import com.bowling.apigateway.transaction.presentation.TransactionRequestDTO;
 import com.bowling.apigateway.transaction.presentation.TransactionResponseDTO;
 import com.bowling.apigateway.transaction.presentation.TransactionStatus;
@@ -9,19 +14,30 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
 
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -43,7 +59,7 @@ class TransactionClientIntegrationTest {
         WebClient client = WebClient.builder()
                 .baseUrl(mockWebServer.url("/").toString())
                 .build();
-        transactionClient = new TransactionClient(client);
+        transactionClient = new TransactionClient(client, new TransactionTimeoutsConfig());
     }
 
     @AfterAll
@@ -71,7 +87,7 @@ class TransactionClientIntegrationTest {
                 .laneZone("B")
                 .status(TransactionStatus.OPEN)
                 .totalPrice(BigDecimal.valueOf(30))
-                .dateCompleted(LocalDate.now().toString())
+                .dateCompleted(Instant.now())
                 .build();
     }
 
@@ -83,7 +99,7 @@ class TransactionClientIntegrationTest {
                 .setBody(mapper.writeValueAsString(mock))
                 .addHeader("Content-Type", "application/json"));
 
-        TransactionResponseDTO result = transactionClient.createTransaction(buildRequest());
+        TransactionResponseDTO result = transactionClient.createTransaction(buildRequest(), null).block();
 
         assertThat(result.getTransactionId()).isEqualTo(validId);
     }
@@ -96,9 +112,34 @@ class TransactionClientIntegrationTest {
                 .setBody(mapper.writeValueAsString(mockList))
                 .addHeader("Content-Type", "application/json"));
 
-        List<TransactionResponseDTO> result = transactionClient.getAllTransactions();
+        TransactionPage result = transactionClient.getTransactions(null, 50).block();
 
-        assertThat(result).hasSize(2);
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void whenGetAllHasMorePages_thenReturnsNextCursor() throws Exception {
+        List<TransactionResponseDTO> mockList = List.of(buildResponse("1"));
+
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(mapper.writeValueAsString(mockList))
+                .addHeader("Content-Type", "application/json")
+                .addHeader(TransactionClient.NEXT_CURSOR_HEADER, "next-page"));
+
+        TransactionPage result = transactionClient.getTransactions("this-page", 1).block();
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getNextCursor()).isEqualTo("next-page");
+    }
+
+    @Test
+    void whenGetAllWithInvalidCursor_thenThrowsInvalidInputException() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(422)
+                .setBody("Invalid cursor: bad"));
+
+        assertThrows(InvalidInputException.class, () -> transactionClient.getTransactions("bad", 50).block());
     }
 
     @Test
@@ -109,21 +150,21 @@ class TransactionClientIntegrationTest {
                 .setBody(mapper.writeValueAsString(mock))
                 .addHeader("Content-Type", "application/json"));
 
-        TransactionResponseDTO result = transactionClient.getTransactionById(validId);
+        TransactionResponseDTO result = transactionClient.getTransactionById(validId).block();
 
         assertThat(result.getCustomerName()).isEqualTo("Test User");
     }
 
     @Test
     void whenGetByInvalidUUID_thenThrows() {
-        assertThrows(InvalidInputException.class, () -> transactionClient.getTransactionById("bad-id"));
+        assertThrows(InvalidInputException.class, () -> transactionClient.getTransactionById("bad-id").block());
     }
 
     @Test
     void whenGetByIdNotFound_thenThrows() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(404));
 
-        assertThrows(NotFoundException.class, () -> transactionClient.getTransactionById(validId));
+        assertThrows(NotFoundException.class, () -> transactionClient.getTransactionById(validId).block());
     }
 
     @Test
@@ -134,7 +175,7 @@ class TransactionClientIntegrationTest {
                 .setBody(mapper.writeValueAsString(updated))
                 .addHeader("Content-Type", "application/json"));
 
-        TransactionResponseDTO result = transactionClient.updateTransaction(validId, buildRequest());
+        TransactionResponseDTO result = transactionClient.updateTransaction(validId, buildRequest()).block();
 
         assertThat(result.getTransactionId()).isEqualTo(validId);
     }
@@ -142,26 +183,199 @@ class TransactionClientIntegrationTest {
     @Test
     void whenUpdateWithInvalidUUID_thenThrows() {
         assertThrows(InvalidInputException.class, () ->
-                transactionClient.updateTransaction("bad-id", buildRequest()));
+                transactionClient.updateTransaction("bad-id", buildRequest()).block());
     }
 
     @Test
     void whenDelete_thenNoException() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(204));
 
-        assertThatCode(() -> transactionClient.deleteTransaction(validId)).doesNotThrowAnyException();
+        assertThatCode(() -> transactionClient.deleteTransaction(validId).block()).doesNotThrowAnyException();
     }
 
     @Test
     void whenDeleteInvalidUUID_thenThrows() {
-        assertThrows(InvalidInputException.class, () -> transactionClient.deleteTransaction("bad-id"));
+        assertThrows(InvalidInputException.class, () -> transactionClient.deleteTransaction("bad-id").block());
     }
 
     @Test
     void whenDeleteNotFound_thenThrows() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(404));
 
-        assertThrows(NotFoundException.class, () -> transactionClient.deleteTransaction(validId));
+        assertThrows(NotFoundException.class, () -> transactionClient.deleteTransaction(validId).block());
+    }
+
+    @Test
+    void whenCreateWithIdempotencyKey_thenForwardsHeader() throws Exception {
+        // Own server so the recorded request is this test's and not one left over by another.
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse()
+                    .setBody(mapper.writeValueAsString(buildResponse(validId)))
+                    .addHeader("Content-Type", "application/json"));
+            TransactionClient client = new TransactionClient(WebClient.create(server.url("/").toString()),
+                    new TransactionTimeoutsConfig());
+
+            client.createTransaction(buildRequest(), "desk-1-0042").block();
+
+            assertThat(server.takeRequest().getHeader("Idempotency-Key")).isEqualTo("desk-1-0042");
+        }
+    }
+
+    @Test
+    void whenCreateBulk_thenForwardsBodyAndReturnsPerItemResults() throws Exception {
+        String batch = mapper.writeValueAsString(List.of(buildRequest(), buildRequest()));
+        TransactionBulkResponseDTO mock = TransactionBulkResponseDTO.builder()
+                .created(1)
+                .failed(1)
+                .items(List.of(
+                        TransactionBulkItemDTO.builder().index(0).success(true).transaction(buildResponse(validId)).build(),
+                        TransactionBulkItemDTO.builder().index(1).success(false).error("Bowling ball not found").build()))
+                .build();
+        // Own server so the recorded request is this test's and not one left over by another.
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse()
+                    .setBody(mapper.writeValueAsString(mock))
+                    .addHeader("Content-Type", "application/json"));
+            TransactionClient client = new TransactionClient(WebClient.create(server.url("/").toString()),
+                    new TransactionTimeoutsConfig());
+
+            TransactionBulkResponseDTO result = client.createTransactionsBulk(
+                    Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(batch.getBytes(StandardCharsets.UTF_8)))).block();
+
+            assertThat(result.getFailed()).isEqualTo(1);
+            assertThat(result.getItems().get(1).getError()).isEqualTo("Bowling ball not found");
+            RecordedRequest recorded = server.takeRequest();
+            assertThat(recorded.getPath()).isEqualTo("/api/transactions/bulk");
+            assertThat(recorded.getBody().readUtf8()).isEqualTo(batch);
+        }
+    }
+
+    @Test
+    void whenCreateBulkOutlastsTheClientResponseTimeout_thenTheBulkTimeoutApplies() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse()
+                    .setHeadersDelay(500, TimeUnit.MILLISECONDS)
+                    .setBody(mapper.writeValueAsString(TransactionBulkResponseDTO.builder().created(0).failed(0)
+                            .items(List.of()).build()))
+                    .addHeader("Content-Type", "application/json"));
+            WebClient webClient = WebClient.builder()
+                    .baseUrl(server.url("/").toString())
+                    .clientConnector(new ReactorClientHttpConnector(
+                            HttpClient.create().responseTimeout(Duration.ofMillis(200))))
+                    .build();
+            TransactionTimeoutsConfig timeouts = new TransactionTimeoutsConfig();
+            timeouts.setBulk(Duration.ofSeconds(5));
+            TransactionClient client = new TransactionClient(webClient, timeouts);
+
+            TransactionBulkResponseDTO result = client.createTransactionsBulk(Flux.empty()).block();
+
+            assertThat(result.getCreated()).isZero();
+        }
+    }
+
+    @Test
+    void whenCreateBulkIsRejected_thenThrowsInvalidInputException() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(422)
+                .setBody("Bulk request must contain at least one transaction."));
+
+        assertThrows(InvalidInputException.class, () ->
+                transactionClient.createTransactionsBulk(Flux.empty()).block());
+    }
+
+    @Test
+    void whenExport_thenFiltersAreForwardedAndBodyIsStreamedBack() throws Exception {
+        // Own server so the recorded request is this test's and not one left over by another.
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse()
+                    .addHeader("Content-Type", "text/csv")
+                    .addHeader("Content-Disposition", "attachment; filename=\"transactions.csv\"")
+                    .setBody("transactionId,customerName\n"));
+            TransactionClient client = new TransactionClient(WebClient.create(server.url("/").toString()),
+                    new TransactionTimeoutsConfig());
+
+            ResponseEntity<Flux<DataBuffer>> export =
+                    client.exportTransactions("csv", "2025-03-01", null, "COMPLETED").block();
+            DataBuffer body = DataBufferUtils.join(export.getBody()).block();
+            String csv = body.toString(StandardCharsets.UTF_8);
+            DataBufferUtils.release(body);
+
+            assertThat(export.getHeaders().getFirst("Content-Disposition")).isEqualTo("attachment; filename=\"transactions.csv\"");
+            assertThat(csv).isEqualTo("transactionId,customerName\n");
+            RecordedRequest recorded = server.takeRequest();
+            assertThat(recorded.getPath()).isEqualTo("/api/transactions/export?format=csv&from=2025-03-01&status=COMPLETED");
+        }
+    }
+
+    @Test
+    void whenExportPausesLongerThanTheClientResponseTimeout_thenTheExportTimeoutApplies() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            String rows = "transactionId,customerName\n" + "row,Test User\n".repeat(4);
+            server.enqueue(new MockResponse()
+                    .addHeader("Content-Type", "text/csv")
+                    .setBody(rows)
+                    .throttleBody(16, 500, TimeUnit.MILLISECONDS));
+            WebClient webClient = WebClient.builder()
+                    .baseUrl(server.url("/").toString())
+                    .clientConnector(new ReactorClientHttpConnector(
+                            HttpClient.create().responseTimeout(Duration.ofMillis(200))))
+                    .build();
+            TransactionTimeoutsConfig timeouts = new TransactionTimeoutsConfig();
+            timeouts.setExport(Duration.ofSeconds(5));
+            TransactionClient client = new TransactionClient(webClient, timeouts);
+
+            ResponseEntity<Flux<DataBuffer>> export = client.exportTransactions("csv", null, null, null).block();
+            DataBuffer body = DataBufferUtils.join(export.getBody()).block();
+            String csv = body.toString(StandardCharsets.UTF_8);
+            DataBufferUtils.release(body);
+
+            assertThat(csv).isEqualTo(rows);
+        }
+    }
+
+    @Test
+    void whenExportIsRejected_thenThrowsInvalidInputException() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(422)
+                .setBody("Unsupported export format: xlsx. Must be one of: csv, ndjson."));
+
+        assertThrows(InvalidInputException.class, () ->
+                transactionClient.exportTransactions("xlsx", null, null, null).block());
+    }
+
+    @Test
+    void whenGetDailyReport_thenFiltersAreForwardedAndBucketsMapped() throws Exception {
+        // Own server so the recorded request is this test's and not one left over by another.
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse()
+                    .addHeader("Content-Type", "application/json")
+                    .setBody("[{\"date\":\"2025-03-01\",\"laneZone\":\"ZONE_1\",\"status\":\"COMPLETED\","
+                            + "\"transactionCount\":12,\"revenue\":360.00}]"));
+            TransactionClient client = new TransactionClient(WebClient.create(server.url("/").toString()),
+                    new TransactionTimeoutsConfig());
+
+            List<DailyRollupResponseDTO> report =
+                    client.getDailyReport("2025-03-01", "2025-03-31", "ZONE_1", null).block();
+
+            assertThat(report).singleElement().satisfies(bucket -> {
+                assertThat(bucket.getTransactionCount()).isEqualTo(12);
+                assertThat(bucket.getRevenue()).isEqualByComparingTo("360.00");
+            });
+            assertThat(server.takeRequest().getPath())
+                    .isEqualTo("/api/transactions/reports/daily?from=2025-03-01&to=2025-03-31&zone=ZONE_1");
+        }
+    }
+
+    @Test
+    void whenCreateConflictsWith409_thenThrowsConflictException() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(409)
+                .addHeader("Content-Type", "application/json")
+                .setBody("{\"message\":\"A request with this Idempotency-Key is still being processed.\"}"));
+
+        ConflictException ex = assertThrows(ConflictException.class, () ->
+                transactionClient.createTransaction(buildRequest(), "desk-1-0042").block());
+        assertThat(ex.getMessage()).isEqualTo("A request with this Idempotency-Key is still being processed.");
     }
 
     @Test
@@ -171,7 +385,7 @@ class TransactionClientIntegrationTest {
                 .setBody("Invalid transaction payload"));
 
         assertThrows(InvalidInputException.class, () ->
-                transactionClient.createTransaction(buildRequest()));
+                transactionClient.createTransaction(buildRequest(), null).block());
     }
 
     @Test
@@ -181,7 +395,7 @@ class TransactionClientIntegrationTest {
                 .setBody("Bad update"));
 
         assertThrows(InvalidInputException.class, () ->
-                transactionClient.updateTransaction(validId, buildRequest()));
+                transactionClient.updateTransaction(validId, buildRequest()).block());
     }
 
     @Test
@@ -191,7 +405,7 @@ class TransactionClientIntegrationTest {
                 .setBody("Internal error"));
 
         assertThrows(InvalidInputException.class, () ->
-                transactionClient.getTransactionById(validId));
+                transactionClient.getTransactionById(validId).block());
     }
 
     @Test
@@ -199,7 +413,7 @@ class TransactionClientIntegrationTest {
         mockWebServer.enqueue(new MockResponse().setResponseCode(404));
 
         assertThrows(NotFoundException.class, () ->
-                transactionClient.deleteTransaction(validId));
+                transactionClient.deleteTransaction(validId).block());
     }
 
 }
@@ -2,6 +2,7 @@ package com.bowling.apigateway.transaction.presentation;
 
 import com.bowling.apigateway.exceptions.NotFoundException;
 import com.bowling.apigateway.transaction.business.TransactionService;
+import com.bowling.apigateway.transaction.domainclient.TransactionPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -13,9 +14,10 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -61,14 +63,14 @@ class TransactionApiGatewayControllerIntegrationTest {
                 .laneZone("ZONE_1")
                 .status(TransactionStatus.OPEN)
                 .totalPrice(BigDecimal.valueOf(30))
-                .dateCompleted(LocalDate.now().toString())
+                .dateCompleted(Instant.now())
                 .build();
     }
 
     @Test
     void whenGetAll_thenReturnList() {
-        Mockito.when(transactionService.getAllTransactions())
-                .thenReturn(List.of(validResponse));
+        Mockito.when(transactionService.getTransactions(null, 50))
+                .thenReturn(Mono.just(new TransactionPage(List.of(validResponse), null)));
 
         webTestClient.get().uri(BASE_URL)
                 .exchange()
@@ -80,7 +82,7 @@ class TransactionApiGatewayControllerIntegrationTest {
     @Test
     void whenGetByValidId_thenReturnTransaction() {
         Mockito.when(transactionService.getTransactionById(validId))
-                .thenReturn(validResponse);
+                .thenReturn(Mono.just(validResponse));
 
         webTestClient.get().uri(BASE_URL + "/" + validId)
                 .exchange()
@@ -93,7 +95,7 @@ class TransactionApiGatewayControllerIntegrationTest {
     void whenGetByInvalidId_thenReturnNotFound() {
         String invalidId = "non-existent-id";
         Mockito.when(transactionService.getTransactionById(invalidId))
-                .thenThrow(new NotFoundException("Not found"));
+                .thenReturn(Mono.error(new NotFoundException("Not found")));
 
         webTestClient.get().uri(BASE_URL + "/" + invalidId)
                 .exchange()
@@ -104,8 +106,8 @@ class TransactionApiGatewayControllerIntegrationTest {
 
     @Test
     void whenCreateValidTransaction_thenReturnCreated() {
-        Mockito.when(transactionService.createTransaction(validRequest))
-                .thenReturn(validResponse);
+        Mockito.when(transactionService.createTransaction(validRequest, null))
+                .thenReturn(Mono.just(validResponse));
 
         webTestClient.post().uri(BASE_URL)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -157,7 +159,7 @@ class TransactionApiGatewayControllerIntegrationTest {
     @Test
     void whenUpdateValidTransaction_thenReturnUpdated() {
         Mockito.when(transactionService.updateTransaction(eq(validId), any()))
-                .thenReturn(validResponse);
+                .thenReturn(Mono.just(validResponse));
 
         webTestClient.put().uri(BASE_URL + "/" + validId)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -170,6 +172,8 @@ class TransactionApiGatewayControllerIntegrationTest {
 
     @Test
     void whenDeleteValidId_thenReturnNoContent() {
+        Mockito.when(transactionService.deleteTransaction(validId)).thenReturn(Mono.empty());
+
         webTestClient.delete().uri(BASE_URL + "/" + validId)
                 .exchange()
                 .expectStatus().isNoContent();
@@ -178,8 +182,8 @@ class TransactionApiGatewayControllerIntegrationTest {
     @Test
     void whenDeleteInvalidId_thenReturnNotFound() {
         String invalidId = "bad-id";
-        Mockito.doThrow(new NotFoundException("Not found"))
-                .when(transactionService).deleteTransaction(invalidId);
+        Mockito.when(transactionService.deleteTransaction(invalidId))
+                .thenReturn(Mono.error(new NotFoundException("Not found")));
 
         webTestClient.delete().uri(BASE_URL + "/" + invalidId)
                 .exchange()
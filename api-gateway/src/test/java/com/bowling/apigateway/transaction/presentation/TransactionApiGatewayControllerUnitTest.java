@@ -1,27 +1,45 @@
 package com.bowling.apigateway.transaction.presentation;
 
+import com.bowling.apigateway.config.TransactionTimeoutsConfig;
 import com.bowling.apigateway.exceptions.NotFoundException;
 import com.bowling.apigateway.transaction.business.TransactionService;
+import com.bowling.apigateway.transaction.domainclient.TransactionPage;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.nio.charset.StandardCharsets;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
 @WebMvcTest(TransactionController.class)
+@Import(TransactionTimeoutsConfig.class)
 @ActiveProfiles("test")
 class TransactionApiGatewayControllerUnitTest {
 
@@ -60,24 +78,48 @@ class TransactionApiGatewayControllerUnitTest {
                 .laneZone("ZONE_1")
                 .status(TransactionStatus.OPEN)
                 .totalPrice(BigDecimal.valueOf(30))
-                .dateCompleted(LocalDate.now().toString())
+                .dateCompleted(Instant.now())
                 .build();
     }
 
     @Test
     void whenGetAll_thenReturns200() throws Exception {
-        Mockito.when(transactionService.getAllTransactions()).thenReturn(List.of(validResponse));
+        Mockito.when(transactionService.getTransactions(null, 50))
+                .thenReturn(Mono.just(new TransactionPage(List.of(validResponse), null)));
 
-        mockMvc.perform(get(baseUrl))
+        performAsync(get(baseUrl))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("_embedded.transactionResponseDTOList[0].transactionId").value(validId));
+                .andExpect(jsonPath("_embedded.transactionResponseDTOList[0].transactionId").value(validId))
+                .andExpect(jsonPath("_links.next").doesNotExist());
+    }
+
+    @Test
+    void whenMorePagesExist_thenReturnsNextLink() throws Exception {
+        Mockito.when(transactionService.getTransactions(null, 1))
+                .thenReturn(Mono.just(new TransactionPage(List.of(validResponse), "abc")));
+
+        performAsync(get(baseUrl).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_links.next.href").value("http://localhost/api/transactions?cursor=abc&size=1"));
+    }
+
+    @Test
+    void whenGetAllAcceptingPlainJson_thenReturnsArrayAndCursorHeader() throws Exception {
+        Mockito.when(transactionService.getTransactions(null, 1))
+                .thenReturn(Mono.just(new TransactionPage(List.of(validResponse), "abc")));
+
+        performAsync(get(baseUrl).param("size", "1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TransactionController.NEXT_CURSOR_HEADER, "abc"))
+                .andExpect(jsonPath("$[0].transactionId").value(validId))
+                .andExpect(jsonPath("$[0]._links").doesNotExist());
     }
 
     @Test
     void whenGetById_thenReturns200() throws Exception {
-        Mockito.when(transactionService.getTransactionById(validId)).thenReturn(validResponse);
+        Mockito.when(transactionService.getTransactionById(validId)).thenReturn(Mono.just(validResponse));
 
-        mockMvc.perform(get(baseUrl + "/" + validId))
+        performAsync(get(baseUrl + "/" + validId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("transactionId").value(validId));
     }
@@ -85,18 +127,30 @@ class TransactionApiGatewayControllerUnitTest {
     @Test
     void whenGetByInvalidId_thenReturns404() throws Exception {
         Mockito.when(transactionService.getTransactionById("bad-id"))
-                .thenThrow(new NotFoundException("Transaction not found"));
+                .thenReturn(Mono.error(new NotFoundException("Transaction not found")));
 
-        mockMvc.perform(get(baseUrl + "/bad-id"))
+        performAsync(get(baseUrl + "/bad-id"))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("message").value("Transaction not found"));
     }
 
     @Test
     void whenCreateValid_thenReturns201() throws Exception {
-        Mockito.when(transactionService.createTransaction(validRequest)).thenReturn(validResponse);
+        Mockito.when(transactionService.createTransaction(validRequest, null)).thenReturn(Mono.just(validResponse));
 
-        mockMvc.perform(post(baseUrl)
+        performAsync(post(baseUrl)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("transactionId").value(validId));
+    }
+
+    @Test
+    void whenCreateWithIdempotencyKey_thenKeyIsPassedOn() throws Exception {
+        Mockito.when(transactionService.createTransaction(validRequest, "desk-1-0042")).thenReturn(Mono.just(validResponse));
+
+        performAsync(post(baseUrl)
+                        .header(TransactionController.IDEMPOTENCY_KEY_HEADER, "desk-1-0042")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(validRequest)))
                 .andExpect(status().isCreated())
@@ -105,9 +159,9 @@ class TransactionApiGatewayControllerUnitTest {
 
     @Test
     void whenUpdateValid_thenReturns200() throws Exception {
-        Mockito.when(transactionService.updateTransaction(eq(validId), any())).thenReturn(validResponse);
+        Mockito.when(transactionService.updateTransaction(eq(validId), any())).thenReturn(Mono.just(validResponse));
 
-        mockMvc.perform(put(baseUrl + "/" + validId)
+        performAsync(put(baseUrl + "/" + validId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(validRequest)))
                 .andExpect(status().isOk())
@@ -116,20 +170,92 @@ class TransactionApiGatewayControllerUnitTest {
 
     @Test
     void whenDeleteValid_thenReturns204() throws Exception {
-        mockMvc.perform(delete(baseUrl + "/" + validId))
+        Mockito.when(transactionService.deleteTransaction(validId)).thenReturn(Mono.empty());
+
+        performAsync(delete(baseUrl + "/" + validId))
                 .andExpect(status().isNoContent());
     }
 
     @Test
     void whenDeleteInvalid_thenReturns404() throws Exception {
-        Mockito.doThrow(new NotFoundException("Not found"))
-                .when(transactionService).deleteTransaction("bad-id");
+        Mockito.when(transactionService.deleteTransaction("bad-id"))
+                .thenReturn(Mono.error(new NotFoundException("Not found")));
 
-        mockMvc.perform(delete(baseUrl + "/bad-id"))
+        performAsync(delete(baseUrl + "/bad-id"))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("message").value("Not found"));
     }
 
+    @Test
+    void whenPostBulk_thenBodyIsRelayedUnchanged() throws Exception {
+        String batch = objectMapper.writeValueAsString(List.of(validRequest, validRequest));
+        AtomicReference<String> relayed = new AtomicReference<>();
+        Mockito.when(transactionService.createTransactionsBulk(any()))
+                .thenAnswer(invocation -> DataBufferUtils.join(invocation.<Flux<DataBuffer>>getArgument(0))
+                        .map(buffer -> {
+                            relayed.set(buffer.toString(StandardCharsets.UTF_8));
+                            DataBufferUtils.release(buffer);
+                            return TransactionBulkResponseDTO.builder()
+                                    .created(2)
+                                    .items(List.of(
+                                            TransactionBulkItemDTO.builder().index(0).success(true).transaction(validResponse).build(),
+                                            TransactionBulkItemDTO.builder().index(1).success(true).transaction(validResponse).build()))
+                                    .build();
+                        }));
+
+        performAsync(post(baseUrl + "/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("created").value(2))
+                .andExpect(jsonPath("items[1].transaction.transactionId").value(validId));
+        assertThat(relayed.get()).isEqualTo(batch);
+    }
+
+    @Test
+    void whenGetZoneReport_thenReturnsTotalsPerZone() throws Exception {
+        Mockito.when(transactionService.getZoneReport("2025-03-01", "2025-03-31", "COMPLETED"))
+                .thenReturn(Mono.just(List.of(ZoneRollupResponseDTO.builder()
+                        .laneZone("ZONE_1")
+                        .status(TransactionStatus.COMPLETED)
+                        .transactionCount(40)
+                        .revenue(new BigDecimal("1200.00"))
+                        .build())));
+
+        performAsync(get(baseUrl + "/reports/zones")
+                .param("from", "2025-03-01")
+                .param("to", "2025-03-31")
+                .param("status", "COMPLETED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].laneZone").value("ZONE_1"))
+                .andExpect(jsonPath("$[0].transactionCount").value(40));
+    }
+
+    @Test
+    void whenExport_thenDownstreamBodyAndContentHeadersAreRelayed() throws Exception {
+        byte[] csv = "transactionId,customerName\n".getBytes(StandardCharsets.UTF_8);
+        Mockito.when(transactionService.exportTransactions("csv", "2025-03-01", null, null))
+                .thenReturn(Mono.just(ResponseEntity.ok()
+                        .header(HttpHeaders.CONTENT_TYPE, "text/csv")
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.csv\"")
+                        .header(HttpHeaders.SERVER, "transaction-service")
+                        .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(csv)))));
+
+        MvcResult exported = performAsync(get(baseUrl + "/export")
+                .param("format", "csv")
+                .param("from", "2025-03-01"))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.csv\""))
+                .andExpect(header().doesNotExist(HttpHeaders.SERVER))
+                .andReturn();
+        // The emitter's own async phase ends once the last buffer has been sent.
+        exported.getAsyncResult(5_000);
+        assertThat(exported.getResponse().getContentAsByteArray()).isEqualTo(csv);
+        assertThat(exported.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+    }
+
 //    @Test
 //    void whenPostWithMissingField_thenReturns400() throws Exception {
 //        String badRequest = """
@@ -164,4 +290,11 @@ class TransactionApiGatewayControllerUnitTest {
                         .content(badRequest))
                 .andExpect(status().isBadRequest());
     }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
 }
@@ -0,0 +1,56 @@
+package com.bowling.bowlingball.mappinglayer;
+
+import com.bowling.bowlingball.dataaccesslayer.BallSize;
+import com.bowling.bowlingball.dataaccesslayer.BallStatus;
+import com.bowling.bowlingball.dataaccesslayer.BowlingBall;
+import com.bowling.bowlingball.dataaccesslayer.BowlingBallIdentifier;
+import com.bowling.bowlingball.presentationlayer.BowlingBallRequestDTO;
+import com.bowling.bowlingball.presentationlayer.BowlingBallResponseDTO;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BowlingBallMapperBenchmark {
+
+    private final BowlingBallMapper mapper = Mappers.getMapper(BowlingBallMapper.class);
+
+    private BowlingBall entity;
+    private BowlingBallRequestDTO request;
+
+    @Setup
+    public void setup() {
+        entity = BowlingBall.builder()
+                .id(BowlingBallIdentifier.generate())
+                .size(BallSize.TWELVE)
+                .gripType("Conventional")
+                .color("Blue")
+                .status(BallStatus.AVAILABLE)
+                .build();
+        request = BowlingBallRequestDTO.builder()
+                .size(BallSize.TWELVE)
+                .gripType("Conventional")
+                .color("Blue")
+                .status(BallStatus.AVAILABLE)
+                .build();
+    }
+
+    @Benchmark
+    public BowlingBallResponseDTO toResponseDTO() {
+        return mapper.toResponseDTO(entity);
+    }
+
+    @Benchmark
+    public BowlingBall toEntity() {
+        return mapper.toEntity(request);
+    }
+}
@@ -0,0 +1,53 @@
+package com.bowling.bowlingball.businesslayer;
+
+import com.bowling.bowlingball.dataaccesslayer.BowlingBall;
+import com.bowling.bowlingball.dataaccesslayer.BowlingBallIdentifier;
+import com.bowling.bowlingball.mappinglayer.BowlingBallMapper;
+import com.bowling.bowlingball.presentationlayer.BowlingBallRequestDTO;
+import com.bowling.bulkimport.BulkImporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Component
+public class BowlingBallBulkImporter extends BulkImporter<BowlingBallRequestDTO, BowlingBall> {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final BowlingBallMapper mapper;
+
+    public BowlingBallBulkImporter(EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectMapper objectMapper,
+                                   Validator validator,
+                                   BowlingBallMapper mapper,
+                                   @Value("${app.bulk-import.batch-size:500}") int batchSize,
+                                   @Value("${app.bulk-import.max-reported-errors:1000}") int maxReportedErrors) {
+        super(BowlingBallRequestDTO.class, objectMapper, validator, batchSize, maxReportedErrors);
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected BowlingBall toEntity(BowlingBallRequestDTO request) {
+        BowlingBall ball = mapper.toEntity(request);
+        ball.setId(BowlingBallIdentifier.generate());
+        return ball;
+    }
+
+    @Override
+    protected void insert(List<BowlingBall> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            rows.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+}
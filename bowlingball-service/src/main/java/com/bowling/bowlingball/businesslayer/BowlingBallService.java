@@ -1,19 +1,36 @@
 package com.bowling.bowlingball.businesslayer;
 
+import com.bowling.bowlingball.dataaccesslayer.BallSize;
+import com.bowling.bowlingball.dataaccesslayer.BallStatus;
+import com.bowling.bowlingball.presentationlayer.BowlingBallPageResponseDTO;
 import com.bowling.bowlingball.presentationlayer.BowlingBallRequestDTO;
 import com.bowling.bowlingball.presentationlayer.BowlingBallResponseDTO;
 
+import com.bowling.bulkimport.ImportFormat;
+import com.bowling.bulkimport.ImportResponseDTO;
+import java.io.InputStream;
 import java.util.List;
 
 public interface BowlingBallService {
 
     BowlingBallResponseDTO create(BowlingBallRequestDTO request);
 
+    ImportResponseDTO importBowlingBalls(InputStream body, ImportFormat format);
+
     BowlingBallResponseDTO getById(String id);
 
     List<BowlingBallResponseDTO> getAll();
 
+    List<BowlingBallResponseDTO> getByIds(List<String> ids);
+
+    BowlingBallPageResponseDTO search(BallSize size, BallStatus status, String gripType, String color,
+                                      int page, int pageSize);
+
     BowlingBallResponseDTO update(String id, BowlingBallRequestDTO request);
 
     void delete(String id);
+
+    void reserve(String id);
+
+    void release(String id);
 }
@@ -1,15 +1,27 @@
 package com.bowling.bowlingball.businesslayer;
 
+import com.bowling.bowlingball.dataaccesslayer.BallSize;
+import com.bowling.bowlingball.dataaccesslayer.BallStatus;
 import com.bowling.bowlingball.dataaccesslayer.BowlingBall;
 import com.bowling.bowlingball.dataaccesslayer.BowlingBallIdentifier;
 import com.bowling.bowlingball.dataaccesslayer.BowlingBallRepository;
+import com.bowling.bowlingball.dataaccesslayer.BowlingBallSpecifications;
 import com.bowling.bowlingball.exceptionlayer.BowlingBallNotFoundException;
+import com.bowling.bowlingball.exceptionlayer.BowlingBallStatusConflictException;
 import com.bowling.bowlingball.mappinglayer.BowlingBallMapper;
+import com.bowling.bowlingball.presentationlayer.BowlingBallPageResponseDTO;
 import com.bowling.bowlingball.presentationlayer.BowlingBallRequestDTO;
 import com.bowling.bowlingball.presentationlayer.BowlingBallResponseDTO;
+import com.bowling.bulkimport.ImportFormat;
+import com.bowling.bulkimport.ImportResponseDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,8 +29,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BowlingBallServiceImpl implements BowlingBallService {
 
+    static final int MAX_PAGE_SIZE = 100;
+
     private final BowlingBallRepository repository;
     private final BowlingBallMapper mapper;
+    private final BowlingBallBulkImporter bulkImporter;
 
     @Override
     public BowlingBallResponseDTO create(BowlingBallRequestDTO request) {
@@ -27,6 +42,11 @@ public class BowlingBallServiceImpl implements BowlingBallService {
         return mapper.toResponseDTO(repository.save(ball));
     }
 
+    @Override
+    public ImportResponseDTO importBowlingBalls(InputStream body, ImportFormat format) {
+        return bulkImporter.importRows(body, format);
+    }
+
     @Override
     public BowlingBallResponseDTO getById(String id) {
         return repository.findById(new BowlingBallIdentifier(id))
@@ -41,6 +61,38 @@ public class BowlingBallServiceImpl implements BowlingBallService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<BowlingBallResponseDTO> getByIds(List<String> ids) {
+        List<BowlingBallIdentifier> identifiers = ids.stream()
+                .distinct()
+                .map(BowlingBallIdentifier::new)
+                .collect(Collectors.toList());
+
+        return repository.findAllById(identifiers).stream()
+                .map(mapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public BowlingBallPageResponseDTO search(BallSize size, BallStatus status, String gripType, String color,
+                                             int page, int pageSize) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(pageSize, 1), MAX_PAGE_SIZE),
+                Sort.by("id"));
+        Page<BowlingBall> balls = repository.findAll(BowlingBallSpecifications.matching(size, status,
+                StringUtils.hasText(gripType) ? gripType : null,
+                StringUtils.hasText(color) ? color : null), pageRequest);
+
+        return BowlingBallPageResponseDTO.builder()
+                .content(balls.getContent().stream()
+                        .map(mapper::toResponseDTO)
+                        .collect(Collectors.toList()))
+                .page(balls.getNumber())
+                .pageSize(balls.getSize())
+                .totalElements(balls.getTotalElements())
+                .totalPages(balls.getTotalPages())
+                .build();
+    }
+
     @Override
     public BowlingBallResponseDTO update(String id, BowlingBallRequestDTO request) {
         BowlingBall existing = repository.findById(new BowlingBallIdentifier(id))
@@ -62,4 +114,25 @@ public class BowlingBallServiceImpl implements BowlingBallService {
         }
         repository.deleteById(identifier);
     }
+
+    @Override
+    public void reserve(String id) {
+        transition(id, BallStatus.AVAILABLE, BallStatus.IN_USE);
+    }
+
+    @Override
+    public void release(String id) {
+        transition(id, BallStatus.IN_USE, BallStatus.AVAILABLE);
+    }
+
+    // One conditional UPDATE decides the race; the existence check only runs to word a refusal.
+    private void transition(String id, BallStatus from, BallStatus to) {
+        BowlingBallIdentifier identifier = new BowlingBallIdentifier(id);
+        if (repository.transitionStatus(identifier, from, to) == 0) {
+            if (!repository.existsById(identifier)) {
+                throw new BowlingBallNotFoundException(id);
+            }
+            throw new BowlingBallStatusConflictException(id, from);
+        }
+    }
 }
\ No newline at end of file
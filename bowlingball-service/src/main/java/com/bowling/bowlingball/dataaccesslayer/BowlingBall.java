@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "bowling_balls")
+// Status leads the composite index because almost every lookup is for AVAILABLE balls.
+@Table(name = "bowling_balls", indexes = {
+        @Index(name = "idx_bowling_balls_status_size_grip", columnList = "status, size, grip_type"),
+        @Index(name = "idx_bowling_balls_color", columnList = "color")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -3,8 +3,19 @@ package com.bowling.bowlingball.dataaccesslayer;
 import com.bowling.bowlingball.dataaccesslayer.BowlingBall;
 import com.bowling.bowlingball.dataaccesslayer.BowlingBallIdentifier;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface BowlingBallRepository extends JpaRepository<BowlingBall, BowlingBallIdentifier> {
+public interface BowlingBallRepository extends JpaRepository<BowlingBall, BowlingBallIdentifier>,
+        JpaSpecificationExecutor<BowlingBall> {
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BowlingBall b SET b.status = :to WHERE b.id = :id AND b.status = :from")
+    int transitionStatus(@Param("id") BowlingBallIdentifier id, @Param("from") BallStatus from, @Param("to") BallStatus to);
 }
@@ -0,0 +1,22 @@
+package com.bowling.bowlingball.dataaccesslayer;
+
+import org.springframework.data.jpa.domain.Specification;
+
+// Each criterion is an exact match so the predicates can use the indexes on bowling_balls;
+// a null value leaves that column unconstrained.
+public final class BowlingBallSpecifications {
+
+    private BowlingBallSpecifications() {
+    }
+
+    public static Specification<BowlingBall> matching(BallSize size, BallStatus status, String gripType, String color) {
+        return Specification.where(equalTo("status", status))
+                .and(equalTo("size", size))
+                .and(equalTo("gripType", gripType))
+                .and(equalTo("color", color));
+    }
+
+    private static Specification<BowlingBall> equalTo(String attribute, Object value) {
+        return value == null ? null : (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+}
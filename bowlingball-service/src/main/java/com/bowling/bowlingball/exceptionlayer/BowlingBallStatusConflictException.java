@@ -0,0 +1,10 @@
+package com.bowling.bowlingball.exceptionlayer;
+
+import com.bowling.bowlingball.dataaccesslayer.BallStatus;
+
+public class BowlingBallStatusConflictException extends RuntimeException {
+
+    public BowlingBallStatusConflictException(String id, BallStatus expected) {
+        super("Bowling ball " + id + " is not " + expected);
+    }
+}
@@ -1,5 +1,7 @@
 package com.bowling.bowlingball.exceptionlayer;
 
+import com.bowling.bowlingball.dataaccesslayer.BallSize;
+import com.bowling.bowlingball.dataaccesslayer.BallStatus;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -7,6 +9,7 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -24,6 +27,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(BowlingBallStatusConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleStatusConflict(BowlingBallStatusConflictException ex, HttpServletRequest request) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("message", ex.getMessage());
+        error.put("timestamp", LocalDateTime.now().toString());
+        error.put("path", request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGeneric(Exception ex, HttpServletRequest request) {
         Map<String, Object> error = new HashMap<>();
@@ -52,6 +64,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleParameterConversion(MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+        String message;
+        if (BallSize.class.equals(ex.getRequiredType())) {
+            message = "Invalid ball size. Must be one of: SIX, EIGHT, TEN, TWELVE, FOURTEEN, SIXTEEN.";
+        } else if (BallStatus.class.equals(ex.getRequiredType())) {
+            message = "Invalid ball status. Must be one of: AVAILABLE, IN_USE.";
+        } else {
+            message = "Invalid value for parameter " + ex.getName() + ".";
+        }
+
+        Map<String, Object> error = new HashMap<>();
+        error.put("message", message);
+        error.put("timestamp", LocalDateTime.now().toString());
+        error.put("path", request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationError(MethodArgumentNotValidException ex, HttpServletRequest request) {
         String message = ex.getBindingResult().getFieldErrors().stream()
@@ -1,12 +1,19 @@
 package com.bowling.bowlingball.presentationlayer;
 
 import com.bowling.bowlingball.businesslayer.BowlingBallService;
+import com.bowling.bowlingball.dataaccesslayer.BallSize;
+import com.bowling.bowlingball.dataaccesslayer.BallStatus;
+import com.bowling.bulkimport.ImportFormat;
+import com.bowling.bulkimport.ImportResponseDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -22,6 +29,24 @@ public class BowlingBallController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // The upload is consumed as a stream, so memory use does not grow with the file.
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    public ResponseEntity<ImportResponseDTO> importBowlingBalls(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                                InputStream body) {
+        return ResponseEntity.ok(bowlingBallService.importBowlingBalls(body, ImportFormat.of(contentType)));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<BowlingBallPageResponseDTO> searchBowlingBalls(
+            @RequestParam(required = false) BallSize size,
+            @RequestParam(required = false) BallStatus status,
+            @RequestParam(required = false) String gripType,
+            @RequestParam(required = false) String color,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int pageSize) {
+        return ResponseEntity.ok(bowlingBallService.search(size, status, gripType, color, page, pageSize));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<BowlingBallResponseDTO> getBowlingBall(@PathVariable String id) {
         BowlingBallResponseDTO response = bowlingBallService.getById(id);
@@ -33,6 +58,11 @@ public class BowlingBallController {
         return ResponseEntity.ok(bowlingBallService.getAll());
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BowlingBallResponseDTO>> getBowlingBallsByIds(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(bowlingBallService.getByIds(ids));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<BowlingBallResponseDTO> updateBowlingBall(@PathVariable String id,
                                                                     @Valid @RequestBody BowlingBallRequestDTO request) {
@@ -40,6 +70,18 @@ public class BowlingBallController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/{id}/reserve")
+    public ResponseEntity<Void> reserveBowlingBall(@PathVariable String id) {
+        bowlingBallService.reserve(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/release")
+    public ResponseEntity<Void> releaseBowlingBall(@PathVariable String id) {
+        bowlingBallService.release(id);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBowlingBall(@PathVariable String id) {
         bowlingBallService.delete(id);
@@ -0,0 +1,18 @@
+package com.bowling.bowlingball.presentationlayer;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BowlingBallPageResponseDTO {
+
+    private List<BowlingBallResponseDTO> content;
+    private int page;
+    private int pageSize;
+    private long totalElements;
+    private int totalPages;
+}
@@ -3,6 +3,8 @@ CREATE TABLE IF NOT EXISTS bowling_balls (
     size VARCHAR(10),
     grip_type VARCHAR(100),
     color VARCHAR(50),
-    status VARCHAR(20)
+    status VARCHAR(20),
+    INDEX idx_bowling_balls_status_size_grip (status, size, grip_type),
+    INDEX idx_bowling_balls_color (color)
     );
 
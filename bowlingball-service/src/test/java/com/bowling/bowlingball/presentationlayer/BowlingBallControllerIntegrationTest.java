@@ -5,6 +5,8 @@ import com.bowling.bowlingball.dataaccesslayer.BallStatus;
 import com.bowling.bowlingball.dataaccesslayer.BowlingBall;
 import com.bowling.bowlingball.dataaccesslayer.BowlingBallIdentifier;
 import com.bowling.bowlingball.mappinglayer.BowlingBallMapper;
+import com.bowling.bulkimport.ImportResponseDTO;
+import com.bowling.bulkimport.ImportRowErrorDTO;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
@@ -14,6 +16,9 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 
@@ -66,6 +71,69 @@ public class BowlingBallControllerIntegrationTest {
                 .jsonPath("$.message").isEqualTo("Bowling ball not found with ID: " + INVALID_ID);
     }
 
+    @Test
+    void whenBatchLookup_thenReturnOnlyExistingBalls() {
+        String otherId = "f29a56cd-cd68-4c25-9787-14fe88f9b0c0";
+
+        webTestClient.post()
+                .uri(BASE_URL + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(VALID_ID, otherId, VALID_ID, INVALID_ID))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(BowlingBallResponseDTO.class)
+                .value(balls -> assertThat(balls)
+                        .extracting(BowlingBallResponseDTO::getId)
+                        .containsExactlyInAnyOrder(VALID_ID, otherId));
+    }
+
+    @Test
+    void whenSearchingByAllCriteria_thenReturnOnlyMatchingBalls() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL + "/search")
+                        .queryParam("size", "SIX")
+                        .queryParam("status", "IN_USE")
+                        .queryParam("gripType", "Contoured")
+                        .queryParam("color", "Red")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BowlingBallPageResponseDTO.class)
+                .value(page -> {
+                    assertThat(page.getContent())
+                            .extracting(BowlingBallResponseDTO::getId)
+                            .containsExactly("f29a56cd-cd68-4c25-9787-14fe88f9b0c0");
+                    assertThat(page.getTotalElements()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void whenSearchResultSpansPages_thenReturnRequestedPageWithTotals() {
+        webTestClient.get()
+                .uri(BASE_URL + "/search?status=AVAILABLE&page=1&pageSize=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BowlingBallPageResponseDTO.class)
+                .value(page -> {
+                    assertThat(page.getContent()).hasSize(1);
+                    assertThat(page.getContent()).allMatch(ball -> ball.getStatus() == BallStatus.AVAILABLE);
+                    assertThat(page.getPage()).isEqualTo(1);
+                    assertThat(page.getPageSize()).isEqualTo(2);
+                    assertThat(page.getTotalElements()).isEqualTo(3);
+                    assertThat(page.getTotalPages()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void whenSearchingWithUnknownSize_thenReturnBadRequest() {
+        webTestClient.get()
+                .uri(BASE_URL + "/search?size=HUGE")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid ball size. Must be one of: SIX, EIGHT, TEN, TWELVE, FOURTEEN, SIXTEEN.");
+    }
+
     @Test
     void whenCreateValidBall_thenBallIsCreated() {
         BowlingBallRequestDTO request = BowlingBallRequestDTO.builder()
@@ -89,6 +157,71 @@ public class BowlingBallControllerIntegrationTest {
                 });
     }
 
+    @Test
+    void whenImportingCsv_thenValidRowsAreSearchableAndBadRowsReported() {
+        String upload = """
+                size,gripType,color,status
+                SIXTEEN,"Fingertip, drilled",Teal,AVAILABLE
+                SIXTEEN,Conventional,,AVAILABLE
+                SIXTEEN,Conventional,Teal,LOST
+                SIXTEEN,Conventional,Teal,AVAILABLE
+                SIXTEEN,Conventional,Teal,IN_USE
+                """;
+
+        webTestClient.post()
+                .uri(BASE_URL + "/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(upload)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ImportResponseDTO.class)
+                .value(report -> {
+                    assertThat(report.getImported()).isEqualTo(3);
+                    assertThat(report.getFailed()).isEqualTo(2);
+                    assertThat(report.getErrors()).containsExactly(
+                            new ImportRowErrorDTO(3, "color: must not be blank"),
+                            new ImportRowErrorDTO(4, "Invalid value for status."));
+                });
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL + "/search")
+                        .queryParam("size", "SIXTEEN")
+                        .queryParam("color", "Teal")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BowlingBallPageResponseDTO.class)
+                .value(page -> assertThat(page.getContent())
+                        .extracting(BowlingBallResponseDTO::getGripType)
+                        .containsExactlyInAnyOrder("Fingertip, drilled", "Conventional", "Conventional"));
+    }
+
+    @Test
+    void whenImportingNdjson_thenEachLineIsOneBall() {
+        String upload = """
+                {"size":"SIX","gripType":"Conventional","color":"Black","status":"AVAILABLE"}
+                {"size":"SIX","gripType":"Conventional","color":"Black","status":"AVAILABLE"}
+                """;
+
+        webTestClient.post()
+                .uri(BASE_URL + "/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(upload)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ImportResponseDTO.class)
+                .value(report -> {
+                    assertThat(report.getImported()).isEqualTo(2);
+                    assertThat(report.getErrors()).isEmpty();
+                });
+
+        webTestClient.get()
+                .uri(BASE_URL)
+                .exchange()
+                .expectBodyList(BowlingBallResponseDTO.class)
+                .value(balls -> assertThat(balls).hasSize(7));
+    }
+
     @Test
     void whenUpdateBall_thenBallIsUpdated() {
         BowlingBallRequestDTO update = BowlingBallRequestDTO.builder()
@@ -124,6 +257,46 @@ public class BowlingBallControllerIntegrationTest {
                 .expectStatus().isNotFound();
     }
 
+    @Test
+    void whenReserveThenRelease_thenStatusFlipsAndRepeatsConflict() {
+        webTestClient.post()
+                .uri(BASE_URL + "/" + VALID_ID + "/reserve")
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.post()
+                .uri(BASE_URL + "/" + VALID_ID + "/reserve")
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Bowling ball " + VALID_ID + " is not AVAILABLE");
+
+        webTestClient.get()
+                .uri(BASE_URL + "/" + VALID_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BowlingBallResponseDTO.class)
+                .value(ball -> assertThat(ball.getStatus()).isEqualTo(BallStatus.IN_USE));
+
+        webTestClient.post()
+                .uri(BASE_URL + "/" + VALID_ID + "/release")
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.post()
+                .uri(BASE_URL + "/" + VALID_ID + "/release")
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    void whenReserveWithInvalidId_thenReturnNotFound() {
+        webTestClient.post()
+                .uri(BASE_URL + "/" + INVALID_ID + "/reserve")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Bowling ball not found with ID: " + INVALID_ID);
+    }
+
     @Test
     void whenUpdateWithInvalidId_thenReturnNotFound() {
         BowlingBallRequestDTO update = BowlingBallRequestDTO.builder()
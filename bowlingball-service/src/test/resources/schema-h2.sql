@@ -7,3 +7,6 @@ CREATE TABLE bowling_balls (
                                color VARCHAR(100),
                                status VARCHAR(50)
 );
+
+CREATE INDEX idx_bowling_balls_status_size_grip ON bowling_balls (status, size, grip_type);
+CREATE INDEX idx_bowling_balls_color ON bowling_balls (color);
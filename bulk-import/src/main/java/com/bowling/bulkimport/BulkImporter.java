@@ -0,0 +1,150 @@
+package com.bowling.bulkimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Streams an NDJSON or CSV upload into batched inserts; each service supplies only its mapping and write.
+@Slf4j
+public abstract class BulkImporter<R, E> {
+
+    private final Class<R> requestType;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    protected BulkImporter(Class<R> requestType, ObjectMapper objectMapper, Validator validator,
+                           int batchSize, int maxReportedErrors) {
+        this.requestType = requestType;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    protected abstract E toEntity(R request);
+
+    // Writes all of the rows or none of them.
+    protected abstract void insert(List<E> rows);
+
+    // Rows to drop from a batch before it is written, keyed by entity with the reason to report.
+    protected Map<E, String> reject(List<E> rows) {
+        return Map.of();
+    }
+
+    public ImportResponseDTO importRows(InputStream body, ImportFormat format) {
+        Report report = new Report(maxReportedErrors);
+        List<Pending<E>> batch = new ArrayList<>(batchSize);
+        try (ImportRowReader rows = new ImportRowReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8), format, objectMapper)) {
+            for (ImportRowReader.Row row = rows.next(); row != null; row = rows.next()) {
+                try {
+                    batch.add(new Pending<>(row.number(), toEntity(validated(rows.parse(row, requestType)))));
+                } catch (ImportRowReader.RowException ex) {
+                    report.failed(row.number(), ex.getMessage());
+                }
+                if (batch.size() == batchSize) {
+                    write(batch, report);
+                    batch.clear();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        write(batch, report);
+        return report.toResponse();
+    }
+
+    private R validated(R request) throws ImportRowReader.RowException {
+        List<ConstraintViolation<R>> violations = validator.validate(request).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .toList();
+        if (!violations.isEmpty()) {
+            throw new ImportRowReader.RowException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", ")));
+        }
+        return request;
+    }
+
+    private void write(List<Pending<E>> rows, Report report) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Map<E, String> rejected = reject(rows.stream().map(Pending::entity).toList());
+        List<Pending<E>> batch = new ArrayList<>(rows.size());
+        for (Pending<E> pending : rows) {
+            String reason = rejected.get(pending.entity());
+            if (reason != null) {
+                report.failed(pending.row(), reason);
+            } else {
+                batch.add(pending);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            insert(batch.stream().map(Pending::entity).toList());
+        } catch (DataAccessException | PersistenceException | TransactionException ex) {
+            // One bad row rolls back its whole batch, so retry that batch row by row to keep the good ones.
+            log.debug("Import batch failed, retrying rows individually: {}", ex.getMessage());
+            for (Pending<E> pending : batch) {
+                try {
+                    insert(List.of(pending.entity()));
+                } catch (DataAccessException | PersistenceException | TransactionException rowEx) {
+                    report.failed(pending.row(), "Row conflicts with existing data.");
+                    continue;
+                }
+                report.imported(1);
+            }
+            return;
+        }
+        report.imported(batch.size());
+    }
+
+    private record Pending<E>(long row, E entity) {
+    }
+
+    private static class Report {
+        private final int maxErrors;
+        private final List<ImportRowErrorDTO> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void imported(int count) {
+            imported += count;
+        }
+
+        void failed(long row, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportRowErrorDTO(row, message));
+            }
+        }
+
+        ImportResponseDTO toResponse() {
+            return new ImportResponseDTO(imported, failed, errors, failed > errors.size());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.bowling.bulkimport;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportResponseDTO {
+
+    private long imported;
+
+    private long failed;
+
+    private List<ImportRowErrorDTO> errors;
+
+    // True when more rows failed than the report keeps.
+    private boolean errorsTruncated;
+}
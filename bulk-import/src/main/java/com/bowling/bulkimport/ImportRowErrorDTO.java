@@ -0,0 +1,15 @@
+package com.bowling.bulkimport;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportRowErrorDTO {
+
+    // Line number in the uploaded file, counting the CSV header.
+    private long row;
+
+    private String message;
+}
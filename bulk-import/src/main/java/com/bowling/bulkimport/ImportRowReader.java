@@ -0,0 +1,117 @@
+package com.bowling.bulkimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads one line at a time, so only the current row is ever held in memory.
+class ImportRowReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private long lineNumber;
+
+    ImportRowReader(Reader reader, ImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(reader);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    // Returns the next non-blank row, or null once the input is exhausted.
+    Row next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == ImportFormat.CSV && header == null) {
+                header = splitCsv(line).stream().map(String::trim).toList();
+                continue;
+            }
+            return new Row(lineNumber, line);
+        }
+        return null;
+    }
+
+    // CSV rows go through the same Jackson conversion as NDJSON so both formats accept identical values.
+    <T> T parse(Row row, Class<T> type) throws RowException {
+        try {
+            if (format == ImportFormat.NDJSON) {
+                return objectMapper.readValue(row.line(), type);
+            }
+            List<String> values = splitCsv(row.line());
+            if (values.size() != header.size()) {
+                throw new RowException("Expected " + header.size() + " columns but found " + values.size() + ".");
+            }
+            ObjectNode fields = objectMapper.createObjectNode();
+            for (int i = 0; i < values.size(); i++) {
+                String value = values.get(i).trim();
+                if (!value.isEmpty()) {
+                    fields.put(header.get(i), value);
+                }
+            }
+            return objectMapper.treeToValue(fields, type);
+        } catch (MismatchedInputException ex) {
+            if (ex.getPath().isEmpty()) {
+                throw new RowException("Row is not a valid record.");
+            }
+            throw new RowException("Invalid value for " + ex.getPath().get(ex.getPath().size() - 1).getFieldName() + ".");
+        } catch (JsonProcessingException ex) {
+            throw new RowException("Row is not valid JSON.");
+        }
+    }
+
+    // Quoted fields may contain commas and doubled quotes, but not line breaks.
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    record Row(long number, String line) {
+    }
+
+    static class RowException extends Exception {
+        RowException(String message) {
+            super(message);
+        }
+    }
+}
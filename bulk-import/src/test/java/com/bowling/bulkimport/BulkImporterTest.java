@@ -0,0 +1,114 @@
+package com.bowling.bulkimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BulkImporterTest {
+
+    @Test
+    void whenOneRowBreaksItsBatch_thenTheRestOfThatBatchIsRetriedRowByRow() {
+        RecordingImporter importer = new RecordingImporter(3, 100);
+
+        ImportResponseDTO report = importer.importRows(ndjson("a", "bad", "c", "d"), ImportFormat.NDJSON);
+
+        assertThat(report.getImported()).isEqualTo(3);
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getErrors()).containsExactly(new ImportRowErrorDTO(2, "Row conflicts with existing data."));
+        assertThat(importer.attempts).containsExactly(
+                List.of("a", "bad", "c"), List.of("a"), List.of("bad"), List.of("c"), List.of("d"));
+        assertThat(importer.written).containsExactly("a", "c", "d");
+    }
+
+    @Test
+    void whenRejectedBeforeWriting_thenRowIsReportedWithItsReason() {
+        RecordingImporter importer = new RecordingImporter(10, 100);
+
+        ImportResponseDTO report = importer.importRows(ndjson("a", "taken", "c"), ImportFormat.NDJSON);
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getErrors()).containsExactly(new ImportRowErrorDTO(2, "Name already in use: taken"));
+        assertThat(importer.attempts).containsExactly(List.of("a", "c"));
+    }
+
+    @Test
+    void whenMoreRowsFailThanTheReportKeeps_thenErrorsAreCappedAndMarkedTruncated() {
+        RecordingImporter importer = new RecordingImporter(10, 2);
+        String body = "not json\n{\"name\":\"a\"}\nnot json\nnot json\n";
+
+        ImportResponseDTO report = importer.importRows(stream(body), ImportFormat.NDJSON);
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(3);
+        assertThat(report.getErrors()).containsExactly(
+                new ImportRowErrorDTO(1, "Row is not valid JSON."),
+                new ImportRowErrorDTO(3, "Row is not valid JSON."));
+        assertThat(report.isErrorsTruncated()).isTrue();
+    }
+
+    @Test
+    void whenEveryFailureFitsTheReport_thenErrorsAreNotTruncated() {
+        RecordingImporter importer = new RecordingImporter(10, 2);
+
+        ImportResponseDTO report = importer.importRows(stream("not json\n"), ImportFormat.NDJSON);
+
+        assertThat(report.getErrors()).hasSize(1);
+        assertThat(report.isErrorsTruncated()).isFalse();
+    }
+
+    private static InputStream ndjson(String... names) {
+        StringBuilder body = new StringBuilder();
+        for (String name : names) {
+            body.append("{\"name\":\"").append(name).append("\"}\n");
+        }
+        return stream(body.toString());
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static class Item {
+        public String name;
+    }
+
+    private static class RecordingImporter extends BulkImporter<Item, String> {
+
+        private final List<List<String>> attempts = new ArrayList<>();
+        private final List<String> written = new ArrayList<>();
+
+        RecordingImporter(int batchSize, int maxReportedErrors) {
+            super(Item.class, new ObjectMapper(), mock(Validator.class), batchSize, maxReportedErrors);
+        }
+
+        @Override
+        protected String toEntity(Item request) {
+            return request.name;
+        }
+
+        @Override
+        protected Map<String, String> reject(List<String> rows) {
+            return rows.contains("taken") ? Map.of("taken", "Name already in use: taken") : Map.of();
+        }
+
+        @Override
+        protected void insert(List<String> rows) {
+            attempts.add(List.copyOf(rows));
+            if (rows.contains("bad")) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            written.addAll(rows);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.bowling.bulkimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImportRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void whenReadingCsv_thenHeaderNamesTheFieldsAndQuotedCommasStayInTheirValue() throws Exception {
+        String body = "name, note ,count\n" +
+                "\n" +
+                "a,\"one, two\",3\n" +
+                "b,\"say \"\"hi\"\"\",\n";
+
+        try (ImportRowReader reader = reader(body, ImportFormat.CSV)) {
+            List<ImportRowReader.Row> rows = rows(reader);
+
+            assertThat(rows).extracting(ImportRowReader.Row::number).containsExactly(3L, 4L);
+            Item first = reader.parse(rows.get(0), Item.class);
+            assertThat(first.name).isEqualTo("a");
+            assertThat(first.note).isEqualTo("one, two");
+            assertThat(first.count).isEqualTo(3);
+            Item second = reader.parse(rows.get(1), Item.class);
+            assertThat(second.note).isEqualTo("say \"hi\"");
+            assertThat(second.count).isNull();
+        }
+    }
+
+    @Test
+    void whenCsvRowHasTheWrongNumberOfColumns_thenRowIsRejected() throws Exception {
+        try (ImportRowReader reader = reader("name,note,count\na,b\n", ImportFormat.CSV)) {
+            ImportRowReader.Row row = reader.next();
+
+            assertThatThrownBy(() -> reader.parse(row, Item.class))
+                    .isInstanceOf(ImportRowReader.RowException.class)
+                    .hasMessage("Expected 3 columns but found 2.");
+        }
+    }
+
+    @Test
+    void whenReadingNdjson_thenEachNonBlankLineIsOneRow() throws Exception {
+        try (ImportRowReader reader = reader("{\"name\":\"a\"}\n   \n{\"name\":\"b\",\"count\":2}\n", ImportFormat.NDJSON)) {
+            List<ImportRowReader.Row> rows = rows(reader);
+
+            assertThat(rows).extracting(ImportRowReader.Row::number).containsExactly(1L, 3L);
+            assertThat(reader.parse(rows.get(1), Item.class).count).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void whenNdjsonRowIsMalformed_thenTheReasonNamesTheProblem() throws Exception {
+        try (ImportRowReader reader = reader("{\"name\":\n{\"count\":\"many\"}\n[1]\n", ImportFormat.NDJSON)) {
+            List<ImportRowReader.Row> rows = rows(reader);
+
+            assertThatThrownBy(() -> reader.parse(rows.get(0), Item.class)).hasMessage("Row is not valid JSON.");
+            assertThatThrownBy(() -> reader.parse(rows.get(1), Item.class)).hasMessage("Invalid value for count.");
+            assertThatThrownBy(() -> reader.parse(rows.get(2), Item.class)).hasMessage("Row is not a valid record.");
+        }
+    }
+
+    private ImportRowReader reader(String body, ImportFormat format) {
+        return new ImportRowReader(new StringReader(body), format, objectMapper);
+    }
+
+    private static List<ImportRowReader.Row> rows(ImportRowReader reader) throws IOException {
+        List<ImportRowReader.Row> rows = new ArrayList<>();
+        for (ImportRowReader.Row row = reader.next(); row != null; row = reader.next()) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    public static class Item {
+        public String name;
+        public String note;
+        public Integer count;
+    }
+}
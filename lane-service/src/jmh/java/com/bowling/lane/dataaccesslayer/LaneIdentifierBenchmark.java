@@ -0,0 +1,63 @@
+package com.bowling.lane.dataaccesslayer;
+
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LaneIdentifierBenchmark {
+
+    @Param("10000")
+    private int size;
+
+    private LaneIdentifier identifier;
+    private LaneIdentifier equalIdentifier;
+    private Set<LaneIdentifier> identifiers;
+
+    @Setup
+    public void setup() {
+        String value = UUID.randomUUID().toString();
+        identifier = new LaneIdentifier(value);
+        // Distinct instance with an equal value so equals() cannot short-circuit on identity.
+        equalIdentifier = new LaneIdentifier(new String(value));
+
+        identifiers = new HashSet<>();
+        for (int i = 0; i < size - 1; i++) {
+            identifiers.add(LaneIdentifier.generate());
+        }
+        identifiers.add(identifier);
+    }
+
+    @Benchmark
+    public LaneIdentifier generate() {
+        return LaneIdentifier.generate();
+    }
+
+    @Benchmark
+    public boolean equalsEqualValue() {
+        return identifier.equals(equalIdentifier);
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return identifier.hashCode();
+    }
+
+    @Benchmark
+    public boolean hashSetLookup() {
+        return identifiers.contains(equalIdentifier);
+    }
+}
@@ -0,0 +1,54 @@
+package com.bowling.lane.mappinglayer;
+
+import com.bowling.lane.dataaccesslayer.Lane;
+import com.bowling.lane.dataaccesslayer.LaneIdentifier;
+import com.bowling.lane.dataaccesslayer.LaneStatus;
+import com.bowling.lane.dataaccesslayer.LaneZone;
+import com.bowling.lane.presentationlayer.LaneRequestDTO;
+import com.bowling.lane.presentationlayer.LaneResponseDTO;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LaneMapperBenchmark {
+
+    private final LaneMapper mapper = Mappers.getMapper(LaneMapper.class);
+
+    private Lane entity;
+    private LaneRequestDTO request;
+
+    @Setup
+    public void setup() {
+        entity = Lane.builder()
+                .id(LaneIdentifier.generate())
+                .laneNumber(7)
+                .zone(new LaneZone("A"))
+                .status(LaneStatus.AVAILABLE)
+                .build();
+        request = LaneRequestDTO.builder()
+                .laneNumber(7)
+                .zone("A")
+                .status(LaneStatus.AVAILABLE)
+                .build();
+    }
+
+    @Benchmark
+    public LaneResponseDTO toResponseDTO() {
+        return mapper.toResponseDTO(entity);
+    }
+
+    @Benchmark
+    public Lane toEntity() {
+        return mapper.toEntity(request);
+    }
+}
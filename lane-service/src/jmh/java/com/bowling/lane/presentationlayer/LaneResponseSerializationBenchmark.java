@@ -0,0 +1,65 @@
+package com.bowling.lane.presentationlayer;
+
+import com.bowling.lane.dataaccesslayer.LaneStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LaneResponseSerializationBenchmark {
+
+    @Param({"1", "1000"})
+    private int size;
+
+    // Same builder Spring Boot starts from, so registered modules match the running service.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private LaneResponseDTO single;
+    private List<LaneResponseDTO> list;
+    private byte[] listJson;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        list = IntStream.range(0, size)
+                .mapToObj(i -> LaneResponseDTO.builder()
+                        .id(UUID.randomUUID().toString())
+                        .laneNumber(i)
+                        .zone("A")
+                        .status(LaneStatus.AVAILABLE)
+                        .build())
+                .toList();
+        single = list.get(0);
+        listJson = objectMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public byte[] serializeOne() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public LaneResponseDTO[] deserializeList() throws IOException {
+        return objectMapper.readValue(listJson, LaneResponseDTO[].class);
+    }
+}
@@ -0,0 +1,175 @@
+package com.bowling.lane.businesslayer;
+
+import com.bowling.lane.dataaccesslayer.LaneIdentifier;
+import com.bowling.lane.dataaccesslayer.LaneRepository;
+import com.bowling.lane.dataaccesslayer.LaneStatus;
+import com.bowling.lane.mappinglayer.LaneMapper;
+import com.bowling.lane.presentationlayer.LaneResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+public class LaneAvailabilityIndex {
+
+    private static final Comparator<LaneResponseDTO> BY_LANE_NUMBER =
+            Comparator.comparing(LaneResponseDTO::getLaneNumber, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final LaneRepository repository;
+    private final LaneMapper mapper;
+    // A fresh transaction, so reads made from an after-commit callback see the latest commit, not that write's context.
+    private final TransactionTemplate freshRead;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Each lane owns a dense slot; the bitsets below are indexed by slot, so a filter is a few word-wise ANDs.
+    private final Map<String, Integer> slotsById = new HashMap<>();
+    private final List<LaneResponseDTO> slots = new ArrayList<>();
+    private final BitSet occupied = new BitSet();
+    private final Map<LaneStatus, BitSet> byStatus = new EnumMap<>(LaneStatus.class);
+    private final Map<String, BitSet> byZone = new HashMap<>();
+    private volatile boolean built;
+
+    public LaneAvailabilityIndex(LaneRepository repository, LaneMapper mapper, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.freshRead = new TransactionTemplate(transactionManager);
+        this.freshRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.freshRead.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        tryRebuild();
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            // Loaded under the write lock so a write committing meanwhile is replayed on top, not lost.
+            List<LaneResponseDTO> lanes = freshRead.execute(status -> repository.findAll().stream()
+                    .map(mapper::toResponseDTO)
+                    .toList());
+            slotsById.clear();
+            slots.clear();
+            occupied.clear();
+            byStatus.clear();
+            byZone.clear();
+            lanes.forEach(this::put);
+            built = true;
+            log.info("Lane availability index built with {} lanes", lanes.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Runs after commit, so a rolled-back write never reaches the index. The row is re-read rather than taken from
+    // the event, because after-commit callbacks for one lane can arrive out of order.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLaneChanged(LaneChangedEvent change) {
+        if (!built) {
+            tryRebuild();
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Optional<LaneResponseDTO> current = freshRead.execute(status ->
+                    repository.findById(new LaneIdentifier(change.getLaneId())).map(mapper::toResponseDTO));
+            remove(change.getLaneId());
+            current.ifPresent(this::put);
+        } catch (DataAccessException | TransactionException ex) {
+            built = false;
+            log.warn("Lane availability index dropped, will rebuild on the next lane write: {}", ex.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Until this succeeds, searches are answered from the indexed columns in the database.
+    private void tryRebuild() {
+        try {
+            rebuild();
+        } catch (DataAccessException | TransactionException ex) {
+            log.warn("Lane availability index not built, will retry on the next lane write: {}", ex.getMessage());
+        }
+    }
+
+    public boolean isBuilt() {
+        return built;
+    }
+
+    public List<LaneResponseDTO> find(LaneStatus status, String zone) {
+        List<LaneResponseDTO> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) occupied.clone();
+            if (status != null) {
+                candidates.and(byStatus.getOrDefault(status, new BitSet()));
+            }
+            if (zone != null) {
+                candidates.and(byZone.getOrDefault(zone, new BitSet()));
+            }
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                matches.add(slots.get(slot));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(BY_LANE_NUMBER);
+        return matches;
+    }
+
+    private void put(LaneResponseDTO lane) {
+        int slot = occupied.nextClearBit(0);
+        if (slot == slots.size()) {
+            slots.add(lane);
+        } else {
+            slots.set(slot, lane);
+        }
+        slotsById.put(lane.getId(), slot);
+        occupied.set(slot);
+        if (lane.getStatus() != null) {
+            byStatus.computeIfAbsent(lane.getStatus(), status -> new BitSet()).set(slot);
+        }
+        if (lane.getZone() != null) {
+            byZone.computeIfAbsent(lane.getZone(), zone -> new BitSet()).set(slot);
+        }
+    }
+
+    private void remove(String laneId) {
+        Integer slot = slotsById.remove(laneId);
+        if (slot == null) {
+            return;
+        }
+        LaneResponseDTO lane = slots.set(slot, null);
+        occupied.clear(slot);
+        if (lane.getStatus() != null) {
+            byStatus.get(lane.getStatus()).clear(slot);
+        }
+        if (lane.getZone() != null) {
+            BitSet zone = byZone.get(lane.getZone());
+            zone.clear(slot);
+            if (zone.isEmpty()) {
+                byZone.remove(lane.getZone());
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.bowling.lane.businesslayer;
+
+import com.bowling.bulkimport.BulkImporter;
+import com.bowling.lane.dataaccesslayer.Lane;
+import com.bowling.lane.dataaccesslayer.LaneIdentifier;
+import com.bowling.lane.dataaccesslayer.LaneRepository;
+import com.bowling.lane.exceptionlayer.DuplicateLaneNumberException;
+import com.bowling.lane.mappinglayer.LaneMapper;
+import com.bowling.lane.presentationlayer.LaneRequestDTO;
+import com.bowling.lane.presentationlayer.LaneResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class LaneBulkImporter extends BulkImporter<LaneRequestDTO, Lane> {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final LaneMapper mapper;
+    private final LaneRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LaneBulkImporter(EntityManager entityManager,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            Validator validator,
+                            LaneMapper mapper,
+                            LaneRepository repository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${app.bulk-import.batch-size:500}") int batchSize,
+                            @Value("${app.bulk-import.max-reported-errors:1000}") int maxReportedErrors) {
+        super(LaneRequestDTO.class, objectMapper, validator, batchSize, maxReportedErrors);
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mapper = mapper;
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    protected Lane toEntity(LaneRequestDTO request) {
+        Lane lane = mapper.toEntity(request);
+        lane.setId(LaneIdentifier.generate());
+        return lane;
+    }
+
+    // One query per batch instead of the per-lane existence check that create() does.
+    @Override
+    protected Map<Lane, String> reject(List<Lane> rows) {
+        Set<Integer> taken = new HashSet<>(repository.findExistingLaneNumbers(
+                rows.stream().map(Lane::getLaneNumber).toList()));
+        Map<Lane, String> rejected = new IdentityHashMap<>();
+        for (Lane lane : rows) {
+            if (!taken.add(lane.getLaneNumber())) {
+                rejected.put(lane, new DuplicateLaneNumberException(lane.getLaneNumber()).getMessage());
+            }
+        }
+        return rejected;
+    }
+
+    // The ids are assigned up front, so persist never needs a read and Hibernate can batch the INSERTs.
+    @Override
+    protected void insert(List<Lane> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            rows.forEach(entityManager::persist);
+            entityManager.flush();
+            // Delivered after commit, so the availability index and subscribers never see a rolled-back lane.
+            rows.forEach(lane -> {
+                LaneResponseDTO created = mapper.toResponseDTO(lane);
+                eventPublisher.publishEvent(new LaneChangedEvent(LaneChangeType.CREATED, created.getId(), created));
+            });
+            entityManager.clear();
+        });
+    }
+}
@@ -0,0 +1,7 @@
+package com.bowling.lane.businesslayer;
+
+public enum LaneChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,14 @@
+package com.bowling.lane.businesslayer;
+
+import com.bowling.lane.presentationlayer.LaneResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LaneChangedEvent {
+
+    private final LaneChangeType type;
+    private final String laneId;
+    private final LaneResponseDTO lane;
+}
@@ -1,20 +1,36 @@
 package com.bowling.lane.businesslayer;
 
+import com.bowling.bulkimport.ImportFormat;
+import com.bowling.bulkimport.ImportResponseDTO;
+import com.bowling.lane.dataaccesslayer.LaneStatus;
 import com.bowling.lane.presentationlayer.LaneRequestDTO;
 import com.bowling.lane.presentationlayer.LaneResponseDTO;
 
+import java.io.InputStream;
 import java.util.List;
 
 public interface LaneService {
 
     LaneResponseDTO create(LaneRequestDTO request);
 
+    ImportResponseDTO importLanes(InputStream body, ImportFormat format);
+
     LaneResponseDTO getById(String id);
 
+    LaneResponseDTO getByLaneNumber(Integer laneNumber);
+
     List<LaneResponseDTO> getAll();
 
+    List<LaneResponseDTO> getByIds(List<String> ids);
+
+    List<LaneResponseDTO> search(LaneStatus status, String zone);
+
     LaneResponseDTO update(String id, LaneRequestDTO request);
 
     void delete(String id);
+
+    void reserve(String id);
+
+    void release(String id);
 }
 
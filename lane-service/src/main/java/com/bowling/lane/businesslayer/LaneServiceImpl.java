@@ -1,16 +1,24 @@
 package com.bowling.lane.businesslayer;
 
+import com.bowling.bulkimport.ImportFormat;
+import com.bowling.bulkimport.ImportResponseDTO;
 import com.bowling.lane.dataaccesslayer.Lane;
 import com.bowling.lane.dataaccesslayer.LaneIdentifier;
 import com.bowling.lane.dataaccesslayer.LaneRepository;
+import com.bowling.lane.dataaccesslayer.LaneStatus;
 import com.bowling.lane.dataaccesslayer.LaneZone;
+import com.bowling.lane.exceptionlayer.DuplicateLaneNumberException;
 import com.bowling.lane.exceptionlayer.LaneNotFoundException;
+import com.bowling.lane.exceptionlayer.LaneStatusConflictException;
 import com.bowling.lane.mappinglayer.LaneMapper;
 import com.bowling.lane.presentationlayer.LaneRequestDTO;
 import com.bowling.lane.presentationlayer.LaneResponseDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,11 +28,25 @@ public class LaneServiceImpl implements LaneService {
 
     private final LaneRepository repository;
     private final LaneMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LaneAvailabilityIndex availabilityIndex;
+    private final LaneBulkImporter bulkImporter;
 
+    @Transactional
     public LaneResponseDTO create(LaneRequestDTO request) {
+        if (repository.existsByLaneNumber(request.getLaneNumber())) {
+            throw new DuplicateLaneNumberException(request.getLaneNumber());
+        }
         Lane lane = mapper.toEntity(request);
         lane.setId(LaneIdentifier.generate());
-        return mapper.toResponseDTO(repository.save(lane));
+        LaneResponseDTO created = mapper.toResponseDTO(repository.save(lane));
+        eventPublisher.publishEvent(new LaneChangedEvent(LaneChangeType.CREATED, created.getId(), created));
+        return created;
+    }
+
+    @Override
+    public ImportResponseDTO importLanes(InputStream body, ImportFormat format) {
+        return bulkImporter.importRows(body, format);
     }
 
     @Override
@@ -34,6 +56,13 @@ public class LaneServiceImpl implements LaneService {
                 .orElseThrow(() -> new LaneNotFoundException(id));
     }
 
+    @Override
+    public LaneResponseDTO getByLaneNumber(Integer laneNumber) {
+        return repository.findByLaneNumber(laneNumber)
+                .map(mapper::toResponseDTO)
+                .orElseThrow(() -> new LaneNotFoundException(laneNumber));
+    }
+
     @Override
     public List<LaneResponseDTO> getAll() {
         return repository.findAll().stream()
@@ -42,24 +71,90 @@ public class LaneServiceImpl implements LaneService {
     }
 
     @Override
+    public List<LaneResponseDTO> getByIds(List<String> ids) {
+        List<LaneIdentifier> identifiers = ids.stream()
+                .distinct()
+                .map(LaneIdentifier::new)
+                .collect(Collectors.toList());
+
+        return repository.findAllById(identifiers).stream()
+                .map(mapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<LaneResponseDTO> search(LaneStatus status, String zone) {
+        if (availabilityIndex.isBuilt()) {
+            return availabilityIndex.find(status, zone);
+        }
+        List<Lane> lanes;
+        if (status != null && zone != null) {
+            lanes = repository.findByZoneAndStatusOrderByLaneNumber(new LaneZone(zone), status);
+        } else if (zone != null) {
+            lanes = repository.findByZoneOrderByLaneNumber(new LaneZone(zone));
+        } else {
+            lanes = repository.findByStatusOrderByLaneNumber(status);
+        }
+        return lanes.stream()
+                .map(mapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
     public LaneResponseDTO update(String id, LaneRequestDTO request) {
         Lane existing = repository.findById(new LaneIdentifier(id))
                 .orElseThrow(() -> new LaneNotFoundException(id));
+        if (repository.existsByLaneNumberAndIdNot(request.getLaneNumber(), existing.getId())) {
+            throw new DuplicateLaneNumberException(request.getLaneNumber());
+        }
 
         existing.setLaneNumber(request.getLaneNumber());
         existing.setZone(new LaneZone(request.getZone()));
         existing.setStatus(request.getStatus());
 
-        return mapper.toResponseDTO(repository.save(existing));
+        LaneResponseDTO updated = mapper.toResponseDTO(repository.save(existing));
+        eventPublisher.publishEvent(new LaneChangedEvent(LaneChangeType.UPDATED, id, updated));
+        return updated;
     }
 
     @Override
+    @Transactional
     public void delete(String id) {
         LaneIdentifier identifier = new LaneIdentifier(id);
         if (!repository.existsById(identifier)) {
             throw new LaneNotFoundException(id);
         }
         repository.deleteById(identifier);
+        eventPublisher.publishEvent(new LaneChangedEvent(LaneChangeType.DELETED, id, null));
+    }
+
+    @Override
+    @Transactional
+    public void reserve(String id) {
+        transition(id, LaneStatus.AVAILABLE, LaneStatus.IN_USE);
+    }
+
+    @Override
+    @Transactional
+    public void release(String id) {
+        transition(id, LaneStatus.IN_USE, LaneStatus.AVAILABLE);
+    }
+
+    private void transition(String id, LaneStatus from, LaneStatus to) {
+        LaneIdentifier identifier = new LaneIdentifier(id);
+        if (repository.transitionStatus(identifier, from, to) == 0) {
+            if (!repository.existsById(identifier)) {
+                throw new LaneNotFoundException(id);
+            }
+            throw new LaneStatusConflictException(id, from);
+        }
+
+        // Read back after the write only so subscribers and the availability index get the full lane.
+        LaneResponseDTO updated = repository.findById(identifier)
+                .map(mapper::toResponseDTO)
+                .orElseThrow(() -> new LaneNotFoundException(id));
+        eventPublisher.publishEvent(new LaneChangedEvent(LaneChangeType.UPDATED, id, updated));
     }
 }
 
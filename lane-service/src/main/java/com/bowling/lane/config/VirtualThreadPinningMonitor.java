@@ -0,0 +1,45 @@
+package com.bowling.lane.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+// Logs JFR pinning events so blocking driver calls that hold a carrier thread show up while running on virtual threads.
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+    private final RecordingStream stream = new RecordingStream();
+    private final LongAdder pinnedCount = new LongAdder();
+
+    public VirtualThreadPinningMonitor(@Value("${app.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", event -> {
+            pinnedCount.increment();
+            log.warn("Virtual thread pinned: {}", event);
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stream.close();
+    }
+
+    // Read by VirtualThreadThroughputBenchmark.
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+}
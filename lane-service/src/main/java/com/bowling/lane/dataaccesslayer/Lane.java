@@ -4,7 +4,12 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "lanes")
+@Table(name = "lanes",
+        uniqueConstraints = @UniqueConstraint(name = "uq_lanes_lane_number", columnNames = "lane_number"),
+        indexes = {
+                @Index(name = "idx_lanes_zone_status", columnList = "zone, status"),
+                @Index(name = "idx_lanes_status", columnList = "status")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
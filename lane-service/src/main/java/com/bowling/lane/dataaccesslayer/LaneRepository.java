@@ -1,9 +1,35 @@
 package com.bowling.lane.dataaccesslayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface LaneRepository extends JpaRepository<Lane, LaneIdentifier> {
-}
 
+    Optional<Lane> findByLaneNumber(Integer laneNumber);
+
+    boolean existsByLaneNumber(Integer laneNumber);
+
+    boolean existsByLaneNumberAndIdNot(Integer laneNumber, LaneIdentifier id);
+
+    @Query("SELECT l.laneNumber FROM Lane l WHERE l.laneNumber IN :laneNumbers")
+    List<Integer> findExistingLaneNumbers(@Param("laneNumbers") Collection<Integer> laneNumbers);
+
+    List<Lane> findByZoneAndStatusOrderByLaneNumber(LaneZone zone, LaneStatus status);
+
+    List<Lane> findByZoneOrderByLaneNumber(LaneZone zone);
+
+    List<Lane> findByStatusOrderByLaneNumber(LaneStatus status);
+
+    // Compare-and-set on status: returns 0 when the lane is missing or not currently in the expected status.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Lane l SET l.status = :to WHERE l.id = :id AND l.status = :from")
+    int transitionStatus(@Param("id") LaneIdentifier id, @Param("from") LaneStatus from, @Param("to") LaneStatus to);
+}
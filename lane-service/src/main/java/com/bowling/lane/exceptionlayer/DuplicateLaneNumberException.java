@@ -0,0 +1,8 @@
+package com.bowling.lane.exceptionlayer;
+
+public class DuplicateLaneNumberException extends RuntimeException {
+
+    public DuplicateLaneNumberException(Integer laneNumber) {
+        super("Lane number already in use: " + laneNumber);
+    }
+}
@@ -1,6 +1,8 @@
 package com.bowling.lane.exceptionlayer;
 
+import com.bowling.lane.dataaccesslayer.LaneStatus;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
@@ -8,6 +10,7 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -25,6 +28,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorBody);
     }
 
+    @ExceptionHandler(DuplicateLaneNumberException.class)
+    public ResponseEntity<Map<String, Object>> handleDuplicateLaneNumber(DuplicateLaneNumberException ex, HttpServletRequest request) {
+        Map<String, Object> errorBody = new HashMap<>();
+        errorBody.put("message", ex.getMessage());
+        errorBody.put("timestamp", LocalDateTime.now().toString());
+        errorBody.put("path", request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorBody);
+    }
+
+    @ExceptionHandler(LaneStatusConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleStatusConflict(LaneStatusConflictException ex, HttpServletRequest request) {
+        Map<String, Object> errorBody = new HashMap<>();
+        errorBody.put("message", ex.getMessage());
+        errorBody.put("timestamp", LocalDateTime.now().toString());
+        errorBody.put("path", request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorBody);
+    }
+
+    // Two concurrent writes can both pass the existence check; the unique key still rejects the second.
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleConstraintViolation(DataIntegrityViolationException ex, HttpServletRequest request) {
+        Map<String, Object> errorBody = new HashMap<>();
+        errorBody.put("message", "Lane conflicts with an existing lane.");
+        errorBody.put("timestamp", LocalDateTime.now().toString());
+        errorBody.put("path", request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorBody);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<Map<String, Object>> handleEnumConversion(HttpMessageNotReadableException ex, HttpServletRequest request) {
         String fullMessage = ex.getMessage();
@@ -44,6 +75,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleParameterConversion(MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+        String message = LaneStatus.class.equals(ex.getRequiredType())
+                ? "Invalid lane status. Must be one of: AVAILABLE, IN_USE, MAINTENANCE."
+                : "Invalid value for parameter " + ex.getName() + ".";
+
+        Map<String, Object> error = new HashMap<>();
+        error.put("message", message);
+        error.put("timestamp", LocalDateTime.now().toString());
+        error.put("path", request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleAllOtherExceptions(Exception ex, HttpServletRequest request) {
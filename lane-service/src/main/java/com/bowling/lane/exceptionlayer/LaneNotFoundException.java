@@ -5,5 +5,9 @@ public class LaneNotFoundException extends RuntimeException {
     public LaneNotFoundException(String id) {
         super("Lane not found with ID: " + id);
     }
+
+    public LaneNotFoundException(Integer laneNumber) {
+        super("Lane not found with number: " + laneNumber);
+    }
 }
 
@@ -0,0 +1,10 @@
+package com.bowling.lane.exceptionlayer;
+
+import com.bowling.lane.dataaccesslayer.LaneStatus;
+
+public class LaneStatusConflictException extends RuntimeException {
+
+    public LaneStatusConflictException(String id, LaneStatus expected) {
+        super("Lane " + id + " is not " + expected);
+    }
+}
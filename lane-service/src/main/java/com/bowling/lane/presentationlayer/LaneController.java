@@ -1,12 +1,19 @@
 package com.bowling.lane.presentationlayer;
 
+import com.bowling.bulkimport.ImportFormat;
+import com.bowling.bulkimport.ImportResponseDTO;
 import com.bowling.lane.businesslayer.LaneService;
+import com.bowling.lane.dataaccesslayer.LaneStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -15,6 +22,7 @@ import java.util.List;
 public class LaneController {
 
     private final LaneService laneService;
+    private final LaneEventBroadcaster laneEventBroadcaster;
 
     @PostMapping
     public ResponseEntity<LaneResponseDTO> createLane(@Valid @RequestBody LaneRequestDTO request) {
@@ -22,15 +30,41 @@ public class LaneController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // Rows are parsed as they arrive from the request stream rather than after buffering the file.
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    public ResponseEntity<ImportResponseDTO> importLanes(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                         InputStream body) {
+        return ResponseEntity.ok(laneService.importLanes(body, ImportFormat.of(contentType)));
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLaneEvents(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return laneEventBroadcaster.subscribe(lastEventId);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<LaneResponseDTO> getLane(@PathVariable String id) {
         LaneResponseDTO response = laneService.getById(id);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/by-number/{laneNumber}")
+    public ResponseEntity<LaneResponseDTO> getLaneByNumber(@PathVariable Integer laneNumber) {
+        return ResponseEntity.ok(laneService.getByLaneNumber(laneNumber));
+    }
+
     @GetMapping
-    public ResponseEntity<List<LaneResponseDTO>> getAllLanes() {
-        return ResponseEntity.ok(laneService.getAll());
+    public ResponseEntity<List<LaneResponseDTO>> getAllLanes(@RequestParam(required = false) LaneStatus status,
+                                                             @RequestParam(required = false) String zone) {
+        if (status == null && zone == null) {
+            return ResponseEntity.ok(laneService.getAll());
+        }
+        return ResponseEntity.ok(laneService.search(status, zone));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<LaneResponseDTO>> getLanesByIds(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(laneService.getByIds(ids));
     }
 
     @PutMapping("/{id}")
@@ -40,6 +74,18 @@ public class LaneController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/{id}/reserve")
+    public ResponseEntity<Void> reserveLane(@PathVariable String id) {
+        laneService.reserve(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/release")
+    public ResponseEntity<Void> releaseLane(@PathVariable String id) {
+        laneService.release(id);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteLane(@PathVariable String id) {
         laneService.delete(id);
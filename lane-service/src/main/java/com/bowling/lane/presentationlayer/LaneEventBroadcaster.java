@@ -0,0 +1,194 @@
+package com.bowling.lane.presentationlayer;
+
+import com.bowling.lane.businesslayer.LaneChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Component
+public class LaneEventBroadcaster {
+
+    static final String LANE_EVENT = "lane";
+    static final String RESET_EVENT = "reset";
+
+    private final int historySize;
+    private final Duration timeout;
+    private final ExecutorService dispatcher;
+    private final Deque<LaneEventDTO> history = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private long sequence;
+
+    public LaneEventBroadcaster(@Value("${app.lane-events.history-size:1024}") int historySize,
+                                @Value("${app.lane-events.timeout:30m}") Duration timeout,
+                                @Value("${app.lane-events.dispatch-threads:4}") int dispatchThreads,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.historySize = historySize;
+        this.timeout = timeout;
+        // With virtual threads a slow subscriber no longer ties up one of a handful of dispatch threads.
+        this.dispatcher = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("lane-events-", 0).factory())
+                : Executors.newFixedThreadPool(dispatchThreads, new CustomizableThreadFactory("lane-events-"));
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        // Commits the response right away so clients know they are connected before the first change.
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException ex) {
+            emitter.completeWithError(ex);
+            return emitter;
+        }
+
+        // Replay and registration happen under the same lock as publishing so no event falls in between.
+        synchronized (this) {
+            if (lastEventId != null) {
+                if (canResumeFrom(lastEventId)) {
+                    history.stream()
+                            .filter(event -> event.getSequence() > lastEventId)
+                            .forEach(subscriber::offer);
+                } else {
+                    subscriber.reset(sequence);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLaneChanged(LaneChangedEvent change) {
+        synchronized (this) {
+            LaneEventDTO event = LaneEventDTO.builder()
+                    .sequence(++sequence)
+                    .type(change.getType())
+                    .laneId(change.getLaneId())
+                    .lane(change.getLane())
+                    .build();
+
+            history.addLast(event);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        dispatcher.shutdownNow();
+    }
+
+    private boolean canResumeFrom(long lastEventId) {
+        // A higher id than we have ever issued comes from a previous instance of this service.
+        if (lastEventId > sequence) {
+            return false;
+        }
+        long oldestRetained = history.isEmpty() ? sequence + 1 : history.peekFirst().getSequence();
+        return lastEventId >= oldestRetained - 1;
+    }
+
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        // At most one pending event per lane: a slow subscriber skips intermediate states instead of queueing them.
+        private final Map<String, LaneEventDTO> pending = new LinkedHashMap<>();
+        private Long pendingReset;
+        private boolean draining;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(LaneEventDTO event) {
+            synchronized (this) {
+                pending.remove(event.getLaneId());
+                pending.put(event.getLaneId(), event);
+                if (!startDraining()) {
+                    return;
+                }
+            }
+            dispatcher.execute(this::drain);
+        }
+
+        void reset(long currentSequence) {
+            synchronized (this) {
+                pending.clear();
+                pendingReset = currentSequence;
+                if (!startDraining()) {
+                    return;
+                }
+            }
+            dispatcher.execute(this::drain);
+        }
+
+        private boolean startDraining() {
+            if (draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        private void drain() {
+            while (true) {
+                Long reset;
+                List<LaneEventDTO> batch;
+                synchronized (this) {
+                    if (pending.isEmpty() && pendingReset == null) {
+                        draining = false;
+                        return;
+                    }
+                    reset = pendingReset;
+                    pendingReset = null;
+                    batch = new ArrayList<>(pending.values());
+                    pending.clear();
+                }
+
+                try {
+                    if (reset != null) {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(reset))
+                                .name(RESET_EVENT)
+                                .data(Map.of("sequence", reset), MediaType.APPLICATION_JSON));
+                    }
+                    for (LaneEventDTO event : batch) {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(event.getSequence()))
+                                .name(LANE_EVENT)
+                                .data(event, MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException ex) {
+                    log.debug("Dropping lane event subscriber: {}", ex.getMessage());
+                    subscribers.remove(this);
+                    emitter.completeWithError(ex);
+                    return;
+                }
+            }
+        }
+    }
+}
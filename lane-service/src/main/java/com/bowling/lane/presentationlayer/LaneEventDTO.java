@@ -0,0 +1,16 @@
+package com.bowling.lane.presentationlayer;
+
+import com.bowling.lane.businesslayer.LaneChangeType;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LaneEventDTO {
+
+    private long sequence;
+    private LaneChangeType type;
+    private String laneId;
+    private LaneResponseDTO lane;
+}
@@ -4,5 +4,9 @@ CREATE TABLE lanes (
                        id VARCHAR(255) PRIMARY KEY,
                        lane_number INTEGER NOT NULL,
                        zone VARCHAR(255),
-                       status VARCHAR(50)
+                       status VARCHAR(50),
+                       CONSTRAINT uq_lanes_lane_number UNIQUE (lane_number)
 );
+
+CREATE INDEX idx_lanes_zone_status ON lanes (zone, status);
+CREATE INDEX idx_lanes_status ON lanes (status);
@@ -0,0 +1,117 @@
+package com.bowling.lane;
+
+import com.bowling.lane.config.VirtualThreadPinningMonitor;
+import com.bowling.lane.dataaccesslayer.LaneRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class VirtualThreadThroughputBenchmark {
+
+    private static final int CONNECTIONS = 1000;
+    private static final int REQUESTS_PER_CONNECTION = 5;
+    private static final long SIMULATED_IO_MILLIS = 50;
+
+    @Test
+    void throughputAtOneThousandConnections_platformVersusVirtualThreads() throws Exception {
+        double platform = run(false);
+        double virtual = run(true);
+
+        System.out.printf("platform threads: %.0f req/s%n", platform);
+        System.out.printf("virtual threads:  %.0f req/s%n", virtual);
+        assertTrue(virtual > platform);
+    }
+
+    private double run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = start(virtualThreads)) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/benchmark/slow");
+
+            fire(uri, 100, 1);
+            long started = System.nanoTime();
+            int completed = fire(uri, CONNECTIONS, REQUESTS_PER_CONNECTION);
+            double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+            assertEquals(CONNECTIONS * REQUESTS_PER_CONNECTION, completed);
+            context.getBeanProvider(VirtualThreadPinningMonitor.class).ifAvailable(monitor ->
+                    System.out.printf("pinned virtual threads observed: %d%n", monitor.getPinnedCount()));
+            return completed / seconds;
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(LaneServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=200",
+                        "server.tomcat.max-connections=" + (CONNECTIONS * 2),
+                        "server.tomcat.accept-count=" + CONNECTIONS,
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:lane-benchmark-" + virtualThreads + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.hikari.maximum-pool-size=50",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                // Registered programmatically so the route never leaks into component-scanned test contexts.
+                .initializers(context -> ((GenericApplicationContext) context).registerBean(
+                        "slowLaneRoute", RouterFunction.class, () -> slowLaneRoute(context)))
+                .run();
+    }
+
+    private static RouterFunction<ServerResponse> slowLaneRoute(ConfigurableApplicationContext context) {
+        return RouterFunctions.route()
+                .GET("/benchmark/slow", request -> {
+                    // Stands in for a blocking downstream call before the JDBC round trip.
+                    Thread.sleep(SIMULATED_IO_MILLIS);
+                    return ServerResponse.ok().body(context.getBean(LaneRepository.class).count());
+                })
+                .build();
+    }
+
+    private static int fire(URI uri, int connections, int requestsPerConnection) throws InterruptedException {
+        AtomicInteger completed = new AtomicInteger();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                clients.execute(() -> {
+                    for (int j = 0; j < requestsPerConnection; j++) {
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                completed.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+        return completed.get();
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -25,7 +26,7 @@ class LaneRepositoryIntegrationTest {
 
     @BeforeEach
     void setUpDB() {
-        laneRepository.deleteAll();
+        laneRepository.deleteAllInBatch();
     }
 
     @Test
@@ -84,6 +85,28 @@ class LaneRepositoryIntegrationTest {
         assertTrue(deleted.isEmpty());
     }
 
+    @Test
+    void whenFilteringByZoneAndStatus_thenReturnMatchesOrderedByLaneNumber() {
+        laneRepository.save(new Lane(LaneIdentifier.generate(), 9, new LaneZone("B"), LaneStatus.AVAILABLE));
+        laneRepository.save(new Lane(LaneIdentifier.generate(), 2, new LaneZone("B"), LaneStatus.AVAILABLE));
+        laneRepository.save(new Lane(LaneIdentifier.generate(), 4, new LaneZone("B"), LaneStatus.IN_USE));
+        laneRepository.save(new Lane(LaneIdentifier.generate(), 1, new LaneZone("A"), LaneStatus.AVAILABLE));
+
+        List<Lane> lanes = laneRepository.findByZoneAndStatusOrderByLaneNumber(new LaneZone("B"), LaneStatus.AVAILABLE);
+
+        assertEquals(List.of(2, 9), lanes.stream().map(Lane::getLaneNumber).toList());
+        assertTrue(laneRepository.findByLaneNumber(4).isPresent());
+        assertTrue(laneRepository.findByLaneNumber(5).isEmpty());
+    }
+
+    @Test
+    void whenSavingDuplicateLaneNumber_thenUniqueKeyRejectsIt() {
+        laneRepository.saveAndFlush(new Lane(LaneIdentifier.generate(), 8, new LaneZone("A"), LaneStatus.AVAILABLE));
+
+        assertThrows(DataIntegrityViolationException.class, () -> laneRepository.saveAndFlush(
+                new Lane(LaneIdentifier.generate(), 8, new LaneZone("B"), LaneStatus.IN_USE)));
+    }
+
     @Test
     public void printAllLanesFromScript() {
         List<Lane> lanes = laneRepository.findAll();
@@ -148,4 +171,15 @@ class LaneRepositoryIntegrationTest {
         assertThat(id1).isNotEqualTo("not-an-id");
         assertThat(id1).isEqualTo(id1);
     }
+
+    @Test
+    void whenTransitioningStatus_thenOnlyTheFirstMatchingUpdateApplies() {
+        LaneIdentifier id = LaneIdentifier.generate();
+        laneRepository.save(new Lane(id, 6, new LaneZone("A"), LaneStatus.AVAILABLE));
+
+        assertEquals(1, laneRepository.transitionStatus(id, LaneStatus.AVAILABLE, LaneStatus.IN_USE));
+        assertEquals(0, laneRepository.transitionStatus(id, LaneStatus.AVAILABLE, LaneStatus.IN_USE));
+        assertEquals(0, laneRepository.transitionStatus(LaneIdentifier.generate(), LaneStatus.AVAILABLE, LaneStatus.IN_USE));
+        assertEquals(LaneStatus.IN_USE, laneRepository.findById(id).orElseThrow().getStatus());
+    }
 }
@@ -1,15 +1,27 @@
 package com.bowling.lane.presentationlayer;
 
+import com.bowling.bulkimport.ImportResponseDTO;
+import com.bowling.bulkimport.ImportRowErrorDTO;
+import com.bowling.lane.businesslayer.LaneAvailabilityIndex;
+import com.bowling.lane.businesslayer.LaneChangeType;
+import com.bowling.lane.businesslayer.LaneChangedEvent;
 import com.bowling.lane.dataaccesslayer.LaneStatus;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -23,6 +35,12 @@ public class LaneControllerIntegrationTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private LaneAvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private final String BASE_URL = "/lanes";
     private final String VALID_ID = "bfe16e5f-c8a6-4f67-82b1-d2044da3fdf6";
     private final String INVALID_ID = "00000000-0000-0000-0000-000000000000";
@@ -62,6 +80,201 @@ public class LaneControllerIntegrationTest {
                 .jsonPath("$.message").isEqualTo("Lane not found with ID: " + INVALID_ID);
     }
 
+    @Test
+    void whenBatchLookup_thenReturnOnlyExistingLanes() {
+        String otherId = "90f40b46-ee3d-4506-af1d-8551ada55094";
+
+        webTestClient.post()
+                .uri(BASE_URL + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(VALID_ID, otherId, VALID_ID, INVALID_ID))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(LaneResponseDTO.class)
+                .value(lanes -> assertThat(lanes)
+                        .extracting(LaneResponseDTO::getId)
+                        .containsExactlyInAnyOrder(VALID_ID, otherId));
+    }
+
+    @Test
+    void whenFilteringByStatusAndZone_thenReturnOnlyMatchingLanesInLaneNumberOrder() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL)
+                        .queryParam("status", "AVAILABLE")
+                        .queryParam("zone", "B")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(LaneResponseDTO.class)
+                .value(lanes -> assertThat(lanes)
+                        .extracting(LaneResponseDTO::getLaneNumber)
+                        .containsExactly(3));
+
+        webTestClient.get()
+                .uri(BASE_URL + "?status=IN_USE")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(LaneResponseDTO.class)
+                .value(lanes -> assertThat(lanes)
+                        .extracting(LaneResponseDTO::getLaneNumber)
+                        .containsExactly(2, 5));
+    }
+
+    @Test
+    void whenImportingLanes_thenTakenAndRepeatedLaneNumbersAreReported() {
+        String upload = """
+                {"laneNumber":10,"zone":"D","status":"AVAILABLE"}
+                {"laneNumber":11,"zone":"D","status":"AVAILABLE"}
+                {"laneNumber":3,"zone":"D","status":"AVAILABLE"}
+                {"laneNumber":10,"zone":"D","status":"IN_USE"}
+                {"laneNumber":12,"zone":"D","status":"IN_USE"}
+                {"laneNumber":12,"zone":"D","status":"IN_USE"}
+                """;
+
+        webTestClient.post()
+                .uri(BASE_URL + "/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(upload)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ImportResponseDTO.class)
+                .value(report -> {
+                    assertThat(report.getImported()).isEqualTo(3);
+                    assertThat(report.getErrors()).containsExactly(
+                            new ImportRowErrorDTO(3, "Lane number already in use: 3"),
+                            new ImportRowErrorDTO(4, "Lane number already in use: 10"),
+                            new ImportRowErrorDTO(6, "Lane number already in use: 12"));
+                });
+
+        webTestClient.get()
+                .uri(BASE_URL + "?zone=D")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(LaneResponseDTO.class)
+                .value(lanes -> assertThat(lanes)
+                        .extracting(LaneResponseDTO::getLaneNumber)
+                        .containsExactly(10, 11, 12));
+    }
+
+    @Test
+    void whenImportingCsvWithUnknownStatus_thenRowIsReported() {
+        String upload = """
+                laneNumber,zone,status
+                20,E,AVAILABLE
+                21,E,CLOSED
+                """;
+
+        webTestClient.post()
+                .uri(BASE_URL + "/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(upload)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ImportResponseDTO.class)
+                .value(report -> {
+                    assertThat(report.getImported()).isEqualTo(1);
+                    assertThat(report.getErrors()).containsExactly(
+                            new ImportRowErrorDTO(3, "Invalid value for status."));
+                });
+    }
+
+    @Test
+    void whenLaneIsWritten_thenStatusFilterReflectsTheChange() {
+        LaneRequestDTO update = LaneRequestDTO.builder()
+                .laneNumber(1)
+                .zone("B")
+                .status(LaneStatus.IN_USE)
+                .build();
+        webTestClient.put()
+                .uri(BASE_URL + "/" + VALID_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.delete()
+                .uri(BASE_URL + "/00187cbb-4423-4bdd-a620-8dcb0355dad8")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get()
+                .uri(BASE_URL + "?status=IN_USE&zone=B")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(LaneResponseDTO.class)
+                .value(lanes -> assertThat(lanes)
+                        .extracting(LaneResponseDTO::getId)
+                        .containsExactly(VALID_ID));
+        webTestClient.get()
+                .uri(BASE_URL + "?zone=A")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(LaneResponseDTO.class)
+                .value(lanes -> assertThat(lanes)
+                        .extracting(LaneResponseDTO::getLaneNumber)
+                        .containsExactly(2));
+    }
+
+    @Test
+    void whenFilteringByUnknownStatus_thenReturnBadRequest() {
+        webTestClient.get()
+                .uri(BASE_URL + "?status=BROKEN")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid lane status. Must be one of: AVAILABLE, IN_USE, MAINTENANCE.");
+    }
+
+    @Test
+    void whenLaneNumberExists_thenReturnLaneByNumber() {
+        webTestClient.get()
+                .uri(BASE_URL + "/by-number/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(LaneResponseDTO.class)
+                .value(lane -> assertThat(lane.getId()).isEqualTo(VALID_ID));
+
+        webTestClient.get()
+                .uri(BASE_URL + "/by-number/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Lane not found with number: 99");
+    }
+
+    @Test
+    void whenCreateWithTakenLaneNumber_thenReturnConflict() {
+        LaneRequestDTO request = LaneRequestDTO.builder()
+                .laneNumber(2)
+                .zone("A")
+                .status(LaneStatus.AVAILABLE)
+                .build();
+
+        webTestClient.post()
+                .uri(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Lane number already in use: 2");
+    }
+
+    @Test
+    void whenUpdateToAnotherLanesNumber_thenReturnConflict() {
+        LaneRequestDTO update = LaneRequestDTO.builder()
+                .laneNumber(3)
+                .zone("A")
+                .status(LaneStatus.AVAILABLE)
+                .build();
+
+        webTestClient.put()
+                .uri(BASE_URL + "/" + VALID_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
     @Test
     void whenCreateValidLane_thenLaneIsCreated() {
         LaneRequestDTO request = LaneRequestDTO.builder()
@@ -147,6 +360,61 @@ public class LaneControllerIntegrationTest {
                 .jsonPath("$.message").isEqualTo("Lane not found with ID: " + INVALID_ID);
     }
 
+    @Test
+    void whenReserveAvailableLane_thenLaneIsInUseAndSecondReserveConflicts() {
+        webTestClient.post()
+                .uri(BASE_URL + "/" + VALID_ID + "/reserve")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.post()
+                .uri(BASE_URL + "/" + VALID_ID + "/reserve")
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Lane " + VALID_ID + " is not AVAILABLE");
+
+        webTestClient.get()
+                .uri(BASE_URL + "?status=IN_USE&zone=A")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(LaneResponseDTO.class)
+                .value(lanes -> assertThat(lanes)
+                        .extracting(LaneResponseDTO::getLaneNumber)
+                        .containsExactly(1, 2));
+    }
+
+    @Test
+    void whenReleaseLaneInUse_thenLaneIsAvailableAndSecondReleaseConflicts() {
+        String inUseId = "90f40b46-ee3d-4506-af1d-8551ada55094";
+        webTestClient.post()
+                .uri(BASE_URL + "/" + inUseId + "/release")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get()
+                .uri(BASE_URL + "/" + inUseId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(LaneResponseDTO.class)
+                .value(lane -> assertThat(lane.getStatus()).isEqualTo(LaneStatus.AVAILABLE));
+
+        webTestClient.post()
+                .uri(BASE_URL + "/" + inUseId + "/release")
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    void whenReserveNonexistentLane_thenReturnNotFound() {
+        webTestClient.post()
+                .uri(BASE_URL + "/" + INVALID_ID + "/reserve")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Lane not found with ID: " + INVALID_ID);
+    }
+
     @Test
     void whenCreateWithInvalidLaneStatus_thenReturnBadRequest() {
         String invalidRequestJson = """
@@ -272,4 +540,101 @@ public class LaneControllerIntegrationTest {
                     assertThat(dto.getStatus()).isEqualTo(LaneStatus.IN_USE);
                 });
     }
+
+    @Test
+    void whenLaneUpdated_thenSubscriberReceivesChangeEvent() {
+        Flux<ServerSentEvent<LaneEventDTO>> events = subscribeToEvents(null);
+
+        updateValidLane(LaneStatus.MAINTENANCE);
+
+        ServerSentEvent<LaneEventDTO> event = events.blockFirst(Duration.ofSeconds(5));
+        assertThat(event).isNotNull();
+        assertThat(event.event()).isEqualTo("lane");
+        assertThat(event.id()).isEqualTo("1");
+        assertThat(event.data().getType()).isEqualTo(LaneChangeType.UPDATED);
+        assertThat(event.data().getLaneId()).isEqualTo(VALID_ID);
+        assertThat(event.data().getLane().getStatus()).isEqualTo(LaneStatus.MAINTENANCE);
+    }
+
+    @Test
+    void whenLaneDeleted_thenSubscriberReceivesDeleteEvent() {
+        Flux<ServerSentEvent<LaneEventDTO>> events = subscribeToEvents(null);
+
+        webTestClient.delete()
+                .uri(BASE_URL + "/" + VALID_ID)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        ServerSentEvent<LaneEventDTO> event = events.blockFirst(Duration.ofSeconds(5));
+        assertThat(event).isNotNull();
+        assertThat(event.data().getType()).isEqualTo(LaneChangeType.DELETED);
+        assertThat(event.data().getLane()).isNull();
+    }
+
+    @Test
+    void whenReconnectingWithLastEventId_thenMissedEventsAreReplayedCoalescedPerLane() {
+        updateValidLane(LaneStatus.IN_USE);
+        updateValidLane(LaneStatus.MAINTENANCE);
+
+        ServerSentEvent<LaneEventDTO> event = subscribeToEvents(0L).blockFirst(Duration.ofSeconds(5));
+
+        assertThat(event).isNotNull();
+        assertThat(event.id()).isEqualTo("2");
+        assertThat(event.data().getLane().getStatus()).isEqualTo(LaneStatus.MAINTENANCE);
+    }
+
+    @Test
+    void whenChangeEventArrivesStale_thenIndexKeepsTheCurrentRow() {
+        availabilityIndex.rebuild();
+        LaneResponseDTO stale = new LaneResponseDTO(VALID_ID, 1, "A", LaneStatus.IN_USE);
+        eventPublisher.publishEvent(new LaneChangedEvent(LaneChangeType.UPDATED, VALID_ID, stale));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(BASE_URL).queryParam("status", "AVAILABLE").queryParam("zone", "A").build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(LaneResponseDTO.class)
+                .value(lanes -> assertThat(lanes).extracting(LaneResponseDTO::getId).containsExactly(VALID_ID));
+    }
+
+    @Test
+    void whenLastEventIdIsUnknown_thenSubscriberIsToldToReset() {
+        ServerSentEvent<LaneEventDTO> event = subscribeToEvents(42L).blockFirst(Duration.ofSeconds(5));
+
+        assertThat(event).isNotNull();
+        assertThat(event.event()).isEqualTo("reset");
+        assertThat(event.id()).isEqualTo("0");
+    }
+
+    private Flux<ServerSentEvent<LaneEventDTO>> subscribeToEvents(Long lastEventId) {
+        return webTestClient.get()
+                .uri(BASE_URL + "/events")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    if (lastEventId != null) {
+                        headers.set("Last-Event-ID", String.valueOf(lastEventId));
+                    }
+                })
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<LaneEventDTO>>() {})
+                .getResponseBody()
+                .filter(event -> event.event() != null);
+    }
+
+    private void updateValidLane(LaneStatus status) {
+        LaneRequestDTO update = LaneRequestDTO.builder()
+                .laneNumber(1)
+                .zone("A")
+                .status(status)
+                .build();
+
+        webTestClient.put()
+                .uri(BASE_URL + "/" + VALID_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk();
+    }
 }
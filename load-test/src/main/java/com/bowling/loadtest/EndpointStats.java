@@ -0,0 +1,41 @@
+package com.bowling.loadtest;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Getter
+public class EndpointStats {
+
+    private final Operation operation;
+    // Microseconds, three significant digits, auto-resizing so a stalled request cannot overflow it.
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+
+    public EndpointStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    public void recordSuccess(long latencyNanos) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public long successes() {
+        return latencies.getTotalCount();
+    }
+
+    public long total() {
+        return successes() + errors.sum();
+    }
+
+    public double p99Millis() {
+        return latencies.getValueAtPercentile(99.0) / 1000.0;
+    }
+}
@@ -0,0 +1,150 @@
+package com.bowling.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Seeds one lane, shoe, ball and transaction for the by-id operations and removes everything the run created.
+public class Fixtures {
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Resource, String> seededIds = new EnumMap<>(Resource.class);
+    private final Queue<String> createdTransactionIds = new ConcurrentLinkedQueue<>();
+
+    public Fixtures(LoadTestConfig config, HttpClient client) {
+        this.config = config;
+        this.client = client;
+    }
+
+    public void awaitReady() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(config.getReadinessTimeoutSeconds()).toNanos();
+        for (Resource resource : Resource.values()) {
+            URI uri = URI.create(config.collectionUrl(resource));
+            System.out.print("Waiting for: " + uri);
+            while (!isUp(uri)) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Timed out waiting for " + uri);
+                }
+                System.out.print(".");
+                Thread.sleep(2000);
+            }
+            System.out.println(" ready");
+        }
+    }
+
+    public void seed() throws IOException, InterruptedException {
+        create(Resource.BALLS, """
+                {"size": "TEN", "gripType": "Standard", "color": "Red", "status": "AVAILABLE"}""");
+        create(Resource.SHOES, """
+                {"size": "SIZE_10", "purchaseDate": "2024-05-01", "status": "AVAILABLE"}""");
+        create(Resource.LANES, """
+                {"laneNumber": %d, "zone": "ZONE_1", "status": "AVAILABLE"}"""
+                .formatted(ThreadLocalRandom.current().nextInt(10_000, 1_000_000)));
+        create(Resource.TRANSACTIONS, transactionBody());
+    }
+
+    public HttpRequest request(Operation operation) {
+        Resource resource = operation.getResource();
+        String collection = config.collectionUrl(resource);
+        HttpRequest.Builder builder = switch (operation) {
+            case LANES_GET_ALL, SHOES_GET_ALL, BALLS_GET_ALL, TRANSACTIONS_GET_ALL ->
+                    HttpRequest.newBuilder(URI.create(collection)).GET();
+            case LANES_GET_BY_ID, SHOES_GET_BY_ID, BALLS_GET_BY_ID, TRANSACTIONS_GET_BY_ID ->
+                    HttpRequest.newBuilder(URI.create(collection + "/" + seededIds.get(resource))).GET();
+            case TRANSACTIONS_CREATE -> HttpRequest.newBuilder(URI.create(collection))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(transactionBody()));
+        };
+        return builder.timeout(Duration.ofMillis(config.getRequestTimeoutMillis())).build();
+    }
+
+    public void recordCreated(Operation operation, String responseBody) {
+        if (operation.isCreates()) {
+            try {
+                createdTransactionIds.add(idFrom(operation.getResource(), responseBody));
+            } catch (IOException e) {
+                // The request still counted as a success; only cleanup misses this one.
+            }
+        }
+    }
+
+    public void cleanUp() throws InterruptedException {
+        String transactions = config.collectionUrl(Resource.TRANSACTIONS);
+        for (String id; (id = createdTransactionIds.poll()) != null; ) {
+            delete(transactions + "/" + id);
+        }
+        // Transaction first: it references the other three.
+        for (Resource resource : List.of(Resource.TRANSACTIONS, Resource.BALLS, Resource.LANES, Resource.SHOES)) {
+            String id = seededIds.remove(resource);
+            if (id != null) {
+                delete(config.collectionUrl(resource) + "/" + id);
+            }
+        }
+    }
+
+    String seededId(Resource resource) {
+        return seededIds.get(resource);
+    }
+
+    private String transactionBody() {
+        return """
+                {"customerName": "Load Test", "status": "OPEN", "bowlingBallId": "%s", "shoeId": "%s", "laneId": "%s"}"""
+                .formatted(seededIds.get(Resource.BALLS), seededIds.get(Resource.SHOES), seededIds.get(Resource.LANES));
+    }
+
+    private void create(Resource resource, String body) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(config.collectionUrl(resource)))
+                        .header("Content-Type", "application/json")
+                        .timeout(Duration.ofMillis(config.getRequestTimeoutMillis()))
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Failed to seed " + resource.getKey() + ": HTTP "
+                    + response.statusCode() + " " + response.body());
+        }
+        seededIds.put(resource, idFrom(resource, response.body()));
+    }
+
+    private String idFrom(Resource resource, String body) throws IOException {
+        String id = objectMapper.readTree(body).path(resource.getIdField()).asText(null);
+        if (id == null) {
+            throw new IOException("No " + resource.getIdField() + " in " + resource.getKey() + " response");
+        }
+        return id;
+    }
+
+    private boolean isUp(URI uri) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(2)).GET().build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void delete(String url) throws InterruptedException {
+        try {
+            client.send(HttpRequest.newBuilder(URI.create(url))
+                            .timeout(Duration.ofMillis(config.getRequestTimeoutMillis()))
+                            .DELETE()
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            System.err.println("Cleanup failed for " + url + ": " + e.getMessage());
+        }
+    }
+}
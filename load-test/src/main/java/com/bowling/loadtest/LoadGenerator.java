@@ -0,0 +1,116 @@
+package com.bowling.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadGenerator {
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final Fixtures fixtures;
+    private final OperationMix mix;
+
+    public LoadGenerator(LoadTestConfig config, HttpClient client, Fixtures fixtures) {
+        this.config = config;
+        this.client = client;
+        this.fixtures = fixtures;
+        this.mix = new OperationMix(config.getMix());
+    }
+
+    public LoadTestResult run() throws InterruptedException {
+        LoadTestResult result = new LoadTestResult(config.getMix().keySet().stream().map(Operation::fromKey).toList());
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (config.getArrivalRate() > 0) {
+                openModel(executor, result, start, measureFrom, end);
+            } else {
+                closedModel(executor, result, measureFrom, end);
+            }
+        }
+        result.setElapsedSeconds((end - measureFrom) / 1_000_000_000.0);
+        return result;
+    }
+
+    // Fixed arrival schedule; latency is measured from the intended send time so a stalled
+    // system is charged for the requests it delayed (no coordinated omission).
+    private void openModel(ExecutorService executor, LoadTestResult result, long start, long measureFrom, long end)
+            throws InterruptedException {
+        long intervalNanos = 1_000_000_000L / config.getArrivalRate();
+        Semaphore inFlight = new Semaphore(config.getConcurrency());
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                return;
+            }
+            parkUntil(intended);
+            inFlight.acquire();
+            Operation operation = mix.next();
+            executor.execute(() -> {
+                try {
+                    execute(operation, intended, intended >= measureFrom ? result : null);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    private void closedModel(ExecutorService executor, LoadTestResult result, long measureFrom, long end) {
+        for (int i = 0; i < config.getConcurrency(); i++) {
+            executor.execute(() -> {
+                for (long sent = System.nanoTime(); sent < end; sent = System.nanoTime()) {
+                    execute(mix.next(), sent, sent >= measureFrom ? result : null);
+                }
+            });
+        }
+    }
+
+    private void execute(Operation operation, long intended, LoadTestResult result) {
+        HttpRequest request = fixtures.request(operation);
+        boolean success;
+        try {
+            if (operation.isCreates()) {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                success = response.statusCode() / 100 == 2;
+                if (success) {
+                    fixtures.recordCreated(operation, response.body());
+                }
+            } else {
+                success = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+            }
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (result == null) {
+            return;
+        }
+        EndpointStats stats = result.statsFor(operation);
+        if (success) {
+            stats.recordSuccess(System.nanoTime() - intended);
+        } else {
+            stats.recordError();
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        for (long remaining = deadlineNanos - System.nanoTime(); remaining > 0; remaining = deadlineNanos - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.bowling.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        String configLocation = "load-test.yml";
+        String baseUrl = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--config" -> configLocation = args[++i];
+                case "--base-url" -> baseUrl = args[++i];
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        LoadTestConfig config = LoadTestConfig.load(configLocation);
+        if (baseUrl != null) {
+            config.setBaseUrl(baseUrl);
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(config.getRequestTimeoutMillis()))
+                .build();
+        Fixtures fixtures = new Fixtures(config, client);
+        fixtures.awaitReady();
+        fixtures.seed();
+
+        LoadTestResult result;
+        try {
+            result = new LoadGenerator(config, client, fixtures).run();
+        } finally {
+            fixtures.cleanUp();
+        }
+
+        LoadTestReport report = new LoadTestReport(config.getSlo(), result);
+        report.print(System.out);
+        report.writeHistograms(Path.of(config.getOutputDir()));
+
+        List<String> violations = report.violations();
+        if (!violations.isEmpty()) {
+            System.err.println("SLO breached:");
+            violations.forEach(violation -> System.err.println(" - " + violation));
+            System.exit(1);
+        }
+        System.out.println("All SLOs met.");
+    }
+}
@@ -0,0 +1,68 @@
+package com.bowling.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import lombok.Data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+public class LoadTestConfig {
+    private String baseUrl = "http://localhost:8080";
+    // Full collection URL per resource key, for driving services directly instead of through the gateway.
+    private Map<String, String> collectionUrls = new HashMap<>();
+    private int warmupSeconds = 10;
+    private int durationSeconds = 60;
+    // Requests per second across the whole mix; 0 switches to a closed model of `concurrency` looping workers.
+    private int arrivalRate = 200;
+    private int concurrency = 64;
+    private int requestTimeoutMillis = 5000;
+    private int readinessTimeoutSeconds = 200;
+    private Map<String, Integer> mix = new LinkedHashMap<>();
+    private Slo slo = new Slo();
+    private String outputDir = "build/load-test";
+
+    public String collectionUrl(Resource resource) {
+        return collectionUrls.getOrDefault(resource.getKey(), baseUrl + resource.getGatewayPath());
+    }
+
+    public static LoadTestConfig load(String location) throws IOException {
+        ObjectMapper mapper = new ObjectMapper(new YAMLFactory())
+                .setPropertyNamingStrategy(PropertyNamingStrategies.KEBAB_CASE)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+
+        Path path = Path.of(location);
+        if (Files.exists(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                return mapper.readValue(in, LoadTestConfig.class);
+            }
+        }
+        try (InputStream in = LoadTestConfig.class.getClassLoader().getResourceAsStream(location)) {
+            if (in == null) {
+                throw new IOException("Load test config not found on disk or classpath: " + location);
+            }
+            return mapper.readValue(in, LoadTestConfig.class);
+        }
+    }
+
+    @Data
+    public static class Slo {
+        private int defaultP99Millis = 250;
+        private Map<String, Integer> p99Millis = new HashMap<>();
+        // Successful requests per second across all operations.
+        private double minThroughput = 0;
+        private double maxErrorRate = 0.01;
+
+        public int p99MillisFor(Operation operation) {
+            return p99Millis.getOrDefault(operation.getKey(), defaultP99Millis);
+        }
+    }
+}
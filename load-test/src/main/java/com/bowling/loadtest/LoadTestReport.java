@@ -0,0 +1,69 @@
+package com.bowling.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LoadTestReport {
+
+    private final LoadTestConfig.Slo slo;
+    private final LoadTestResult result;
+
+    public LoadTestReport(LoadTestConfig.Slo slo, LoadTestResult result) {
+        this.slo = slo;
+        this.result = result;
+    }
+
+    public List<String> violations() {
+        List<String> violations = new ArrayList<>();
+        for (EndpointStats stats : result.getStats().values()) {
+            int limit = slo.p99MillisFor(stats.getOperation());
+            if (stats.successes() > 0 && stats.p99Millis() > limit) {
+                violations.add("%s p99 %.1f ms exceeds %d ms"
+                        .formatted(stats.getOperation().getKey(), stats.p99Millis(), limit));
+            }
+        }
+        if (result.throughput() < slo.getMinThroughput()) {
+            violations.add("throughput %.1f req/s below %.1f req/s"
+                    .formatted(result.throughput(), slo.getMinThroughput()));
+        }
+        if (result.errorRate() > slo.getMaxErrorRate()) {
+            violations.add("error rate %.2f%% exceeds %.2f%%"
+                    .formatted(result.errorRate() * 100, slo.getMaxErrorRate() * 100));
+        }
+        return violations;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-24s %8s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "ok", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (EndpointStats stats : result.getStats().values()) {
+            Histogram h = stats.getLatencies();
+            out.printf("%-24s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    stats.getOperation().getKey(), stats.successes(), stats.getErrors().sum(),
+                    millis(h, 50), millis(h, 90), millis(h, 99), millis(h, 99.9), h.getMaxValue() / 1000.0);
+        }
+        out.printf("%nthroughput %.1f req/s over %.0f s, error rate %.2f%%%n",
+                result.throughput(), result.getElapsedSeconds(), result.errorRate() * 100);
+    }
+
+    // One .hgrm percentile distribution per operation, in milliseconds, for HdrHistogram's plotter.
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (EndpointStats stats : result.getStats().values()) {
+            Path file = directory.resolve(stats.getOperation().getKey() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                stats.getLatencies().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.bowling.loadtest;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+public class LoadTestResult {
+
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private double elapsedSeconds;
+
+    public LoadTestResult(Collection<Operation> operations) {
+        operations.forEach(operation -> stats.put(operation, new EndpointStats(operation)));
+    }
+
+    public EndpointStats statsFor(Operation operation) {
+        return stats.get(operation);
+    }
+
+    void setElapsedSeconds(double elapsedSeconds) {
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    public long successes() {
+        return stats.values().stream().mapToLong(EndpointStats::successes).sum();
+    }
+
+    public long errors() {
+        return stats.values().stream().mapToLong(s -> s.getErrors().sum()).sum();
+    }
+
+    public double throughput() {
+        return elapsedSeconds > 0 ? successes() / elapsedSeconds : 0;
+    }
+
+    public double errorRate() {
+        long total = successes() + errors();
+        return total > 0 ? (double) errors() / total : 0;
+    }
+}
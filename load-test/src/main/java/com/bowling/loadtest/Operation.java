@@ -0,0 +1,35 @@
+package com.bowling.loadtest;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+@Getter
+public enum Operation {
+    LANES_GET_ALL("lanes.get-all", Resource.LANES, false),
+    LANES_GET_BY_ID("lanes.get-by-id", Resource.LANES, false),
+    SHOES_GET_ALL("shoes.get-all", Resource.SHOES, false),
+    SHOES_GET_BY_ID("shoes.get-by-id", Resource.SHOES, false),
+    BALLS_GET_ALL("balls.get-all", Resource.BALLS, false),
+    BALLS_GET_BY_ID("balls.get-by-id", Resource.BALLS, false),
+    TRANSACTIONS_GET_ALL("transactions.get-all", Resource.TRANSACTIONS, false),
+    TRANSACTIONS_GET_BY_ID("transactions.get-by-id", Resource.TRANSACTIONS, false),
+    TRANSACTIONS_CREATE("transactions.create", Resource.TRANSACTIONS, true);
+
+    private final String key;
+    private final Resource resource;
+    private final boolean creates;
+
+    Operation(String key, Resource resource, boolean creates) {
+        this.key = key;
+        this.resource = resource;
+        this.creates = creates;
+    }
+
+    public static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation in mix: " + key));
+    }
+}
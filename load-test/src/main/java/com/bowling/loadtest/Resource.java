@@ -0,0 +1,21 @@
+package com.bowling.loadtest;
+
+import lombok.Getter;
+
+@Getter
+public enum Resource {
+    LANES("lanes", "/api/lanes", "id"),
+    SHOES("shoes", "/api/shoes", "id"),
+    BALLS("balls", "/api/balls", "id"),
+    TRANSACTIONS("transactions", "/api/transactions", "transactionId");
+
+    private final String key;
+    private final String gatewayPath;
+    private final String idField;
+
+    Resource(String key, String gatewayPath, String idField) {
+        this.key = key;
+        this.gatewayPath = gatewayPath;
+        this.idField = idField;
+    }
+}
@@ -0,0 +1,105 @@
+package com.bowling.loadtest;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadGeneratorTest {
+
+    private MockWebServer server;
+    private final Map<String, AtomicInteger> requestsByMethod = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                requestsByMethod.computeIfAbsent(request.getMethod(), m -> new AtomicInteger()).incrementAndGet();
+                return switch (request.getMethod()) {
+                    case "POST" -> new MockResponse()
+                            .setResponseCode(201)
+                            .addHeader("Content-Type", "application/json")
+                            .setBody("{\"id\":\"" + UUID.randomUUID() + "\",\"transactionId\":\"" + UUID.randomUUID() + "\"}");
+                    case "DELETE" -> new MockResponse().setResponseCode(204);
+                    default -> new MockResponse().setResponseCode(200).setBody("{}");
+                };
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        server.shutdown();
+    }
+
+    private LoadTestConfig config() {
+        LoadTestConfig config = new LoadTestConfig();
+        config.setBaseUrl(server.url("").toString().replaceAll("/$", ""));
+        config.setWarmupSeconds(0);
+        config.setDurationSeconds(2);
+        config.setArrivalRate(50);
+        config.setConcurrency(8);
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        mix.put("lanes.get-by-id", 1);
+        mix.put("transactions.create", 1);
+        config.setMix(mix);
+        return config;
+    }
+
+    @Test
+    void whenOpenModel_thenSendsAtArrivalRateAndRecordsPerOperation() throws Exception {
+        LoadTestConfig config = config();
+        HttpClient client = HttpClient.newHttpClient();
+        Fixtures fixtures = new Fixtures(config, client);
+        fixtures.seed();
+
+        LoadTestResult result = new LoadGenerator(config, client, fixtures).run();
+
+        assertThat(result.errors()).isZero();
+        assertThat(result.successes()).isBetween(90L, 101L);
+        assertThat(result.statsFor(Operation.LANES_GET_BY_ID).successes()).isPositive();
+        assertThat(result.statsFor(Operation.TRANSACTIONS_CREATE).successes()).isPositive();
+        assertThat(fixtures.seededId(Resource.LANES)).isNotNull();
+    }
+
+    @Test
+    void whenCleanUp_thenDeletesCreatedTransactionsAndSeededFixtures() throws Exception {
+        LoadTestConfig config = config();
+        config.setMix(Map.of("transactions.create", 1));
+        HttpClient client = HttpClient.newHttpClient();
+        Fixtures fixtures = new Fixtures(config, client);
+        fixtures.seed();
+
+        LoadTestResult result = new LoadGenerator(config, client, fixtures).run();
+        fixtures.cleanUp();
+
+        long created = result.statsFor(Operation.TRANSACTIONS_CREATE).successes();
+        assertThat(requestsByMethod.get("DELETE").get()).isEqualTo((int) created + 4);
+    }
+
+    @Test
+    void whenBundledConfigsLoad_thenEveryMixKeyIsAnOperation() throws Exception {
+        for (String location : new String[]{"load-test.yml", "load-test-local.yml"}) {
+            LoadTestConfig config = LoadTestConfig.load(location);
+
+            new OperationMix(config.getMix());
+            assertThat(config.getMix()).isNotEmpty();
+        }
+    }
+}
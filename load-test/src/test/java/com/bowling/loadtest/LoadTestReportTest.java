@@ -0,0 +1,64 @@
+package com.bowling.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadTestReportTest {
+
+    private LoadTestResult result(long laneLatencyMillis, long transactionLatencyMillis, int errors) {
+        LoadTestResult result = new LoadTestResult(List.of(Operation.LANES_GET_BY_ID, Operation.TRANSACTIONS_CREATE));
+        for (int i = 0; i < 1000; i++) {
+            result.statsFor(Operation.LANES_GET_BY_ID).recordSuccess(TimeUnit.MILLISECONDS.toNanos(laneLatencyMillis));
+            result.statsFor(Operation.TRANSACTIONS_CREATE).recordSuccess(TimeUnit.MILLISECONDS.toNanos(transactionLatencyMillis));
+        }
+        for (int i = 0; i < errors; i++) {
+            result.statsFor(Operation.LANES_GET_BY_ID).recordError();
+        }
+        result.setElapsedSeconds(10);
+        return result;
+    }
+
+    private LoadTestConfig.Slo slo() {
+        LoadTestConfig.Slo slo = new LoadTestConfig.Slo();
+        slo.setDefaultP99Millis(100);
+        slo.setP99Millis(Map.of("transactions.create", 300));
+        slo.setMinThroughput(150);
+        slo.setMaxErrorRate(0.01);
+        return slo;
+    }
+
+    @Test
+    void whenAllWithinSlo_thenNoViolations() {
+        LoadTestReport report = new LoadTestReport(slo(), result(50, 250, 0));
+
+        assertThat(report.violations()).isEmpty();
+    }
+
+    @Test
+    void whenOperationP99ExceedsItsOverride_thenReportsThatOperation() {
+        LoadTestReport report = new LoadTestReport(slo(), result(50, 400, 0));
+
+        assertThat(report.violations())
+                .singleElement()
+                .asString()
+                .startsWith("transactions.create p99");
+    }
+
+    @Test
+    void whenThroughputAndErrorRateMissed_thenReportsBoth() {
+        LoadTestConfig.Slo slo = slo();
+        slo.setMinThroughput(500);
+
+        LoadTestReport report = new LoadTestReport(slo, result(50, 250, 100));
+
+        assertThat(report.violations())
+                .hasSize(2)
+                .anyMatch(v -> v.startsWith("throughput"))
+                .anyMatch(v -> v.startsWith("error rate"));
+    }
+}
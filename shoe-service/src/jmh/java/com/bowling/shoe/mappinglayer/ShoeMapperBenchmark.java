@@ -0,0 +1,55 @@
+package com.bowling.shoe.mappinglayer;
+
+import com.bowling.shoe.dataaccesslayer.Shoe;
+import com.bowling.shoe.dataaccesslayer.ShoeIdentifier;
+import com.bowling.shoe.dataaccesslayer.ShoeSize;
+import com.bowling.shoe.dataaccesslayer.ShoeStatus;
+import com.bowling.shoe.presentationlayer.ShoeRequestDTO;
+import com.bowling.shoe.presentationlayer.ShoeResponseDTO;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ShoeMapperBenchmark {
+
+    private final ShoeMapper mapper = Mappers.getMapper(ShoeMapper.class);
+
+    private Shoe entity;
+    private ShoeRequestDTO request;
+
+    @Setup
+    public void setup() {
+        entity = Shoe.builder()
+                .id(ShoeIdentifier.generate())
+                .size(ShoeSize.SIZE_9)
+                .purchaseDate(LocalDate.of(2024, 3, 1))
+                .status(ShoeStatus.AVAILABLE)
+                .build();
+        request = ShoeRequestDTO.builder()
+                .size(ShoeSize.SIZE_9)
+                .purchaseDate(LocalDate.of(2024, 3, 1))
+                .status(ShoeStatus.AVAILABLE)
+                .build();
+    }
+
+    @Benchmark
+    public ShoeResponseDTO toResponseDTO() {
+        return mapper.toResponseDTO(entity);
+    }
+
+    @Benchmark
+    public Shoe toEntity() {
+        return mapper.toEntity(request);
+    }
+}
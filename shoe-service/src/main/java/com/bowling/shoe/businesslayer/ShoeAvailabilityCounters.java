@@ -0,0 +1,162 @@
+package com.bowling.shoe.businesslayer;
+
+import com.bowling.shoe.dataaccesslayer.ShoeRepository;
+import com.bowling.shoe.dataaccesslayer.ShoeSize;
+import com.bowling.shoe.dataaccesslayer.ShoeStatus;
+import com.bowling.shoe.dataaccesslayer.ShoeStatusCount;
+import com.bowling.shoe.presentationlayer.ShoeAvailabilityResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+public class ShoeAvailabilityCounters {
+
+    private final ShoeRepository repository;
+    // Deltas share the read lock; snapshot and the reconcile swap take the write lock, so neither sees half a move.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private EnumMap<ShoeStatus, EnumMap<ShoeSize, LongAdder>> counters = emptyCounters();
+    // Non-null while a reconcile query runs: deltas landing meanwhile are replayed onto its result.
+    private EnumMap<ShoeStatus, EnumMap<ShoeSize, LongAdder>> pending;
+    private volatile boolean reconciled;
+
+    public ShoeAvailabilityCounters(ShoeRepository repository) {
+        this.repository = repository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        try {
+            reconcile();
+        } catch (DataAccessException | TransactionException ex) {
+            log.warn("Shoe availability counters not reconciled at startup, will retry on first read: {}", ex.getMessage());
+        }
+    }
+
+    // Heals any drift the write path missed; only a write between its commit and its delta as the pass starts can be off.
+    @Scheduled(initialDelayString = "${app.availability.reconcile-interval:5m}",
+            fixedDelayString = "${app.availability.reconcile-interval:5m}")
+    public void reconcilePeriodically() {
+        try {
+            reconcile();
+        } catch (DataAccessException | TransactionException ex) {
+            log.warn("Periodic shoe availability reconcile failed: {}", ex.getMessage());
+        }
+    }
+
+    public synchronized void reconcile() {
+        EnumMap<ShoeStatus, EnumMap<ShoeSize, LongAdder>> fresh = emptyCounters();
+        swap(() -> pending = emptyCounters());
+        List<ShoeStatusCount> counts;
+        try {
+            counts = repository.countBySizeAndStatus();
+        } catch (RuntimeException ex) {
+            swap(() -> pending = null);
+            throw ex;
+        }
+        for (ShoeStatusCount count : counts) {
+            if (count.getSize() != null && count.getStatus() != null) {
+                fresh.get(count.getStatus()).get(count.getSize()).add(count.getCount());
+            }
+        }
+        swap(() -> {
+            pending.forEach((status, bySize) ->
+                    bySize.forEach((size, delta) -> fresh.get(status).get(size).add(delta.sum())));
+            counters = fresh;
+            pending = null;
+        });
+        reconciled = true;
+    }
+
+    public void added(ShoeSize size, ShoeStatus status) {
+        adjust(size, status, 1);
+    }
+
+    public void removed(ShoeSize size, ShoeStatus status) {
+        adjust(size, status, -1);
+    }
+
+    public void moved(ShoeSize fromSize, ShoeStatus fromStatus, ShoeSize toSize, ShoeStatus toStatus) {
+        if (fromSize == toSize && fromStatus == toStatus) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            apply(fromSize, fromStatus, -1);
+            apply(toSize, toStatus, 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ShoeAvailabilityResponseDTO> snapshot() {
+        if (!reconciled) {
+            reconcile();
+        }
+        List<ShoeAvailabilityResponseDTO> availability = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            for (ShoeSize size : ShoeSize.values()) {
+                availability.add(ShoeAvailabilityResponseDTO.builder()
+                        .size(size)
+                        .available(counters.get(ShoeStatus.AVAILABLE).get(size).sum())
+                        .inUse(counters.get(ShoeStatus.IN_USE).get(size).sum())
+                        .build());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return availability;
+    }
+
+    private void adjust(ShoeSize size, ShoeStatus status, long delta) {
+        lock.readLock().lock();
+        try {
+            apply(size, status, delta);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(ShoeSize size, ShoeStatus status, long delta) {
+        if (size != null && status != null) {
+            counters.get(status).get(size).add(delta);
+            if (pending != null) {
+                pending.get(status).get(size).add(delta);
+            }
+        }
+    }
+
+    private void swap(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static EnumMap<ShoeStatus, EnumMap<ShoeSize, LongAdder>> emptyCounters() {
+        EnumMap<ShoeStatus, EnumMap<ShoeSize, LongAdder>> counters = new EnumMap<>(ShoeStatus.class);
+        for (ShoeStatus status : ShoeStatus.values()) {
+            EnumMap<ShoeSize, LongAdder> bySize = new EnumMap<>(ShoeSize.class);
+            for (ShoeSize size : ShoeSize.values()) {
+                bySize.put(size, new LongAdder());
+            }
+            counters.put(status, bySize);
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,58 @@
+package com.bowling.shoe.businesslayer;
+
+import com.bowling.bulkimport.BulkImporter;
+import com.bowling.shoe.dataaccesslayer.Shoe;
+import com.bowling.shoe.dataaccesslayer.ShoeIdentifier;
+import com.bowling.shoe.mappinglayer.ShoeMapper;
+import com.bowling.shoe.presentationlayer.ShoeRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Component
+public class ShoeBulkImporter extends BulkImporter<ShoeRequestDTO, Shoe> {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ShoeMapper mapper;
+    private final ShoeAvailabilityCounters availabilityCounters;
+
+    public ShoeBulkImporter(EntityManager entityManager,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            Validator validator,
+                            ShoeMapper mapper,
+                            ShoeAvailabilityCounters availabilityCounters,
+                            @Value("${app.bulk-import.batch-size:500}") int batchSize,
+                            @Value("${app.bulk-import.max-reported-errors:1000}") int maxReportedErrors) {
+        super(ShoeRequestDTO.class, objectMapper, validator, batchSize, maxReportedErrors);
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mapper = mapper;
+        this.availabilityCounters = availabilityCounters;
+    }
+
+    @Override
+    protected Shoe toEntity(ShoeRequestDTO request) {
+        return mapper.toEntity(request)
+                .toBuilder()
+                .id(ShoeIdentifier.generate())
+                .build();
+    }
+
+    @Override
+    protected void insert(List<Shoe> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            rows.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        });
+        rows.forEach(shoe -> availabilityCounters.added(shoe.getSize(), shoe.getStatus()));
+    }
+}
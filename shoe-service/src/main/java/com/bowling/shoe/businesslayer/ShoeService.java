@@ -1,19 +1,33 @@
 package com.bowling.shoe.businesslayer;
 
+import com.bowling.bulkimport.ImportFormat;
+import com.bowling.bulkimport.ImportResponseDTO;
+import com.bowling.shoe.presentationlayer.ShoeAvailabilityResponseDTO;
 import com.bowling.shoe.presentationlayer.ShoeRequestDTO;
 import com.bowling.shoe.presentationlayer.ShoeResponseDTO;
 
+import java.io.InputStream;
 import java.util.List;
 
 public interface ShoeService {
 
     ShoeResponseDTO create(ShoeRequestDTO request);
 
+    ImportResponseDTO importShoes(InputStream body, ImportFormat format);
+
     ShoeResponseDTO getById(String id);
 
     List<ShoeResponseDTO> getAll();
 
+    List<ShoeResponseDTO> getByIds(List<String> ids);
+
+    List<ShoeAvailabilityResponseDTO> getAvailability();
+
     ShoeResponseDTO update(String id, ShoeRequestDTO request);
 
     void delete(String id);
+
+    void reserve(String id);
+
+    void release(String id);
 }
@@ -1,24 +1,40 @@
 package com.bowling.shoe.businesslayer;
 
+import com.bowling.bulkimport.ImportFormat;
+import com.bowling.bulkimport.ImportResponseDTO;
 import com.bowling.shoe.dataaccesslayer.Shoe;
 import com.bowling.shoe.dataaccesslayer.ShoeIdentifier;
 import com.bowling.shoe.dataaccesslayer.ShoeRepository;
+import com.bowling.shoe.dataaccesslayer.ShoeSize;
+import com.bowling.shoe.dataaccesslayer.ShoeStatus;
+import com.bowling.shoe.exceptionlayer.ShoeConcurrentUpdateException;
 import com.bowling.shoe.exceptionlayer.ShoeNotFoundException;
+import com.bowling.shoe.exceptionlayer.ShoeStatusConflictException;
 import com.bowling.shoe.mappinglayer.ShoeMapper;
+import com.bowling.shoe.presentationlayer.ShoeAvailabilityResponseDTO;
 import com.bowling.shoe.presentationlayer.ShoeRequestDTO;
 import com.bowling.shoe.presentationlayer.ShoeResponseDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ShoeServiceImpl implements ShoeService {
 
+    // A guarded write only misses when another write lands between our read and it; retry a few times, then 409.
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
     private final ShoeRepository repository;
     private final ShoeMapper mapper;
+    private final ShoeAvailabilityCounters availabilityCounters;
+    private final ShoeBulkImporter bulkImporter;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public ShoeResponseDTO create(ShoeRequestDTO request) {
@@ -27,7 +43,14 @@ public class ShoeServiceImpl implements ShoeService {
                 .id(ShoeIdentifier.generate())
                 .build();
 
-        return mapper.toResponseDTO(repository.save(shoe));
+        Shoe saved = repository.save(shoe);
+        availabilityCounters.added(saved.getSize(), saved.getStatus());
+        return mapper.toResponseDTO(saved);
+    }
+
+    @Override
+    public ImportResponseDTO importShoes(InputStream body, ImportFormat format) {
+        return bulkImporter.importRows(body, format);
     }
 
     @Override
@@ -45,22 +68,79 @@ public class ShoeServiceImpl implements ShoeService {
     }
 
     @Override
-    public ShoeResponseDTO update(String id, ShoeRequestDTO request) {
-        Shoe existing = repository.findById(ShoeIdentifier.fromString(id))
-                .orElseThrow(() -> new ShoeNotFoundException(id));
+    public List<ShoeResponseDTO> getByIds(List<String> ids) {
+        List<ShoeIdentifier> identifiers = ids.stream()
+                .distinct()
+                .map(ShoeIdentifier::fromString)
+                .collect(Collectors.toList());
 
-        existing.setSize(request.getSize());
-        existing.setPurchaseDate(request.getPurchaseDate());
-        existing.setStatus(request.getStatus());
+        return repository.findAllById(identifiers).stream()
+                .map(mapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
 
-        return mapper.toResponseDTO(repository.save(existing));
+    @Override
+    public List<ShoeAvailabilityResponseDTO> getAvailability() {
+        return availabilityCounters.snapshot();
+    }
+
+    @Override
+    public ShoeResponseDTO update(String id, ShoeRequestDTO request) {
+        ShoeIdentifier identifier = ShoeIdentifier.fromString(id);
+        for (int attempt = 0; attempt < MAX_WRITE_ATTEMPTS; attempt++) {
+            Shoe existing = repository.findById(identifier)
+                    .orElseThrow(() -> new ShoeNotFoundException(id));
+            if (repository.updateIfUnchanged(identifier, existing.getSize(), existing.getStatus(),
+                    request.getSize(), request.getPurchaseDate(), request.getStatus()) == 1) {
+                availabilityCounters.moved(existing.getSize(), existing.getStatus(),
+                        request.getSize(), request.getStatus());
+                return mapper.toResponseDTO(existing.toBuilder()
+                        .size(request.getSize())
+                        .purchaseDate(request.getPurchaseDate())
+                        .status(request.getStatus())
+                        .build());
+            }
+        }
+        throw new ShoeConcurrentUpdateException(id);
     }
 
     @Override
     public void delete(String id) {
-        if (repository.findById(ShoeIdentifier.fromString(id)).isEmpty()) {
-            throw new ShoeNotFoundException(id);
+        ShoeIdentifier identifier = ShoeIdentifier.fromString(id);
+        for (int attempt = 0; attempt < MAX_WRITE_ATTEMPTS; attempt++) {
+            Shoe existing = repository.findById(identifier)
+                    .orElseThrow(() -> new ShoeNotFoundException(id));
+            if (repository.deleteIfUnchanged(identifier, existing.getSize(), existing.getStatus()) == 1) {
+                availabilityCounters.removed(existing.getSize(), existing.getStatus());
+                return;
+            }
+        }
+        throw new ShoeConcurrentUpdateException(id);
+    }
+
+    @Override
+    public void reserve(String id) {
+        transition(id, ShoeStatus.AVAILABLE, ShoeStatus.IN_USE);
+    }
+
+    @Override
+    public void release(String id) {
+        transition(id, ShoeStatus.IN_USE, ShoeStatus.AVAILABLE);
+    }
+
+    private void transition(String id, ShoeStatus from, ShoeStatus to) {
+        ShoeIdentifier identifier = ShoeIdentifier.fromString(id);
+        // The UPDATE holds the row lock until commit, so the size read back with it is the one that moved.
+        Optional<ShoeSize> size = transactionTemplate.execute(status ->
+                repository.transitionStatus(identifier, from, to) == 0
+                        ? Optional.<ShoeSize>empty()
+                        : repository.findById(identifier).map(Shoe::getSize));
+        if (size.isEmpty()) {
+            if (!repository.existsById(identifier)) {
+                throw new ShoeNotFoundException(id);
+            }
+            throw new ShoeStatusConflictException(id, from);
         }
-        repository.deleteById(ShoeIdentifier.fromString(id));
+        availabilityCounters.moved(size.get(), from, size.get(), to);
     }
 }
@@ -2,10 +2,44 @@ package com.bowling.shoe.dataaccesslayer;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
 
 
 @Repository
 public interface ShoeRepository extends JpaRepository<Shoe, ShoeIdentifier> {
 
-}
\ No newline at end of file
+    @Query("SELECT s.size AS size, s.status AS status, COUNT(s) AS count FROM Shoe s GROUP BY s.size, s.status")
+    List<ShoeStatusCount> countBySizeAndStatus();
+
+    // Compare-and-set on status: returns 0 when the shoe is missing or not currently in the expected status.
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Shoe s SET s.status = :to WHERE s.id = :id AND s.status = :from")
+    int transitionStatus(@Param("id") ShoeIdentifier id, @Param("from") ShoeStatus from, @Param("to") ShoeStatus to);
+
+    // Guarded on the size and status the caller read: 0 rows means a concurrent write got there first.
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Shoe s SET s.size = :size, s.purchaseDate = :purchaseDate, s.status = :status " +
+            "WHERE s.id = :id AND s.size = :expectedSize AND s.status = :expectedStatus")
+    int updateIfUnchanged(@Param("id") ShoeIdentifier id,
+                          @Param("expectedSize") ShoeSize expectedSize,
+                          @Param("expectedStatus") ShoeStatus expectedStatus,
+                          @Param("size") ShoeSize size,
+                          @Param("purchaseDate") LocalDate purchaseDate,
+                          @Param("status") ShoeStatus status);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Shoe s WHERE s.id = :id AND s.size = :expectedSize AND s.status = :expectedStatus")
+    int deleteIfUnchanged(@Param("id") ShoeIdentifier id,
+                          @Param("expectedSize") ShoeSize expectedSize,
+                          @Param("expectedStatus") ShoeStatus expectedStatus);
+}
@@ -0,0 +1,10 @@
+package com.bowling.shoe.dataaccesslayer;
+
+public interface ShoeStatusCount {
+
+    ShoeSize getSize();
+
+    ShoeStatus getStatus();
+
+    long getCount();
+}
@@ -24,6 +24,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler({ShoeStatusConflictException.class, ShoeConcurrentUpdateException.class})
+    public ResponseEntity<Map<String, Object>> handleStatusConflict(RuntimeException ex, HttpServletRequest request) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("message", ex.getMessage());
+        error.put("timestamp", LocalDateTime.now().toString());
+        error.put("path", request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<Map<String, Object>> handleEnumConversion(HttpMessageNotReadableException ex, HttpServletRequest request) {
         String fullMessage = ex.getMessage();
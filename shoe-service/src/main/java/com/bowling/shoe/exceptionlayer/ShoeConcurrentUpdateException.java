@@ -0,0 +1,8 @@
+package com.bowling.shoe.exceptionlayer;
+
+public class ShoeConcurrentUpdateException extends RuntimeException {
+
+    public ShoeConcurrentUpdateException(String id) {
+        super("Shoe " + id + " is being changed concurrently, retry the request");
+    }
+}
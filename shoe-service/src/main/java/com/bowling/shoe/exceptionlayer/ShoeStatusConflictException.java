@@ -0,0 +1,10 @@
+package com.bowling.shoe.exceptionlayer;
+
+import com.bowling.shoe.dataaccesslayer.ShoeStatus;
+
+public class ShoeStatusConflictException extends RuntimeException {
+
+    public ShoeStatusConflictException(String id, ShoeStatus expected) {
+        super("Shoe " + id + " is not " + expected);
+    }
+}
@@ -0,0 +1,15 @@
+package com.bowling.shoe.presentationlayer;
+
+import com.bowling.shoe.dataaccesslayer.ShoeSize;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShoeAvailabilityResponseDTO {
+
+    private ShoeSize size;
+    private long available;
+    private long inUse;
+}
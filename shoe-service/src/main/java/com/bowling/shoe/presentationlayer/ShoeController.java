@@ -1,12 +1,17 @@
 package com.bowling.shoe.presentationlayer;
 
+import com.bowling.bulkimport.ImportFormat;
+import com.bowling.bulkimport.ImportResponseDTO;
 import com.bowling.shoe.businesslayer.ShoeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -22,6 +27,18 @@ public class ShoeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // Read straight from the request stream so an upload of any size is never held in memory.
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    public ResponseEntity<ImportResponseDTO> importShoes(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                         InputStream body) {
+        return ResponseEntity.ok(shoeService.importShoes(body, ImportFormat.of(contentType)));
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<List<ShoeAvailabilityResponseDTO>> getAvailability() {
+        return ResponseEntity.ok(shoeService.getAvailability());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ShoeResponseDTO> getShoe(@PathVariable String id) {
         ShoeResponseDTO response = shoeService.getById(id);
@@ -33,6 +50,11 @@ public class ShoeController {
         return ResponseEntity.ok(shoeService.getAll());
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<ShoeResponseDTO>> getShoesByIds(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(shoeService.getByIds(ids));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ShoeResponseDTO> updateShoe(@PathVariable String id,
                                                       @Valid @RequestBody ShoeRequestDTO request) {
@@ -40,6 +62,18 @@ public class ShoeController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/{id}/reserve")
+    public ResponseEntity<Void> reserveShoe(@PathVariable String id) {
+        shoeService.reserve(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/release")
+    public ResponseEntity<Void> releaseShoe(@PathVariable String id) {
+        shoeService.release(id);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteShoe(@PathVariable String id) {
         shoeService.delete(id);
@@ -0,0 +1,114 @@
+package com.bowling.shoe.businesslayer;
+
+import com.bowling.shoe.dataaccesslayer.ShoeRepository;
+import com.bowling.shoe.dataaccesslayer.ShoeSize;
+import com.bowling.shoe.dataaccesslayer.ShoeStatus;
+import com.bowling.shoe.dataaccesslayer.ShoeStatusCount;
+import com.bowling.shoe.presentationlayer.ShoeAvailabilityResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShoeAvailabilityCountersUnitTest {
+
+    private ShoeRepository repository;
+    private ShoeAvailabilityCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ShoeRepository.class);
+        counters = new ShoeAvailabilityCounters(repository);
+    }
+
+    @Test
+    void whenDeltaLandsWhileReconcileQueryRuns_thenItIsKeptOnTopOfTheQueriedCounts() throws Exception {
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch deltaApplied = new CountDownLatch(1);
+        when(repository.countBySizeAndStatus()).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            deltaApplied.await(5, TimeUnit.SECONDS);
+            return List.of(count(ShoeSize.SIZE_9, ShoeStatus.AVAILABLE, 10));
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> reconcile = executor.submit(counters::reconcile);
+            queryStarted.await(5, TimeUnit.SECONDS);
+            counters.moved(ShoeSize.SIZE_9, ShoeStatus.AVAILABLE, ShoeSize.SIZE_9, ShoeStatus.IN_USE);
+            deltaApplied.countDown();
+            reconcile.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ShoeAvailabilityResponseDTO size9 = size9(counters.snapshot());
+        assertEquals(9, size9.getAvailable());
+        assertEquals(1, size9.getInUse());
+    }
+
+    @Test
+    void whenReconcilingWhileShoesMove_thenEverySnapshotKeepsTheTotal() throws Exception {
+        when(repository.countBySizeAndStatus()).thenReturn(List.of(count(ShoeSize.SIZE_9, ShoeStatus.AVAILABLE, 10)));
+        counters.reconcile();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<?> mover = executor.submit(() -> {
+                while (running.get()) {
+                    counters.moved(ShoeSize.SIZE_9, ShoeStatus.AVAILABLE, ShoeSize.SIZE_9, ShoeStatus.IN_USE);
+                    counters.moved(ShoeSize.SIZE_9, ShoeStatus.IN_USE, ShoeSize.SIZE_9, ShoeStatus.AVAILABLE);
+                }
+            });
+            Future<?> reconciler = executor.submit(() -> {
+                while (running.get()) {
+                    counters.reconcile();
+                }
+            });
+            for (int i = 0; i < 10_000; i++) {
+                ShoeAvailabilityResponseDTO size9 = size9(counters.snapshot());
+                assertEquals(10, size9.getAvailable() + size9.getInUse());
+            }
+            running.set(false);
+            mover.get(5, TimeUnit.SECONDS);
+            reconciler.get(5, TimeUnit.SECONDS);
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    private static ShoeAvailabilityResponseDTO size9(List<ShoeAvailabilityResponseDTO> snapshot) {
+        return snapshot.stream().filter(entry -> entry.getSize() == ShoeSize.SIZE_9).findFirst().orElseThrow();
+    }
+
+    private static ShoeStatusCount count(ShoeSize size, ShoeStatus status, long count) {
+        return new ShoeStatusCount() {
+            @Override
+            public ShoeSize getSize() {
+                return size;
+            }
+
+            @Override
+            public ShoeStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -138,4 +138,46 @@ class ShoeRepositoryIntegrationTest {
         assertThat(id1).isNotEqualTo("not-an-id");
         assertThat(id1).isEqualTo(id1);
     }
+
+    @Test
+    void whenCountingBySizeAndStatus_thenGroupsMatchingShoes() {
+        shoeRepository.save(new Shoe(ShoeIdentifier.generate(), ShoeSize.SIZE_8, LocalDate.now(), ShoeStatus.AVAILABLE));
+        shoeRepository.save(new Shoe(ShoeIdentifier.generate(), ShoeSize.SIZE_8, LocalDate.now(), ShoeStatus.AVAILABLE));
+        shoeRepository.save(new Shoe(ShoeIdentifier.generate(), ShoeSize.SIZE_8, LocalDate.now(), ShoeStatus.IN_USE));
+
+        List<ShoeStatusCount> counts = shoeRepository.countBySizeAndStatus();
+
+        assertEquals(2, counts.size());
+        ShoeStatusCount available = counts.stream()
+                .filter(count -> count.getStatus() == ShoeStatus.AVAILABLE)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(ShoeSize.SIZE_8, available.getSize());
+        assertEquals(2, available.getCount());
+    }
+
+    @Test
+    void whenTransitioningStatus_thenOnlyTheFirstMatchingUpdateApplies() {
+        ShoeIdentifier id = ShoeIdentifier.generate();
+        shoeRepository.save(new Shoe(id, ShoeSize.SIZE_9, LocalDate.now(), ShoeStatus.AVAILABLE));
+
+        assertEquals(1, shoeRepository.transitionStatus(id, ShoeStatus.AVAILABLE, ShoeStatus.IN_USE));
+        assertEquals(0, shoeRepository.transitionStatus(id, ShoeStatus.AVAILABLE, ShoeStatus.IN_USE));
+        assertEquals(ShoeStatus.IN_USE, shoeRepository.findById(id).orElseThrow().getStatus());
+    }
+
+    @Test
+    void whenGuardedWriteSeesStaleState_thenNothingChanges() {
+        ShoeIdentifier id = ShoeIdentifier.generate();
+        shoeRepository.save(new Shoe(id, ShoeSize.SIZE_9, LocalDate.now(), ShoeStatus.IN_USE));
+
+        assertEquals(0, shoeRepository.updateIfUnchanged(id, ShoeSize.SIZE_9, ShoeStatus.AVAILABLE,
+                ShoeSize.SIZE_10, LocalDate.now(), ShoeStatus.AVAILABLE));
+        assertEquals(0, shoeRepository.deleteIfUnchanged(id, ShoeSize.SIZE_8, ShoeStatus.IN_USE));
+        assertEquals(1, shoeRepository.updateIfUnchanged(id, ShoeSize.SIZE_9, ShoeStatus.IN_USE,
+                ShoeSize.SIZE_10, LocalDate.now(), ShoeStatus.AVAILABLE));
+        assertEquals(ShoeSize.SIZE_10, shoeRepository.findById(id).orElseThrow().getSize());
+        assertEquals(1, shoeRepository.deleteIfUnchanged(id, ShoeSize.SIZE_10, ShoeStatus.AVAILABLE));
+        assertFalse(shoeRepository.existsById(id));
+    }
 }
@@ -1,5 +1,7 @@
 package com.bowling.shoe.presentationlayer;
 
+import com.bowling.bulkimport.ImportResponseDTO;
+import com.bowling.bulkimport.ImportRowErrorDTO;
 import com.bowling.shoe.dataaccesslayer.ShoeSize;
 import com.bowling.shoe.dataaccesslayer.ShoeStatus;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,7 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -64,6 +67,214 @@ public class ShoeControllerIntegrationTest {
                 .jsonPath("$.message").isEqualTo("Shoe not found with ID: " + INVALID_ID);
     }
 
+    @Test
+    void whenBatchLookup_thenReturnOnlyExistingShoes() {
+        String otherId = "7494c495-ac16-449f-8e6c-64b3d61a3e0a";
+
+        webTestClient.post()
+                .uri("/shoes/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(VALID_ID, otherId, VALID_ID, INVALID_ID))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ShoeResponseDTO.class)
+                .value(shoes -> assertThat(shoes)
+                        .extracting(ShoeResponseDTO::getId)
+                        .containsExactlyInAnyOrder(VALID_ID, otherId));
+    }
+
+    @Test
+    void whenAvailabilityRequested_thenReturnCountsForEverySize() {
+        webTestClient.get()
+                .uri("/shoes/availability")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ShoeAvailabilityResponseDTO.class)
+                .value(availability -> {
+                    assertThat(availability).hasSize(ShoeSize.values().length);
+                    assertThat(availability).contains(
+                            new ShoeAvailabilityResponseDTO(ShoeSize.SIZE_8, 1, 0),
+                            new ShoeAvailabilityResponseDTO(ShoeSize.SIZE_9, 0, 1),
+                            new ShoeAvailabilityResponseDTO(ShoeSize.SIZE_12, 0, 0));
+                });
+    }
+
+    @Test
+    void whenShoesAreWritten_thenAvailabilityFollows() {
+        webTestClient.post()
+                .uri("/shoes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ShoeRequestDTO.builder()
+                        .size(ShoeSize.SIZE_8)
+                        .purchaseDate(LocalDate.of(2024, 4, 10))
+                        .status(ShoeStatus.AVAILABLE)
+                        .build())
+                .exchange()
+                .expectStatus().isCreated();
+        webTestClient.put()
+                .uri("/shoes/{id}", VALID_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ShoeRequestDTO.builder()
+                        .size(ShoeSize.SIZE_8)
+                        .purchaseDate(LocalDate.of(2021, 1, 10))
+                        .status(ShoeStatus.IN_USE)
+                        .build())
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.delete()
+                .uri("/shoes/{id}", "7494c495-ac16-449f-8e6c-64b3d61a3e0a")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get()
+                .uri("/shoes/availability")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ShoeAvailabilityResponseDTO.class)
+                .value(availability -> assertThat(availability).contains(
+                        new ShoeAvailabilityResponseDTO(ShoeSize.SIZE_8, 1, 1),
+                        new ShoeAvailabilityResponseDTO(ShoeSize.SIZE_9, 0, 0)));
+    }
+
+    @Test
+    void whenShoeIsDeletedTwice_thenSecondIsNotFoundAndCountedOnce() {
+        webTestClient.delete()
+                .uri("/shoes/{id}", VALID_ID)
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.delete()
+                .uri("/shoes/{id}", VALID_ID)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.get()
+                .uri("/shoes/availability")
+                .exchange()
+                .expectBodyList(ShoeAvailabilityResponseDTO.class)
+                .value(availability -> assertThat(availability)
+                        .contains(new ShoeAvailabilityResponseDTO(ShoeSize.SIZE_8, 0, 0)));
+    }
+
+    @Test
+    void whenImportingNdjson_thenValidRowsAreInsertedAndBadRowsReported() {
+        String upload = """
+                {"size":"SIZE_12","purchaseDate":"2024-01-01","status":"AVAILABLE"}
+                {"size":"SIZE_12","purchaseDate":"2024-01-01","status":"AVAILABLE"}
+                {not json
+                {"size":"SIZE_99","purchaseDate":"2024-01-01","status":"AVAILABLE"}
+
+                {"size":"SIZE_12","purchaseDate":"2024-01-01"}
+                {"size":"SIZE_12","purchaseDate":"2024-01-01","status":"IN_USE"}
+                """;
+
+        webTestClient.post()
+                .uri("/shoes/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(upload)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ImportResponseDTO.class)
+                .value(report -> {
+                    assertThat(report.getImported()).isEqualTo(3);
+                    assertThat(report.getFailed()).isEqualTo(3);
+                    assertThat(report.isErrorsTruncated()).isFalse();
+                    assertThat(report.getErrors()).containsExactly(
+                            new ImportRowErrorDTO(3, "Row is not valid JSON."),
+                            new ImportRowErrorDTO(4, "Invalid value for size."),
+                            new ImportRowErrorDTO(6, "status: must not be null"));
+                });
+
+        webTestClient.get()
+                .uri("/shoes")
+                .exchange()
+                .expectBodyList(ShoeResponseDTO.class)
+                .value(shoes -> assertThat(shoes).hasSize(8));
+        webTestClient.get()
+                .uri("/shoes/availability")
+                .exchange()
+                .expectBodyList(ShoeAvailabilityResponseDTO.class)
+                .value(availability -> assertThat(availability)
+                        .contains(new ShoeAvailabilityResponseDTO(ShoeSize.SIZE_12, 2, 1)));
+    }
+
+    @Test
+    void whenImportingCsv_thenColumnsAreMatchedByHeader() {
+        String upload = """
+                status,size,purchaseDate
+                AVAILABLE,SIZE_11,2024-02-02
+                "IN_USE","SIZE_11","2024-02-03"
+                AVAILABLE,SIZE_11
+                """;
+
+        webTestClient.post()
+                .uri("/shoes/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(upload)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ImportResponseDTO.class)
+                .value(report -> {
+                    assertThat(report.getImported()).isEqualTo(2);
+                    assertThat(report.getErrors()).containsExactly(
+                            new ImportRowErrorDTO(4, "Expected 3 columns but found 2."));
+                });
+
+        webTestClient.get()
+                .uri("/shoes/availability")
+                .exchange()
+                .expectBodyList(ShoeAvailabilityResponseDTO.class)
+                .value(availability -> assertThat(availability)
+                        .contains(new ShoeAvailabilityResponseDTO(ShoeSize.SIZE_11, 1, 1)));
+    }
+
+    @Test
+    void whenShoeIsReservedThenReleased_thenAvailabilityFollowsAndRepeatsConflict() {
+        webTestClient.post()
+                .uri("/shoes/{id}/reserve", VALID_ID)
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.post()
+                .uri("/shoes/{id}/reserve", VALID_ID)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Shoe " + VALID_ID + " is not AVAILABLE");
+
+        webTestClient.get()
+                .uri("/shoes/availability")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ShoeAvailabilityResponseDTO.class)
+                .value(availability -> assertThat(availability)
+                        .contains(new ShoeAvailabilityResponseDTO(ShoeSize.SIZE_8, 0, 1)));
+
+        webTestClient.post()
+                .uri("/shoes/{id}/release", VALID_ID)
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.post()
+                .uri("/shoes/{id}/release", VALID_ID)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        webTestClient.get()
+                .uri("/shoes/{id}", VALID_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ShoeResponseDTO.class)
+                .value(shoe -> assertThat(shoe.getStatus()).isEqualTo(ShoeStatus.AVAILABLE));
+    }
+
+    @Test
+    void whenReservingNonexistentShoe_thenReturnNotFound() {
+        webTestClient.post()
+                .uri("/shoes/{id}/reserve", INVALID_ID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Shoe not found with ID: " + INVALID_ID);
+    }
+
     @Test
     void whenCreateValidShoe_thenShoeIsCreated() {
         ShoeRequestDTO newShoe = ShoeRequestDTO.builder()
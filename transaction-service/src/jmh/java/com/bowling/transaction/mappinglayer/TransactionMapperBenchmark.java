@@ -0,0 +1,64 @@
+package com.bowling.transaction.mappinglayer;
+
+import com.bowling.transaction.dataaccesslayer.Transaction;
+import com.bowling.transaction.dataaccesslayer.TransactionIdentifier;
+import com.bowling.transaction.dataaccesslayer.TransactionStatus;
+import com.bowling.transaction.presentationlayer.TransactionRequestDTO;
+import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionMapperBenchmark {
+
+    private final TransactionMapper mapper = Mappers.getMapper(TransactionMapper.class);
+
+    private Transaction entity;
+    private TransactionRequestDTO request;
+
+    @Setup
+    public void setup() {
+        entity = Transaction.builder()
+                .id("665f1c2e8b3e4a1d2c3b4a59")
+                .transactionIdentifier(TransactionIdentifier.generate())
+                .customerName("Jane Doe")
+                .laneId(UUID.randomUUID().toString())
+                .bowlingBallId(UUID.randomUUID().toString())
+                .shoeId(UUID.randomUUID().toString())
+                .laneZone("A")
+                .totalPrice(new BigDecimal("25.50"))
+                .dateCompleted(Instant.parse("2025-04-01T18:30:00Z"))
+                .status(TransactionStatus.COMPLETED)
+                .build();
+        request = TransactionRequestDTO.builder()
+                .customerName("Jane Doe")
+                .laneId(UUID.randomUUID().toString())
+                .bowlingBallId(UUID.randomUUID().toString())
+                .shoeId(UUID.randomUUID().toString())
+                .status(TransactionStatus.OPEN)
+                .build();
+    }
+
+    @Benchmark
+    public TransactionResponseDTO toResponseDTO() {
+        return mapper.toResponseDTO(entity);
+    }
+
+    @Benchmark
+    public Transaction toEntity() {
+        return mapper.toEntity(request);
+    }
+}
@@ -0,0 +1,72 @@
+package com.bowling.transaction.presentationlayer;
+
+import com.bowling.transaction.dataaccesslayer.TransactionStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionResponseSerializationBenchmark {
+
+    @Param({"1", "1000"})
+    private int size;
+
+    // Same builder Spring Boot starts from, so registered modules match the running service.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private TransactionResponseDTO single;
+    private List<TransactionResponseDTO> list;
+    private byte[] listJson;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        list = IntStream.range(0, size)
+                .mapToObj(i -> TransactionResponseDTO.builder()
+                        .transactionId(UUID.randomUUID().toString())
+                        .customerName("Customer " + i)
+                        .laneId(UUID.randomUUID().toString())
+                        .bowlingBallId(UUID.randomUUID().toString())
+                        .shoeId(UUID.randomUUID().toString())
+                        .laneZone("A")
+                        .totalPrice(new BigDecimal("25.50"))
+                        .dateCompleted(Instant.parse("2025-04-01T18:30:00Z"))
+                        .status(TransactionStatus.COMPLETED)
+                        .build())
+                .toList();
+        single = list.get(0);
+        listJson = objectMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public byte[] serializeOne() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public TransactionResponseDTO[] deserializeList() throws IOException {
+        return objectMapper.readValue(listJson, TransactionResponseDTO[].class);
+    }
+}
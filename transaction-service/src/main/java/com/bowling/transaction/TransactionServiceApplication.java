@@ -1,12 +1,20 @@
 package com.bowling.transaction;
 
+import com.bowling.transaction.domainclientlayer.DownstreamMetrics;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 
 @EnableConfigurationProperties
 @SpringBootApplication(exclude = {DataSourceAutoConfiguration.class})
@@ -17,7 +25,19 @@ public class TransactionServiceApplication {
 	}
 
 	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
+	public RestTemplate restTemplate(@Value("${app.dependency-validation.timeout:2s}") Duration timeout,
+									 ObjectProvider<DownstreamMetrics> downstreamMetrics,
+									 ObjectProvider<ObservationRegistry> observationRegistry) {
+		// The JDK client aborts the exchange when its thread is interrupted, so a cancelled lookup stops waiting at once.
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(timeout)
+				.build());
+		requestFactory.setReadTimeout(timeout);
+		RestTemplate restTemplate = new RestTemplate(requestFactory);
+		downstreamMetrics.ifAvailable(restTemplate.getInterceptors()::add);
+		// Built by hand rather than from RestTemplateBuilder, so opt in to client observations (traceparent, spans).
+		observationRegistry.ifAvailable(restTemplate::setObservationRegistry);
+		return restTemplate;
 	}
 }
@@ -0,0 +1,81 @@
+package com.bowling.transaction.businesslayer;
+
+import com.bowling.transaction.dataaccesslayer.Transaction;
+import com.bowling.transaction.dataaccesslayer.TransactionRepository;
+import com.bowling.transaction.dataaccesslayer.TransactionStatus;
+import com.bowling.transaction.mappinglayer.TransactionMapper;
+import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionExporter {
+
+    static final String CSV_HEADER =
+            "transactionId,customerName,laneId,bowlingBallId,shoeId,laneZone,totalPrice,dateCompleted,status";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final ObjectMapper objectMapper;
+
+    // Rows are written as the cursor yields them; only the current row and the write buffer are in memory.
+    public void export(ExportFormat format, LocalDate from, LocalDate to, TransactionStatus status,
+                       OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        ObjectWriter json = objectMapper.writerFor(TransactionResponseDTO.class);
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<Transaction> transactions = transactionRepository.streamForExport(
+                from != null ? from.atStartOfDay(ZoneOffset.UTC).toInstant() : null,
+                to != null ? to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant() : null,
+                status)) {
+            Iterator<Transaction> rows = transactions.iterator();
+            while (rows.hasNext()) {
+                TransactionResponseDTO row = transactionMapper.toResponseDTO(rows.next());
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(json.writeValueAsString(row));
+                }
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private static void writeCsv(Writer writer, TransactionResponseDTO row) throws IOException {
+        Object[] values = {row.getTransactionId(), row.getCustomerName(), row.getLaneId(), row.getBowlingBallId(),
+                row.getShoeId(), row.getLaneZone(), row.getTotalPrice(), row.getDateCompleted(), row.getStatus()};
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(Objects.toString(values[i], "")));
+        }
+    }
+
+    static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
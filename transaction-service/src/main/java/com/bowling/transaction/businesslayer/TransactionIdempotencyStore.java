@@ -0,0 +1,182 @@
+package com.bowling.transaction.businesslayer;
+
+import com.bowling.transaction.config.IdempotencyConfig;
+import com.bowling.transaction.dataaccesslayer.IdempotencyRecord;
+import com.bowling.transaction.dataaccesslayer.IdempotencyRecordRepository;
+import com.bowling.transaction.dataaccesslayer.TransactionIdentifier;
+import com.bowling.transaction.exceptionlayer.IdempotencyConflictException;
+import com.bowling.transaction.exceptionlayer.InvalidInputException;
+import com.bowling.transaction.presentationlayer.TransactionRequestDTO;
+import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class TransactionIdempotencyStore {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository records;
+    private final Duration pendingTimeout;
+    // Holds the in-flight execution too, so concurrent duplicates on this instance wait on it instead of racing.
+    private final Cache<String, CompletableFuture<Outcome>> outcomes;
+
+    public TransactionIdempotencyStore(IdempotencyRecordRepository records, IdempotencyConfig config) {
+        this.records = records;
+        this.pendingTimeout = config.getPendingTimeout();
+        this.outcomes = Caffeine.newBuilder()
+                .expireAfterWrite(config.getReplayTtl())
+                .maximumSize(config.getReplayMaximumSize())
+                .build();
+    }
+
+    // create is handed the transaction id reserved with the claim; findCreated looks that id up.
+    public TransactionResponseDTO createOnce(String key,
+                                             TransactionRequestDTO request,
+                                             Function<String, TransactionResponseDTO> create,
+                                             Function<String, Optional<TransactionResponseDTO>> findCreated) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidInputException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters.");
+        }
+        String fingerprint = fingerprint(request);
+
+        CompletableFuture<Outcome> mine = new CompletableFuture<>();
+        CompletableFuture<Outcome> running = outcomes.asMap().putIfAbsent(key, mine);
+        if (running != null) {
+            return replay(key, fingerprint, await(running));
+        }
+
+        try {
+            Outcome outcome = claimAndRun(key, fingerprint, create, findCreated);
+            mine.complete(outcome);
+            return replay(key, fingerprint, outcome);
+        } catch (RuntimeException ex) {
+            // Failures are not remembered: the waiters see this error, and the next retry runs afresh.
+            outcomes.asMap().remove(key, mine);
+            mine.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private Outcome claimAndRun(String key,
+                                String fingerprint,
+                                Function<String, TransactionResponseDTO> create,
+                                Function<String, Optional<TransactionResponseDTO>> findCreated) {
+        Instant claimedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        String transactionId = TransactionIdentifier.generate().getId();
+        try {
+            records.insert(IdempotencyRecord.builder()
+                    .key(key)
+                    .requestFingerprint(fingerprint)
+                    .transactionId(transactionId)
+                    .createdAt(claimedAt)
+                    .build());
+        } catch (DuplicateKeyException ex) {
+            IdempotencyRecord existing = records.findById(key).orElseThrow(TransactionIdempotencyStore::stillRunning);
+            if (!existing.getRequestFingerprint().equals(fingerprint)) {
+                throw reusedKey(key);
+            }
+            if (existing.getResponse() != null) {
+                return new Outcome(fingerprint, existing.getResponse());
+            }
+            if (!isAbandoned(existing)) {
+                throw stillRunning();
+            }
+            // The run that left this claim may have created the transaction and failed only to record it.
+            Optional<TransactionResponseDTO> landed = findCreated.apply(existing.getTransactionId());
+            if (landed.isPresent()) {
+                records.complete(key, existing.getCreatedAt(), landed.get());
+                return new Outcome(fingerprint, landed.get());
+            }
+            if (!records.takeOver(key, existing.getCreatedAt(), claimedAt)) {
+                throw stillRunning();
+            }
+            // Keeps the reserved id, so if the old run is only slow its insert and ours cannot both land.
+            transactionId = existing.getTransactionId();
+        }
+
+        TransactionResponseDTO response;
+        try {
+            response = create.apply(transactionId);
+        } catch (DuplicateKeyException ex) {
+            throw stillRunning();
+        } catch (RuntimeException ex) {
+            records.release(key, claimedAt);
+            throw ex;
+        }
+        try {
+            if (!records.complete(key, claimedAt, response)) {
+                log.warn("Idempotency-Key {} was taken over before its response was recorded", key);
+            }
+        } catch (RuntimeException ex) {
+            // The transaction exists, so answer with it; a retry after the pending timeout finds it by its id.
+            log.warn("Could not record the response for Idempotency-Key {}: {}", key, ex.getMessage());
+        }
+        return new Outcome(fingerprint, response);
+    }
+
+    private boolean isAbandoned(IdempotencyRecord record) {
+        return record.getCreatedAt() != null
+                && record.getCreatedAt().plus(pendingTimeout).isBefore(Instant.now());
+    }
+
+    private static TransactionResponseDTO replay(String key, String fingerprint, Outcome outcome) {
+        if (!outcome.fingerprint().equals(fingerprint)) {
+            throw reusedKey(key);
+        }
+        return outcome.response();
+    }
+
+    private static IdempotencyConflictException stillRunning() {
+        return new IdempotencyConflictException("A request with this Idempotency-Key is still being processed.");
+    }
+
+    private static InvalidInputException reusedKey(String key) {
+        return new InvalidInputException("Idempotency-Key " + key + " was already used with a different request.");
+    }
+
+    private static Outcome await(CompletableFuture<Outcome> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    static String fingerprint(TransactionRequestDTO request) {
+        String canonical = String.join("\u0000",
+                String.valueOf(request.getCustomerName()),
+                String.valueOf(request.getLaneId()),
+                String.valueOf(request.getBowlingBallId()),
+                String.valueOf(request.getShoeId()),
+                String.valueOf(request.getStatus()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Outcome(String fingerprint, TransactionResponseDTO response) {
+    }
+}
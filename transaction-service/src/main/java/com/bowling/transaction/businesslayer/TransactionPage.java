@@ -0,0 +1,16 @@
+package com.bowling.transaction.businesslayer;
+
+import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TransactionPage {
+
+    private final List<TransactionResponseDTO> content;
+
+    private final String nextCursor;
+}
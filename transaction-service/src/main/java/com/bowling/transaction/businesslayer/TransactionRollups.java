@@ -0,0 +1,113 @@
+package com.bowling.transaction.businesslayer;
+
+import com.bowling.transaction.dataaccesslayer.DailyRollup;
+import com.bowling.transaction.dataaccesslayer.DailyRollupRepository;
+import com.bowling.transaction.dataaccesslayer.Transaction;
+import com.bowling.transaction.dataaccesslayer.TransactionRepository;
+import com.bowling.transaction.dataaccesslayer.TransactionStatus;
+import com.bowling.transaction.mappinglayer.TransactionMapper;
+import com.bowling.transaction.presentationlayer.DailyRollupResponseDTO;
+import com.bowling.transaction.presentationlayer.ZoneRollupResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionRollups {
+
+    private final DailyRollupRepository rollupRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper mapper;
+
+    // Covers data written before rollups existed, and the seed data, which is saved straight through the repository.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            if (rollupRepository.count() == 0 && transactionRepository.count() > 0) {
+                rebuild();
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Daily rollups not backfilled, rebuild them once the database is reachable: {}", ex.getMessage());
+        }
+    }
+
+    public void rebuild() {
+        rollupRepository.rebuildFromTransactions();
+        log.info("Daily rollups rebuilt into {} buckets", rollupRepository.count());
+    }
+
+    public void recordCreated(Collection<Transaction> created) {
+        apply(created, List.of());
+    }
+
+    public void recordUpdated(Transaction before, Transaction after) {
+        apply(List.of(after), List.of(before));
+    }
+
+    public void recordDeleted(Transaction deleted) {
+        apply(List.of(), List.of(deleted));
+    }
+
+    public List<DailyRollupResponseDTO> getDailyReport(LocalDate from, LocalDate to, String zone,
+                                                       TransactionStatus status) {
+        return rollupRepository.findBuckets(from.toString(), to.toString(), zone, status).stream()
+                .map(mapper::toRollupResponseDTO)
+                .toList();
+    }
+
+    public List<ZoneRollupResponseDTO> getZoneReport(LocalDate from, LocalDate to, TransactionStatus status) {
+        return rollupRepository.sumByZone(from.toString(), to.toString(), status).stream()
+                .map(mapper::toRollupResponseDTO)
+                .toList();
+    }
+
+    private void apply(Collection<Transaction> added, Collection<Transaction> removed) {
+        Map<List<Object>, DailyRollup> deltas = new LinkedHashMap<>();
+        added.forEach(transaction -> accumulate(deltas, transaction, 1));
+        removed.forEach(transaction -> accumulate(deltas, transaction, -1));
+        // An update that keeps its bucket nets out here and costs no write.
+        deltas.values().removeIf(delta -> delta.getTransactionCount() == 0 && delta.getRevenue().signum() == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            rollupRepository.applyDeltas(deltas.values());
+        } catch (DataAccessException ex) {
+            // The transaction itself is already saved; a bucket that drifts here is corrected by the next rebuild.
+            log.warn("Daily rollup update failed for {} buckets: {}", deltas.size(), ex.getMessage());
+        }
+    }
+
+    private static void accumulate(Map<List<Object>, DailyRollup> deltas, Transaction transaction, int sign) {
+        String day = transaction.getDateCompleted() != null
+                ? LocalDate.ofInstant(transaction.getDateCompleted(), ZoneOffset.UTC).toString()
+                : null;
+        DailyRollup delta = deltas.computeIfAbsent(
+                Arrays.asList(day, transaction.getLaneZone(), transaction.getStatus()),
+                bucket -> DailyRollup.builder()
+                        .date(day)
+                        .laneZone(transaction.getLaneZone())
+                        .status(transaction.getStatus())
+                        .revenue(BigDecimal.ZERO)
+                        .build());
+        delta.setTransactionCount(delta.getTransactionCount() + sign);
+        if (transaction.getTotalPrice() != null) {
+            BigDecimal price = transaction.getTotalPrice();
+            delta.setRevenue(delta.getRevenue().add(sign > 0 ? price : price.negate()));
+        }
+    }
+}
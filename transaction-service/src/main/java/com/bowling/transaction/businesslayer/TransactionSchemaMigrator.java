@@ -0,0 +1,147 @@
+package com.bowling.transaction.businesslayer;
+
+import com.bowling.transaction.dataaccesslayer.LegacyDateReadingConverter;
+import com.bowling.transaction.dataaccesslayer.SchemaMigration;
+import com.bowling.transaction.dataaccesslayer.SchemaMigrationRepository;
+import com.bowling.transaction.dataaccesslayer.Transaction;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class TransactionSchemaMigrator {
+
+    static final String MIGRATION_ID = "transactions-v" + Transaction.CURRENT_SCHEMA_VERSION;
+
+    private final MongoTemplate mongoTemplate;
+    private final SchemaMigrationRepository migrations;
+    private final int batchSize;
+    private final boolean enabled;
+
+    public TransactionSchemaMigrator(MongoTemplate mongoTemplate,
+                                     SchemaMigrationRepository migrations,
+                                     @Value("${app.schema-migration.batch-size:500}") int batchSize,
+                                     @Value("${app.schema-migration.enabled:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.migrations = migrations;
+        this.batchSize = batchSize;
+        this.enabled = enabled;
+    }
+
+    // Off the startup thread: old documents stay readable meanwhile, so the service does not wait on it.
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofVirtual().name("transaction-schema-migration").start(() -> {
+            try {
+                migrate();
+            } catch (RuntimeException ex) {
+                log.warn("Transaction schema migration stopped, it resumes from its checkpoint on the next start", ex);
+            }
+        });
+    }
+
+    public SchemaMigration migrate() {
+        SchemaMigration progress = migrations.findById(MIGRATION_ID)
+                .orElseGet(() -> SchemaMigration.builder().id(MIGRATION_ID).startedAt(Instant.now()).build());
+
+        // Walks _id in order from the checkpoint, so a rerun skips what an earlier one already scanned.
+        Query pending = new Query(Criteria.where("schemaVersion").not().gte(Transaction.CURRENT_SCHEMA_VERSION));
+        if (progress.getLastMigratedId() != null) {
+            pending.addCriteria(Criteria.where("_id").gt(progress.getLastMigratedId()));
+        }
+        pending.with(Sort.by("_id")).cursorBatchSize(batchSize);
+
+        String collection = mongoTemplate.getCollectionName(Transaction.class);
+        List<Document> batch = new ArrayList<>(batchSize);
+        try (Stream<Document> documents = mongoTemplate.stream(pending, Document.class, collection)) {
+            Iterator<Document> rows = documents.iterator();
+            while (rows.hasNext()) {
+                batch.add(rows.next());
+                if (batch.size() == batchSize) {
+                    migrateBatch(collection, batch, progress);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            migrateBatch(collection, batch, progress);
+        }
+
+        progress.setCompletedAt(Instant.now());
+        migrations.save(progress);
+        log.info("Transaction schema v{} migration done: {} migrated, {} skipped",
+                Transaction.CURRENT_SCHEMA_VERSION, progress.getMigrated(), progress.getSkipped());
+        return progress;
+    }
+
+    private void migrateBatch(String collection, List<Document> batch, SchemaMigration progress) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        int migrated = 0;
+        for (Document document : batch) {
+            Update update;
+            try {
+                update = new Update()
+                        .set("dateCompleted", toDate(document.get("dateCompleted")))
+                        .set("totalPrice", toDecimal128(document.get("totalPrice")))
+                        .set("schemaVersion", Transaction.CURRENT_SCHEMA_VERSION);
+            } catch (IllegalArgumentException | DateTimeParseException ex) {
+                log.warn("Transaction {} left at its old schema: {}", document.get("_id"), ex.getMessage());
+                progress.setSkipped(progress.getSkipped() + 1);
+                continue;
+            }
+            // The version guard keeps this from overwriting a save the service made since the batch was read.
+            bulk.updateOne(Query.query(Criteria.where("_id").is(document.get("_id"))
+                    .and("schemaVersion").not().gte(Transaction.CURRENT_SCHEMA_VERSION)), update);
+            migrated++;
+        }
+        if (migrated > 0) {
+            bulk.execute();
+        }
+        progress.setMigrated(progress.getMigrated() + migrated);
+        progress.setLastMigratedId(batch.get(batch.size() - 1).getObjectId("_id"));
+        migrations.save(progress);
+    }
+
+    static Date toDate(Object value) {
+        if (value == null || value instanceof Date) {
+            return (Date) value;
+        }
+        if (value instanceof String text) {
+            return Date.from(LegacyDateReadingConverter.parse(text));
+        }
+        throw new IllegalArgumentException("Unsupported dateCompleted value: " + value);
+    }
+
+    static Decimal128 toDecimal128(Object value) {
+        if (value == null || value instanceof Decimal128) {
+            return (Decimal128) value;
+        }
+        if (value instanceof String || value instanceof Number) {
+            return new Decimal128(new BigDecimal(value.toString()));
+        }
+        throw new IllegalArgumentException("Unsupported totalPrice value: " + value);
+    }
+}
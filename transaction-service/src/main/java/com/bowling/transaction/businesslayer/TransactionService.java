@@ -1,14 +1,29 @@
 package com.bowling.transaction.businesslayer;
 
+import com.bowling.transaction.dataaccesslayer.TransactionStatus;
+import com.bowling.transaction.presentationlayer.DailyRollupResponseDTO;
+import com.bowling.transaction.presentationlayer.TransactionBulkResponseDTO;
 import com.bowling.transaction.presentationlayer.TransactionRequestDTO;
 import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+import com.bowling.transaction.presentationlayer.ZoneRollupResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface TransactionService {
-    List<TransactionResponseDTO> getAllTransactions();
+    TransactionPage getTransactions(String cursor, int size);
     TransactionResponseDTO getTransactionById(String transactionId);
+    void exportTransactions(ExportFormat format, LocalDate from, LocalDate to, TransactionStatus status,
+                            OutputStream out) throws IOException;
+    List<DailyRollupResponseDTO> getDailyReport(LocalDate from, LocalDate to, String zone, TransactionStatus status);
+    List<ZoneRollupResponseDTO> getZoneReport(LocalDate from, LocalDate to, TransactionStatus status);
+    void rebuildReports();
     TransactionResponseDTO createTransaction(TransactionRequestDTO requestDTO);
+    TransactionResponseDTO createTransaction(TransactionRequestDTO requestDTO, String idempotencyKey);
+    TransactionBulkResponseDTO createTransactions(List<JsonNode> requestItems);
     TransactionResponseDTO updateTransaction(String transactionId, TransactionRequestDTO requestDTO);
     void deleteTransaction(String transactionId);
 }
@@ -1,5 +1,6 @@
 package com.bowling.transaction.businesslayer;
 
+import com.bowling.transaction.config.DependencyValidationConfig;
 import com.bowling.transaction.dataaccesslayer.Transaction;
 import com.bowling.transaction.dataaccesslayer.TransactionIdentifier;
 import com.bowling.transaction.dataaccesslayer.TransactionRepository;
@@ -9,47 +10,113 @@ import com.bowling.transaction.domainclientlayer.lane.LaneModel;
 import com.bowling.transaction.domainclientlayer.lane.LaneServiceClient;
 import com.bowling.transaction.domainclientlayer.lane.LaneStatus;
 import com.bowling.transaction.domainclientlayer.shoe.ShoeServiceClient;
+import com.bowling.transaction.exceptionlayer.DownstreamTimeoutException;
 import com.bowling.transaction.exceptionlayer.InvalidInputException;
 import com.bowling.transaction.exceptionlayer.InvalidTransactionStatusException;
 import com.bowling.transaction.exceptionlayer.NotFoundException;
 import com.bowling.transaction.mappinglayer.TransactionMapper;
+import com.bowling.transaction.presentationlayer.DailyRollupResponseDTO;
+import com.bowling.transaction.presentationlayer.TransactionBulkItemDTO;
+import com.bowling.transaction.presentationlayer.TransactionBulkResponseDTO;
 import com.bowling.transaction.presentationlayer.TransactionRequestDTO;
 import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+import com.bowling.transaction.presentationlayer.ZoneRollupResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Service
 @Slf4j
 public class TransactionServiceImpl implements TransactionService {
 
+    static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_BULK_SIZE = 500;
+
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
     private final LaneServiceClient laneServiceClient;
     private final BowlingBallServiceClient bowlingBallServiceClient;
     private final ShoeServiceClient shoeServiceClient;
+    private final TransactionIdempotencyStore idempotencyStore;
+    private final TransactionExporter exporter;
+    private final TransactionRollups rollups;
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskExecutor dependencyValidationExecutor;
+    private final Duration dependencyTimeout;
+    private final int bulkConcurrency;
 
     public TransactionServiceImpl(TransactionRepository transactionRepository,
                                   TransactionMapper transactionMapper,
                                   LaneServiceClient laneServiceClient,
                                   BowlingBallServiceClient bowlingBallServiceClient,
-                                  ShoeServiceClient shoeServiceClient) {
+                                  ShoeServiceClient shoeServiceClient,
+                                  TransactionIdempotencyStore idempotencyStore,
+                                  TransactionExporter exporter,
+                                  TransactionRollups rollups,
+                                  ObjectMapper objectMapper,
+                                  @Qualifier("dependencyValidationExecutor") AsyncTaskExecutor dependencyValidationExecutor,
+                                  DependencyValidationConfig validationConfig) {
         this.transactionRepository = transactionRepository;
         this.transactionMapper = transactionMapper;
         this.laneServiceClient = laneServiceClient;
         this.bowlingBallServiceClient = bowlingBallServiceClient;
         this.shoeServiceClient = shoeServiceClient;
+        this.idempotencyStore = idempotencyStore;
+        this.exporter = exporter;
+        this.rollups = rollups;
+        this.objectMapper = objectMapper;
+        this.dependencyValidationExecutor = dependencyValidationExecutor;
+        this.dependencyTimeout = validationConfig.getTimeout();
+        this.bulkConcurrency = validationConfig.getBulkConcurrency();
     }
 
     @Override
-    public List<TransactionResponseDTO> getAllTransactions() {
-        return transactionRepository.findAll()
-                .stream()
-                .map(transactionMapper::toResponseDTO)
-                .toList();
+    public TransactionPage getTransactions(String cursor, int size) {
+        if (size < 1) {
+            throw new InvalidInputException("Page size must be at least 1.");
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+
+        // Fetch one extra row so we know whether another page exists without a count query.
+        Limit limit = Limit.of(pageSize + 1);
+        List<Transaction> rows = (cursor == null || cursor.isBlank())
+                ? transactionRepository.findAllByOrderByIdAsc(limit)
+                : transactionRepository.findByIdGreaterThanOrderByIdAsc(decodeCursor(cursor), limit);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Transaction> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1).getId()) : null;
+
+        return new TransactionPage(page.stream().map(transactionMapper::toResponseDTO).toList(), nextCursor);
     }
 
     @Override
@@ -61,24 +128,153 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionMapper.toResponseDTO(transaction);
     }
 
+    @Override
+    public void exportTransactions(ExportFormat format, LocalDate from, LocalDate to, TransactionStatus status,
+                                   OutputStream out) throws IOException {
+        exporter.export(format, from, to, status, out);
+    }
+
+    @Override
+    public List<DailyRollupResponseDTO> getDailyReport(LocalDate from, LocalDate to, String zone,
+                                                       TransactionStatus status) {
+        return rollups.getDailyReport(from, to, zone, status);
+    }
+
+    @Override
+    public List<ZoneRollupResponseDTO> getZoneReport(LocalDate from, LocalDate to, TransactionStatus status) {
+        return rollups.getZoneReport(from, to, status);
+    }
+
+    @Override
+    public void rebuildReports() {
+        rollups.rebuild();
+    }
+
     @Override
     public TransactionResponseDTO createTransaction(TransactionRequestDTO requestDTO) {
+        return createTransaction(requestDTO, TransactionIdentifier.generate());
+    }
+
+    private TransactionResponseDTO createTransaction(TransactionRequestDTO requestDTO, TransactionIdentifier id) {
         if (requestDTO.getStatus() == null) {
             throw new InvalidTransactionStatusException("Transaction status is required and must be valid.");
         }
 
         LaneModel lane = validateAndFetchDependencies(requestDTO);
 
-        Transaction transaction = transactionMapper.toEntity(requestDTO);
-        transaction.setTransactionIdentifier(TransactionIdentifier.generate());
-        transaction.setLaneZone(lane.getZone());
-        transaction.setTotalPrice(BigDecimal.valueOf(30));
-        transaction.setDateCompleted(LocalDate.now().toString());
-
-        Transaction saved = transactionRepository.save(transaction);
+        Transaction saved = transactionRepository.save(newTransaction(requestDTO, lane, id));
+        rollups.recordCreated(List.of(saved));
         return transactionMapper.toResponseDTO(saved);
     }
 
+    @Override
+    public TransactionBulkResponseDTO createTransactions(List<JsonNode> requestItems) {
+        if (requestItems == null || requestItems.isEmpty()) {
+            throw new InvalidInputException("Bulk request must contain at least one transaction.");
+        }
+        if (requestItems.size() > MAX_BULK_SIZE) {
+            throw new InvalidInputException("Bulk request cannot contain more than " + MAX_BULK_SIZE + " transactions.");
+        }
+
+        // Items are converted one by one so a malformed one fails alone instead of rejecting the whole body.
+        List<TransactionRequestDTO> requestDTOs = new ArrayList<>(requestItems.size());
+        Map<Integer, String> unreadable = new HashMap<>();
+        for (int index = 0; index < requestItems.size(); index++) {
+            try {
+                requestDTOs.add(readItem(requestItems.get(index)));
+            } catch (InvalidInputException ex) {
+                requestDTOs.add(null);
+                unreadable.put(index, ex.getMessage());
+            }
+        }
+
+        // Each distinct id is looked up once for the whole batch, a bounded number of lookups in flight at a time.
+        Set<String> lanesBeingCompleted = new HashSet<>();
+        for (TransactionRequestDTO requestDTO : requestDTOs) {
+            if (requestDTO != null && requestDTO.getStatus() == TransactionStatus.COMPLETED) {
+                lanesBeingCompleted.add(requestDTO.getLaneId());
+            }
+        }
+        Map<String, CompletableFuture<LaneModel>> lanes = new HashMap<>();
+        Map<String, CompletableFuture<?>> balls = new HashMap<>();
+        Map<String, CompletableFuture<?>> shoes = new HashMap<>();
+        Semaphore inFlight = new Semaphore(bulkConcurrency);
+        for (TransactionRequestDTO requestDTO : requestDTOs) {
+            if (missingField(requestDTO) != null) {
+                continue;
+            }
+            lanes.computeIfAbsent(requestDTO.getLaneId(), id -> fetchAsync(inFlight, () -> lanesBeingCompleted.contains(id)
+                    ? laneServiceClient.getLaneWithCurrentStatus(id)
+                    : laneServiceClient.getLaneByLaneId(id)));
+            balls.computeIfAbsent(requestDTO.getBowlingBallId(),
+                    id -> fetchAsync(inFlight, () -> bowlingBallServiceClient.getBowlingBallById(id)));
+            shoes.computeIfAbsent(requestDTO.getShoeId(),
+                    id -> fetchAsync(inFlight, () -> shoeServiceClient.getShoeById(id)));
+        }
+
+        List<TransactionBulkItemDTO> items = new ArrayList<>(requestDTOs.size());
+        List<Transaction> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int index = 0; index < requestDTOs.size(); index++) {
+            TransactionRequestDTO requestDTO = requestDTOs.get(index);
+            items.add(null);
+            try {
+                String missing = unreadable.getOrDefault(index, missingField(requestDTO));
+                if (missing != null) {
+                    throw new InvalidInputException(missing);
+                }
+                LaneModel lane = await(lanes.get(requestDTO.getLaneId()));
+                await(balls.get(requestDTO.getBowlingBallId()));
+                await(shoes.get(requestDTO.getShoeId()));
+                if (requestDTO.getStatus() == TransactionStatus.COMPLETED && lane.getStatus() != LaneStatus.AVAILABLE) {
+                    throw new InvalidInputException("Cannot complete transaction: lane is not available.");
+                }
+                accepted.add(newTransaction(requestDTO, lane, TransactionIdentifier.generate()));
+                acceptedIndexes.add(index);
+            } catch (RuntimeException ex) {
+                items.set(index, failedItem(index, ex.getMessage()));
+            }
+        }
+
+        Map<Integer, String> writeFailures = transactionRepository.insertUnordered(accepted);
+        List<Transaction> inserted = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            String writeFailure = writeFailures.get(i);
+            if (writeFailure == null) {
+                inserted.add(accepted.get(i));
+            }
+            items.set(index, writeFailure != null
+                    ? failedItem(index, writeFailure)
+                    : TransactionBulkItemDTO.builder()
+                            .index(index)
+                            .success(true)
+                            .transaction(transactionMapper.toResponseDTO(accepted.get(i)))
+                            .build());
+        }
+
+        rollups.recordCreated(inserted);
+
+        int created = accepted.size() - writeFailures.size();
+        return TransactionBulkResponseDTO.builder()
+                .created(created)
+                .failed(requestDTOs.size() - created)
+                .items(items)
+                .build();
+    }
+
+    @Override
+    public TransactionResponseDTO createTransaction(TransactionRequestDTO requestDTO, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createTransaction(requestDTO);
+        }
+        return idempotencyStore.createOnce(idempotencyKey, requestDTO,
+                transactionId -> createTransaction(requestDTO, new TransactionIdentifier(transactionId)),
+                transactionId -> Optional.ofNullable(
+                                transactionRepository.findByTransactionIdentifier_TransactionId(transactionId))
+                        .map(transactionMapper::toResponseDTO));
+    }
+
     @Override
     public TransactionResponseDTO updateTransaction(String transactionId, TransactionRequestDTO requestDTO) {
         if (requestDTO.getStatus() == null) {
@@ -99,7 +295,9 @@ public class TransactionServiceImpl implements TransactionService {
         updated.setDateCompleted(existing.getDateCompleted());
         updated.setLaneZone(lane.getZone());
 
-        return transactionMapper.toResponseDTO(transactionRepository.save(updated));
+        Transaction saved = transactionRepository.save(updated);
+        rollups.recordUpdated(existing, saved);
+        return transactionMapper.toResponseDTO(saved);
     }
 
     @Override
@@ -109,18 +307,162 @@ public class TransactionServiceImpl implements TransactionService {
             throw new NotFoundException("Transaction with ID " + transactionId + " not found.");
         }
         transactionRepository.delete(existing);
+        rollups.recordDeleted(existing);
+    }
+
+    private Transaction newTransaction(TransactionRequestDTO requestDTO, LaneModel lane, TransactionIdentifier id) {
+        Transaction transaction = transactionMapper.toEntity(requestDTO);
+        transaction.setTransactionIdentifier(id);
+        transaction.setLaneZone(lane.getZone());
+        transaction.setTotalPrice(BigDecimal.valueOf(30));
+        transaction.setDateCompleted(Instant.now());
+        return transaction;
+    }
+
+    private TransactionRequestDTO readItem(JsonNode item) {
+        if (item == null || item.isNull()) {
+            return null;
+        }
+        try {
+            return objectMapper.treeToValue(item, TransactionRequestDTO.class);
+        } catch (MismatchedInputException ex) {
+            if (ex.getPath().isEmpty()) {
+                throw new InvalidInputException("Transaction must be a JSON object.");
+            }
+            throw new InvalidInputException("Invalid value for " + ex.getPath().get(ex.getPath().size() - 1).getFieldName() + ".");
+        } catch (JsonProcessingException ex) {
+            throw new InvalidInputException("Transaction is not valid.");
+        }
+    }
+
+    // The bulk endpoint takes items unvalidated so that one bad item fails alone instead of the whole batch.
+    private static String missingField(TransactionRequestDTO requestDTO) {
+        if (requestDTO == null) {
+            return "Transaction is required.";
+        }
+        if (requestDTO.getStatus() == null) {
+            return "Transaction status is required and must be valid.";
+        }
+        if (isBlank(requestDTO.getCustomerName())) {
+            return "Customer name is required.";
+        }
+        if (isBlank(requestDTO.getLaneId())) {
+            return "Lane ID is required.";
+        }
+        if (isBlank(requestDTO.getBowlingBallId())) {
+            return "Bowling ball ID is required.";
+        }
+        if (isBlank(requestDTO.getShoeId())) {
+            return "Shoe ID is required.";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static TransactionBulkItemDTO failedItem(int index, String error) {
+        return TransactionBulkItemDTO.builder()
+                .index(index)
+                .success(false)
+                .error(error)
+                .build();
+    }
+
+    private <T> T await(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            throw unwrap(ex);
+        }
     }
 
     private LaneModel validateAndFetchDependencies(TransactionRequestDTO requestDTO) {
-        LaneModel lane = laneServiceClient.getLaneByLaneId(requestDTO.getLaneId());
+        boolean completing = requestDTO.getStatus() == TransactionStatus.COMPLETED;
+        CompletableFuture<LaneModel> lane = fetchAsync(() -> {
+            LaneModel model = completing
+                    ? laneServiceClient.getLaneWithCurrentStatus(requestDTO.getLaneId())
+                    : laneServiceClient.getLaneByLaneId(requestDTO.getLaneId());
+            if (completing && model.getStatus() != LaneStatus.AVAILABLE) {
+                throw new InvalidInputException("Cannot complete transaction: lane is not available.");
+            }
+            return model;
+        });
+        CompletableFuture<?> ball = fetchAsync(() -> bowlingBallServiceClient.getBowlingBallById(requestDTO.getBowlingBallId()));
+        CompletableFuture<?> shoe = fetchAsync(() -> shoeServiceClient.getShoeById(requestDTO.getShoeId()));
 
-        if (requestDTO.getStatus() == TransactionStatus.COMPLETED && lane.getStatus() != LaneStatus.AVAILABLE) {
-            throw new InvalidInputException("Cannot complete transaction: lane is not available.");
+        awaitAllOrFirstFailure(lane, ball, shoe);
+        return lane.join();
+    }
+
+    // Cancelling the returned future, or its timing out, interrupts the worker and so aborts the HTTP call it is in.
+    private <T> CompletableFuture<T> fetchAsync(Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = dependencyValidationExecutor.submit(() -> {
+            try {
+                result.complete(call.get());
+            } catch (Throwable ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+        result.whenComplete((value, ex) -> {
+            if (ex != null) {
+                task.cancel(true);
+            }
+        });
+        return result.orTimeout(dependencyTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // Every lookup completes or times out, so each permit comes back and the loop waits for a free slot at most.
+    private <T> CompletableFuture<T> fetchAsync(Semaphore inFlight, Supplier<T> call) {
+        inFlight.acquireUninterruptibly();
+        CompletableFuture<T> result = fetchAsync(call);
+        result.whenComplete((value, ex) -> inFlight.release());
+        return result;
+    }
+
+    private void awaitAllOrFirstFailure(CompletableFuture<?>... calls) {
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        for (CompletableFuture<?> call : calls) {
+            call.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    firstFailure.completeExceptionally(ex);
+                }
+            });
+        }
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(calls), firstFailure).join();
+        } catch (CompletionException ex) {
+            for (CompletableFuture<?> call : calls) {
+                call.cancel(true);
+            }
+            throw unwrap(ex);
+        }
+    }
+
+    private RuntimeException unwrap(CompletionException ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof TimeoutException) {
+            return new DownstreamTimeoutException(
+                    "Dependency validation timed out after " + dependencyTimeout.toMillis() + " ms.", cause);
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
         }
+        return ex;
+    }
 
-        bowlingBallServiceClient.getBowlingBallById(requestDTO.getBowlingBallId());
-        shoeServiceClient.getShoeById(requestDTO.getShoeId());
+    private static String encodeCursor(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
 
-        return lane;
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid cursor: " + cursor);
+        }
     }
-}
\ No newline at end of file
+}
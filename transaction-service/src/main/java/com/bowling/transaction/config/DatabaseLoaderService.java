@@ -9,7 +9,8 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;;
 
@@ -38,7 +39,7 @@ public class DatabaseLoaderService implements CommandLineRunner {
                             .laneZone("ZONE_1")
                             .status(TransactionStatus.OPEN)
                             .totalPrice(new BigDecimal("28.50"))
-                            .dateCompleted(LocalDate.now().minusDays(2).toString())
+                            .dateCompleted(Instant.now().minus(2, ChronoUnit.DAYS))
                             .build(),
 
                     Transaction.builder()
@@ -50,7 +51,7 @@ public class DatabaseLoaderService implements CommandLineRunner {
                             .laneZone("ZONE_2")
                             .status(TransactionStatus.COMPLETED)
                             .totalPrice(new BigDecimal("35.00"))
-                            .dateCompleted(LocalDate.now().minusDays(1).toString())
+                            .dateCompleted(Instant.now().minus(1, ChronoUnit.DAYS))
                             .build(),
 
                     Transaction.builder()
@@ -62,7 +63,7 @@ public class DatabaseLoaderService implements CommandLineRunner {
                             .laneZone("ZONE_3")
                             .status(TransactionStatus.CANCELLED)
                             .totalPrice(new BigDecimal("0.00"))
-                            .dateCompleted(LocalDate.now().minusDays(5).toString())
+                            .dateCompleted(Instant.now().minus(5, ChronoUnit.DAYS))
                             .build(),
 
                     Transaction.builder()
@@ -74,7 +75,7 @@ public class DatabaseLoaderService implements CommandLineRunner {
                             .laneZone("ZONE_1")
                             .status(TransactionStatus.COMPLETED)
                             .totalPrice(new BigDecimal("31.75"))
-                            .dateCompleted(LocalDate.now().minusDays(3).toString())
+                            .dateCompleted(Instant.now().minus(3, ChronoUnit.DAYS))
                             .build(),
 
                     Transaction.builder()
@@ -86,7 +87,7 @@ public class DatabaseLoaderService implements CommandLineRunner {
                             .laneZone("ZONE_2")
                             .status(TransactionStatus.OPEN)
                             .totalPrice(new BigDecimal("26.99"))
-                            .dateCompleted(LocalDate.now().minusDays(4).toString())
+                            .dateCompleted(Instant.now().minus(4, ChronoUnit.DAYS))
                             .build(),
 
                     Transaction.builder()
@@ -98,7 +99,7 @@ public class DatabaseLoaderService implements CommandLineRunner {
                             .laneZone("ZONE_3")
                             .status(TransactionStatus.OPEN)
                             .totalPrice(new BigDecimal("29.99"))
-                            .dateCompleted(LocalDate.now().minusDays(6).toString())
+                            .dateCompleted(Instant.now().minus(6, ChronoUnit.DAYS))
                             .build(),
 
                     Transaction.builder()
@@ -110,7 +111,7 @@ public class DatabaseLoaderService implements CommandLineRunner {
                             .laneZone("ZONE_1")
                             .status(TransactionStatus.CANCELLED)
                             .totalPrice(new BigDecimal("0.00"))
-                            .dateCompleted(LocalDate.now().minusDays(7).toString())
+                            .dateCompleted(Instant.now().minus(7, ChronoUnit.DAYS))
                             .build(),
 
                     Transaction.builder()
@@ -122,7 +123,7 @@ public class DatabaseLoaderService implements CommandLineRunner {
                             .laneZone("ZONE_2")
                             .status(TransactionStatus.COMPLETED)
                             .totalPrice(new BigDecimal("33.00"))
-                            .dateCompleted(LocalDate.now().minusDays(8).toString())
+                            .dateCompleted(Instant.now().minus(8, ChronoUnit.DAYS))
                             .build(),
 
                     Transaction.builder()
@@ -134,7 +135,7 @@ public class DatabaseLoaderService implements CommandLineRunner {
                             .laneZone("ZONE_3")
                             .status(TransactionStatus.OPEN)
                             .totalPrice(new BigDecimal("27.45"))
-                            .dateCompleted(LocalDate.now().minusDays(9).toString())
+                            .dateCompleted(Instant.now().minus(9, ChronoUnit.DAYS))
                             .build(),
 
                     Transaction.builder()
@@ -146,7 +147,7 @@ public class DatabaseLoaderService implements CommandLineRunner {
                             .laneZone("ZONE_1")
                             .status(TransactionStatus.COMPLETED)
                             .totalPrice(new BigDecimal("34.99"))
-                            .dateCompleted(LocalDate.now().minusDays(10).toString())
+                            .dateCompleted(Instant.now().minus(10, ChronoUnit.DAYS))
                             .build()
             );
 
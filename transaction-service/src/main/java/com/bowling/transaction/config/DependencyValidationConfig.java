@@ -0,0 +1,54 @@
+package com.bowling.transaction.config;
+
+import lombok.Data;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.dependency-validation")
+@Data
+public class DependencyValidationConfig {
+    private int poolSize = 16;
+    private int queueCapacity = 100;
+    private Duration timeout = Duration.ofSeconds(2);
+    private int virtualConcurrencyLimit = 512;
+    // Lookups one bulk request keeps in flight; at or below pool-size so a batch never overflows onto its own thread.
+    private int bulkConcurrency = 16;
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor dependencyValidationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dependency-validation-");
+        // A saturated pool degrades to validating on the request thread instead of failing the request.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // Carries the current trace (and its MDC ids) onto the worker so lookups stay children of the request span.
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "dependencyValidationExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualDependencyValidationExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dependency-validation-");
+        executor.setVirtualThreads(true);
+        // One virtual thread per lookup; the limit throttles submitters instead of flooding the downstream services.
+        executor.setConcurrencyLimit(virtualConcurrencyLimit);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        return executor;
+    }
+}
@@ -0,0 +1,46 @@
+package com.bowling.transaction.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+@Data
+public class DomainClientCacheConfig {
+
+    private CacheSpec lane = new CacheSpec(Duration.ofMinutes(10), 1_000);
+
+    // Kept short: completing a transaction requires the lane to be AVAILABLE right now.
+    private CacheSpec laneStatus = new CacheSpec(Duration.ofSeconds(5), 1_000);
+
+    private CacheSpec bowlingball = new CacheSpec(Duration.ofMinutes(10), 5_000);
+
+    private CacheSpec shoe = new CacheSpec(Duration.ofMinutes(10), 5_000);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheSpec {
+        private Duration ttl;
+        private long maximumSize;
+
+        // Published as cache.gets, cache.evictions etc. tagged cache=<name>.
+        public <K, V> Cache<K, V> build(MeterRegistry registry, String name) {
+            Cache<K, V> cache = Caffeine.newBuilder()
+                    .expireAfterWrite(ttl)
+                    .maximumSize(maximumSize)
+                    .recordStats()
+                    .build();
+            return CaffeineCacheMetrics.monitor(registry, cache, name);
+        }
+    }
+}
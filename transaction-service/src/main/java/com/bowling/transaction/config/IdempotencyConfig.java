@@ -0,0 +1,19 @@
+package com.bowling.transaction.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.idempotency")
+@Data
+public class IdempotencyConfig {
+    // Recent keys are answered from memory; older ones from the idempotency_keys collection until its 24h TTL.
+    private Duration replayTtl = Duration.ofMinutes(10);
+    private long replayMaximumSize = 10_000;
+
+    // A key left pending this long is taken to belong to a crashed instance and may be claimed again.
+    private Duration pendingTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,17 @@
+package com.bowling.transaction.config;
+
+import com.bowling.transaction.dataaccesslayer.LegacyDateReadingConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.util.List;
+
+@Configuration
+public class MongoConversionsConfig {
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of(new LegacyDateReadingConverter()));
+    }
+}
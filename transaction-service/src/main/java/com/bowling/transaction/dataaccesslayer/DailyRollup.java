@@ -0,0 +1,38 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+
+// One bucket per completion day (UTC), lane zone and status, kept current by $inc on every transaction write.
+@Document(collection = DailyRollup.COLLECTION)
+@CompoundIndex(name = DailyRollup.BUCKET_INDEX, def = "{ 'date': 1, 'laneZone': 1, 'status': 1 }", unique = true)
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailyRollup {
+
+    public static final String COLLECTION = "transaction_daily_rollups";
+    public static final String BUCKET_INDEX = "rollup_bucket_idx";
+
+    @Id
+    private String id;
+
+    private String date;
+
+    private String laneZone;
+
+    private TransactionStatus status;
+
+    private long transactionCount;
+
+    // Stored as Decimal128 so $inc and $sum do exact decimal arithmetic on it.
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal revenue;
+}
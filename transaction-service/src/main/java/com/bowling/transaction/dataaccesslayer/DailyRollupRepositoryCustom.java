@@ -0,0 +1,19 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface DailyRollupRepositoryCustom {
+
+    // Upserts each bucket and adds the delta's count and revenue to it, which may be negative.
+    void applyDeltas(Collection<DailyRollup> deltas);
+
+    // Non-empty buckets in the inclusive date range, ordered by date, zone and status; null zone and status are not filtered on.
+    List<DailyRollup> findBuckets(String fromDate, String toDate, String zone, TransactionStatus status);
+
+    // Bucket totals per zone and status across the inclusive date range.
+    List<ZoneRollup> sumByZone(String fromDate, String toDate, TransactionStatus status);
+
+    // Regroups the whole transactions collection and atomically replaces every bucket with the result.
+    void rebuildFromTransactions();
+}
@@ -0,0 +1,92 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ConvertOperators;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.Fields;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class DailyRollupRepositoryCustomImpl implements DailyRollupRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void applyDeltas(Collection<DailyRollup> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DailyRollup.class);
+        for (DailyRollup delta : deltas) {
+            Query bucket = Query.query(Criteria.where("date").is(delta.getDate())
+                    .and("laneZone").is(delta.getLaneZone())
+                    .and("status").is(delta.getStatus()));
+            bulk.upsert(bucket, new Update()
+                    .inc("transactionCount", delta.getTransactionCount())
+                    .inc("revenue", new Decimal128(delta.getRevenue())));
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public List<DailyRollup> findBuckets(String fromDate, String toDate, String zone, TransactionStatus status) {
+        Query query = Query.query(nonEmptyBuckets(fromDate, toDate, zone, status))
+                .with(Sort.by("date", "laneZone", "status"));
+        return mongoTemplate.find(query, DailyRollup.class);
+    }
+
+    @Override
+    public List<ZoneRollup> sumByZone(String fromDate, String toDate, TransactionStatus status) {
+        // The date prefix of rollup_bucket_idx serves the match, so this reads days x zones x statuses documents at most.
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(nonEmptyBuckets(fromDate, toDate, null, status)),
+                Aggregation.group("laneZone", "status")
+                        .sum("transactionCount").as("transactionCount")
+                        .sum("revenue").as("revenue"),
+                Aggregation.project("laneZone", "status", "transactionCount", "revenue").andExclude("_id"),
+                Aggregation.sort(Sort.by("laneZone", "status")));
+        return mongoTemplate.aggregate(aggregation, DailyRollup.class, ZoneRollup.class).getMappedResults();
+    }
+
+    @Override
+    public void rebuildFromTransactions() {
+        // $toDate and $toDecimal accept both the schema v1 strings and the v2 typed values, so this works mid-migration.
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.addFields()
+                        .addFieldWithValue("day", DateOperators.dateOf(ConvertOperators.ToDate.toDate("$dateCompleted"))
+                                .toString("%Y-%m-%d"))
+                        .build(),
+                Aggregation.group(Fields.from(
+                                Fields.field("date", "day"),
+                                Fields.field("laneZone"),
+                                Fields.field("status")))
+                        .count().as("transactionCount")
+                        .sum(ConvertOperators.ToDecimal.toDecimal("$totalPrice")).as("revenue"),
+                Aggregation.project("date", "laneZone", "status", "transactionCount", "revenue").andExclude("_id"),
+                Aggregation.out(DailyRollup.COLLECTION));
+        mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Transaction.class), Document.class);
+    }
+
+    private static Criteria nonEmptyBuckets(String fromDate, String toDate, String zone, TransactionStatus status) {
+        Criteria criteria = Criteria.where("date").gte(fromDate).lte(toDate)
+                .and("transactionCount").gt(0);
+        if (zone != null) {
+            criteria.and("laneZone").is(zone);
+        }
+        if (status != null) {
+            criteria.and("status").is(status);
+        }
+        return criteria;
+    }
+}
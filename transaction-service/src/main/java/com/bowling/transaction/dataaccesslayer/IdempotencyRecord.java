@@ -0,0 +1,34 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = "idempotency_keys")
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdempotencyRecord {
+
+    public static final String EXPIRY_INDEX = "idempotency_expiry_idx";
+
+    @Id
+    private String key;
+
+    private String requestFingerprint;
+
+    // Reserved when the key is claimed. The unique transaction id index then lets only one run create it.
+    private String transactionId;
+
+    // The response replayed to retries; null while the first request with this key is still running.
+    private TransactionResponseDTO response;
+
+    // Millisecond precision, as stored, since the conditional writes match on it.
+    @Indexed(name = EXPIRY_INDEX, expireAfter = "24h")
+    private Instant createdAt;
+}
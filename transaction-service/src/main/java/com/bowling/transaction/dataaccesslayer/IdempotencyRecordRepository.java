@@ -0,0 +1,7 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface IdempotencyRecordRepository extends MongoRepository<IdempotencyRecord, String>,
+        IdempotencyRecordRepositoryCustom {
+}
@@ -0,0 +1,16 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+
+import java.time.Instant;
+
+// Each write only applies while the record still carries the claim's createdAt and has no response,
+// so an instance that lost its claim to a takeover cannot overwrite or release the new one.
+public interface IdempotencyRecordRepositoryCustom {
+
+    boolean takeOver(String key, Instant claimedAt, Instant reclaimedAt);
+
+    boolean complete(String key, Instant claimedAt, TransactionResponseDTO response);
+
+    void release(String key, Instant claimedAt);
+}
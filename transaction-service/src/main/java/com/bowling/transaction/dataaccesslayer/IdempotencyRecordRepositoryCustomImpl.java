@@ -0,0 +1,39 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+
+@RequiredArgsConstructor
+public class IdempotencyRecordRepositoryCustomImpl implements IdempotencyRecordRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean takeOver(String key, Instant claimedAt, Instant reclaimedAt) {
+        return mongoTemplate.updateFirst(pendingClaim(key, claimedAt), Update.update("createdAt", reclaimedAt),
+                IdempotencyRecord.class).getModifiedCount() == 1;
+    }
+
+    @Override
+    public boolean complete(String key, Instant claimedAt, TransactionResponseDTO response) {
+        return mongoTemplate.updateFirst(pendingClaim(key, claimedAt), Update.update("response", response),
+                IdempotencyRecord.class).getModifiedCount() == 1;
+    }
+
+    @Override
+    public void release(String key, Instant claimedAt) {
+        mongoTemplate.remove(pendingClaim(key, claimedAt), IdempotencyRecord.class);
+    }
+
+    private static Query pendingClaim(String key, Instant claimedAt) {
+        return Query.query(Criteria.where("_id").is(key)
+                .and("createdAt").is(claimedAt)
+                .and("response").is(null));
+    }
+}
@@ -0,0 +1,25 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+// Lets schema v1 documents, whose dateCompleted is a "yyyy-MM-dd" string, be read before they are migrated.
+@ReadingConverter
+public class LegacyDateReadingConverter implements Converter<String, Instant> {
+
+    @Override
+    public Instant convert(String source) {
+        return parse(source);
+    }
+
+    // A bare date is taken as the start of that day in UTC, the day report buckets are keyed by.
+    public static Instant parse(String value) {
+        return value.length() == 10
+                ? LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant()
+                : Instant.parse(value);
+    }
+}
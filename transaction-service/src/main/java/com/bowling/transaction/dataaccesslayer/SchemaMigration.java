@@ -0,0 +1,31 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import lombok.*;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+// Checkpoint of a batch migration, saved after every batch so a restarted run resumes after the last one.
+@Document(collection = "schema_migrations")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SchemaMigration {
+
+    @Id
+    private String id;
+
+    private ObjectId lastMigratedId;
+
+    private long migrated;
+
+    // Documents whose old values could not be converted; they keep their old version and are logged.
+    private long skipped;
+
+    private Instant startedAt;
+
+    private Instant completedAt;
+}
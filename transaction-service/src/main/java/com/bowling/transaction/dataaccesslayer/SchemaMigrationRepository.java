@@ -0,0 +1,6 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface SchemaMigrationRepository extends MongoRepository<SchemaMigration, String> {
+}
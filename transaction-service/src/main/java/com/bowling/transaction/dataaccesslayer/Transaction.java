@@ -2,22 +2,43 @@ package com.bowling.transaction.dataaccesslayer;
 
 import jakarta.persistence.Id;
 import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @Document(collection = "transactions")
+@CompoundIndexes({
+        @CompoundIndex(name = Transaction.TRANSACTION_ID_INDEX, def = "{ 'transactionIdentifier.id': 1 }", unique = true),
+        @CompoundIndex(name = Transaction.LANE_DATE_INDEX, def = "{ 'laneId': 1, 'dateCompleted': -1 }"),
+        @CompoundIndex(name = Transaction.STATUS_DATE_INDEX, def = "{ 'status': 1, 'dateCompleted': -1 }")
+})
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Transaction {
 
+    public static final String TRANSACTION_ID_INDEX = "transaction_id_idx";
+    public static final String LANE_DATE_INDEX = "lane_date_idx";
+    public static final String STATUS_DATE_INDEX = "status_date_idx";
+    public static final String CUSTOMER_NAME_INDEX = "customer_name_idx";
+    public static final String DATE_COMPLETED_INDEX = "date_completed_idx";
+    // 1: dateCompleted as a "yyyy-MM-dd" string and totalPrice as a decimal string (Spring Data's default for
+    // BigDecimal), never a double. 2: BSON date and Decimal128.
+    public static final int CURRENT_SCHEMA_VERSION = 2;
+
     @Id
     private String id;
 
     private TransactionIdentifier transactionIdentifier;
 
+    @Indexed(name = CUSTOMER_NAME_INDEX)
     private String customerName;
 
     private String laneId;
@@ -28,10 +49,16 @@ public class Transaction {
 
     private String laneZone;
 
+    @Field(targetType = FieldType.DECIMAL128)
     private BigDecimal totalPrice;
 
-    private String dateCompleted;
+    @Indexed(name = DATE_COMPLETED_INDEX)
+    private Instant dateCompleted;
 
     private TransactionStatus status;
+
+    // Anything saved through this class is written with the typed fields, so it is always the current version.
+    @Builder.Default
+    private int schemaVersion = CURRENT_SCHEMA_VERSION;
 }
 
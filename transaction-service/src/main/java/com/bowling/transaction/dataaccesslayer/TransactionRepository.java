@@ -1,11 +1,25 @@
 package com.bowling.transaction.dataaccesslayer;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.Hint;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
-public interface TransactionRepository extends MongoRepository<Transaction, String> {
+import java.util.List;
+
+public interface TransactionRepository extends MongoRepository<Transaction, String>, TransactionRepositoryCustom {
+
+    List<Transaction> findAllByOrderByIdAsc(Limit limit);
+
+    List<Transaction> findByIdGreaterThanOrderByIdAsc(String id, Limit limit);
 
     @Query("{ 'transactionIdentifier.id': ?0 }")
     Transaction findByTransactionIdentifier_TransactionId(String transactionId);
+
+    @Hint(Transaction.LANE_DATE_INDEX)
+    List<Transaction> findByLaneIdOrderByDateCompletedDesc(String laneId);
+
+    @Hint(Transaction.STATUS_DATE_INDEX)
+    List<Transaction> findByStatusOrderByDateCompletedDesc(TransactionStatus status);
 }
 
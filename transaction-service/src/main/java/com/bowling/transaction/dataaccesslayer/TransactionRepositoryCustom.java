@@ -0,0 +1,18 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface TransactionRepositoryCustom {
+
+    // Inserts with one unordered bulkWrite; returns the error message for each index the server rejected.
+    Map<Integer, String> insertUnordered(List<Transaction> transactions);
+
+    // Oldest first. Also matches v1 documents not yet migrated, whose date is still a "yyyy-MM-dd" string.
+    List<Transaction> findCompletedBetween(Instant from, Instant toExclusive);
+
+    // Open cursor over the matching transactions, oldest first; null bounds and status are not filtered on.
+    Stream<Transaction> streamForExport(Instant from, Instant toExclusive, TransactionStatus status);
+}
@@ -0,0 +1,92 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class TransactionRepositoryCustomImpl implements TransactionRepositoryCustom {
+
+    private static final int EXPORT_CURSOR_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            // Unordered, so one rejected document does not stop the rest of the batch.
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Transaction.class)
+                    .insert(transactions)
+                    .execute();
+            return Map.of();
+        } catch (BulkOperationException ex) {
+            Map<Integer, String> failures = new HashMap<>();
+            ex.getErrors().forEach(error -> failures.put(error.getIndex(), error.getMessage()));
+            return failures;
+        }
+    }
+
+    @Override
+    public List<Transaction> findCompletedBetween(Instant from, Instant toExclusive) {
+        Query query = new Query(completedWithin(from, toExclusive))
+                .with(Sort.by(Sort.Direction.ASC, "dateCompleted"))
+                .withHint(Transaction.DATE_COMPLETED_INDEX);
+        return mongoTemplate.find(query, Transaction.class);
+    }
+
+    @Override
+    public Stream<Transaction> streamForExport(Instant from, Instant toExclusive, TransactionStatus status) {
+        Query query = new Query();
+        if (status != null) {
+            query.addCriteria(Criteria.where("status").is(status));
+        }
+        if (from != null || toExclusive != null) {
+            query.addCriteria(completedWithin(from, toExclusive));
+        }
+        // Both filters are covered by status_date_idx or date_completed_idx, which also serve the sort.
+        query.with(Sort.by(Sort.Direction.ASC, "dateCompleted"))
+                .cursorBatchSize(EXPORT_CURSOR_BATCH_SIZE);
+        return mongoTemplate.stream(query, Transaction.class);
+    }
+
+    // BSON range operators only compare values of the same type, so a date bound never matches a v1 string.
+    // Until the migration reaches them, those documents need their own clause with the bounds as day strings.
+    // While both kinds exist, strings sort ahead of dates.
+    static Criteria completedWithin(Instant from, Instant toExclusive) {
+        Criteria typed = Criteria.where("dateCompleted");
+        Criteria legacy = Criteria.where("dateCompleted");
+        if (from != null) {
+            typed.gte(from);
+            legacy.gte(legacyDayBound(from));
+        }
+        if (toExclusive != null) {
+            typed.lt(toExclusive);
+            legacy.lt(legacyDayBound(toExclusive));
+        }
+        return new Criteria().orOperator(typed, new Criteria().andOperator(
+                Criteria.where("schemaVersion").not().gte(Transaction.CURRENT_SCHEMA_VERSION), legacy));
+    }
+
+    // A v1 day stands for its UTC midnight, so the first day at or after the instant gives the same half-open range.
+    static String legacyDayBound(Instant instant) {
+        LocalDate day = LocalDate.ofInstant(instant, ZoneOffset.UTC);
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant().equals(instant)
+                ? day.toString()
+                : day.plusDays(1).toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ZoneRollup {
+
+    private String laneZone;
+
+    private TransactionStatus status;
+
+    private long transactionCount;
+
+    private BigDecimal revenue;
+}
@@ -0,0 +1,115 @@
+package com.bowling.transaction.domainclientlayer;
+
+import com.bowling.transaction.config.ServiceClientsConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Times every RestTemplate call per downstream and outcome. All meters are registered up front
+// so the request path only does a host match and a Timer.record, with no tag allocation.
+@Component
+public class DownstreamMetrics implements ClientHttpRequestInterceptor {
+
+    public static final String REQUESTS = "downstream.client.requests";
+    public static final String ERRORS = "downstream.client.errors";
+
+    public enum Outcome { SUCCESS, CLIENT_ERROR, SERVER_ERROR, TIMEOUT, IO_ERROR }
+
+    private final List<Target> targets;
+    private final Target unknown;
+
+    public DownstreamMetrics(MeterRegistry registry, ServiceClientsConfig config) {
+        this.targets = List.of(
+                new Target(registry, "bowlingball", config.getBowlingballService()),
+                new Target(registry, "lane", config.getLaneService()),
+                new Target(registry, "shoe", config.getShoeService()));
+        this.unknown = new Target(registry, "other", null);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Target target = targetFor(request.getURI());
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            target.record(outcome(response.getStatusCode().value()), System.nanoTime() - start);
+            return response;
+        } catch (SocketTimeoutException ex) {
+            target.record(Outcome.TIMEOUT, System.nanoTime() - start);
+            throw ex;
+        } catch (IOException ex) {
+            target.record(Outcome.IO_ERROR, System.nanoTime() - start);
+            throw ex;
+        }
+    }
+
+    private Target targetFor(URI uri) {
+        for (Target target : targets) {
+            if (target.matches(uri)) {
+                return target;
+            }
+        }
+        return unknown;
+    }
+
+    private static Outcome outcome(int status) {
+        if (status >= 500) return Outcome.SERVER_ERROR;
+        if (status >= 400) return Outcome.CLIENT_ERROR;
+        return Outcome.SUCCESS;
+    }
+
+    private static final class Target {
+        private final String host;
+        private final int port;
+        private final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+        private final Map<Outcome, Counter> errors = new EnumMap<>(Outcome.class);
+
+        Target(MeterRegistry registry, String name, ServiceClientsConfig.ServiceDetails details) {
+            this.host = details != null ? details.getHost() : null;
+            this.port = details != null && details.getPort() != null ? Integer.parseInt(details.getPort()) : -1;
+            for (Outcome outcome : Outcome.values()) {
+                timers.put(outcome, Timer.builder(REQUESTS)
+                        .description("Latency of calls to downstream services")
+                        .tag("target", name)
+                        .tag("outcome", outcome.name())
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(10))
+                        .register(registry));
+                if (outcome != Outcome.SUCCESS) {
+                    errors.put(outcome, Counter.builder(ERRORS)
+                            .description("Failed calls to downstream services")
+                            .tag("target", name)
+                            .tag("outcome", outcome.name())
+                            .register(registry));
+                }
+            }
+        }
+
+        boolean matches(URI uri) {
+            return host != null && host.equals(uri.getHost()) && (port == uri.getPort() || port == -1);
+        }
+
+        void record(Outcome outcome, long nanos) {
+            timers.get(outcome).record(nanos, TimeUnit.NANOSECONDS);
+            if (outcome != Outcome.SUCCESS) {
+                errors.get(outcome).increment();
+            }
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.bowling.transaction.domainclientlayer.bowlingball;
 
 
+import com.bowling.transaction.config.DomainClientCacheConfig;
 import com.bowling.transaction.config.ServiceClientsConfig;
 import com.bowling.transaction.exceptionlayer.HttpErrorInfo;
 import com.bowling.transaction.exceptionlayer.InvalidInputException;
 import com.bowling.transaction.exceptionlayer.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -23,19 +26,34 @@ public class BowlingBallServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String BALL_SERVICE_BASE_URL;
+    private final Cache<String, BowlingBallModel> ballCache;
 
     public BowlingBallServiceClient(RestTemplate restTemplate,
                                     ObjectMapper mapper,
-                                    ServiceClientsConfig config) {
+                                    ServiceClientsConfig config,
+                                    DomainClientCacheConfig cacheConfig,
+                                    MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
         this.BALL_SERVICE_BASE_URL = "http://" +
                 config.getBowlingballService().getHost() + ":" +
                 config.getBowlingballService().getPort() + "/bowlingballs";
+        this.ballCache = cacheConfig.getBowlingball().build(meterRegistry, "bowlingball");
     }
 
-
     public BowlingBallModel getBowlingBallById(String ballId) {
+        return ballCache.get(ballId, this::fetchBowlingBall);
+    }
+
+    public void evict(String ballId) {
+        ballCache.invalidate(ballId);
+    }
+
+    public void evictAll() {
+        ballCache.invalidateAll();
+    }
+
+    private BowlingBallModel fetchBowlingBall(String ballId) {
         try {
             String url = BALL_SERVICE_BASE_URL + "/" + ballId;
             log.debug("BowlingBall-Service GET by ballId URL: {}", url);
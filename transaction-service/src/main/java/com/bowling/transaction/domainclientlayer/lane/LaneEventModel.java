@@ -0,0 +1,14 @@
+package com.bowling.transaction.domainclientlayer.lane;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LaneEventModel {
+
+    private long sequence;
+
+    private String laneId;
+}
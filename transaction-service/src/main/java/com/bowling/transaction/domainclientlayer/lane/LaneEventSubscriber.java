@@ -0,0 +1,97 @@
+package com.bowling.transaction.domainclientlayer.lane;
+
+import com.bowling.transaction.config.ServiceClientsConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+// Follows lane-service's change stream so a changed lane is dropped from the cache instead of waiting out its TTL.
+@Slf4j
+@Component
+public class LaneEventSubscriber {
+
+    static final String LANE_EVENT = "lane";
+    static final String RESET_EVENT = "reset";
+
+    private static final ParameterizedTypeReference<ServerSentEvent<LaneEventModel>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final LaneServiceClient laneServiceClient;
+    private final Duration reconnectDelay;
+    private final boolean enabled;
+    private volatile String lastEventId;
+    private Disposable subscription;
+
+    public LaneEventSubscriber(WebClient.Builder webClientBuilder,
+                               ServiceClientsConfig config,
+                               LaneServiceClient laneServiceClient,
+                               @Value("${app.lane-events.reconnect-delay:5s}") Duration reconnectDelay,
+                               @Value("${app.lane-events.enabled:true}") boolean enabled) {
+        this.webClient = webClientBuilder
+                .baseUrl("http://" + config.getLaneService().getHost() + ":" + config.getLaneService().getPort())
+                .build();
+        this.laneServiceClient = laneServiceClient;
+        this.reconnectDelay = reconnectDelay;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        subscription = Flux.defer(this::connect)
+                .doOnNext(this::onEvent)
+                .doOnError(ex -> log.warn("Lane event stream dropped, reconnecting: {}", ex.getMessage()))
+                .retryWhen(Retry.fixedDelay(Long.MAX_VALUE, reconnectDelay))
+                .repeatWhen(completed -> completed.delayElements(reconnectDelay))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    // Resumes from the last event seen; lane-service answers with a reset when it can no longer replay from there.
+    private Flux<ServerSentEvent<LaneEventModel>> connect() {
+        return webClient.get()
+                .uri("/lanes/events")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    if (lastEventId != null) {
+                        headers.set("Last-Event-ID", lastEventId);
+                    }
+                })
+                .retrieve()
+                .bodyToFlux(EVENT_TYPE);
+    }
+
+    void onEvent(ServerSentEvent<LaneEventModel> event) {
+        if (RESET_EVENT.equals(event.event())) {
+            laneServiceClient.evictAll();
+        } else if (LANE_EVENT.equals(event.event()) && event.data() != null) {
+            laneServiceClient.evict(event.data().getLaneId());
+        } else {
+            return;
+        }
+        if (event.id() != null) {
+            lastEventId = event.id();
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.bowling.transaction.domainclientlayer.lane;
 
+import com.bowling.transaction.config.DomainClientCacheConfig;
 import com.bowling.transaction.config.ServiceClientsConfig;
 import com.bowling.transaction.exceptionlayer.HttpErrorInfo;
 import com.bowling.transaction.exceptionlayer.InvalidInputException;
 import com.bowling.transaction.exceptionlayer.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -23,26 +26,65 @@ public class LaneServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String LANE_SERVICE_BASE_URL;
+    private final Cache<String, LaneModel> laneCache;
+    private final Cache<String, LaneStatus> laneStatusCache;
 
     public LaneServiceClient(RestTemplate restTemplate,
                              ObjectMapper mapper,
-                             ServiceClientsConfig config) {
+                             ServiceClientsConfig config,
+                             DomainClientCacheConfig cacheConfig,
+                             MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
         this.LANE_SERVICE_BASE_URL = "http://" +
                 config.getLaneService().getHost() + ":" +
                 config.getLaneService().getPort() + "/lanes";
+        this.laneCache = cacheConfig.getLane().build(meterRegistry, "lane");
+        this.laneStatusCache = cacheConfig.getLaneStatus().build(meterRegistry, "lane-status");
     }
 
-
+    // Zone and lane number rarely change, so the status on this model may be stale.
     public LaneModel getLaneByLaneId(String laneId) {
+        return laneCache.get(laneId, this::fetchLane);
+    }
+
+    public LaneModel getLaneWithCurrentStatus(String laneId) {
+        LaneModel lane = laneCache.getIfPresent(laneId);
+        LaneStatus status = laneStatusCache.getIfPresent(laneId);
+        if (lane != null && status != null) {
+            return new LaneModel(lane.getId(), lane.getLaneNumber(), lane.getZone(), status);
+        }
+
+        LaneModel fresh = fetchLane(laneId);
+        if (fresh != null) {
+            laneCache.put(laneId, fresh);
+        }
+        return fresh;
+    }
+
+    public void evict(String laneId) {
+        laneCache.invalidate(laneId);
+        laneStatusCache.invalidate(laneId);
+    }
+
+    public void evictAll() {
+        laneCache.invalidateAll();
+        laneStatusCache.invalidateAll();
+    }
+
+    private LaneModel fetchLane(String laneId) {
+        LaneModel lane;
         try {
             String url = LANE_SERVICE_BASE_URL + "/" + laneId;
             log.debug("Lane-Service GET by laneId URL: {}", url);
-            return restTemplate.getForObject(url, LaneModel.class);
+            lane = restTemplate.getForObject(url, LaneModel.class);
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
+        if (lane != null && lane.getStatus() != null) {
+            laneStatusCache.put(laneId, lane.getStatus());
+        }
+        return lane;
     }
 
     private String getErrorMessage(HttpClientErrorException ex) {
@@ -1,10 +1,13 @@
 package com.bowling.transaction.domainclientlayer.shoe;
 
+import com.bowling.transaction.config.DomainClientCacheConfig;
 import com.bowling.transaction.config.ServiceClientsConfig;
 import com.bowling.transaction.exceptionlayer.HttpErrorInfo;
 import com.bowling.transaction.exceptionlayer.InvalidInputException;
 import com.bowling.transaction.exceptionlayer.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -20,19 +23,34 @@ public class ShoeServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String SHOE_SERVICE_BASE_URL;
+    private final Cache<String, ShoeModel> shoeCache;
 
     public ShoeServiceClient(RestTemplate restTemplate,
                              ObjectMapper mapper,
-                             ServiceClientsConfig config) {
+                             ServiceClientsConfig config,
+                             DomainClientCacheConfig cacheConfig,
+                             MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
         this.SHOE_SERVICE_BASE_URL = "http://" +
                 config.getShoeService().getHost() + ":" +
                 config.getShoeService().getPort() + "/shoes";
+        this.shoeCache = cacheConfig.getShoe().build(meterRegistry, "shoe");
     }
 
-
     public ShoeModel getShoeById(String shoeId) {
+        return shoeCache.get(shoeId, this::fetchShoe);
+    }
+
+    public void evict(String shoeId) {
+        shoeCache.invalidate(shoeId);
+    }
+
+    public void evictAll() {
+        shoeCache.invalidateAll();
+    }
+
+    private ShoeModel fetchShoe(String shoeId) {
         try {
             String url = SHOE_SERVICE_BASE_URL + "/" + shoeId;
             log.debug("Shoe-Service GET by shoeId URL: {}", url);
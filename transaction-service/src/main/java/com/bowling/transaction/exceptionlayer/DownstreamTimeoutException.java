@@ -0,0 +1,12 @@
+package com.bowling.transaction.exceptionlayer;
+
+public class DownstreamTimeoutException extends RuntimeException {
+
+  public DownstreamTimeoutException(String message) {
+    super(message);
+  }
+
+  public DownstreamTimeoutException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
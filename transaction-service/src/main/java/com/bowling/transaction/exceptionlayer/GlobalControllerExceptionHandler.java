@@ -35,5 +35,17 @@ public class GlobalControllerExceptionHandler {
     public HttpErrorInfo handleInvalidStatusException(WebRequest request, Exception ex) {
         return createHttpErrorInfo(HttpStatus.BAD_REQUEST, request, ex);
     }
+
+    @ExceptionHandler(IdempotencyConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public HttpErrorInfo handleIdempotencyConflictException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(HttpStatus.CONFLICT, request, ex);
+    }
+
+    @ExceptionHandler(DownstreamTimeoutException.class)
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    public HttpErrorInfo handleDownstreamTimeoutException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(HttpStatus.GATEWAY_TIMEOUT, request, ex);
+    }
 }
 
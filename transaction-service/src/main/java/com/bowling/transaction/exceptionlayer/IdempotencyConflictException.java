@@ -0,0 +1,7 @@
+package com.bowling.transaction.exceptionlayer;
+
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,12 @@
 package com.bowling.transaction.mappinglayer;
 
+import com.bowling.transaction.dataaccesslayer.DailyRollup;
 import com.bowling.transaction.dataaccesslayer.Transaction;
+import com.bowling.transaction.dataaccesslayer.ZoneRollup;
+import com.bowling.transaction.presentationlayer.DailyRollupResponseDTO;
 import com.bowling.transaction.presentationlayer.TransactionRequestDTO;
 import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+import com.bowling.transaction.presentationlayer.ZoneRollupResponseDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -16,7 +20,12 @@ public interface TransactionMapper {
     @Mapping(target = "transactionIdentifier", ignore = true)
     @Mapping(target = "totalPrice", ignore = true)
     @Mapping(target = "dateCompleted", ignore = true)
+    @Mapping(target = "schemaVersion", ignore = true)
     Transaction toEntity(TransactionRequestDTO dto);
+
+    DailyRollupResponseDTO toRollupResponseDTO(DailyRollup rollup);
+
+    ZoneRollupResponseDTO toRollupResponseDTO(ZoneRollup rollup);
 }
 
 
@@ -0,0 +1,23 @@
+package com.bowling.transaction.presentationlayer;
+
+import com.bowling.transaction.dataaccesslayer.TransactionStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyRollupResponseDTO {
+
+    private String date;
+
+    private String laneZone;
+
+    private TransactionStatus status;
+
+    private long transactionCount;
+
+    private BigDecimal revenue;
+}
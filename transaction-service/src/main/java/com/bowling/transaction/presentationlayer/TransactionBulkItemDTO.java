@@ -0,0 +1,21 @@
+package com.bowling.transaction.presentationlayer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransactionBulkItemDTO {
+
+    // Position of the item in the submitted batch.
+    private int index;
+
+    private boolean success;
+
+    private TransactionResponseDTO transaction;
+
+    private String error;
+}
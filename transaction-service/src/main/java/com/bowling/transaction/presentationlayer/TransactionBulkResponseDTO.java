@@ -0,0 +1,18 @@
+package com.bowling.transaction.presentationlayer;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionBulkResponseDTO {
+
+    private int created;
+
+    private int failed;
+
+    private List<TransactionBulkItemDTO> items;
+}
@@ -1,19 +1,36 @@
 package com.bowling.transaction.presentationlayer;
 
+import com.bowling.transaction.businesslayer.ExportFormat;
+import com.bowling.transaction.businesslayer.TransactionPage;
 import com.bowling.transaction.businesslayer.TransactionService;
+import com.bowling.transaction.dataaccesslayer.TransactionStatus;
 import com.bowling.transaction.exceptionlayer.InvalidInputException;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/transactions")
 public class TransactionController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String DEFAULT_PAGE_SIZE = "50";
+    private static final int EXPORT_GZIP_BUFFER_SIZE = 8192;
+
     private final TransactionService transactionService;
 
     public TransactionController(TransactionService transactionService) {
@@ -21,8 +38,76 @@ public class TransactionController {
     }
 
     @GetMapping
-    public ResponseEntity<List<TransactionResponseDTO>> getAllTransactions() {
-        return ResponseEntity.ok(transactionService.getAllTransactions());
+    public ResponseEntity<List<TransactionResponseDTO>> getAllTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        TransactionPage page = transactionService.getTransactions(cursor, size);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getContent());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) TransactionStatus status,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        validateRange("Export", from, to);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        // Written on the async request thread while the cursor is read, so neither side holds the whole export.
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, EXPORT_GZIP_BUFFER_SIZE);
+                transactionService.exportTransactions(exportFormat, from, to, status, compressed);
+                compressed.finish();
+            } else {
+                transactionService.exportTransactions(exportFormat, from, to, status, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("transactions." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/reports/daily")
+    public ResponseEntity<List<DailyRollupResponseDTO>> getDailyReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String zone,
+            @RequestParam(required = false) TransactionStatus status) {
+        validateRange("Report", from, to);
+        return ResponseEntity.ok(transactionService.getDailyReport(from, to, zone, status));
+    }
+
+    @GetMapping("/reports/zones")
+    public ResponseEntity<List<ZoneRollupResponseDTO>> getZoneReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) TransactionStatus status) {
+        validateRange("Report", from, to);
+        return ResponseEntity.ok(transactionService.getZoneReport(from, to, status));
+    }
+
+    @PostMapping("/reports/rebuild")
+    public ResponseEntity<Void> rebuildReports() {
+        transactionService.rebuildReports();
+        return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/{transactionId}")
@@ -32,8 +117,16 @@ public class TransactionController {
     }
 
     @PostMapping
-    public ResponseEntity<TransactionResponseDTO> createTransaction(@Valid @RequestBody TransactionRequestDTO requestDTO) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(transactionService.createTransaction(requestDTO));
+    public ResponseEntity<TransactionResponseDTO> createTransaction(
+            @Valid @RequestBody TransactionRequestDTO requestDTO,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(transactionService.createTransaction(requestDTO, idempotencyKey));
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<TransactionBulkResponseDTO> createTransactions(@RequestBody List<JsonNode> requestItems) {
+        return ResponseEntity.ok(transactionService.createTransactions(requestItems));
     }
 
     @PutMapping("/{transactionId}")
@@ -51,6 +144,42 @@ public class TransactionController {
         return ResponseEntity.noContent().build();
     }
 
+    // gzip is used when listed, or covered by "*", with a q-value above zero; "gzip;q=0" refuses it.
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException ex) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = gzip == null ? quality : Math.max(gzip, quality);
+            } else if (name.equals("*")) {
+                any = quality;
+            }
+        }
+        return gzip != null ? gzip > 0 : any != null && any > 0;
+    }
+
+    private void validateRange(String what, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidInputException(what + " range start " + from + " is after its end " + to + ".");
+        }
+    }
+
     private void validateUUID(String id) {
         try {
             UUID.fromString(id);
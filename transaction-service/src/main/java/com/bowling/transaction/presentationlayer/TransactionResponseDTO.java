@@ -4,6 +4,7 @@ import com.bowling.transaction.dataaccesslayer.TransactionStatus;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @Data
 @NoArgsConstructor
@@ -25,7 +26,7 @@ public class TransactionResponseDTO {
 
     private BigDecimal totalPrice;
 
-    private String dateCompleted;
+    private Instant dateCompleted;
 
     private TransactionStatus status;
 }
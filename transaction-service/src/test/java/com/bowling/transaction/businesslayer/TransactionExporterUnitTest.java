@@ -0,0 +1,80 @@
+package com.bowling.transaction.businesslayer;
+
+import com.bowling.transaction.dataaccesslayer.Transaction;
+import com.bowling.transaction.dataaccesslayer.TransactionIdentifier;
+import com.bowling.transaction.dataaccesslayer.TransactionRepository;
+import com.bowling.transaction.dataaccesslayer.TransactionStatus;
+import com.bowling.transaction.mappinglayer.TransactionMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class TransactionExporterUnitTest {
+
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private TransactionExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new TransactionExporter(transactionRepository, new TransactionMapperImpl(), objectMapper);
+    }
+
+    private Transaction transaction(String customerName) {
+        return Transaction.builder()
+                .transactionIdentifier(new TransactionIdentifier("8a7c5a9e-1f0b-4e53-9b0c-8f1e2d3c4b5a"))
+                .customerName(customerName)
+                .laneId("lane-1")
+                .bowlingBallId("ball-1")
+                .shoeId("shoe-1")
+                .laneZone("ZONE_1")
+                .totalPrice(BigDecimal.valueOf(30))
+                .dateCompleted(Instant.parse("2025-03-01T18:30:00Z"))
+                .status(TransactionStatus.COMPLETED)
+                .build();
+    }
+
+    @Test
+    void whenExportingCsv_thenHeaderComesFirstAndFieldsAreQuotedWhenNeeded() throws Exception {
+        // The inclusive end date becomes an exclusive bound at the start of the next day.
+        when(transactionRepository.streamForExport(Instant.parse("2025-03-01T00:00:00Z"),
+                Instant.parse("2025-04-01T00:00:00Z"), TransactionStatus.COMPLETED))
+                .thenReturn(Stream.of(transaction("Jane Doe"), transaction("Doe, \"JJ\" Jr.")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exporter.export(ExportFormat.CSV, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31),
+                TransactionStatus.COMPLETED, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                TransactionExporter.CSV_HEADER,
+                "8a7c5a9e-1f0b-4e53-9b0c-8f1e2d3c4b5a,Jane Doe,lane-1,ball-1,shoe-1,ZONE_1,30,2025-03-01T18:30:00Z,COMPLETED",
+                "8a7c5a9e-1f0b-4e53-9b0c-8f1e2d3c4b5a,\"Doe, \"\"JJ\"\" Jr.\",lane-1,ball-1,shoe-1,ZONE_1,30,2025-03-01T18:30:00Z,COMPLETED");
+    }
+
+    @Test
+    void whenExportingNdjson_thenOneJsonObjectPerLineAndCursorIsClosed() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(transactionRepository.streamForExport(null, null, null))
+                .thenReturn(Stream.of(transaction("Jane Doe"), transaction("John Roe")).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exporter.export(ExportFormat.NDJSON, null, null, null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[1]).get("customerName").asText()).isEqualTo("John Roe");
+        assertThat(closed).isTrue();
+    }
+}
@@ -0,0 +1,213 @@
+package com.bowling.transaction.businesslayer;
+
+import com.bowling.transaction.config.IdempotencyConfig;
+import com.bowling.transaction.dataaccesslayer.IdempotencyRecord;
+import com.bowling.transaction.dataaccesslayer.IdempotencyRecordRepository;
+import com.bowling.transaction.dataaccesslayer.TransactionStatus;
+import com.bowling.transaction.exceptionlayer.IdempotencyConflictException;
+import com.bowling.transaction.exceptionlayer.InvalidInputException;
+import com.bowling.transaction.presentationlayer.TransactionRequestDTO;
+import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TransactionIdempotencyStoreUnitTest {
+
+    private static final String KEY = "desk-1-0042";
+
+    private IdempotencyRecordRepository records;
+    private TransactionIdempotencyStore store;
+    private final AtomicInteger creations = new AtomicInteger();
+    private final TransactionResponseDTO created = TransactionResponseDTO.builder()
+            .transactionId("tx-1")
+            .customerName("User A")
+            .build();
+    private final Function<String, TransactionResponseDTO> create = transactionId -> {
+        creations.incrementAndGet();
+        return created;
+    };
+    private final Function<String, Optional<TransactionResponseDTO>> noLookup =
+            id -> fail("Unexpected lookup of " + id);
+
+    @BeforeEach
+    void setUp() {
+        records = mock(IdempotencyRecordRepository.class);
+        when(records.complete(any(), any(), any())).thenReturn(true);
+        store = new TransactionIdempotencyStore(records, new IdempotencyConfig());
+    }
+
+    private IdempotencyRecord pendingClaim(String transactionId, Instant createdAt) {
+        return IdempotencyRecord.builder()
+                .key(KEY)
+                .requestFingerprint(TransactionIdempotencyStore.fingerprint(request("User A")))
+                .transactionId(transactionId)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private TransactionRequestDTO request(String customerName) {
+        return TransactionRequestDTO.builder()
+                .customerName(customerName)
+                .laneId("lane-123")
+                .bowlingBallId("ball-456")
+                .shoeId("shoe-789")
+                .status(TransactionStatus.OPEN)
+                .build();
+    }
+
+    @Test
+    void whenKeyRepeats_thenOriginalResponseIsReplayedWithoutCreatingAgain() {
+        TransactionResponseDTO first = store.createOnce(KEY, request("User A"), create, noLookup);
+        TransactionResponseDTO second = store.createOnce(KEY, request("User A"), create, noLookup);
+
+        assertSame(created, first);
+        assertSame(created, second);
+        assertEquals(1, creations.get());
+        verify(records).insert(
+                argThat((IdempotencyRecord record) -> record.getTransactionId() != null && record.getResponse() == null));
+        verify(records).complete(eq(KEY), any(), eq(created));
+    }
+
+    @Test
+    void whenDuplicatesArriveConcurrently_thenTheyShareOneExecution() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, TransactionResponseDTO> slowCreate = transactionId -> {
+            creations.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return created;
+        };
+
+        CompletableFuture<TransactionResponseDTO> first =
+                CompletableFuture.supplyAsync(() -> store.createOnce(KEY, request("User A"), slowCreate, noLookup));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<TransactionResponseDTO> second =
+                CompletableFuture.supplyAsync(() -> store.createOnce(KEY, request("User A"), slowCreate, noLookup));
+        release.countDown();
+
+        assertSame(created, first.get(5, TimeUnit.SECONDS));
+        assertSame(created, second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    void whenKeyIsReusedForADifferentRequest_thenReject() {
+        store.createOnce(KEY, request("User A"), create, noLookup);
+
+        assertThrows(InvalidInputException.class,
+                () -> store.createOnce(KEY, request("User B"), create, noLookup));
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    void whenAnotherInstanceCompletedTheKey_thenReplayTheStoredResponse() {
+        when(records.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("dup"));
+        when(records.findById(KEY)).thenReturn(Optional.of(
+                pendingClaim("tx-1", Instant.now()).toBuilder().response(created).build()));
+
+        // No lookup: the transaction may since have been deleted, and the original answer is replayed anyway.
+        assertSame(created, store.createOnce(KEY, request("User A"), create, noLookup));
+        assertEquals(0, creations.get());
+    }
+
+    @Test
+    void whenAnotherInstanceIsStillRunningTheKey_thenConflict() {
+        when(records.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("dup"));
+        when(records.findById(KEY)).thenReturn(Optional.of(pendingClaim("tx-1", Instant.now())));
+
+        assertThrows(IdempotencyConflictException.class,
+                () -> store.createOnce(KEY, request("User A"), create, noLookup));
+        assertEquals(0, creations.get());
+    }
+
+    @Test
+    void whenStaleClaimsTransactionWasCreated_thenItIsRecordedAndReplayedWithoutCreatingAgain() {
+        Instant staleAt = Instant.now().minus(Duration.ofMinutes(5));
+        when(records.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("dup"));
+        when(records.findById(KEY)).thenReturn(Optional.of(pendingClaim("tx-1", staleAt)));
+
+        TransactionResponseDTO replayed = store.createOnce(KEY, request("User A"), create,
+                id -> Optional.of(TransactionResponseDTO.builder().transactionId(id).build()));
+
+        assertEquals("tx-1", replayed.getTransactionId());
+        assertEquals(0, creations.get());
+        verify(records).complete(eq(KEY), eq(staleAt), eq(replayed));
+        verify(records, never()).takeOver(any(), any(), any());
+    }
+
+    @Test
+    void whenStaleClaimIsTakenOver_thenTheReservedTransactionIdIsReused() {
+        Instant staleAt = Instant.now().minus(Duration.ofMinutes(5));
+        when(records.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("dup"));
+        when(records.findById(KEY)).thenReturn(Optional.of(pendingClaim("tx-reserved", staleAt)));
+        when(records.takeOver(eq(KEY), eq(staleAt), any())).thenReturn(true);
+        AtomicReference<String> createdWith = new AtomicReference<>();
+
+        store.createOnce(KEY, request("User A"), transactionId -> {
+            createdWith.set(transactionId);
+            return created;
+        }, id -> Optional.empty());
+
+        assertEquals("tx-reserved", createdWith.get());
+    }
+
+    @Test
+    void whenAnotherInstanceWinsTheTakeOver_thenConflictWithoutCreating() {
+        Instant staleAt = Instant.now().minus(Duration.ofMinutes(5));
+        when(records.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("dup"));
+        when(records.findById(KEY)).thenReturn(Optional.of(pendingClaim("tx-reserved", staleAt)));
+        when(records.takeOver(eq(KEY), eq(staleAt), any())).thenReturn(false);
+
+        assertThrows(IdempotencyConflictException.class,
+                () -> store.createOnce(KEY, request("User A"), create, id -> Optional.empty()));
+        assertEquals(0, creations.get());
+    }
+
+    @Test
+    void whenRecordingTheResponseFails_thenTheCreatedTransactionIsStillReturned() {
+        when(records.complete(any(), any(), any())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertSame(created, store.createOnce(KEY, request("User A"), create, noLookup));
+    }
+
+    @Test
+    void whenCreationFails_thenClaimIsReleasedAndARetryRunsAgain() {
+        Function<String, TransactionResponseDTO> failing = transactionId -> {
+            creations.incrementAndGet();
+            throw new InvalidInputException("Lane not found");
+        };
+
+        assertThrows(InvalidInputException.class, () -> store.createOnce(KEY, request("User A"), failing, noLookup));
+        verify(records).release(eq(KEY), any());
+
+        assertSame(created, store.createOnce(KEY, request("User A"), create, noLookup));
+        assertEquals(2, creations.get());
+    }
+
+    @Test
+    void whenKeyIsBlank_thenReject() {
+        assertThrows(InvalidInputException.class, () -> store.createOnce(" ", request("User A"), create, noLookup));
+    }
+}
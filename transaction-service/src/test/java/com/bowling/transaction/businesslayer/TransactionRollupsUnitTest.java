@@ -0,0 +1,114 @@
+package com.bowling.transaction.businesslayer;
+
+import com.bowling.transaction.dataaccesslayer.DailyRollup;
+import com.bowling.transaction.dataaccesslayer.DailyRollupRepository;
+import com.bowling.transaction.dataaccesslayer.Transaction;
+import com.bowling.transaction.dataaccesslayer.TransactionRepository;
+import com.bowling.transaction.dataaccesslayer.TransactionStatus;
+import com.bowling.transaction.mappinglayer.TransactionMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class TransactionRollupsUnitTest {
+
+    private final DailyRollupRepository rollupRepository = mock(DailyRollupRepository.class);
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private TransactionRollups rollups;
+
+    @BeforeEach
+    void setUp() {
+        rollups = new TransactionRollups(rollupRepository, transactionRepository, new TransactionMapperImpl());
+    }
+
+    private Transaction transaction(String zone, TransactionStatus status, String price) {
+        return Transaction.builder()
+                .laneZone(zone)
+                .status(status)
+                .totalPrice(new BigDecimal(price))
+                .dateCompleted(Instant.parse("2025-03-01T23:30:00Z"))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DailyRollup> appliedDeltas() {
+        ArgumentCaptor<Collection<DailyRollup>> deltas = ArgumentCaptor.forClass(Collection.class);
+        verify(rollupRepository).applyDeltas(deltas.capture());
+        return new ArrayList<>(deltas.getValue());
+    }
+
+    @Test
+    void whenTransactionsShareABucket_thenOneDeltaCarriesTheirCombinedTotals() {
+        rollups.recordCreated(List.of(
+                transaction("ZONE_1", TransactionStatus.OPEN, "30.00"),
+                transaction("ZONE_1", TransactionStatus.OPEN, "25.50"),
+                transaction("ZONE_2", TransactionStatus.OPEN, "30.00")));
+
+        List<DailyRollup> deltas = appliedDeltas();
+        assertThat(deltas).extracting(DailyRollup::getLaneZone).containsExactly("ZONE_1", "ZONE_2");
+        assertThat(deltas.get(0).getDate()).isEqualTo("2025-03-01");
+        assertThat(deltas.get(0).getTransactionCount()).isEqualTo(2);
+        assertThat(deltas.get(0).getRevenue()).isEqualByComparingTo("55.50");
+    }
+
+    @Test
+    void whenStatusChanges_thenRevenueMovesFromTheOldBucketToTheNewOne() {
+        rollups.recordUpdated(
+                transaction("ZONE_1", TransactionStatus.OPEN, "30.00"),
+                transaction("ZONE_1", TransactionStatus.COMPLETED, "30.00"));
+
+        List<DailyRollup> deltas = appliedDeltas();
+        assertThat(deltas).extracting(DailyRollup::getStatus)
+                .containsExactly(TransactionStatus.COMPLETED, TransactionStatus.OPEN);
+        assertThat(deltas).extracting(DailyRollup::getTransactionCount).containsExactly(1L, -1L);
+        assertThat(deltas.get(1).getRevenue()).isEqualByComparingTo("-30.00");
+    }
+
+    @Test
+    void whenUpdateKeepsItsBucket_thenNothingIsWritten() {
+        rollups.recordUpdated(
+                transaction("ZONE_1", TransactionStatus.OPEN, "30.00"),
+                transaction("ZONE_1", TransactionStatus.OPEN, "30.00"));
+
+        verify(rollupRepository, never()).applyDeltas(anyCollection());
+    }
+
+    @Test
+    void whenRollupWriteFails_thenTheTransactionWriteIsNotFailed() {
+        doThrow(new DataAccessResourceFailureException("mongo down")).when(rollupRepository).applyDeltas(anyCollection());
+
+        assertThatCode(() -> rollups.recordDeleted(transaction("ZONE_1", TransactionStatus.OPEN, "30.00")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void whenStartedWithTransactionsButNoRollups_thenRollupsAreBackfilled() {
+        when(rollupRepository.count()).thenReturn(0L);
+        when(transactionRepository.count()).thenReturn(10L);
+
+        rollups.backfillOnStartup();
+
+        verify(rollupRepository).rebuildFromTransactions();
+    }
+
+    @Test
+    void whenStartedWithRollupsInPlace_thenNothingIsRebuilt() {
+        when(rollupRepository.count()).thenReturn(4L);
+
+        rollups.backfillOnStartup();
+
+        verify(rollupRepository, never()).rebuildFromTransactions();
+    }
+}
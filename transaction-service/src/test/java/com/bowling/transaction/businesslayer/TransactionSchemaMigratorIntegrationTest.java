@@ -0,0 +1,85 @@
+package com.bowling.transaction.businesslayer;
+
+import com.bowling.transaction.dataaccesslayer.SchemaMigration;
+import com.bowling.transaction.dataaccesslayer.SchemaMigrationRepository;
+import com.bowling.transaction.dataaccesslayer.Transaction;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@ActiveProfiles("test")
+class TransactionSchemaMigratorIntegrationTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private SchemaMigrationRepository migrations;
+
+    private MongoCollection<Document> transactions;
+    private TransactionSchemaMigrator migrator;
+
+    @BeforeEach
+    void setUp() {
+        transactions = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Transaction.class));
+        transactions.deleteMany(new Document());
+        migrations.deleteAll();
+        // A batch size of 2 makes three documents span two batches and two checkpoints.
+        migrator = new TransactionSchemaMigrator(mongoTemplate, migrations, 2, false);
+    }
+
+    private Document legacy(String customerName, String dateCompleted, String totalPrice) {
+        return new Document("customerName", customerName)
+                .append("dateCompleted", dateCompleted)
+                .append("totalPrice", totalPrice)
+                .append("status", "COMPLETED");
+    }
+
+    @Test
+    void whenMigrated_thenV1DocumentsGetTypedFieldsAndBadOnesAreSkipped() {
+        transactions.insertOne(legacy("Alice", "2025-03-01", "28.50"));
+        transactions.insertOne(legacy("Bob", "2025-03-02", "not-a-price"));
+        transactions.insertOne(legacy("Clara", "2025-03-03", "35.00"));
+
+        SchemaMigration progress = migrator.migrate();
+
+        assertThat(progress.getMigrated()).isEqualTo(2);
+        assertThat(progress.getSkipped()).isEqualTo(1);
+        assertThat(progress.getCompletedAt()).isNotNull();
+        Document alice = transactions.find(new Document("customerName", "Alice")).first();
+        assertThat(alice.get("dateCompleted")).isEqualTo(Date.from(Instant.parse("2025-03-01T00:00:00Z")));
+        assertThat(alice.get("totalPrice")).isEqualTo(new Decimal128(new BigDecimal("28.50")));
+        assertThat(alice.get("schemaVersion")).isEqualTo(Transaction.CURRENT_SCHEMA_VERSION);
+        assertThat(transactions.find(new Document("customerName", "Bob")).first().get("schemaVersion")).isNull();
+    }
+
+    @Test
+    void whenRunAgain_thenItResumesAfterTheCheckpoint() {
+        transactions.insertOne(legacy("Alice", "2025-03-01", "28.50"));
+        migrator.migrate();
+        transactions.insertOne(legacy("Daniel", "2025-03-04", "31.75"));
+
+        SchemaMigration progress = migrator.migrate();
+
+        assertThat(progress.getMigrated()).isEqualTo(2);
+        assertThat(transactions.countDocuments(new Document("schemaVersion", Transaction.CURRENT_SCHEMA_VERSION)))
+                .isEqualTo(2);
+        assertThat(mongoTemplate.findAll(Transaction.class))
+                .extracting(Transaction::getTotalPrice)
+                .usingComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .containsExactlyInAnyOrder(new BigDecimal("28.50"), new BigDecimal("31.75"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.bowling.transaction.businesslayer;
+
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionSchemaMigratorUnitTest {
+
+    @Test
+    void whenDateIsAV1String_thenItBecomesABsonDate() {
+        assertThat(TransactionSchemaMigrator.toDate("2025-03-01"))
+                .isEqualTo(Date.from(Instant.parse("2025-03-01T00:00:00Z")));
+        assertThat(TransactionSchemaMigrator.toDate("2025-03-01T18:30:00Z"))
+                .isEqualTo(Date.from(Instant.parse("2025-03-01T18:30:00Z")));
+    }
+
+    @Test
+    void whenValuesAreAlreadyTypedOrMissing_thenTheyAreKept() {
+        Date completed = new Date();
+        Decimal128 price = new Decimal128(new BigDecimal("30.00"));
+
+        assertThat(TransactionSchemaMigrator.toDate(completed)).isSameAs(completed);
+        assertThat(TransactionSchemaMigrator.toDecimal128(price)).isSameAs(price);
+        assertThat(TransactionSchemaMigrator.toDate(null)).isNull();
+        assertThat(TransactionSchemaMigrator.toDecimal128(null)).isNull();
+    }
+
+    @Test
+    void whenPriceIsAStringOrNumber_thenItBecomesAnExactDecimal128() {
+        assertThat(TransactionSchemaMigrator.toDecimal128("28.50")).isEqualTo(new Decimal128(new BigDecimal("28.50")));
+        assertThat(TransactionSchemaMigrator.toDecimal128(30)).isEqualTo(new Decimal128(new BigDecimal("30")));
+    }
+
+    @Test
+    void whenValueCannotBeConverted_thenItIsRejected() {
+        assertThatThrownBy(() -> TransactionSchemaMigrator.toDecimal128("thirty"))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> TransactionSchemaMigrator.toDate(List.of("2025-03-01")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
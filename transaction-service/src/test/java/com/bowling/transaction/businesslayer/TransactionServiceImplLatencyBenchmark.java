@@ -0,0 +1,117 @@
+package com.bowling.transaction.businesslayer;
+
+import com.bowling.transaction.config.DependencyValidationConfig;
+import com.bowling.transaction.dataaccesslayer.Transaction;
+import com.bowling.transaction.dataaccesslayer.TransactionRepository;
+import com.bowling.transaction.dataaccesslayer.TransactionStatus;
+import com.bowling.transaction.domainclientlayer.bowlingball.BowlingBallServiceClient;
+import com.bowling.transaction.domainclientlayer.lane.LaneModel;
+import com.bowling.transaction.domainclientlayer.lane.LaneServiceClient;
+import com.bowling.transaction.domainclientlayer.lane.LaneStatus;
+import com.bowling.transaction.domainclientlayer.shoe.ShoeServiceClient;
+import com.bowling.transaction.mappinglayer.TransactionMapper;
+import com.bowling.transaction.presentationlayer.TransactionRequestDTO;
+import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Tag("benchmark")
+class TransactionServiceImplLatencyBenchmark {
+
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+
+    @Test
+    void createTransactionLatency_sequentialVersusConcurrentValidation() {
+        long[] sequential = measure(Runnable::run);
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        long[] concurrent;
+        try {
+            concurrent = measure(pool);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        report("sequential", sequential);
+        report("concurrent", concurrent);
+        assertTrue(percentile(concurrent, 50) < percentile(sequential, 50));
+    }
+
+    private long[] measure(Executor executor) {
+        TransactionRepository repository = mock(TransactionRepository.class);
+        TransactionMapper mapper = mock(TransactionMapper.class);
+        LaneServiceClient laneClient = mock(LaneServiceClient.class);
+        BowlingBallServiceClient ballClient = mock(BowlingBallServiceClient.class);
+        ShoeServiceClient shoeClient = mock(ShoeServiceClient.class);
+
+        LaneModel lane = LaneModel.builder().zone("ZONE_1").status(LaneStatus.AVAILABLE).build();
+        when(laneClient.getLaneByLaneId(anyString())).thenAnswer(latency(40, lane));
+        when(ballClient.getBowlingBallById(anyString())).thenAnswer(latency(25, null));
+        when(shoeClient.getShoeById(anyString())).thenAnswer(latency(30, null));
+        when(mapper.toEntity(any())).thenAnswer(invocation -> new Transaction());
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toResponseDTO(any())).thenReturn(new TransactionResponseDTO());
+
+        DependencyValidationConfig config = new DependencyValidationConfig();
+        config.setTimeout(Duration.ofSeconds(5));
+        TransactionServiceImpl service = new TransactionServiceImpl(
+                repository, mapper, laneClient, ballClient, shoeClient,
+                mock(TransactionIdempotencyStore.class), mock(TransactionExporter.class),
+                mock(TransactionRollups.class), new ObjectMapper(), new TaskExecutorAdapter(executor), config);
+
+        TransactionRequestDTO request = TransactionRequestDTO.builder()
+                .customerName("Benchmark")
+                .laneId("lane")
+                .bowlingBallId("ball")
+                .shoeId("shoe")
+                .status(TransactionStatus.OPEN)
+                .build();
+
+        for (int i = 0; i < WARMUP; i++) {
+            service.createTransaction(request);
+        }
+
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            service.createTransaction(request);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static <T> Answer<T> latency(long baseMillis, T result) {
+        return invocation -> {
+            Thread.sleep(baseMillis + ThreadLocalRandom.current().nextLong(10));
+            return result;
+        };
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static void report(String mode, long[] sorted) {
+        System.out.printf("createTransaction [%s] p50=%.1f ms p99=%.1f ms%n",
+                mode, percentile(sorted, 50), percentile(sorted, 99));
+    }
+}
@@ -2,6 +2,7 @@ package com.bowling.transaction.businesslayer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.bowling.transaction.config.DependencyValidationConfig;
 import com.bowling.transaction.dataaccesslayer.Transaction;
 import com.bowling.transaction.dataaccesslayer.TransactionIdentifier;
 import com.bowling.transaction.dataaccesslayer.TransactionRepository;
@@ -11,25 +12,40 @@ import com.bowling.transaction.domainclientlayer.lane.LaneModel;
 import com.bowling.transaction.domainclientlayer.lane.LaneServiceClient;
 import com.bowling.transaction.domainclientlayer.lane.LaneStatus;
 import com.bowling.transaction.domainclientlayer.shoe.ShoeServiceClient;
+import com.bowling.transaction.exceptionlayer.DownstreamTimeoutException;
 import com.bowling.transaction.exceptionlayer.InvalidInputException;
 import com.bowling.transaction.exceptionlayer.InvalidTransactionStatusException;
 import com.bowling.transaction.exceptionlayer.NotFoundException;
 import com.bowling.transaction.mappinglayer.TransactionMapper;
+import com.bowling.transaction.presentationlayer.TransactionBulkResponseDTO;
 import com.bowling.transaction.presentationlayer.TransactionRequestDTO;
 import com.bowling.transaction.presentationlayer.TransactionResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.mockito.stubbing.Answer;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.domain.Limit;
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.*;
 
 class TransactionServiceImplUnitTest {
 
-    @InjectMocks
     private TransactionServiceImpl transactionService;
 
     @Mock
@@ -47,9 +63,36 @@ class TransactionServiceImplUnitTest {
     @Mock
     private ShoeServiceClient shoeServiceClient;
 
+    @Mock
+    private TransactionIdempotencyStore idempotencyStore;
+
+    @Mock
+    private TransactionExporter exporter;
+
+    @Mock
+    private TransactionRollups rollups;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ExecutorService executor;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+
+        DependencyValidationConfig validationConfig = new DependencyValidationConfig();
+        validationConfig.setTimeout(Duration.ofMillis(500));
+        validationConfig.setBulkConcurrency(2);
+        executor = Executors.newFixedThreadPool(3);
+
+        transactionService = new TransactionServiceImpl(transactionRepository, transactionMapper,
+                laneServiceClient, bowlingBallServiceClient, shoeServiceClient, idempotencyStore, exporter,
+                rollups, objectMapper, new TaskExecutorAdapter(executor), validationConfig);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
     }
 
     private TransactionRequestDTO buildValidRequest() {
@@ -63,15 +106,56 @@ class TransactionServiceImplUnitTest {
     }
 
     @Test
-    void whenGetAllTransactions_thenReturnList() {
-        Transaction t1 = new Transaction();
-        Transaction t2 = new Transaction();
+    void whenGetTransactionsFitOnOnePage_thenNoNextCursor() {
+        Transaction t1 = Transaction.builder().id("a1").build();
+        Transaction t2 = Transaction.builder().id("a2").build();
+
+        when(transactionRepository.findAllByOrderByIdAsc(Limit.of(11))).thenReturn(List.of(t1, t2));
+        when(transactionMapper.toResponseDTO(any())).thenReturn(new TransactionResponseDTO());
+
+        TransactionPage result = transactionService.getTransactions(null, 10);
+        assertEquals(2, result.getContent().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void whenMoreTransactionsThanPageSize_thenReturnCursorThatResumesAfterLastItem() {
+        Transaction t1 = Transaction.builder().id("a1").build();
+        Transaction t2 = Transaction.builder().id("a2").build();
+        Transaction t3 = Transaction.builder().id("a3").build();
 
-        when(transactionRepository.findAll()).thenReturn(List.of(t1, t2));
+        when(transactionRepository.findAllByOrderByIdAsc(Limit.of(3))).thenReturn(List.of(t1, t2, t3));
         when(transactionMapper.toResponseDTO(any())).thenReturn(new TransactionResponseDTO());
 
-        List<TransactionResponseDTO> result = transactionService.getAllTransactions();
-        assertEquals(2, result.size());
+        TransactionPage first = transactionService.getTransactions(null, 2);
+        assertEquals(2, first.getContent().size());
+        assertNotNull(first.getNextCursor());
+
+        when(transactionRepository.findByIdGreaterThanOrderByIdAsc("a2", Limit.of(3))).thenReturn(List.of(t3));
+
+        TransactionPage second = transactionService.getTransactions(first.getNextCursor(), 2);
+        assertEquals(1, second.getContent().size());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void whenPageSizeAboveMaximum_thenItIsCapped() {
+        when(transactionRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of());
+
+        transactionService.getTransactions(null, 10_000);
+
+        verify(transactionRepository).findAllByOrderByIdAsc(Limit.of(TransactionServiceImpl.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void whenPageSizeNotPositive_thenThrowInvalidInput() {
+        assertThrows(InvalidInputException.class, () -> transactionService.getTransactions(null, 0));
+    }
+
+    @Test
+    void whenCursorMalformed_thenThrowInvalidInput() {
+        assertThrows(InvalidInputException.class, () -> transactionService.getTransactions("not*base64", 10));
+        verifyNoInteractions(transactionRepository);
     }
 
     @Test
@@ -112,7 +196,7 @@ class TransactionServiceImplUnitTest {
         TransactionRequestDTO request = buildValidRequest();
         request.setStatus(TransactionStatus.COMPLETED);
 
-        when(laneServiceClient.getLaneByLaneId(anyString()))
+        when(laneServiceClient.getLaneWithCurrentStatus(anyString()))
                 .thenReturn(LaneModel.builder().status(LaneStatus.IN_USE).build());
 
         assertThrows(InvalidInputException.class, () -> {
@@ -135,6 +219,7 @@ class TransactionServiceImplUnitTest {
 
         TransactionResponseDTO result = transactionService.createTransaction(request);
         assertEquals(response, result);
+        verify(rollups).recordCreated(List.of(saved));
     }
 
     @Test
@@ -165,7 +250,7 @@ class TransactionServiceImplUnitTest {
         Transaction existing = new Transaction();
         existing.setTransactionIdentifier(TransactionIdentifier.generate());
         existing.setTotalPrice(BigDecimal.valueOf(30));
-        existing.setDateCompleted(LocalDate.now().toString());
+        existing.setDateCompleted(Instant.now());
         existing.setId("db-id");
 
         Transaction entity = new Transaction();
@@ -182,6 +267,7 @@ class TransactionServiceImplUnitTest {
 
         TransactionResponseDTO result = transactionService.updateTransaction("valid-id", request);
         assertEquals(response, result);
+        verify(rollups).recordUpdated(existing, saved);
     }
 
     @Test
@@ -203,5 +289,215 @@ class TransactionServiceImplUnitTest {
         transactionService.deleteTransaction("some-id");
 
         verify(transactionRepository, times(1)).delete(existing);
+        verify(rollups).recordDeleted(existing);
+    }
+
+    @Test
+    void whenCreateTransactionAndBallIsMissing_thenThrowNotFound() {
+        when(laneServiceClient.getLaneByLaneId(anyString()))
+                .thenReturn(LaneModel.builder().zone("ZONE_1").status(LaneStatus.AVAILABLE).build());
+        when(bowlingBallServiceClient.getBowlingBallById(anyString()))
+                .thenThrow(new NotFoundException("Bowling ball not found"));
+
+        NotFoundException thrown = assertThrows(NotFoundException.class, () -> {
+            transactionService.createTransaction(buildValidRequest());
+        });
+        assertEquals("Bowling ball not found", thrown.getMessage());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    void whenCreateTransactionAndDependencyIsSlow_thenThrowTimeoutAndInterruptTheCall() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(laneServiceClient.getLaneByLaneId(anyString())).thenAnswer(blockUntilInterrupted(interrupted));
+
+        assertThrows(DownstreamTimeoutException.class, () -> {
+            transactionService.createTransaction(buildValidRequest());
+        });
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    void whenCreateTransactionAndShoeFailsFast_thenCancelSlowLaneInsteadOfWaiting() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(laneServiceClient.getLaneByLaneId(anyString())).thenAnswer(blockUntilInterrupted(interrupted));
+        when(shoeServiceClient.getShoeById(anyString()))
+                .thenThrow(new NotFoundException("Shoe not found"));
+
+        // Waiting on the lane would surface as a timeout, not as the shoe's own failure.
+        assertThrows(NotFoundException.class, () -> {
+            transactionService.createTransaction(buildValidRequest());
+        });
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void whenCreateTransaction_thenDependenciesAreFetchedConcurrently() {
+        // Each lookup only returns once all three are in flight, so running them one after another times out.
+        CountDownLatch allStarted = new CountDownLatch(3);
+        when(laneServiceClient.getLaneByLaneId(anyString())).thenAnswer(invocation -> {
+            allStarted.countDown();
+            allStarted.await();
+            return LaneModel.builder().zone("ZONE_1").status(LaneStatus.AVAILABLE).build();
+        });
+        when(bowlingBallServiceClient.getBowlingBallById(anyString())).thenAnswer(invocation -> {
+            allStarted.countDown();
+            allStarted.await();
+            return null;
+        });
+        when(shoeServiceClient.getShoeById(anyString())).thenAnswer(invocation -> {
+            allStarted.countDown();
+            allStarted.await();
+            return null;
+        });
+        when(transactionMapper.toEntity(any())).thenReturn(new Transaction());
+        when(transactionRepository.save(any())).thenReturn(new Transaction());
+        when(transactionMapper.toResponseDTO(any())).thenReturn(new TransactionResponseDTO());
+
+        assertNotNull(transactionService.createTransaction(buildValidRequest()));
+        verify(transactionRepository).save(any());
+    }
+
+    @Test
+    void whenCreateTransactionsHasManyDistinctIds_thenLookupsInFlightStayWithinTheBulkLimit() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(laneServiceClient.getLaneByLaneId(anyString()))
+                .thenReturn(LaneModel.builder().zone("ZONE_1").status(LaneStatus.AVAILABLE).build());
+        when(shoeServiceClient.getShoeById(anyString())).thenAnswer(invocation -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return null;
+        });
+        when(transactionMapper.toEntity(any())).thenAnswer(invocation -> new Transaction());
+        when(transactionRepository.insertUnordered(anyList())).thenReturn(Map.of());
+        when(transactionMapper.toResponseDTO(any())).thenReturn(new TransactionResponseDTO());
+
+        TransactionRequestDTO[] batch = new TransactionRequestDTO[6];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = buildValidRequest();
+            batch[i].setShoeId("shoe-" + i);
+        }
+
+        assertEquals(6, transactionService.createTransactions(items(batch)).getCreated());
+        assertTrue(peak.get() <= 2);
+        verify(shoeServiceClient, times(6)).getShoeById(anyString());
+    }
+
+    @Test
+    void whenCreateTransactionsHasMalformedItems_thenOnlyThoseItemsFail() throws Exception {
+        when(laneServiceClient.getLaneByLaneId(anyString()))
+                .thenReturn(LaneModel.builder().zone("ZONE_1").status(LaneStatus.AVAILABLE).build());
+        when(transactionMapper.toEntity(any())).thenAnswer(invocation -> new Transaction());
+        when(transactionRepository.insertUnordered(anyList())).thenReturn(Map.of());
+        when(transactionMapper.toResponseDTO(any())).thenReturn(new TransactionResponseDTO());
+
+        List<JsonNode> batch = List.of(
+                objectMapper.valueToTree(buildValidRequest()),
+                objectMapper.readTree("{\"customerName\":\"User B\",\"status\":\"NOT_A_STATUS\"}"),
+                objectMapper.readTree("\"not an object\""));
+
+        TransactionBulkResponseDTO result = transactionService.createTransactions(batch);
+
+        assertEquals(1, result.getCreated());
+        assertEquals("Invalid value for status.", result.getItems().get(1).getError());
+        assertEquals("Transaction must be a JSON object.", result.getItems().get(2).getError());
+        verify(transactionRepository).insertUnordered(argThat(list -> list.size() == 1));
+    }
+
+    private List<JsonNode> items(TransactionRequestDTO... requestDTOs) {
+        return Arrays.stream(requestDTOs).<JsonNode>map(objectMapper::valueToTree).toList();
+    }
+
+    private static Answer<LaneModel> blockUntilInterrupted(CountDownLatch interrupted) {
+        return invocation -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw ex;
+            }
+            return null;
+        };
+    }
+
+    @Test
+    void whenCreateTransactionsShareDependencies_thenEachDistinctIdIsValidatedOnce() {
+        TransactionRequestDTO second = buildValidRequest();
+        second.setCustomerName("User B");
+        TransactionRequestDTO third = buildValidRequest();
+        third.setShoeId("shoe-000");
+
+        when(laneServiceClient.getLaneByLaneId("lane-123"))
+                .thenReturn(LaneModel.builder().zone("ZONE_1").status(LaneStatus.AVAILABLE).build());
+        when(transactionMapper.toEntity(any())).thenAnswer(invocation -> new Transaction());
+        when(transactionRepository.insertUnordered(anyList())).thenReturn(Map.of());
+        when(transactionMapper.toResponseDTO(any())).thenReturn(new TransactionResponseDTO());
+
+        TransactionBulkResponseDTO result =
+                transactionService.createTransactions(items(buildValidRequest(), second, third));
+
+        assertEquals(3, result.getCreated());
+        assertEquals(0, result.getFailed());
+        verify(laneServiceClient, times(1)).getLaneByLaneId("lane-123");
+        verify(bowlingBallServiceClient, times(1)).getBowlingBallById("ball-456");
+        verify(shoeServiceClient, times(1)).getShoeById("shoe-789");
+        verify(shoeServiceClient, times(1)).getShoeById("shoe-000");
+        verify(transactionRepository, times(1)).insertUnordered(argThat(list -> list.size() == 3));
+    }
+
+    @Test
+    void whenCreateTransactionsHasInvalidItems_thenOnlyThoseItemsFail() {
+        TransactionRequestDTO missingBall = buildValidRequest();
+        missingBall.setBowlingBallId("ball-missing");
+        TransactionRequestDTO noCustomer = buildValidRequest();
+        noCustomer.setCustomerName(" ");
+
+        when(laneServiceClient.getLaneByLaneId(anyString()))
+                .thenReturn(LaneModel.builder().zone("ZONE_1").status(LaneStatus.AVAILABLE).build());
+        when(bowlingBallServiceClient.getBowlingBallById("ball-missing"))
+                .thenThrow(new NotFoundException("Bowling ball not found"));
+        when(transactionMapper.toEntity(any())).thenAnswer(invocation -> new Transaction());
+        when(transactionRepository.insertUnordered(anyList())).thenReturn(Map.of());
+        when(transactionMapper.toResponseDTO(any())).thenReturn(new TransactionResponseDTO());
+
+        TransactionBulkResponseDTO result =
+                transactionService.createTransactions(items(buildValidRequest(), missingBall, noCustomer));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertTrue(result.getItems().get(0).isSuccess());
+        assertEquals("Bowling ball not found", result.getItems().get(1).getError());
+        assertEquals("Customer name is required.", result.getItems().get(2).getError());
+        verify(transactionRepository).insertUnordered(argThat(list -> list.size() == 1));
+    }
+
+    @Test
+    void whenCreateTransactionsWriteIsRejected_thenFailureIsReportedAtOriginalIndex() {
+        TransactionRequestDTO noLane = buildValidRequest();
+        noLane.setLaneId(null);
+
+        when(laneServiceClient.getLaneByLaneId(anyString()))
+                .thenReturn(LaneModel.builder().zone("ZONE_1").status(LaneStatus.AVAILABLE).build());
+        when(transactionMapper.toEntity(any())).thenAnswer(invocation -> new Transaction());
+        when(transactionRepository.insertUnordered(anyList())).thenReturn(Map.of(1, "E11000 duplicate key"));
+        when(transactionMapper.toResponseDTO(any())).thenReturn(new TransactionResponseDTO());
+
+        TransactionBulkResponseDTO result =
+                transactionService.createTransactions(items(buildValidRequest(), noLane, buildValidRequest()));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertEquals("Lane ID is required.", result.getItems().get(1).getError());
+        assertEquals("E11000 duplicate key", result.getItems().get(2).getError());
+        verify(rollups).recordCreated(argThat(inserted -> inserted.size() == 1));
+    }
+
+    @Test
+    void whenCreateTransactionsIsEmpty_thenThrow() {
+        assertThrows(InvalidInputException.class, () -> transactionService.createTransactions(List.of()));
+        verifyNoInteractions(transactionRepository);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package com.bowling.transaction.config;
+
+import com.bowling.transaction.TransactionServiceApplication;
+import com.bowling.transaction.domainclientlayer.DownstreamMetrics;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingSenderTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class TracePropagationTest {
+
+    private static final String LANE_URL = "http://lane-service:8080/lanes/1";
+
+    private final InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+    private OtelTracer tracer;
+    private ObservationRegistry observationRegistry;
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setup() {
+        OpenTelemetrySdk sdk = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                        .build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+        io.opentelemetry.api.trace.Tracer otelTracer = sdk.getTracer("test");
+        tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> { });
+
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(
+                new ObservationHandler.FirstMatchingCompositeObservationHandler(
+                        new PropagatingSenderTracingObservationHandler<>(tracer, new OtelPropagator(sdk.getPropagators(), otelTracer)),
+                        new DefaultTracingObservationHandler(tracer)));
+        ObservationThreadLocalAccessor.getInstance().setObservationRegistry(observationRegistry);
+
+        restTemplate = new TransactionServiceApplication().restTemplate(Duration.ofSeconds(2),
+                new StaticListableBeanFactory().getBeanProvider(DownstreamMetrics.class),
+                new StaticListableBeanFactory(Map.of("observationRegistry", observationRegistry))
+                        .getBeanProvider(ObservationRegistry.class));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    private void assertLookupJoinsRequestTrace(Executor executor) {
+        Observation request = Observation.start("http.server.requests", observationRegistry);
+        String traceId;
+        try (Observation.Scope scope = request.openScope()) {
+            traceId = tracer.currentSpan().context().traceId();
+            server.expect(requestTo(LANE_URL))
+                    .andExpect(r -> assertThat(r.getHeaders().getFirst("traceparent")).startsWith("00-" + traceId + "-"))
+                    .andRespond(withSuccess());
+
+            CompletableFuture.supplyAsync(() -> restTemplate.getForObject(LANE_URL, String.class), executor).join();
+        } finally {
+            request.stop();
+        }
+
+        server.verify();
+        assertThat(spanExporter.getFinishedSpanItems())
+                .filteredOn(span -> span.getTraceId().equals(traceId))
+                .extracting(SpanData::getName)
+                .hasSize(2);
+    }
+
+    @Test
+    void whenLookupRunsOnPlatformValidationExecutor_thenDownstreamCallJoinsRequestTrace() {
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) new DependencyValidationConfig().dependencyValidationExecutor();
+        try {
+            assertLookupJoinsRequestTrace(executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void whenLookupRunsOnVirtualValidationExecutor_thenDownstreamCallJoinsRequestTrace() {
+        SimpleAsyncTaskExecutor executor =
+                (SimpleAsyncTaskExecutor) new DependencyValidationConfig().virtualDependencyValidationExecutor();
+        assertLookupJoinsRequestTrace(executor);
+    }
+}
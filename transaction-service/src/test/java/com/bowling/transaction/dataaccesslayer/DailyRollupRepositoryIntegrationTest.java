@@ -0,0 +1,112 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+@ActiveProfiles("test")
+class DailyRollupRepositoryIntegrationTest {
+
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        rollupRepository.deleteAll();
+        transactionRepository.deleteAll();
+    }
+
+    private DailyRollup delta(String date, String zone, TransactionStatus status, long count, String revenue) {
+        return DailyRollup.builder()
+                .date(date)
+                .laneZone(zone)
+                .status(status)
+                .transactionCount(count)
+                .revenue(new BigDecimal(revenue))
+                .build();
+    }
+
+    private Transaction transaction(String date, String zone, TransactionStatus status, String price) {
+        return Transaction.builder()
+                .transactionIdentifier(TransactionIdentifier.generate())
+                .customerName("Customer " + UUID.randomUUID())
+                .laneZone(zone)
+                .status(status)
+                .totalPrice(new BigDecimal(price))
+                .dateCompleted(LocalDate.parse(date).atTime(18, 30).toInstant(ZoneOffset.UTC))
+                .build();
+    }
+
+    @Test
+    void whenDeltasAreApplied_thenBucketsAreUpsertedAndIncremented() {
+        rollupRepository.applyDeltas(List.of(delta("2025-03-01", "ZONE_1", TransactionStatus.COMPLETED, 1, "30.00")));
+        rollupRepository.applyDeltas(List.of(
+                delta("2025-03-01", "ZONE_1", TransactionStatus.COMPLETED, 2, "55.50"),
+                delta("2025-03-02", "ZONE_1", TransactionStatus.OPEN, 1, "30.00")));
+        rollupRepository.applyDeltas(List.of(delta("2025-03-02", "ZONE_1", TransactionStatus.OPEN, -1, "-30.00")));
+
+        List<DailyRollup> buckets = rollupRepository.findBuckets("2025-03-01", "2025-03-31", null, null);
+
+        // The emptied 2025-03-02 bucket is kept but no longer reported.
+        assertThat(rollupRepository.count()).isEqualTo(2);
+        assertThat(buckets).hasSize(1);
+        assertThat(buckets.get(0).getTransactionCount()).isEqualTo(3);
+        assertThat(buckets.get(0).getRevenue()).isEqualByComparingTo("85.50");
+    }
+
+    @Test
+    void whenSumByZone_thenBucketsInRangeAreTotalledPerZoneAndStatus() {
+        rollupRepository.applyDeltas(List.of(
+                delta("2025-03-01", "ZONE_1", TransactionStatus.COMPLETED, 2, "60.00"),
+                delta("2025-03-02", "ZONE_1", TransactionStatus.COMPLETED, 1, "25.00"),
+                delta("2025-03-02", "ZONE_2", TransactionStatus.COMPLETED, 1, "30.00"),
+                delta("2025-04-01", "ZONE_1", TransactionStatus.COMPLETED, 5, "150.00")));
+
+        List<ZoneRollup> zones = rollupRepository.sumByZone("2025-03-01", "2025-03-31", TransactionStatus.COMPLETED);
+
+        assertThat(zones).extracting(ZoneRollup::getLaneZone).containsExactly("ZONE_1", "ZONE_2");
+        assertThat(zones.get(0).getTransactionCount()).isEqualTo(3);
+        assertThat(zones.get(0).getRevenue()).isEqualByComparingTo("85.00");
+    }
+
+    @Test
+    void whenRebuilt_thenBucketsMatchTheTransactionsCollection() {
+        transactionRepository.saveAll(List.of(
+                transaction("2025-03-01", "ZONE_1", TransactionStatus.COMPLETED, "30.00"),
+                transaction("2025-03-01", "ZONE_1", TransactionStatus.COMPLETED, "28.50"),
+                transaction("2025-03-01", "ZONE_2", TransactionStatus.CANCELLED, "0.00")));
+        // Not yet migrated: schema v1 string date and price land in the same bucket.
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Transaction.class)).insertOne(new Document()
+                .append("dateCompleted", "2025-03-01")
+                .append("laneZone", "ZONE_1")
+                .append("status", "COMPLETED")
+                .append("totalPrice", "10.00"));
+        rollupRepository.applyDeltas(List.of(delta("2025-01-01", "ZONE_9", TransactionStatus.OPEN, 7, "1.00")));
+
+        rollupRepository.rebuildFromTransactions();
+
+        List<DailyRollup> buckets = rollupRepository.findBuckets("2025-01-01", "2025-12-31", null, null);
+        assertThat(buckets).extracting(DailyRollup::getLaneZone).containsExactly("ZONE_1", "ZONE_2");
+        assertThat(buckets.get(0).getTransactionCount()).isEqualTo(3);
+        assertThat(buckets.get(0).getRevenue()).isEqualByComparingTo("68.50");
+    }
+}
@@ -0,0 +1,24 @@
+package com.bowling.transaction.dataaccesslayer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionRepositoryCustomImplUnitTest {
+
+    @Test
+    void whenBoundIsUtcMidnight_thenLegacyBoundIsThatDay() {
+        assertThat(TransactionRepositoryCustomImpl.legacyDayBound(Instant.parse("2025-03-01T00:00:00Z")))
+                .isEqualTo("2025-03-01");
+    }
+
+    @Test
+    void whenBoundIsPartWayThroughADay_thenLegacyBoundIsTheNextDay() {
+        assertThat(TransactionRepositoryCustomImpl.legacyDayBound(Instant.parse("2025-03-01T00:00:00.001Z")))
+                .isEqualTo("2025-03-02");
+        assertThat(TransactionRepositoryCustomImpl.legacyDayBound(Instant.parse("2025-12-31T23:59:59Z")))
+                .isEqualTo("2026-01-01");
+    }
+}
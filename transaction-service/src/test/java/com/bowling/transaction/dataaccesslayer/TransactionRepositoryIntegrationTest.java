@@ -1,16 +1,24 @@
 package com.bowling.transaction.dataaccesslayer;
 
+import org.bson.Document;
+import org.bson.types.Decimal128;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,8 +30,14 @@ class TransactionRepositoryIntegrationTest {
     @Autowired
     private TransactionRepository transactionRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     private TransactionIdentifier id1;
     private TransactionIdentifier id2;
+    private String laneId1;
+    // Millisecond precision, as BSON dates store it, so bounds compare exactly against what was saved.
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
     @BeforeEach
     void setUp() {
@@ -31,17 +45,18 @@ class TransactionRepositoryIntegrationTest {
 
         id1 = TransactionIdentifier.generate();
         id2 = TransactionIdentifier.generate();
+        laneId1 = UUID.randomUUID().toString();
 
         Transaction tx1 = Transaction.builder()
                 .transactionIdentifier(id1)
                 .customerName("Alice Johnson")
-                .laneId(UUID.randomUUID().toString())
+                .laneId(laneId1)
                 .bowlingBallId(UUID.randomUUID().toString())
                 .shoeId(UUID.randomUUID().toString())
                 .laneZone("ZONE_1")
                 .status(TransactionStatus.OPEN)
                 .totalPrice(new BigDecimal("25.00"))
-                .dateCompleted(LocalDate.now().toString())
+                .dateCompleted(now)
                 .build();
 
         Transaction tx2 = Transaction.builder()
@@ -53,7 +68,7 @@ class TransactionRepositoryIntegrationTest {
                 .laneZone("ZONE_2")
                 .status(TransactionStatus.COMPLETED)
                 .totalPrice(new BigDecimal("35.00"))
-                .dateCompleted(LocalDate.now().minusDays(2).toString())
+                .dateCompleted(now.minus(2, ChronoUnit.DAYS))
                 .build();
 
         transactionRepository.saveAll(List.of(tx1, tx2));
@@ -95,7 +110,7 @@ class TransactionRepositoryIntegrationTest {
                 .laneZone("ZONE_3")
                 .status(TransactionStatus.CANCELLED)
                 .totalPrice(new BigDecimal("0.00"))
-                .dateCompleted(LocalDate.now().minusDays(1).toString())
+                .dateCompleted(now.minus(1, ChronoUnit.DAYS))
                 .build();
 
         Transaction saved = transactionRepository.save(tx);
@@ -114,4 +129,144 @@ class TransactionRepositoryIntegrationTest {
         Optional<Transaction> deleted = transactionRepository.findById(toDelete.getId());
         assertTrue(deleted.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenFindByLaneId_thenReturnsOnlyThatLane() {
+        List<Transaction> found = transactionRepository.findByLaneIdOrderByDateCompletedDesc(laneId1);
+
+        assertThat(found).extracting(Transaction::getCustomerName).containsExactly("Alice Johnson");
+    }
+
+    @Test
+    void whenFindByStatus_thenReturnsMatchingTransactions() {
+        List<Transaction> found = transactionRepository.findByStatusOrderByDateCompletedDesc(TransactionStatus.COMPLETED);
+
+        assertThat(found).extracting(Transaction::getCustomerName).containsExactly("Bob Smith");
+    }
+
+    @Test
+    void whenFindCompletedBetween_thenStartIsInclusiveAndEndExclusive() {
+        Instant twoDaysAgo = now.minus(2, ChronoUnit.DAYS);
+
+        assertThat(transactionRepository.findCompletedBetween(twoDaysAgo, now))
+                .extracting(Transaction::getCustomerName).containsExactly("Bob Smith");
+        assertThat(transactionRepository.findCompletedBetween(twoDaysAgo, now.plusMillis(1)))
+                .extracting(Transaction::getCustomerName).containsExactly("Bob Smith", "Alice Johnson");
+    }
+
+    @Test
+    void whenV1DocumentIsNotYetMigrated_thenRangeQueriesStillFindIt() {
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Transaction.class))
+                .insertOne(new Document("customerName", "Legacy Lee")
+                        .append("dateCompleted", "2025-03-01")
+                        .append("totalPrice", "28.50")
+                        .append("status", "COMPLETED"));
+        Instant from = Instant.parse("2025-02-28T12:00:00Z");
+
+        assertThat(transactionRepository.findCompletedBetween(from, Instant.parse("2025-03-02T00:00:00Z")))
+                .extracting(Transaction::getCustomerName).containsExactly("Legacy Lee");
+        assertThat(transactionRepository.findCompletedBetween(from, Instant.parse("2025-03-01T00:00:00Z"))).isEmpty();
+        try (Stream<Transaction> ranged = transactionRepository.streamForExport(
+                Instant.parse("2025-03-01T00:00:01Z"), null, TransactionStatus.COMPLETED)) {
+            assertThat(ranged.map(Transaction::getCustomerName)).containsExactly("Bob Smith");
+        }
+    }
+
+    @Test
+    void whenSaved_thenDateAndPriceAreStoredAsBsonDateAndDecimal128() {
+        Document stored = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Transaction.class))
+                .find(new Document("transactionIdentifier.id", id1.getId()))
+                .first();
+
+        assertThat(stored.get("dateCompleted")).isInstanceOf(Date.class);
+        assertThat(stored.get("totalPrice")).isEqualTo(new Decimal128(new BigDecimal("25.00")));
+        assertThat(stored.get("schemaVersion")).isEqualTo(Transaction.CURRENT_SCHEMA_VERSION);
+    }
+
+    @Test
+    void whenStreamForExport_thenFiltersApplyAndRowsAreOldestFirst() {
+        Instant tomorrow = now.plus(1, ChronoUnit.DAYS);
+        Instant threeDaysAgo = now.minus(3, ChronoUnit.DAYS);
+        Instant yesterday = now.minus(1, ChronoUnit.DAYS);
+
+        try (Stream<Transaction> all = transactionRepository.streamForExport(null, null, null)) {
+            assertThat(all.map(Transaction::getCustomerName)).containsExactly("Bob Smith", "Alice Johnson");
+        }
+        try (Stream<Transaction> ranged = transactionRepository.streamForExport(threeDaysAgo, yesterday, null)) {
+            assertThat(ranged.map(Transaction::getCustomerName)).containsExactly("Bob Smith");
+        }
+        try (Stream<Transaction> open = transactionRepository.streamForExport(null, tomorrow, TransactionStatus.OPEN)) {
+            assertThat(open.map(Transaction::getCustomerName)).containsExactly("Alice Johnson");
+        }
+    }
+
+    @Test
+    void whenSaveDuplicateTransactionIdentifier_thenUniqueIndexRejectsIt() {
+        Transaction duplicate = Transaction.builder()
+                .transactionIdentifier(new TransactionIdentifier(id1.getId()))
+                .customerName("Duplicate")
+                .status(TransactionStatus.OPEN)
+                .build();
+
+        assertThrows(DuplicateKeyException.class, () -> transactionRepository.save(duplicate));
+    }
+
+    @Test
+    void whenStarted_thenAllQueryIndexesExist() {
+        List<String> indexNames = mongoTemplate.indexOps(Transaction.class).getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .toList();
+
+        assertThat(indexNames).contains(
+                Transaction.TRANSACTION_ID_INDEX,
+                Transaction.LANE_DATE_INDEX,
+                Transaction.STATUS_DATE_INDEX,
+                Transaction.CUSTOMER_NAME_INDEX,
+                Transaction.DATE_COMPLETED_INDEX);
+    }
+
+    @Test
+    void whenQueryByTransactionIdentifier_thenPlanUsesUniqueIndex() {
+        assertThat(winningPlan(new Document("transactionIdentifier.id", id1.getId())))
+                .contains("IXSCAN")
+                .contains(Transaction.TRANSACTION_ID_INDEX);
+    }
+
+    @Test
+    void whenQueryByLaneId_thenPlanUsesLaneIndex() {
+        assertThat(winningPlan(new Document("laneId", laneId1)))
+                .contains("IXSCAN")
+                .contains(Transaction.LANE_DATE_INDEX);
+    }
+
+    @Test
+    void whenQueryByStatus_thenPlanUsesStatusIndex() {
+        assertThat(winningPlan(new Document("status", TransactionStatus.OPEN.name())))
+                .contains("IXSCAN")
+                .contains(Transaction.STATUS_DATE_INDEX);
+    }
+
+    @Test
+    void whenQueryByCustomerName_thenPlanUsesCustomerNameIndex() {
+        assertThat(winningPlan(new Document("customerName", "Alice Johnson")))
+                .contains("IXSCAN")
+                .contains(Transaction.CUSTOMER_NAME_INDEX);
+    }
+
+    @Test
+    void whenQueryByDateRange_thenPlanUsesDateIndex() {
+        Document range = new Document("dateCompleted", new Document("$gte", Date.from(now.minus(7, ChronoUnit.DAYS)))
+                .append("$lt", Date.from(now)));
+
+        assertThat(winningPlan(range))
+                .contains("IXSCAN")
+                .contains(Transaction.DATE_COMPLETED_INDEX);
+    }
+
+    private String winningPlan(Document filter) {
+        Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Transaction.class))
+                .find(filter)
+                .explain();
+        return explain.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+    }
+}
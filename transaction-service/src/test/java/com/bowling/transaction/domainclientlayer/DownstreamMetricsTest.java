@@ -0,0 +1,87 @@
+package com.bowling.transaction.domainclientlayer;
+
+import com.bowling.transaction.config.ServiceClientsConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.SocketTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class DownstreamMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    private static ServiceClientsConfig.ServiceDetails details(String host) {
+        ServiceClientsConfig.ServiceDetails details = new ServiceClientsConfig.ServiceDetails();
+        details.setHost(host);
+        details.setPort("8080");
+        return details;
+    }
+
+    @BeforeEach
+    void setup() {
+        ServiceClientsConfig config = new ServiceClientsConfig();
+        config.setBowlingballService(details("bowlingball-service"));
+        config.setLaneService(details("lane-service"));
+        config.setShoeService(details("shoe-service"));
+
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        restTemplate.getInterceptors().add(new DownstreamMetrics(registry, config));
+    }
+
+    private long count(String target, String outcome) {
+        return registry.get(DownstreamMetrics.REQUESTS).tag("target", target).tag("outcome", outcome).timer().count();
+    }
+
+    @Test
+    void whenCallsSucceedAndFail_thenTimedPerTargetAndOutcome() {
+        server.expect(requestTo("http://lane-service:8080/lanes/1")).andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess());
+        server.expect(requestTo("http://shoe-service:8080/shoes/1"))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        restTemplate.getForObject("http://lane-service:8080/lanes/1", String.class);
+        assertThrows(HttpServerErrorException.class,
+                () -> restTemplate.getForObject("http://shoe-service:8080/shoes/1", String.class));
+
+        assertThat(count("lane", "SUCCESS")).isEqualTo(1);
+        assertThat(count("shoe", "SERVER_ERROR")).isEqualTo(1);
+        assertThat(count("bowlingball", "SUCCESS")).isZero();
+        assertThat(registry.get(DownstreamMetrics.ERRORS).tag("target", "shoe").tag("outcome", "SERVER_ERROR")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void whenCallTimesOut_thenCountedAsTimeoutError() {
+        server.expect(requestTo("http://bowlingball-service:8080/bowlingballs/1"))
+                .andRespond(withException(new SocketTimeoutException("Read timed out")));
+
+        assertThrows(Exception.class,
+                () -> restTemplate.getForObject("http://bowlingball-service:8080/bowlingballs/1", String.class));
+
+        assertThat(count("bowlingball", "TIMEOUT")).isEqualTo(1);
+        assertThat(registry.get(DownstreamMetrics.ERRORS).tag("target", "bowlingball").tag("outcome", "TIMEOUT")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void whenMetersRegistered_thenEveryTargetAndOutcomeExistsBeforeFirstCall() {
+        assertThat(registry.find(DownstreamMetrics.REQUESTS).timers()).hasSize(4 * DownstreamMetrics.Outcome.values().length);
+    }
+}
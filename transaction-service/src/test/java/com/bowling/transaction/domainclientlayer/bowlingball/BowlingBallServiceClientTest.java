@@ -1,10 +1,12 @@
 package com.bowling.transaction.domainclientlayer.bowlingball;
 
+import com.bowling.transaction.config.DomainClientCacheConfig;
 import com.bowling.transaction.config.ServiceClientsConfig;
 import com.bowling.transaction.exceptionlayer.HttpErrorInfo;
 import com.bowling.transaction.exceptionlayer.InvalidInputException;
 import com.bowling.transaction.exceptionlayer.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -28,6 +30,8 @@ class BowlingBallServiceClientTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private final String baseUrl = "http://mock-bowlingball-service:8080/bowlingballs";
 
     @BeforeEach
@@ -41,7 +45,7 @@ class BowlingBallServiceClientTest {
         ServiceClientsConfig config = new ServiceClientsConfig();
         config.setBowlingballService(details);
 
-        client = new BowlingBallServiceClient(restTemplate, objectMapper, config);
+        client = new BowlingBallServiceClient(restTemplate, objectMapper, config, new DomainClientCacheConfig(), meterRegistry);
     }
 
     @Test
@@ -95,4 +99,60 @@ class BowlingBallServiceClientTest {
         HttpClientErrorException thrown = assertThrows(HttpClientErrorException.class, () -> client.getBowlingBallById(id));
         assertEquals(HttpStatus.FORBIDDEN, thrown.getStatusCode());
     }
+
+    @Test
+    void whenFetchedTwice_thenSecondCallIsServedFromCache() {
+        String id = "cached-id";
+        when(restTemplate.getForObject(baseUrl + "/" + id, BowlingBallModel.class)).thenReturn(new BowlingBallModel());
+
+        client.getBowlingBallById(id);
+        client.getBowlingBallById(id);
+
+        verify(restTemplate, times(1)).getForObject(baseUrl + "/" + id, BowlingBallModel.class);
+        assertEquals(1, cacheGets("bowlingball", "hit"));
+        assertEquals(1, cacheGets("bowlingball", "miss"));
+    }
+
+    @Test
+    void whenEvicted_thenNextLookupRefetches() {
+        when(restTemplate.getForObject(anyString(), eq(BowlingBallModel.class))).thenReturn(new BowlingBallModel());
+
+        client.getBowlingBallById("ball-1");
+        client.getBowlingBallById("ball-2");
+        client.evict("ball-1");
+        client.getBowlingBallById("ball-1");
+        client.getBowlingBallById("ball-2");
+
+        verify(restTemplate, times(2)).getForObject(baseUrl + "/ball-1", BowlingBallModel.class);
+        verify(restTemplate, times(1)).getForObject(baseUrl + "/ball-2", BowlingBallModel.class);
+    }
+
+    @Test
+    void whenAllEvicted_thenEveryLookupRefetches() {
+        when(restTemplate.getForObject(anyString(), eq(BowlingBallModel.class))).thenReturn(new BowlingBallModel());
+
+        client.getBowlingBallById("ball-1");
+        client.getBowlingBallById("ball-2");
+        client.evictAll();
+        client.getBowlingBallById("ball-1");
+        client.getBowlingBallById("ball-2");
+
+        verify(restTemplate, times(2)).getForObject(baseUrl + "/ball-1", BowlingBallModel.class);
+        verify(restTemplate, times(2)).getForObject(baseUrl + "/ball-2", BowlingBallModel.class);
+    }
+
+    @Test
+    void whenLookupFails_thenFailureIsNotCached() {
+        String id = "flaky-id";
+        when(restTemplate.getForObject(baseUrl + "/" + id, BowlingBallModel.class))
+                .thenThrow(new HttpClientErrorException(HttpStatus.FORBIDDEN))
+                .thenReturn(new BowlingBallModel());
+
+        assertThrows(HttpClientErrorException.class, () -> client.getBowlingBallById(id));
+        assertNotNull(client.getBowlingBallById(id));
+    }
+
+    private double cacheGets(String cache, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", result).functionCounter().count();
+    }
 }
@@ -0,0 +1,58 @@
+package com.bowling.transaction.domainclientlayer.lane;
+
+import com.bowling.transaction.config.ServiceClientsConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+class LaneEventSubscriberTest {
+
+    private LaneServiceClient laneServiceClient;
+    private LaneEventSubscriber subscriber;
+
+    @BeforeEach
+    void setup() {
+        ServiceClientsConfig.ServiceDetails details = new ServiceClientsConfig.ServiceDetails();
+        details.setHost("mock-lane-service");
+        details.setPort("8080");
+        ServiceClientsConfig config = new ServiceClientsConfig();
+        config.setLaneService(details);
+
+        laneServiceClient = mock(LaneServiceClient.class);
+        subscriber = new LaneEventSubscriber(WebClient.builder(), config, laneServiceClient, Duration.ofSeconds(5), false);
+    }
+
+    @Test
+    void whenLaneEventArrives_thenOnlyThatLaneIsEvicted() {
+        subscriber.onEvent(ServerSentEvent.builder(new LaneEventModel(3, "lane-1"))
+                .id("3")
+                .event(LaneEventSubscriber.LANE_EVENT)
+                .build());
+
+        verify(laneServiceClient).evict("lane-1");
+        verify(laneServiceClient, never()).evictAll();
+    }
+
+    @Test
+    void whenResetArrives_thenEveryLaneIsEvicted() {
+        subscriber.onEvent(ServerSentEvent.builder(new LaneEventModel(7, null))
+                .id("7")
+                .event(LaneEventSubscriber.RESET_EVENT)
+                .build());
+
+        verify(laneServiceClient).evictAll();
+        verify(laneServiceClient, never()).evict(any());
+    }
+
+    @Test
+    void whenUnnamedEventArrives_thenNothingIsEvicted() {
+        subscriber.onEvent(ServerSentEvent.<LaneEventModel>builder().comment("connected").build());
+
+        verifyNoInteractions(laneServiceClient);
+    }
+}
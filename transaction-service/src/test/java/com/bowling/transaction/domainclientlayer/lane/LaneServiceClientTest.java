@@ -2,11 +2,13 @@ package com.bowling.transaction.domainclientlayer.lane;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.bowling.transaction.config.DomainClientCacheConfig;
 import com.bowling.transaction.config.ServiceClientsConfig;
 import com.bowling.transaction.exceptionlayer.HttpErrorInfo;
 import com.bowling.transaction.exceptionlayer.InvalidInputException;
 import com.bowling.transaction.exceptionlayer.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -16,6 +18,7 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import static org.mockito.Mockito.*;
 
 class LaneServiceClientTest {
@@ -28,8 +31,12 @@ class LaneServiceClientTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private final String baseUrl = "http://mock-lane-service:8080/lanes";
 
+    private ServiceClientsConfig config;
+
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
@@ -38,10 +45,10 @@ class LaneServiceClientTest {
         details.setHost("mock-lane-service");
         details.setPort("8080");
 
-        ServiceClientsConfig config = new ServiceClientsConfig();
+        config = new ServiceClientsConfig();
         config.setLaneService(details);
 
-        client = new LaneServiceClient(restTemplate, objectMapper, config);
+        client = new LaneServiceClient(restTemplate, objectMapper, config, new DomainClientCacheConfig(), meterRegistry);
     }
 
     @Test
@@ -95,4 +102,84 @@ class LaneServiceClientTest {
         HttpClientErrorException thrown = assertThrows(HttpClientErrorException.class, () -> client.getLaneByLaneId(id));
         assertEquals(HttpStatus.FORBIDDEN, thrown.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenFetchedTwice_thenSecondCallIsServedFromCache() {
+        String id = "cached-id";
+        when(restTemplate.getForObject(baseUrl + "/" + id, LaneModel.class))
+                .thenReturn(new LaneModel(id, 1, "A", LaneStatus.AVAILABLE));
+
+        client.getLaneByLaneId(id);
+        client.getLaneByLaneId(id);
+
+        verify(restTemplate, times(1)).getForObject(baseUrl + "/" + id, LaneModel.class);
+        assertEquals(1, cacheGets("lane", "hit"));
+    }
+
+    @Test
+    void whenStatusStillFresh_thenCurrentStatusLookupIsServedFromCache() {
+        String id = "fresh-id";
+        when(restTemplate.getForObject(baseUrl + "/" + id, LaneModel.class))
+                .thenReturn(new LaneModel(id, 1, "A", LaneStatus.AVAILABLE));
+
+        client.getLaneByLaneId(id);
+        LaneModel result = client.getLaneWithCurrentStatus(id);
+
+        verify(restTemplate, times(1)).getForObject(baseUrl + "/" + id, LaneModel.class);
+        assertEquals(LaneStatus.AVAILABLE, result.getStatus());
+        assertEquals("A", result.getZone());
+    }
+
+    @Test
+    void whenStatusExpired_thenCurrentStatusLookupRefetchesAndRefreshesLane() {
+        DomainClientCacheConfig cacheConfig = new DomainClientCacheConfig();
+        cacheConfig.setLaneStatus(new DomainClientCacheConfig.CacheSpec(Duration.ZERO, 100));
+        client = new LaneServiceClient(restTemplate, objectMapper, config, cacheConfig, meterRegistry);
+
+        String id = "stale-id";
+        when(restTemplate.getForObject(baseUrl + "/" + id, LaneModel.class))
+                .thenReturn(new LaneModel(id, 1, "A", LaneStatus.AVAILABLE))
+                .thenReturn(new LaneModel(id, 1, "A", LaneStatus.IN_USE));
+
+        assertEquals(LaneStatus.AVAILABLE, client.getLaneByLaneId(id).getStatus());
+        assertEquals(LaneStatus.IN_USE, client.getLaneWithCurrentStatus(id).getStatus());
+        assertEquals(LaneStatus.IN_USE, client.getLaneByLaneId(id).getStatus());
+
+        verify(restTemplate, times(2)).getForObject(baseUrl + "/" + id, LaneModel.class);
+    }
+
+    @Test
+    void whenEvicted_thenLaneAndStatusAreRefetched() {
+        String id = "evicted-id";
+        when(restTemplate.getForObject(baseUrl + "/" + id, LaneModel.class))
+                .thenReturn(new LaneModel(id, 1, "A", LaneStatus.AVAILABLE))
+                .thenReturn(new LaneModel(id, 1, "B", LaneStatus.IN_USE));
+
+        client.getLaneByLaneId(id);
+        client.evict(id);
+
+        LaneModel result = client.getLaneWithCurrentStatus(id);
+        assertEquals("B", result.getZone());
+        assertEquals(LaneStatus.IN_USE, result.getStatus());
+        assertEquals("B", client.getLaneByLaneId(id).getZone());
+        verify(restTemplate, times(2)).getForObject(baseUrl + "/" + id, LaneModel.class);
+    }
+
+    @Test
+    void whenAllEvicted_thenEveryLaneIsRefetched() {
+        when(restTemplate.getForObject(anyString(), eq(LaneModel.class))).thenReturn(new LaneModel());
+
+        client.getLaneByLaneId("lane-1");
+        client.getLaneByLaneId("lane-2");
+        client.evictAll();
+        client.getLaneByLaneId("lane-1");
+        client.getLaneByLaneId("lane-2");
+
+        verify(restTemplate, times(2)).getForObject(baseUrl + "/lane-1", LaneModel.class);
+        verify(restTemplate, times(2)).getForObject(baseUrl + "/lane-2", LaneModel.class);
+    }
+
+    private double cacheGets(String cache, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", result).functionCounter().count();
+    }
+}
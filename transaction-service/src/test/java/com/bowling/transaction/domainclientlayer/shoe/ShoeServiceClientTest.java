@@ -2,11 +2,13 @@ package com.bowling.transaction.domainclientlayer.shoe;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.bowling.transaction.config.DomainClientCacheConfig;
 import com.bowling.transaction.config.ServiceClientsConfig;
 import com.bowling.transaction.exceptionlayer.HttpErrorInfo;
 import com.bowling.transaction.exceptionlayer.InvalidInputException;
 import com.bowling.transaction.exceptionlayer.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -29,6 +31,8 @@ class ShoeServiceClientTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private final String baseUrl = "http://mock-shoe-service:8080/shoes";
 
     @BeforeEach
@@ -42,7 +46,7 @@ class ShoeServiceClientTest {
         ServiceClientsConfig config = new ServiceClientsConfig();
         config.setShoeService(details);
 
-        client = new ShoeServiceClient(restTemplate, objectMapper, config);
+        client = new ShoeServiceClient(restTemplate, objectMapper, config, new DomainClientCacheConfig(), meterRegistry);
     }
 
     @Test
@@ -96,4 +100,60 @@ class ShoeServiceClientTest {
         HttpClientErrorException thrown = assertThrows(HttpClientErrorException.class, () -> client.getShoeById(id));
         assertEquals(HttpStatus.FORBIDDEN, thrown.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenFetchedTwice_thenSecondCallIsServedFromCache() {
+        String id = "cached-id";
+        when(restTemplate.getForObject(baseUrl + "/" + id, ShoeModel.class)).thenReturn(new ShoeModel());
+
+        client.getShoeById(id);
+        client.getShoeById(id);
+
+        verify(restTemplate, times(1)).getForObject(baseUrl + "/" + id, ShoeModel.class);
+        assertEquals(1, cacheGets("shoe", "hit"));
+        assertEquals(1, cacheGets("shoe", "miss"));
+    }
+
+    @Test
+    void whenEvicted_thenNextLookupRefetches() {
+        when(restTemplate.getForObject(anyString(), eq(ShoeModel.class))).thenReturn(new ShoeModel());
+
+        client.getShoeById("shoe-1");
+        client.getShoeById("shoe-2");
+        client.evict("shoe-1");
+        client.getShoeById("shoe-1");
+        client.getShoeById("shoe-2");
+
+        verify(restTemplate, times(2)).getForObject(baseUrl + "/shoe-1", ShoeModel.class);
+        verify(restTemplate, times(1)).getForObject(baseUrl + "/shoe-2", ShoeModel.class);
+    }
+
+    @Test
+    void whenAllEvicted_thenEveryLookupRefetches() {
+        when(restTemplate.getForObject(anyString(), eq(ShoeModel.class))).thenReturn(new ShoeModel());
+
+        client.getShoeById("shoe-1");
+        client.getShoeById("shoe-2");
+        client.evictAll();
+        client.getShoeById("shoe-1");
+        client.getShoeById("shoe-2");
+
+        verify(restTemplate, times(2)).getForObject(baseUrl + "/shoe-1", ShoeModel.class);
+        verify(restTemplate, times(2)).getForObject(baseUrl + "/shoe-2", ShoeModel.class);
+    }
+
+    @Test
+    void whenLookupFails_thenFailureIsNotCached() {
+        String id = "flaky-id";
+        when(restTemplate.getForObject(baseUrl + "/" + id, ShoeModel.class))
+                .thenThrow(new HttpClientErrorException(HttpStatus.FORBIDDEN))
+                .thenReturn(new ShoeModel());
+
+        assertThrows(HttpClientErrorException.class, () -> client.getShoeById(id));
+        assertNotNull(client.getShoeById(id));
+    }
+
+    private double cacheGets(String cache, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", result).functionCounter().count();
+    }
+}
@@ -25,6 +25,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -67,6 +68,14 @@ class TransactionControllerIntegrationTest {
                         .status(LaneStatus.AVAILABLE)
                         .build());
 
+        Mockito.when(laneServiceClient.getLaneWithCurrentStatus(anyString()))
+                .thenReturn(LaneModel.builder()
+                        .id(UUID.randomUUID().toString())
+                        .laneNumber(5)
+                        .zone("ZONE_1")
+                        .status(LaneStatus.AVAILABLE)
+                        .build());
+
         Mockito.when(bowlingBallServiceClient.getBowlingBallById(anyString()))
                 .thenReturn(BowlingBallModel.builder()
                         .id(UUID.randomUUID().toString())
@@ -93,7 +102,7 @@ class TransactionControllerIntegrationTest {
                 .laneZone("ZONE_1")
                 .status(TransactionStatus.OPEN)
                 .totalPrice(BigDecimal.valueOf(30))
-                .dateCompleted(LocalDate.now().toString())
+                .dateCompleted(Instant.now())
                 .build();
 
         Transaction saved = transactionRepository.save(transaction);
@@ -109,6 +118,30 @@ class TransactionControllerIntegrationTest {
                 .value(transactions -> assertThat(transactions).isNotEmpty());
     }
 
+    @Test
+    void whenGetAllWithSmallPageSize_thenFollowCursorUntilExhausted() {
+        transactionRepository.save(Transaction.builder()
+                .transactionIdentifier(TransactionIdentifier.generate())
+                .customerName("Second User")
+                .status(TransactionStatus.OPEN)
+                .build());
+
+        String nextCursor = webTestClient.get().uri(BASE_URL + "?size=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(TransactionController.NEXT_CURSOR_HEADER)
+                .expectBodyList(TransactionResponseDTO.class).hasSize(1)
+                .returnResult()
+                .getResponseHeaders()
+                .getFirst(TransactionController.NEXT_CURSOR_HEADER);
+
+        webTestClient.get().uri(BASE_URL + "?size=1&cursor=" + nextCursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(TransactionController.NEXT_CURSOR_HEADER)
+                .expectBodyList(TransactionResponseDTO.class).hasSize(1);
+    }
+
     @Test
     void whenGetByValidId_thenReturnTransaction() {
         webTestClient.get().uri(BASE_URL + "/" + validId)
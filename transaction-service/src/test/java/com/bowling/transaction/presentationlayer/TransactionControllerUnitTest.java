@@ -1,20 +1,36 @@
 package com.bowling.transaction.presentationlayer;
 
+import com.bowling.transaction.businesslayer.ExportFormat;
+import com.bowling.transaction.businesslayer.TransactionPage;
 import com.bowling.transaction.businesslayer.TransactionService;
 import com.bowling.transaction.dataaccesslayer.TransactionStatus;
+import com.bowling.transaction.exceptionlayer.IdempotencyConflictException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,11 +49,22 @@ class TransactionControllerUnitTest {
 
     @Test
     void whenGetAll_thenReturns200() throws Exception {
-        Mockito.when(transactionService.getAllTransactions())
-                .thenReturn(Collections.emptyList());
+        Mockito.when(transactionService.getTransactions(null, 50))
+                .thenReturn(new TransactionPage(Collections.emptyList(), null));
 
         mockMvc.perform(get("/api/transactions"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(TransactionController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void whenMorePagesExist_thenReturnsNextCursorHeader() throws Exception {
+        Mockito.when(transactionService.getTransactions("abc", 2))
+                .thenReturn(new TransactionPage(Collections.emptyList(), "def"));
+
+        mockMvc.perform(get("/api/transactions").param("cursor", "abc").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TransactionController.NEXT_CURSOR_HEADER, "def"));
     }
 
     @Test
@@ -70,7 +97,7 @@ class TransactionControllerUnitTest {
                 .customerName("Jane Doe")
                 .build();
 
-        Mockito.when(transactionService.createTransaction(any())).thenReturn(response);
+        Mockito.when(transactionService.createTransaction(any(), Mockito.isNull())).thenReturn(response);
 
         mockMvc.perform(post("/api/transactions")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -79,6 +106,177 @@ class TransactionControllerUnitTest {
                 .andExpect(jsonPath("$.customerName").value("Jane Doe"));
     }
 
+    @Test
+    void whenPostWithIdempotencyKey_thenKeyIsPassedToService() throws Exception {
+        TransactionRequestDTO request = TransactionRequestDTO.builder()
+                .customerName("Jane Doe")
+                .laneId("lane-id")
+                .bowlingBallId("ball-id")
+                .shoeId("shoe-id")
+                .status(TransactionStatus.OPEN)
+                .build();
+
+        Mockito.when(transactionService.createTransaction(any(), Mockito.eq("desk-1-0042")))
+                .thenReturn(TransactionResponseDTO.builder().customerName("Jane Doe").build());
+        Mockito.when(transactionService.createTransaction(any(), Mockito.eq("desk-1-0043")))
+                .thenThrow(new IdempotencyConflictException("A request with this Idempotency-Key is still being processed."));
+
+        mockMvc.perform(post("/api/transactions")
+                        .header(TransactionController.IDEMPOTENCY_KEY_HEADER, "desk-1-0042")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.customerName").value("Jane Doe"));
+        mockMvc.perform(post("/api/transactions")
+                        .header(TransactionController.IDEMPOTENCY_KEY_HEADER, "desk-1-0043")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void whenPostBulk_thenReturnsPerItemResults() throws Exception {
+        TransactionRequestDTO request = TransactionRequestDTO.builder()
+                .customerName("Jane Doe")
+                .laneId("lane-id")
+                .bowlingBallId("ball-id")
+                .shoeId("shoe-id")
+                .status(TransactionStatus.OPEN)
+                .build();
+
+        Mockito.when(transactionService.createTransactions(anyList()))
+                .thenReturn(TransactionBulkResponseDTO.builder()
+                        .created(1)
+                        .failed(1)
+                        .items(List.of(
+                                TransactionBulkItemDTO.builder().index(0).success(true)
+                                        .transaction(TransactionResponseDTO.builder().customerName("Jane Doe").build())
+                                        .build(),
+                                TransactionBulkItemDTO.builder().index(1).success(false)
+                                        .error("Customer name is required.").build()))
+                        .build());
+
+        mockMvc.perform(post("/api/transactions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(request, new TransactionRequestDTO()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.items[0].transaction.customerName").value("Jane Doe"))
+                .andExpect(jsonPath("$.items[1].error").value("Customer name is required."))
+                .andExpect(jsonPath("$.items[1].transaction").doesNotExist());
+    }
+
+    @Test
+    void whenPostBulkHasAMalformedItem_thenTheBatchStillReachesTheService() throws Exception {
+        Mockito.when(transactionService.createTransactions(anyList()))
+                .thenReturn(TransactionBulkResponseDTO.builder().failed(2).items(List.of()).build());
+
+        mockMvc.perform(post("/api/transactions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"status\":\"NOT_A_STATUS\"},{\"customerName\":\"Jane Doe\"}]"))
+                .andExpect(status().isOk());
+        Mockito.verify(transactionService).createTransactions(Mockito.argThat(items -> items.size() == 2));
+    }
+
+    @Test
+    void whenExportAcceptsGzip_thenCsvIsStreamedCompressed() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(4).write("transactionId,customerName\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(transactionService).exportTransactions(Mockito.eq(ExportFormat.CSV),
+                Mockito.eq(LocalDate.of(2025, 3, 1)), Mockito.isNull(), Mockito.eq(TransactionStatus.COMPLETED), any());
+
+        MvcResult started = mockMvc.perform(get("/api/transactions/export")
+                        .param("from", "2025-03-01")
+                        .param("status", "COMPLETED")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.csv\""))
+                .andReturn();
+
+        try (GZIPInputStream body = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertEquals("transactionId,customerName\n", new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void whenExportRefusesGzipWithQZero_thenCsvIsStreamedPlain() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/transactions/export")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "identity, gzip;q=0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void whenAcceptEncodingHasQValues_thenGzipOnlyWhenItsWeightIsAboveZero() {
+        assertTrue(TransactionController.acceptsGzip("gzip, deflate"));
+        assertTrue(TransactionController.acceptsGzip("deflate;q=1.0, GZIP;q=0.5"));
+        assertTrue(TransactionController.acceptsGzip("*"));
+        assertFalse(TransactionController.acceptsGzip("gzip;q=0"));
+        assertFalse(TransactionController.acceptsGzip("gzip; q=0.000, *"));
+        assertFalse(TransactionController.acceptsGzip("*;q=0"));
+        assertFalse(TransactionController.acceptsGzip("deflate, br"));
+        assertFalse(TransactionController.acceptsGzip(null));
+    }
+
+    @Test
+    void whenExportRangeIsInvertedOrFormatUnknown_thenReturns422() throws Exception {
+        mockMvc.perform(get("/api/transactions/export")
+                        .param("from", "2025-03-31")
+                        .param("to", "2025-03-01"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(get("/api/transactions/export").param("format", "xlsx"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void whenGetDailyReport_thenReturnsRollupBuckets() throws Exception {
+        Mockito.when(transactionService.getDailyReport(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), "ZONE_1", null))
+                .thenReturn(List.of(DailyRollupResponseDTO.builder()
+                        .date("2025-03-01")
+                        .laneZone("ZONE_1")
+                        .status(TransactionStatus.COMPLETED)
+                        .transactionCount(12)
+                        .revenue(new BigDecimal("360.00"))
+                        .build()));
+
+        mockMvc.perform(get("/api/transactions/reports/daily")
+                        .param("from", "2025-03-01")
+                        .param("to", "2025-03-31")
+                        .param("zone", "ZONE_1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].transactionCount").value(12))
+                .andExpect(jsonPath("$[0].revenue").value(360.00));
+    }
+
+    @Test
+    void whenReportRangeIsInvertedOrMissing_thenIsRejected() throws Exception {
+        mockMvc.perform(get("/api/transactions/reports/zones")
+                        .param("from", "2025-03-31")
+                        .param("to", "2025-03-01"))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(get("/api/transactions/reports/zones").param("from", "2025-03-01"))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(transactionService);
+    }
+
+    @Test
+    void whenPostRebuildReports_thenReturns204() throws Exception {
+        mockMvc.perform(post("/api/transactions/reports/rebuild"))
+                .andExpect(status().isNoContent());
+
+        Mockito.verify(transactionService).rebuildReports();
+    }
+
     @Test
     void whenPostMissingField_thenReturns400() throws Exception {
         String badJson = """